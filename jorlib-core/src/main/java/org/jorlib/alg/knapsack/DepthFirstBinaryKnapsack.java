@@ -0,0 +1,303 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * DepthFirstBinaryKnapsack.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.knapsack;
+
+import java.util.Arrays;
+
+/**
+ * Depth-first branch and bound implementation of knapsack, following the algorithm of:<br>
+ * {@literal Horowitz, E., Sahni, S., Computing partitions with applications to the knapsack problem. Journal of the ACM, 21(2):277-292, 1974}<p>
+ *
+ * Solves the problem:<br>
+ * {@code max \sum_i c_i x_i}<br>
+ * {@code s.t. \sum_i a_i x_i <= b}<br>
+ * {@code x_i binary}<br>
+ *
+ * The items are sorted by non-increasing efficiency {@code c_i/a_i}. Each forward move inserts as many consecutive items as possible, after which the next item
+ * is skipped; a node is pruned when its linear programming bound does not exceed the incumbent, in which case the algorithm backtracks by removing the last
+ * inserted item. Contrary to {@link BinaryKnapsack}, no search nodes are created: the current solution is stored as a single path of inserted items, and the
+ * linear programming bounds are computed in logarithmic time from prefix sums of the sorted weights and values. All arrays are reused across calls; the
+ * array returned by {@link #getKnapsackItems()} is overwritten by the next call with the same number of items.<p>
+ *
+ * The search can be limited in time or in the number of nodes, see {@link LimitedKnapsackAlgorithm}. The limits are checked whenever the search backtracks, so the
+ * first dive (which yields the greedy solution) is always completed. When interrupted, the upper bound is the largest linear programming bound among the
+ * subtrees which remain to be explored: the subtree of the current node, and for every item on the path, the subtree in which that item is excluded.<p>
+ *
+ * NOTE: All item weights, as well as the maxKnapsackWeight have to be non-negative integers. The item values can be fractional, both positive and negative. Items with
+ * a value smaller or equal to 0 are never selected. Items with weight 0 and a positive value are always selected.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ */
+public class DepthFirstBinaryKnapsack implements LimitedKnapsackAlgorithm{
+
+	/** Precision used when comparing values **/
+	public static final double PRECISION=0.000001;
+	/** Number of search nodes between two consecutive checks of the time limit **/
+	private static final long TIME_CHECK_INTERVAL=256;
+
+	//Solution
+	private double knapsackValue=0;
+	private int knapsackWeight=0;
+	private boolean[] knapsackItems=new boolean[0];
+	private double upperBound=0;
+	private boolean optimal=true;
+
+	//Sorted candidate items (value>0, 0<weight<=capacity)
+	private int[] order=new int[16];
+	private double[] efficiency=new double[16];
+	/** prefixWeight[k]: total weight of the first k sorted items **/
+	private long[] prefixWeight=new long[17];
+	/** prefixValue[k]: total value of the first k sorted items **/
+	private double[] prefixValue=new double[17];
+	/** Positions (in the sorted order) of the items in the current solution, in increasing order **/
+	private int[] path=new int[16];
+	/** Positions of the items in the best solution found **/
+	private int[] bestPath=new int[16];
+
+	/**
+	 * Solve the knapsack problem.
+	 * @param nrItems nr of items in the knapsack
+	 * @param maxKnapsackWeight max size/weight of the knapsack
+	 * @param itemValues item values
+	 * @param itemWeights item weights
+	 * @return The value of the knapsack solution
+	 */
+	@Override
+	public double solveKnapsackProblem(int nrItems, int maxKnapsackWeight, double[] itemValues, int[] itemWeights){
+		return this.solveKnapsackProblem(nrItems, maxKnapsackWeight, itemValues, itemWeights, Long.MAX_VALUE, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Solve the knapsack problem, until the problem is solved to optimality, or one of the limits is reached.
+	 * @param nrItems nr of items in the knapsack
+	 * @param maxKnapsackWeight max size/weight of the knapsack
+	 * @param itemValues item values
+	 * @param itemWeights item weights
+	 * @param timeLimit Future point in time (in milliseconds) by which this method must be finished
+	 * @param nodeLimit maximum number of search nodes
+	 * @return The value of the best knapsack solution found
+	 */
+	@Override
+	public double solveKnapsackProblem(int nrItems, int maxKnapsackWeight, double[] itemValues, int[] itemWeights, long timeLimit, long nodeLimit){
+		if(knapsackItems.length != nrItems)
+			knapsackItems=new boolean[nrItems];
+		else
+			Arrays.fill(knapsackItems, false);
+		knapsackValue=0;
+		knapsackWeight=0;
+		upperBound=0;
+		optimal=true;
+		if(maxKnapsackWeight < 0)
+			return knapsackValue;
+
+		//Select and sort the candidate items. Items without weight are always selected.
+		this.ensureCapacity(nrItems);
+		int m=0;
+		for(int i=0; i<nrItems; i++){
+			if(itemValues[i] <= 0 || itemWeights[i] > maxKnapsackWeight)
+				continue;
+			if(itemWeights[i] == 0)
+				knapsackItems[i]=true;
+			else{
+				order[m]=i;
+				efficiency[m++]=itemValues[i]/itemWeights[i];
+			}
+		}
+		KnapsackUtil.sortDescending(order, efficiency, m);
+		for(int k=0; k<m; k++){
+			prefixWeight[k+1]=prefixWeight[k]+itemWeights[order[k]];
+			prefixValue[k+1]=prefixValue[k]+itemValues[order[k]];
+		}
+
+		//Depth-first search
+		double bestValue=0;
+		int bestPathSize=0;
+		int pathSize=0;
+		int residualCapacity=maxKnapsackWeight;
+		double value=0;
+		int j=0; //Next item to be considered
+		long nodes=0;
+		long nextTimeCheck=0;
+		while(true){
+			nodes++;
+			if(j < m && value+this.calcBound(j, m, residualCapacity) > bestValue+PRECISION){
+				//Forward move: insert the consecutive items which fit
+				while(j < m && itemWeights[order[j]] <= residualCapacity){
+					residualCapacity-=itemWeights[order[j]];
+					value+=itemValues[order[j]];
+					path[pathSize++]=j++;
+				}
+				if(j < m){ //Item j does not fit; skip it and continue with the next item
+					j++;
+					continue;
+				}
+			}
+			//The current node is a leaf, or has been pruned
+			if(value > bestValue+PRECISION){
+				bestValue=value;
+				bestPathSize=pathSize;
+				System.arraycopy(path, 0, bestPath, 0, pathSize);
+			}
+			//Backtrack: remove the last inserted item, and continue with the items after it
+			if(pathSize == 0)
+				break;
+			boolean limitReached=nodes >= nodeLimit;
+			if(!limitReached && nodes >= nextTimeCheck){
+				limitReached=System.currentTimeMillis() >= timeLimit;
+				nextTimeCheck=nodes+TIME_CHECK_INTERVAL;
+			}
+			if(limitReached){
+				optimal=false;
+				upperBound=Math.max(bestValue, this.calcOpenBound(pathSize, m, maxKnapsackWeight, itemValues, itemWeights));
+				break;
+			}
+			int k=path[--pathSize];
+			residualCapacity+=itemWeights[order[k]];
+			value-=itemValues[order[k]];
+			j=k+1;
+		}
+
+		//Store the solution
+		for(int k=0; k<bestPathSize; k++)
+			knapsackItems[order[bestPath[k]]]=true;
+		for(int i=0; i<nrItems; i++){
+			if(knapsackItems[i]){
+				knapsackValue+=itemValues[i];
+				knapsackWeight+=itemWeights[i];
+			}
+		}
+		//Add the value of the items without weight to the bound
+		upperBound= optimal ? knapsackValue : upperBound+knapsackValue-bestValue;
+		return knapsackValue;
+	}
+
+	/**
+	 * Calculates the largest linear programming bound among the subtrees which have not been explored yet, when the search is interrupted at a backtrack point.
+	 * For every item {@code path[p]} on the current path, the subtree in which the items {@code path[0],...,path[p-1]} are inserted and item {@code path[p]} is
+	 * excluded remains to be explored.
+	 * @param pathSize number of items on the current path
+	 * @param m number of candidate items
+	 * @param maxKnapsackWeight capacity
+	 * @param itemValues item values
+	 * @param itemWeights item weights
+	 * @return bound on the value of the solutions in the unexplored subtrees
+	 */
+	private double calcOpenBound(int pathSize, int m, int maxKnapsackWeight, double[] itemValues, int[] itemWeights){
+		double bound=0;
+		double value=0;
+		int residualCapacity=maxKnapsackWeight;
+		for(int p=0; p<pathSize; p++){
+			int k=path[p];
+			bound=Math.max(bound, value+this.calcBound(k+1, m, residualCapacity));
+			value+=itemValues[order[k]];
+			residualCapacity-=itemWeights[order[k]];
+		}
+		return bound;
+	}
+
+	/**
+	 * Calculates the linear programming bound on the value which can be obtained from the sorted items {@code j,...,m-1}, given the residual capacity. The last
+	 * item which fits entirely is found through a binary search on the prefix sums of the weights.
+	 * @param j first item
+	 * @param m number of candidate items
+	 * @param residualCapacity residual capacity of the knapsack
+	 * @return bound on the value attainable from the items {@code j,...,m-1}
+	 */
+	private double calcBound(int j, int m, int residualCapacity){
+		long limit=prefixWeight[j]+residualCapacity;
+		//Find the largest r in [j,m] with prefixWeight[r] <= limit
+		int low=j, high=m;
+		while(low < high){
+			int mid=(low+high+1)>>>1;
+			if(prefixWeight[mid] <= limit)
+				low=mid;
+			else
+				high=mid-1;
+		}
+		double bound=prefixValue[low]-prefixValue[j];
+		if(low < m)
+			bound+=(limit-prefixWeight[low])*efficiency[low];
+		return bound;
+	}
+
+	/**
+	 * Ensures that the buffers can hold the given number of items
+	 * @param nrItems number of items
+	 */
+	private void ensureCapacity(int nrItems){
+		if(order.length < nrItems){
+			order=new int[2*nrItems];
+			efficiency=new double[2*nrItems];
+			prefixWeight=new long[2*nrItems+1];
+			prefixValue=new double[2*nrItems+1];
+			path=new int[2*nrItems];
+			bestPath=new int[2*nrItems];
+		}
+	}
+
+	/**
+	 * Get the value of the knapsack
+	 * @return Get the value of the knapsack
+	 */
+	@Override
+	public double getKnapsackValue(){
+		return knapsackValue;
+	}
+	/**
+	 * Get the total weight of the knapsack
+	 * @return Get the total weight of the knapsack
+	 */
+	@Override
+	public int getKnapsackWeight(){
+		return knapsackWeight;
+	}
+	/**
+	 * Get the items in the knapsack
+	 * @return Get the items in the knapsack
+	 */
+	@Override
+	public boolean[] getKnapsackItems(){
+		return knapsackItems;
+	}
+	/**
+	 * Get an upper bound on the value of the optimal knapsack solution
+	 * @return Get an upper bound on the value of the optimal knapsack solution
+	 */
+	@Override
+	public double getUpperBound(){
+		return upperBound;
+	}
+	/**
+	 * Returns whether the last knapsack problem has been solved to optimality
+	 * @return Returns true if the last knapsack problem has been solved to optimality, false if the search has been interrupted by one of the limits
+	 */
+	@Override
+	public boolean isOptimal(){
+		return optimal;
+	}
+}
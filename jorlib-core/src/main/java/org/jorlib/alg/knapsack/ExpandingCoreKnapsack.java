@@ -0,0 +1,380 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ExpandingCoreKnapsack.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.knapsack;
+
+import java.util.Arrays;
+
+/**
+ * Dynamic programming algorithm for the 0-1 knapsack problem, based on the expanding core algorithm (minknap) of:<br>
+ * {@literal Pisinger, D., A minimal algorithm for the 0-1 knapsack problem. Operations Research, 45(5):758-767, 1997}<p>
+ *
+ * Solves the problem:<br>
+ * {@code max \sum_i c_i x_i}<br>
+ * {@code s.t. \sum_i a_i x_i <= b}<br>
+ * {@code x_i binary}<br>
+ *
+ * The items are sorted by non-increasing efficiency {@code c_i/a_i}, and the break solution is obtained by inserting the items greedily until the first item
+ * (the break item) no longer fits. Starting from the break solution, the algorithm enumerates the items around the break item, alternately considering the
+ * insertion of the next item after the break item, and the removal of the next item before it. The core of enumerated items is thereby expanded until no
+ * state can improve upon the incumbent. A state is a pair (weight, value) of a partial solution which differs from the break solution only in the core; states
+ * are kept in a list sorted by weight, from which dominated states are removed. A state is fathomed when its linear programming bound, computed from the
+ * efficiencies of the next items outside the core, does not exceed the incumbent. On correlated instances, where branch-and-bound algorithms such as
+ * {@link BinaryKnapsack} degrade, the number of states is bounded by the capacity of the knapsack.<p>
+ *
+ * Optionally, the items are reduced before the enumeration through the bound tests of Dembo and Hammer, as in the combo algorithm of Martello, Pisinger and
+ * Toth: an item is fixed at its break solution value when the opposite decision yields an upper bound which does not exceed the value of the greedy solution.
+ * Fixed items are never enumerated.<p>
+ *
+ * NOTE: All item weights, as well as the maxKnapsackWeight have to be non-negative integers. The item values can be fractional, both positive and negative. Items with
+ * a value smaller or equal to 0 are never selected. Items with weight 0 and a positive value are always selected. All working buffers are reused across calls.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ */
+public class ExpandingCoreKnapsack implements KnapsackAlgorithm{
+
+	/** Precision used when comparing values **/
+	public static final double PRECISION=0.000001;
+
+	/** Indicates whether items are fixed through the Dembo-Hammer bound test before the enumeration **/
+	private final boolean reduceItems;
+
+	//Solution
+	private double knapsackValue=0;
+	private int knapsackWeight=0;
+	private boolean[] knapsackItems;
+
+	//Sorted candidate items (value>0, 0<weight<=capacity)
+	private int[] order=new int[16];
+	private double[] efficiency=new double[16];
+	private boolean[] fixed=new boolean[16];
+
+	//Current list of states, sorted by increasing weight and increasing value
+	private int[] stateWeight=new int[16];
+	private double[] stateValue=new double[16];
+	//Buffers for the next list of states
+	private int[] nextStateWeight=new int[16];
+	private double[] nextStateValue=new double[16];
+	private int[] nextStateParent=new int[16];
+
+	/** For every state created during the enumeration: 2*index of the parent state in the previous stage, +1 if the item of the stage has been toggled **/
+	private int[] history=new int[64];
+	/** Start of every stage in {@link #history} **/
+	private int[] stageStart=new int[17];
+	/** Position (in the sorted order) of the item which is toggled in every stage **/
+	private int[] stageItem=new int[16];
+
+	/**
+	 * Creates a new knapsack solver which reduces the items through the Dembo-Hammer bound test before the enumeration
+	 */
+	public ExpandingCoreKnapsack(){
+		this(true);
+	}
+
+	/**
+	 * Creates a new knapsack solver
+	 * @param reduceItems indicates whether items are fixed through the Dembo-Hammer bound test before the enumeration
+	 */
+	public ExpandingCoreKnapsack(boolean reduceItems){
+		this.reduceItems=reduceItems;
+	}
+
+	/**
+	 * Solve the knapsack problem.
+	 * @param nrItems nr of items in the knapsack
+	 * @param maxKnapsackWeight max size/weight of the knapsack
+	 * @param itemValues item values
+	 * @param itemWeights item weights
+	 * @return The value of the knapsack solution
+	 */
+	@Override
+	public double solveKnapsackProblem(int nrItems, int maxKnapsackWeight, double[] itemValues, int[] itemWeights){
+		knapsackItems=new boolean[nrItems];
+		knapsackValue=0;
+		knapsackWeight=0;
+		if(maxKnapsackWeight < 0)
+			return knapsackValue;
+
+		//1. Select the candidate items. Items without weight are always selected.
+		this.ensureItemCapacity(nrItems);
+		int m=0;
+		for(int i=0; i<nrItems; i++){
+			if(itemValues[i] <= 0 || itemWeights[i] > maxKnapsackWeight)
+				continue;
+			if(itemWeights[i] == 0){
+				knapsackItems[i]=true;
+				knapsackValue+=itemValues[i];
+			}else{
+				order[m]=i;
+				efficiency[m++]=itemValues[i]/itemWeights[i];
+			}
+		}
+		KnapsackUtil.sortDescending(order, efficiency, m);
+
+		//2. Break solution and greedy solution
+		int breakItem=0;
+		int breakWeight=0;
+		double breakValue=0;
+		while(breakItem < m && breakWeight+itemWeights[order[breakItem]] <= maxKnapsackWeight){
+			breakWeight+=itemWeights[order[breakItem]];
+			breakValue+=itemValues[order[breakItem]];
+			breakItem++;
+		}
+		if(breakItem == m){ //All items fit
+			this.setSolution(itemValues, itemWeights, breakItem, -1, 0);
+			return knapsackValue;
+		}
+		int greedyWeight=breakWeight;
+		double incumbent=breakValue;
+		for(int k=breakItem+1; k<m; k++){
+			if(greedyWeight+itemWeights[order[k]] <= maxKnapsackWeight){
+				greedyWeight+=itemWeights[order[k]];
+				incumbent+=itemValues[order[k]];
+			}
+		}
+		double greedyValue=incumbent;
+
+		//3. Reduction
+		Arrays.fill(fixed, 0, m, false);
+		if(reduceItems){
+			double breakEfficiency=efficiency[breakItem];
+			int residualCapacity=maxKnapsackWeight-breakWeight;
+			for(int k=0; k<m; k++){
+				double bound;
+				if(k < breakItem) //Bound when item k is removed from the break solution
+					bound=breakValue-itemValues[order[k]]+(residualCapacity+itemWeights[order[k]])*breakEfficiency;
+				else //Bound when item k is added to the break solution
+					bound=breakValue+itemValues[order[k]]+(residualCapacity-itemWeights[order[k]])*breakEfficiency;
+				fixed[k]=bound <= incumbent+PRECISION;
+			}
+		}
+
+		//4. Enumerate the core, starting from the break solution
+		int nrStates=1;
+		stateWeight[0]=breakWeight;
+		stateValue[0]=breakValue;
+		int nrStages=0;
+		stageStart[0]=0;
+		int bestStage=-1, bestState=-1;
+		int nextAdd=this.nextUnfixed(breakItem, m, 1);
+		int nextRemove=this.nextUnfixed(breakItem-1, m, -1);
+		boolean add=true;
+		while(nrStates > 0 && (nextAdd < m || nextRemove >= 0)){
+			//Select the next item to enumerate; alternate between inserting and removing items
+			int k;
+			if((add && nextAdd < m) || nextRemove < 0){
+				k=nextAdd;
+				nextAdd=this.nextUnfixed(nextAdd+1, m, 1);
+			}else{
+				k=nextRemove;
+				nextRemove=this.nextUnfixed(nextRemove-1, m, -1);
+			}
+			add=!add;
+			int itemWeight= k >= breakItem ? itemWeights[order[k]] : -itemWeights[order[k]];
+			double itemValue= k >= breakItem ? itemValues[order[k]] : -itemValues[order[k]];
+			double addEfficiency= nextAdd < m ? efficiency[nextAdd] : 0;
+
+			//Merge the current states with the states in which item k is toggled, removing dominated and fathomed states
+			this.ensureStateCapacity(2*nrStates);
+			int nrNextStates=0;
+			int i=0, j=0;
+			while(i < nrStates || j < nrStates){
+				int weight, parent;
+				double value;
+				if(j >= nrStates || (i < nrStates && stateWeight[i] <= stateWeight[j]+itemWeight)){
+					weight=stateWeight[i];
+					value=stateValue[i];
+					parent=2*i++;
+				}else{
+					weight=stateWeight[j]+itemWeight;
+					value=stateValue[j]+itemValue;
+					parent=2*j+++1;
+				}
+				//Upper bound on the value of the state, obtained from the linear programming relaxation of the items outside the core
+				double bound;
+				if(weight <= maxKnapsackWeight)
+					bound=value+(maxKnapsackWeight-weight)*addEfficiency;
+				else if(nextRemove >= 0)
+					bound=value-(weight-maxKnapsackWeight)*efficiency[nextRemove];
+				else
+					continue;
+				if(bound <= incumbent+PRECISION)
+					continue;
+				//Dominance: the last state has a smaller or equal weight; the new state dominates it when it has a larger or equal value and the same weight
+				if(nrNextStates > 0 && nextStateValue[nrNextStates-1] >= value)
+					continue;
+				if(nrNextStates > 0 && nextStateWeight[nrNextStates-1] == weight)
+					nrNextStates--;
+				nextStateWeight[nrNextStates]=weight;
+				nextStateValue[nrNextStates]=value;
+				nextStateParent[nrNextStates++]=parent;
+			}
+
+			//Record the stage
+			this.ensureHistoryCapacity(stageStart[nrStages]+nrNextStates);
+			stageItem[nrStages]=k;
+			System.arraycopy(nextStateParent, 0, history, stageStart[nrStages], nrNextStates);
+			stageStart[nrStages+1]=stageStart[nrStages]+nrNextStates;
+			nrStages++;
+			for(int s=0; s<nrNextStates; s++){
+				if(nextStateWeight[s] <= maxKnapsackWeight && nextStateValue[s] > incumbent+PRECISION){
+					incumbent=nextStateValue[s];
+					bestStage=nrStages;
+					bestState=s;
+				}
+			}
+
+			//Swap the state lists
+			int[] tmpWeight=stateWeight; stateWeight=nextStateWeight; nextStateWeight=tmpWeight;
+			double[] tmpValue=stateValue; stateValue=nextStateValue; nextStateValue=tmpValue;
+			nrStates=nrNextStates;
+		}
+
+		//5. Reconstruct the solution
+		if(bestStage < 0 || incumbent <= greedyValue){
+			//The greedy solution is optimal
+			this.setSolution(itemValues, itemWeights, breakItem, -1, 0);
+			int remainingCapacity=maxKnapsackWeight-breakWeight;
+			for(int k=breakItem+1; k<m; k++){
+				if(itemWeights[order[k]] <= remainingCapacity){
+					remainingCapacity-=itemWeights[order[k]];
+					knapsackItems[order[k]]=true;
+					knapsackValue+=itemValues[order[k]];
+					knapsackWeight+=itemWeights[order[k]];
+				}
+			}
+		}else{
+			this.setSolution(itemValues, itemWeights, breakItem, bestStage, bestState);
+		}
+		return knapsackValue;
+	}
+
+	/**
+	 * Returns the next item in the sorted order, starting at position k, which has not been fixed
+	 * @param k first position to consider
+	 * @param m number of candidate items
+	 * @param direction 1 to search forward, -1 to search backward
+	 * @return the next unfixed item, or a position outside {0,...,m-1} if no such item exists
+	 */
+	private int nextUnfixed(int k, int m, int direction){
+		while(k >= 0 && k < m && fixed[k])
+			k+=direction;
+		return k;
+	}
+
+	/**
+	 * Stores the solution obtained by toggling the items on the path from the given state back to the break solution. The items with weight 0 have already
+	 * been added to the solution.
+	 * @param itemValues item values
+	 * @param itemWeights item weights
+	 * @param breakItem position of the break item in the sorted order
+	 * @param stage stage of the state, or -1 to store the break solution
+	 * @param state index of the state in its stage
+	 */
+	private void setSolution(double[] itemValues, int[] itemWeights, int breakItem, int stage, int state){
+		for(int k=0; k<breakItem; k++)
+			knapsackItems[order[k]]=true;
+		for(int t=stage; t>0; t--){
+			int entry=history[stageStart[t-1]+state];
+			if((entry & 1) == 1){
+				int item=order[stageItem[t-1]];
+				knapsackItems[item]=!knapsackItems[item];
+			}
+			state=entry>>>1;
+		}
+		knapsackValue=0;
+		knapsackWeight=0;
+		for(int i=0; i<knapsackItems.length; i++){
+			if(knapsackItems[i]){
+				knapsackValue+=itemValues[i];
+				knapsackWeight+=itemWeights[i];
+			}
+		}
+	}
+
+	/**
+	 * Ensures that the item buffers can hold the given number of items
+	 * @param nrItems number of items
+	 */
+	private void ensureItemCapacity(int nrItems){
+		if(order.length < nrItems){
+			order=new int[2*nrItems];
+			efficiency=new double[2*nrItems];
+			fixed=new boolean[2*nrItems];
+			stageItem=new int[2*nrItems];
+			stageStart=new int[2*nrItems+1];
+		}
+	}
+
+	/**
+	 * Ensures that the state buffers can hold the given number of states
+	 * @param nrStates number of states
+	 */
+	private void ensureStateCapacity(int nrStates){
+		if(nextStateWeight.length < nrStates){
+			stateWeight=Arrays.copyOf(stateWeight, 2*nrStates);
+			stateValue=Arrays.copyOf(stateValue, 2*nrStates);
+			nextStateWeight=new int[2*nrStates];
+			nextStateValue=new double[2*nrStates];
+			nextStateParent=new int[2*nrStates];
+		}
+	}
+
+	/**
+	 * Ensures that the history can hold the given number of entries
+	 * @param size number of entries
+	 */
+	private void ensureHistoryCapacity(int size){
+		if(history.length < size)
+			history=Arrays.copyOf(history, Math.max(2*history.length, size));
+	}
+
+	/**
+	 * Get the value of the knapsack
+	 * @return Get the value of the knapsack
+	 */
+	@Override
+	public double getKnapsackValue(){
+		return knapsackValue;
+	}
+	/**
+	 * Get the total weight of the knapsack
+	 * @return Get the total weight of the knapsack
+	 */
+	@Override
+	public int getKnapsackWeight(){
+		return knapsackWeight;
+	}
+	/**
+	 * Get the items in the knapsack
+	 * @return Get the items in the knapsack
+	 */
+	@Override
+	public boolean[] getKnapsackItems(){
+		return knapsackItems;
+	}
+}
@@ -0,0 +1,364 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * IntegerKnapsack.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.knapsack;
+
+import java.util.Arrays;
+
+/**
+ * Solver for the bounded and unbounded integer knapsack problem:<br>
+ * {@code max \sum_i c_i x_i}<br>
+ * {@code s.t. \sum_i a_i x_i <= b}<br>
+ * {@code 0 <= x_i <= u_i, x_i integer}<p>
+ *
+ * The number of copies of each item is first limited to {@code \lfloor b/a_i\rfloor}; items for which this limit is binding are treated as unbounded. Unbounded
+ * items which are dominated by another unbounded item are removed: item j is dominated by item i if {@code \lfloor a_j/a_i\rfloor c_i\geq c_j}, i.e. every copy
+ * of item j can be replaced by copies of item i without loss. The reduced problem is solved by one of two algorithms:
+ * <ol>
+ * <li>Dynamic programming over the capacity. Unbounded items are processed once; bounded items are split into 0-1 items representing 1, 2, 4, ... copies. The decisions
+ * are recorded in one bit per item and capacity, from which the solution is reconstructed.</li>
+ * <li>Depth-first branch and bound (Martello and Toth), when the number of decision bits required by the dynamic program exceeds a limit. The items are sorted by
+ * non-increasing efficiency {@code c_i/a_i}; every level fixes the number of copies of an item, starting from the largest feasible number.</li>
+ * </ol>
+ *
+ * NOTE: All item weights, as well as the maxKnapsackWeight have to be non-negative integers. The item values can be fractional, both positive and negative. Items with
+ * a value smaller or equal to 0 are never selected. Bounded items with weight 0 and a positive value are selected as often as allowed; unbounded items with weight 0
+ * and a positive value render the problem unbounded.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ */
+public class IntegerKnapsack implements IntegerKnapsackAlgorithm{
+
+	/** Precision used when comparing values **/
+	public static final double PRECISION=0.000001;
+	/** Default maximum number of decision bits (items times capacity) for which the dynamic program is used **/
+	public static final long DEFAULT_DP_LIMIT=1L<<27;
+
+	/** Maximum number of decision bits for which the dynamic program is used **/
+	private final long dpLimit;
+
+	//Solution
+	private double knapsackValue=0;
+	private int knapsackWeight=0;
+	private int[] knapsackItems;
+
+	//Candidate items (value>0, 0<weight<=capacity), sorted by non-increasing efficiency
+	private int[] order=new int[16];
+	private double[] efficiency=new double[16];
+	private int[] copies=new int[16];
+	private boolean[] unbounded=new boolean[16];
+
+	/**
+	 * Creates a new integer knapsack solver
+	 */
+	public IntegerKnapsack(){
+		this(DEFAULT_DP_LIMIT);
+	}
+
+	/**
+	 * Creates a new integer knapsack solver
+	 * @param dpLimit maximum number of decision bits (number of dynamic programming stages times the capacity) for which dynamic programming is used. Larger
+	 *                problems are solved through branch and bound.
+	 */
+	public IntegerKnapsack(long dpLimit){
+		this.dpLimit=dpLimit;
+	}
+
+	/**
+	 * Solve the knapsack problem.
+	 * @param nrItems nr of items in the knapsack
+	 * @param maxKnapsackWeight max size/weight of the knapsack
+	 * @param itemValues item values
+	 * @param itemWeights item weights
+	 * @param itemBounds maximum number of copies of each item, or null if the number of copies is unbounded
+	 * @return The value of the knapsack solution
+	 */
+	@Override
+	public double solveKnapsackProblem(int nrItems, int maxKnapsackWeight, double[] itemValues, int[] itemWeights, int[] itemBounds){
+		knapsackItems=new int[nrItems];
+		knapsackValue=0;
+		knapsackWeight=0;
+		if(maxKnapsackWeight < 0)
+			return knapsackValue;
+
+		//1. Limit the number of copies of each item
+		if(order.length < nrItems){
+			order=new int[2*nrItems];
+			efficiency=new double[2*nrItems];
+			copies=new int[2*nrItems];
+			unbounded=new boolean[2*nrItems];
+		}
+		int m=0;
+		for(int i=0; i<nrItems; i++){
+			int bound= itemBounds == null ? Integer.MAX_VALUE : itemBounds[i];
+			if(itemValues[i] <= 0 || itemWeights[i] > maxKnapsackWeight || bound <= 0)
+				continue;
+			if(itemWeights[i] == 0){
+				if(bound == Integer.MAX_VALUE)
+					throw new IllegalArgumentException("Unbounded item "+i+" has weight 0 and a positive value; the knapsack problem is unbounded");
+				knapsackItems[i]=bound;
+			}else{
+				order[m]=i;
+				copies[m++]=Math.min(bound, maxKnapsackWeight/itemWeights[i]);
+			}
+		}
+
+		//2. Remove dominated unbounded items
+		m=this.removeDominatedItems(m, maxKnapsackWeight, itemValues, itemWeights);
+		for(int k=0; k<m; k++)
+			efficiency[k]=itemValues[order[k]]/itemWeights[order[k]];
+		this.sortByEfficiency(m);
+
+		//3. Solve the reduced problem
+		long nrStages=0;
+		for(int k=0; k<m; k++)
+			nrStages+= unbounded[k] ? 1 : 32-Integer.numberOfLeadingZeros(copies[k]);
+		if(nrStages*(maxKnapsackWeight+1L) <= dpLimit)
+			this.solveDynamicProgram(m, (int)nrStages, maxKnapsackWeight, itemValues, itemWeights);
+		else
+			this.solveBranchAndBound(m, maxKnapsackWeight, itemValues, itemWeights);
+
+		for(int i=0; i<nrItems; i++){
+			knapsackValue+=knapsackItems[i]*itemValues[i];
+			knapsackWeight+=knapsackItems[i]*itemWeights[i];
+		}
+		return knapsackValue;
+	}
+
+	/**
+	 * Removes the unbounded items which are dominated by another unbounded item. Item j is dominated by item i if {@code \lfloor a_j/a_i\rfloor c_i\geq c_j}.
+	 * @param m number of candidate items
+	 * @param maxKnapsackWeight capacity
+	 * @param itemValues item values
+	 * @param itemWeights item weights
+	 * @return number of remaining candidate items
+	 */
+	private int removeDominatedItems(int m, int maxKnapsackWeight, double[] itemValues, int[] itemWeights){
+		//Sort the items by non-decreasing weight; an item can only be dominated by an item with a smaller or equal weight
+		for(int k=0; k<m; k++){
+			unbounded[k]= copies[k] == maxKnapsackWeight/itemWeights[order[k]];
+			efficiency[k]=-itemWeights[order[k]]+(unbounded[k] ? 0.5 : 0); //Among items with equal weight, unbounded items are considered first
+		}
+		this.sortByEfficiency(m);
+		int nrRemaining=0;
+		for(int k=0; k<m; k++){
+			int j=order[k];
+			boolean dominated=false;
+			if(unbounded[k]){
+				for(int l=0; l<nrRemaining && !dominated; l++){
+					int i=order[l];
+					dominated=unbounded[l] && (itemWeights[j]/itemWeights[i])*itemValues[i] >= itemValues[j];
+				}
+			}
+			if(!dominated){
+				order[nrRemaining]=j;
+				copies[nrRemaining]=copies[k];
+				unbounded[nrRemaining++]=unbounded[k];
+			}
+		}
+		return nrRemaining;
+	}
+
+	/**
+	 * Sorts the first m candidate items by non-increasing {@link #efficiency}, permuting {@link #copies} and {@link #unbounded} along
+	 * @param m number of candidate items
+	 */
+	private void sortByEfficiency(int m){
+		//Sort positions, then permute the item data
+		int[] positions=new int[m];
+		double[] keys=Arrays.copyOf(efficiency, m);
+		for(int k=0; k<m; k++)
+			positions[k]=k;
+		KnapsackUtil.sortDescending(positions, keys, m);
+		int[] sortedOrder=new int[m];
+		int[] sortedCopies=new int[m];
+		boolean[] sortedUnbounded=new boolean[m];
+		for(int k=0; k<m; k++){
+			sortedOrder[k]=order[positions[k]];
+			sortedCopies[k]=copies[positions[k]];
+			sortedUnbounded[k]=unbounded[positions[k]];
+		}
+		System.arraycopy(sortedOrder, 0, order, 0, m);
+		System.arraycopy(sortedCopies, 0, copies, 0, m);
+		System.arraycopy(sortedUnbounded, 0, unbounded, 0, m);
+		System.arraycopy(keys, 0, efficiency, 0, m);
+	}
+
+	/**
+	 * Solves the reduced problem through dynamic programming over the capacity. {@code f[c]} is the maximum value of a solution with weight at most c, using the
+	 * stages processed so far. A stage either represents an unbounded item, or a fixed number of copies of a bounded item.
+	 * @param m number of candidate items
+	 * @param nrStages number of stages
+	 * @param maxKnapsackWeight capacity
+	 * @param itemValues item values
+	 * @param itemWeights item weights
+	 */
+	private void solveDynamicProgram(int m, int nrStages, int maxKnapsackWeight, double[] itemValues, int[] itemWeights){
+		int[] stageItem=new int[nrStages];
+		int[] stageCopies=new int[nrStages];
+		boolean[] stageUnbounded=new boolean[nrStages];
+		int s=0;
+		for(int k=0; k<m; k++){
+			if(unbounded[k]){
+				stageItem[s]=order[k];
+				stageCopies[s]=1;
+				stageUnbounded[s++]=true;
+			}else{ //Binary splitting: 1, 2, 4, ..., remainder
+				int remaining=copies[k];
+				for(int piece=1; remaining > 0; piece*=2){
+					stageItem[s]=order[k];
+					stageCopies[s++]=Math.min(piece, remaining);
+					remaining-=Math.min(piece, remaining);
+				}
+			}
+		}
+
+		int width=maxKnapsackWeight+1;
+		double[] f=new double[width];
+		long[] decisions=new long[(int)((nrStages*(long)width+63)/64)];
+		for(s=0; s<nrStages; s++){
+			int weight=stageCopies[s]*itemWeights[stageItem[s]];
+			double value=stageCopies[s]*itemValues[stageItem[s]];
+			long offset=s*(long)width;
+			if(stageUnbounded[s]){
+				for(int c=weight; c<width; c++){
+					if(f[c-weight]+value > f[c]){
+						f[c]=f[c-weight]+value;
+						decisions[(int)((offset+c)>>>6)]|=1L<<((offset+c)&63);
+					}
+				}
+			}else{
+				for(int c=width-1; c>=weight; c--){
+					if(f[c-weight]+value > f[c]){
+						f[c]=f[c-weight]+value;
+						decisions[(int)((offset+c)>>>6)]|=1L<<((offset+c)&63);
+					}
+				}
+			}
+		}
+
+		//Reconstruct the solution
+		int c=maxKnapsackWeight;
+		s=nrStages-1;
+		while(s >= 0){
+			long position=s*(long)width+c;
+			if((decisions[(int)(position>>>6)] & (1L<<(position&63))) != 0){
+				knapsackItems[stageItem[s]]+=stageCopies[s];
+				c-=stageCopies[s]*itemWeights[stageItem[s]];
+				if(!stageUnbounded[s])
+					s--;
+			}else
+				s--;
+		}
+	}
+
+	/**
+	 * Solves the reduced problem through depth-first branch and bound. Level k of the search tree fixes the number of copies of the k-th most efficient item. A node
+	 * is pruned when the bound {@code value+residualCapacity*c_k/a_k} does not exceed the incumbent.
+	 * @param m number of candidate items
+	 * @param maxKnapsackWeight capacity
+	 * @param itemValues item values
+	 * @param itemWeights item weights
+	 */
+	private void solveBranchAndBound(int m, int maxKnapsackWeight, double[] itemValues, int[] itemWeights){
+		int[] x=new int[m];
+		int[] bestX=new int[m];
+		double bestValue=0;
+		int residualCapacity=maxKnapsackWeight;
+		double value=0;
+		int k=0;
+		while(true){
+			//Forward move: insert as many copies as possible of the items k,...,m-1, as long as the bound exceeds the incumbent
+			boolean pruned=false;
+			while(k < m){
+				if(value+residualCapacity*efficiency[k] <= bestValue+PRECISION){
+					pruned=true;
+					break;
+				}
+				int item=order[k];
+				x[k]=Math.min(copies[k], residualCapacity/itemWeights[item]);
+				residualCapacity-=x[k]*itemWeights[item];
+				value+=x[k]*itemValues[item];
+				k++;
+			}
+			if(!pruned && value > bestValue+PRECISION){
+				bestValue=value;
+				System.arraycopy(x, 0, bestX, 0, m);
+			}
+
+			//Backtrack: remove a copy of the last item with a positive number of copies. If the bound of the resulting node does not exceed the incumbent, removing
+			//more copies of that item does not help either, since the items after it are less efficient.
+			int j=k-1;
+			while(true){
+				while(j >= 0 && x[j] == 0)
+					j--;
+				if(j < 0)
+					break;
+				int item=order[j];
+				x[j]--;
+				residualCapacity+=itemWeights[item];
+				value-=itemValues[item];
+				double bound= j+1 < m ? value+residualCapacity*efficiency[j+1] : value;
+				if(bound > bestValue+PRECISION)
+					break;
+				residualCapacity+=x[j]*itemWeights[item];
+				value-=x[j]*itemValues[item];
+				x[j]=0;
+			}
+			if(j < 0)
+				break;
+			k=j+1;
+		}
+		for(k=0; k<m; k++)
+			knapsackItems[order[k]]=bestX[k];
+	}
+
+	/**
+	 * Get the value of the knapsack
+	 * @return Get the value of the knapsack
+	 */
+	@Override
+	public double getKnapsackValue(){
+		return knapsackValue;
+	}
+	/**
+	 * Get the total weight of the knapsack
+	 * @return Get the total weight of the knapsack
+	 */
+	@Override
+	public int getKnapsackWeight(){
+		return knapsackWeight;
+	}
+	/**
+	 * Get the number of copies of each item in the knapsack
+	 * @return Get the number of copies of each item in the knapsack
+	 */
+	@Override
+	public int[] getKnapsackItems(){
+		return knapsackItems;
+	}
+}
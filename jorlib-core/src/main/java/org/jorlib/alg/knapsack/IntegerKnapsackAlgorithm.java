@@ -0,0 +1,63 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * IntegerKnapsackAlgorithm.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.knapsack;
+
+/**
+ * Interface defining a solver for the bounded and unbounded integer knapsack problem:<br>
+ * {@code max \sum_i c_i x_i}<br>
+ * {@code s.t. \sum_i a_i x_i <= b}<br>
+ * {@code 0 <= x_i <= u_i, x_i integer}<br>
+ * where the upper bounds {@code u_i} may be absent (unbounded knapsack problem). See {@link KnapsackAlgorithm} for the 0-1 knapsack problem.
+ * @author Joris Kinable
+ * @since October 19, 2026
+ */
+public interface IntegerKnapsackAlgorithm {
+
+	/**
+	 * Solve the knapsack problem.
+	 * @param nrItems nr of items in the knapsack
+	 * @param maxKnapsackWeight max size/weight of the knapsack
+	 * @param itemValues item values
+	 * @param itemWeights item weights
+	 * @param itemBounds maximum number of copies of each item, or null if the number of copies is unbounded. Entries equal to {@code Integer.MAX_VALUE} denote
+	 *                   unbounded items.
+	 * @return The value of the knapsack solution
+	 */
+	double solveKnapsackProblem(int nrItems, int maxKnapsackWeight, double[] itemValues, int[] itemWeights, int[] itemBounds);
+	/**
+	 * @return Get the value of the knapsack
+	 */
+	double getKnapsackValue();
+	/**
+	 * @return Get the total weight of the knapsack
+	 */
+	int getKnapsackWeight();
+	/**
+	 * @return Get the number of copies of each item in the knapsack
+	 */
+	int[] getKnapsackItems();
+}
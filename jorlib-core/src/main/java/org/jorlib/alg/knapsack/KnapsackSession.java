@@ -0,0 +1,388 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * KnapsackSession.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.knapsack;
+
+import java.util.Arrays;
+
+/**
+ * Re-optimizing solver for a sequence of knapsack problems which share the same item weights, item bounds and capacity, but differ in their item values:<br>
+ * {@code max \sum_i c_i x_i}<br>
+ * {@code s.t. \sum_i a_i x_i <= b}<br>
+ * {@code 0 <= x_i <= u_i, x_i integer}<p>
+ *
+ * Such sequences arise for instance in column generation, where the pricing problem is solved repeatedly with updated dual values. A session is initialized once with
+ * the weights, bounds and capacity; everything which only depends on these data is computed in the constructor: the number of copies of each item is limited to
+ * {@code \lfloor b/a_i\rfloor}, items which do not fit are discarded, and all buffers are allocated. Every call to {@link #solve(double[])} then solves the problem
+ * for a new value vector through one of two algorithms, as in {@link IntegerKnapsack}:
+ * <ol>
+ * <li>Dynamic programming over the capacity, when the decision table (one bit per stage and capacity) fits within the limit. The stages (bounded items are split
+ * into 0-1 items representing 1, 2, 4, ... copies) and the decision table are created once, and reused by every solve.</li>
+ * <li>Depth-first branch and bound otherwise. The items are kept in the order of the previous solve, and are re-sorted by efficiency through an insertion sort,
+ * which takes linear time when the values changed only slightly. The optimal solution of the previous solve, evaluated against the new values, serves as the
+ * initial incumbent: since the weights did not change, it remains feasible.</li>
+ * </ol>
+ * The 0-1 knapsack problem is solved by a session with all bounds equal to 1.<p>
+ *
+ * NOTE: All item weights, as well as the maxKnapsackWeight have to be non-negative integers. The item values can be fractional, both positive and negative. Items with
+ * a value smaller or equal to 0 are never selected. The array returned by {@link #getKnapsackItems()} is overwritten by the next solve.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ */
+public class KnapsackSession {
+
+	/** Precision used when comparing values **/
+	public static final double PRECISION=0.000001;
+
+	//Problem data
+	private final int nrItems;
+	private final int maxKnapsackWeight;
+	private final int[] itemWeights;
+	private final int[] itemBounds;
+
+	//Solution
+	private double knapsackValue=0;
+	private int knapsackWeight=0;
+	private final int[] knapsackItems;
+	/** Optimal solution of the previous solve, used as the initial incumbent of the next solve **/
+	private final int[] incumbent;
+
+	/** Candidate items (0<weight<=capacity, bound>0); during branch and bound sorted by non-increasing efficiency of the previous solve **/
+	private final int[] order;
+	/** Maximum number of copies of each item in {@link #order}, limited to {@code \lfloor b/a_i\rfloor} **/
+	private final int[] copies;
+	/** Items with weight 0 and a positive bound **/
+	private final int[] zeroWeightItems;
+
+	//Dynamic program, or null if branch and bound is used
+	private final int[] stageItem;
+	private final int[] stageCopies;
+	private final boolean[] stageUnbounded;
+	private final double[] f;
+	/** Decision bits; every stage occupies {@link #rowWords} words **/
+	private final long[] decisions;
+	private final int rowWords;
+
+	//Branch and bound
+	private final double[] efficiency;
+	private final int[] x;
+	private final int[] bestX;
+
+	/**
+	 * Creates a new session, using the default limit of {@link IntegerKnapsack#DEFAULT_DP_LIMIT} decision bits for the dynamic program
+	 * @param nrItems nr of items in the knapsack
+	 * @param maxKnapsackWeight max size/weight of the knapsack
+	 * @param itemWeights item weights
+	 * @param itemBounds maximum number of copies of each item, or null if the number of copies is unbounded. Entries equal to {@code Integer.MAX_VALUE} denote
+	 *                   unbounded items.
+	 */
+	public KnapsackSession(int nrItems, int maxKnapsackWeight, int[] itemWeights, int[] itemBounds){
+		this(nrItems, maxKnapsackWeight, itemWeights, itemBounds, IntegerKnapsack.DEFAULT_DP_LIMIT);
+	}
+
+	/**
+	 * Creates a new session
+	 * @param nrItems nr of items in the knapsack
+	 * @param maxKnapsackWeight max size/weight of the knapsack
+	 * @param itemWeights item weights
+	 * @param itemBounds maximum number of copies of each item, or null if the number of copies is unbounded. Entries equal to {@code Integer.MAX_VALUE} denote
+	 *                   unbounded items.
+	 * @param dpLimit maximum number of decision bits (number of dynamic programming stages times the capacity) for which dynamic programming is used. Larger
+	 *                problems are solved through branch and bound.
+	 */
+	public KnapsackSession(int nrItems, int maxKnapsackWeight, int[] itemWeights, int[] itemBounds, long dpLimit){
+		if(itemWeights.length < nrItems || (itemBounds != null && itemBounds.length < nrItems))
+			throw new IllegalArgumentException("The weights and bounds must be specified for all "+nrItems+" items");
+		this.nrItems=nrItems;
+		this.maxKnapsackWeight=maxKnapsackWeight;
+		this.itemWeights=Arrays.copyOf(itemWeights, nrItems);
+		this.itemBounds=new int[nrItems];
+		for(int i=0; i<nrItems; i++){
+			if(itemWeights[i] < 0)
+				throw new IllegalArgumentException("Item "+i+" has a negative weight");
+			this.itemBounds[i]= itemBounds == null ? Integer.MAX_VALUE : itemBounds[i];
+		}
+		knapsackItems=new int[nrItems];
+		incumbent=new int[nrItems];
+
+		//Select the candidate items, and limit the number of copies
+		int m=0, nrZeroWeightItems=0;
+		int[] candidates=new int[nrItems];
+		int[] candidateCopies=new int[nrItems];
+		int[] zeroWeight=new int[nrItems];
+		for(int i=0; i<nrItems && maxKnapsackWeight >= 0; i++){
+			if(this.itemBounds[i] <= 0 || itemWeights[i] > maxKnapsackWeight)
+				continue;
+			if(itemWeights[i] == 0)
+				zeroWeight[nrZeroWeightItems++]=i;
+			else{
+				candidates[m]=i;
+				candidateCopies[m++]=Math.min(this.itemBounds[i], maxKnapsackWeight/itemWeights[i]);
+			}
+		}
+		order=Arrays.copyOf(candidates, m);
+		copies=Arrays.copyOf(candidateCopies, m);
+		zeroWeightItems=Arrays.copyOf(zeroWeight, nrZeroWeightItems);
+
+		//Decide on the algorithm. An item is unbounded in the dynamic program if its bound is not binding.
+		long nrStages=0;
+		for(int k=0; k<m; k++)
+			nrStages+= this.isUnbounded(k) ? 1 : 32-Integer.numberOfLeadingZeros(copies[k]);
+		int width=Math.max(0, maxKnapsackWeight)+1;
+		long words=nrStages*((width+63)/64);
+		if(words*64 <= dpLimit && words < Integer.MAX_VALUE){
+			stageItem=new int[(int)nrStages];
+			stageCopies=new int[(int)nrStages];
+			stageUnbounded=new boolean[(int)nrStages];
+			int s=0;
+			for(int k=0; k<m; k++){
+				if(this.isUnbounded(k)){
+					stageItem[s]=order[k];
+					stageCopies[s]=1;
+					stageUnbounded[s++]=true;
+				}else{ //Binary splitting: 1, 2, 4, ..., remainder
+					int remaining=copies[k];
+					for(int piece=1; remaining > 0; piece*=2){
+						stageItem[s]=order[k];
+						stageCopies[s++]=Math.min(piece, remaining);
+						remaining-=Math.min(piece, remaining);
+					}
+				}
+			}
+			f=new double[width];
+			rowWords=(width+63)/64;
+			decisions=new long[(int)words];
+			efficiency=null;
+			x=null;
+			bestX=null;
+		}else{
+			stageItem=null;
+			stageCopies=null;
+			stageUnbounded=null;
+			f=null;
+			rowWords=0;
+			decisions=null;
+			efficiency=new double[m];
+			x=new int[m];
+			bestX=new int[m];
+		}
+	}
+
+	/**
+	 * Checks whether the bound of the k-th candidate item is not binding, i.e. whether the item may be treated as an unbounded item
+	 * @param k candidate item
+	 * @return true if the number of copies is only limited by the capacity
+	 */
+	private boolean isUnbounded(int k){
+		return copies[k] == maxKnapsackWeight/itemWeights[order[k]];
+	}
+
+	/**
+	 * Solves the knapsack problem for the given item values
+	 * @param itemValues item values
+	 * @return The value of the knapsack solution
+	 */
+	public double solve(double[] itemValues){
+		if(itemValues.length < nrItems)
+			throw new IllegalArgumentException("The values must be specified for all "+nrItems+" items");
+		Arrays.fill(knapsackItems, 0);
+		knapsackValue=0;
+		knapsackWeight=0;
+		if(maxKnapsackWeight < 0)
+			return knapsackValue;
+
+		for(int i : zeroWeightItems){
+			if(itemValues[i] <= 0)
+				continue;
+			if(itemBounds[i] == Integer.MAX_VALUE)
+				throw new IllegalArgumentException("Unbounded item "+i+" has weight 0 and a positive value; the knapsack problem is unbounded");
+			knapsackItems[i]=itemBounds[i];
+		}
+		if(decisions != null)
+			this.solveDynamicProgram(itemValues);
+		else
+			this.solveBranchAndBound(itemValues);
+
+		for(int i=0; i<nrItems; i++){
+			knapsackValue+=knapsackItems[i]*itemValues[i];
+			knapsackWeight+=knapsackItems[i]*itemWeights[i];
+		}
+		return knapsackValue;
+	}
+
+	/**
+	 * Solves the problem through dynamic programming over the capacity. {@code f[c]} is the maximum value of a solution with weight at most c, using the stages
+	 * processed so far. Stages of items with a non-positive value are skipped; the decision bits of the remaining stages are cleared before they are processed.
+	 * @param itemValues item values
+	 */
+	private void solveDynamicProgram(double[] itemValues){
+		Arrays.fill(f, 0);
+		for(int s=0; s<stageItem.length; s++){
+			double value=stageCopies[s]*itemValues[stageItem[s]];
+			if(value <= 0)
+				continue;
+			int weight=stageCopies[s]*itemWeights[stageItem[s]];
+			int offset=s*rowWords;
+			Arrays.fill(decisions, offset, offset+rowWords, 0L);
+			if(stageUnbounded[s]){
+				for(int c=weight; c<f.length; c++){
+					if(f[c-weight]+value > f[c]){
+						f[c]=f[c-weight]+value;
+						decisions[offset+(c>>>6)]|=1L<<(c&63);
+					}
+				}
+			}else{
+				for(int c=f.length-1; c>=weight; c--){
+					if(f[c-weight]+value > f[c]){
+						f[c]=f[c-weight]+value;
+						decisions[offset+(c>>>6)]|=1L<<(c&63);
+					}
+				}
+			}
+		}
+
+		//Reconstruct the solution
+		int c=maxKnapsackWeight;
+		int s=stageItem.length-1;
+		while(s >= 0){
+			if(itemValues[stageItem[s]] > 0 && (decisions[s*rowWords+(c>>>6)] & (1L<<(c&63))) != 0){
+				knapsackItems[stageItem[s]]+=stageCopies[s];
+				c-=stageCopies[s]*itemWeights[stageItem[s]];
+				if(!stageUnbounded[s])
+					s--;
+			}else
+				s--;
+		}
+	}
+
+	/**
+	 * Solves the problem through depth-first branch and bound (see {@link IntegerKnapsack}), starting from the solution of the previous solve as the incumbent.
+	 * @param itemValues item values
+	 */
+	private void solveBranchAndBound(double[] itemValues){
+		//Re-sort the candidate items, starting from the order of the previous solve. Items with a non-positive value are moved to the end.
+		int n=order.length;
+		int[] positions=x; //Used as scratch space for the positions of the items in the previous order
+		for(int k=0; k<n; k++){
+			positions[k]=k;
+			efficiency[k]= itemValues[order[k]] > 0 ? itemValues[order[k]]/itemWeights[order[k]] : -1;
+		}
+		if(!KnapsackUtil.insertionSortDescending(positions, efficiency, n, 4L*n))
+			KnapsackUtil.sortDescending(positions, efficiency, n);
+		for(int k=0; k<n; k++) //bestX is used as scratch space for the sorted order
+			bestX[k]=order[positions[k]];
+		for(int k=0; k<n; k++){
+			order[k]=bestX[k];
+			bestX[k]=copies[positions[k]];
+		}
+		System.arraycopy(bestX, 0, copies, 0, n);
+		int m=0;
+		while(m < n && efficiency[m] > 0)
+			m++;
+
+		//Initial incumbent: the solution of the previous solve, without the items whose value is no longer positive
+		double bestValue=0;
+		for(int k=0; k<m; k++){
+			bestX[k]=incumbent[order[k]];
+			bestValue+=bestX[k]*itemValues[order[k]];
+		}
+
+		Arrays.fill(x, 0);
+		int residualCapacity=maxKnapsackWeight;
+		double value=0;
+		int k=0;
+		while(true){
+			//Forward move: insert as many copies as possible of the items k,...,m-1, as long as the bound exceeds the incumbent
+			boolean pruned=false;
+			while(k < m){
+				if(value+residualCapacity*efficiency[k] <= bestValue+PRECISION){
+					pruned=true;
+					break;
+				}
+				int item=order[k];
+				x[k]=Math.min(copies[k], residualCapacity/itemWeights[item]);
+				residualCapacity-=x[k]*itemWeights[item];
+				value+=x[k]*itemValues[item];
+				k++;
+			}
+			if(!pruned && value > bestValue+PRECISION){
+				bestValue=value;
+				System.arraycopy(x, 0, bestX, 0, m);
+			}
+
+			//Backtrack: remove a copy of the last item with a positive number of copies
+			int j=k-1;
+			while(true){
+				while(j >= 0 && x[j] == 0)
+					j--;
+				if(j < 0)
+					break;
+				int item=order[j];
+				x[j]--;
+				residualCapacity+=itemWeights[item];
+				value-=itemValues[item];
+				double bound= j+1 < m ? value+residualCapacity*efficiency[j+1] : value;
+				if(bound > bestValue+PRECISION)
+					break;
+				residualCapacity+=x[j]*itemWeights[item];
+				value-=x[j]*itemValues[item];
+				x[j]=0;
+			}
+			if(j < 0)
+				break;
+			k=j+1;
+		}
+
+		Arrays.fill(incumbent, 0);
+		for(k=0; k<m; k++){
+			knapsackItems[order[k]]=bestX[k];
+			incumbent[order[k]]=bestX[k];
+		}
+	}
+
+	/**
+	 * Get the value of the knapsack
+	 * @return Get the value of the knapsack
+	 */
+	public double getKnapsackValue(){
+		return knapsackValue;
+	}
+	/**
+	 * Get the total weight of the knapsack
+	 * @return Get the total weight of the knapsack
+	 */
+	public int getKnapsackWeight(){
+		return knapsackWeight;
+	}
+	/**
+	 * Get the number of copies of each item in the knapsack
+	 * @return Get the number of copies of each item in the knapsack
+	 */
+	public int[] getKnapsackItems(){
+		return knapsackItems;
+	}
+}
@@ -0,0 +1,144 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * KnapsackUtil.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.knapsack;
+
+/**
+ * Helper methods shared by the knapsack implementations in this package.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+final class KnapsackUtil {
+
+	/** Below this size, ranges are sorted through insertion sort **/
+	private static final int INSERTION_SORT_THRESHOLD=16;
+
+	private KnapsackUtil(){}
+
+	/**
+	 * Sorts the first {@code length} entries of {@code items} by non-increasing key, without boxing. The keys are permuted along with the items, i.e.
+	 * {@code keys[k]} is the key of {@code items[k]}, both before and after the sort. Ties are not ordered in any particular way.
+	 * @param items item indices
+	 * @param keys sort keys, e.g. the efficiencies {@code c_i/a_i} of the items
+	 * @param length number of entries to sort
+	 */
+	static void sortDescending(int[] items, double[] keys, int length){
+		int[] stack=new int[64];
+		int top=0;
+		int low=0, high=length-1;
+		while(true){
+			while(high-low >= INSERTION_SORT_THRESHOLD){
+				//Median of three pivot
+				int mid=(low+high)>>>1;
+				if(keys[mid] > keys[low]) swap(items, keys, mid, low);
+				if(keys[high] > keys[low]) swap(items, keys, high, low);
+				if(keys[high] > keys[mid]) swap(items, keys, high, mid);
+				double pivot=keys[mid];
+				int i=low, j=high;
+				while(i <= j){
+					while(keys[i] > pivot) i++;
+					while(keys[j] < pivot) j--;
+					if(i <= j)
+						swap(items, keys, i++, j--);
+				}
+				//Continue with the smaller part, push the larger part
+				if(j-low < high-i){
+					stack[top++]=i;
+					stack[top++]=high;
+					high=j;
+				}else{
+					stack[top++]=low;
+					stack[top++]=j;
+					low=i;
+				}
+			}
+			for(int i=low+1; i<=high; i++){
+				int item=items[i];
+				double key=keys[i];
+				int j=i-1;
+				while(j >= low && keys[j] < key){
+					items[j+1]=items[j];
+					keys[j+1]=keys[j];
+					j--;
+				}
+				items[j+1]=item;
+				keys[j+1]=key;
+			}
+			if(top == 0)
+				return;
+			high=stack[--top];
+			low=stack[--top];
+		}
+	}
+
+	/**
+	 * Sorts the first {@code length} entries of {@code items} by non-increasing key through insertion sort, permuting the keys along. Insertion sort runs in
+	 * linear time on arrays which are nearly sorted, e.g. when the keys changed only slightly since the previous sort. The sort is abandoned once more than
+	 * {@code maxShifts} entries have been moved; the items and keys then remain a consistent, but partially sorted, permutation.
+	 * @param items item indices
+	 * @param keys sort keys
+	 * @param length number of entries to sort
+	 * @param maxShifts maximum number of moves
+	 * @return true if the entries are sorted, false if the sort has been abandoned
+	 */
+	static boolean insertionSortDescending(int[] items, double[] keys, int length, long maxShifts){
+		long shifts=0;
+		for(int i=1; i<length; i++){
+			int item=items[i];
+			double key=keys[i];
+			int j=i-1;
+			while(j >= 0 && keys[j] < key){
+				items[j+1]=items[j];
+				keys[j+1]=keys[j];
+				j--;
+				shifts++;
+			}
+			items[j+1]=item;
+			keys[j+1]=key;
+			if(shifts > maxShifts)
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Swaps two entries of the items and keys
+	 * @param items items
+	 * @param keys keys
+	 * @param i first position
+	 * @param j second position
+	 */
+	private static void swap(int[] items, double[] keys, int i, int j){
+		int item=items[i];
+		items[i]=items[j];
+		items[j]=item;
+		double key=keys[i];
+		keys[i]=keys[j];
+		keys[j]=key;
+	}
+}
@@ -0,0 +1,57 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * LimitedKnapsackAlgorithm.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.knapsack;
+
+/**
+ * Interface defining an anytime knapsack problem solver, which can be interrupted by a time limit or a limit on the number of search nodes. When interrupted, the
+ * solver returns the best solution found so far, together with an upper bound on the optimal solution value. Solving the problem through
+ * {@link #solveKnapsackProblem(int, int, double[], int[])} does not impose any limits.
+ * @author Joris Kinable
+ * @since October 19, 2026
+ */
+public interface LimitedKnapsackAlgorithm extends KnapsackAlgorithm {
+
+	/**
+	 * Solve the knapsack problem, until the problem is solved to optimality, or one of the limits is reached. A feasible solution is returned in either case.
+	 * @param nrItems nr of items in the knapsack
+	 * @param maxKnapsackWeight max size/weight of the knapsack
+	 * @param itemValues item values
+	 * @param itemWeights item weights
+	 * @param timeLimit Future point in time (in milliseconds) by which this method must be finished
+	 * @param nodeLimit maximum number of search nodes
+	 * @return The value of the best knapsack solution found
+	 */
+	double solveKnapsackProblem(int nrItems, int maxKnapsackWeight, double[] itemValues, int[] itemWeights, long timeLimit, long nodeLimit);
+	/**
+	 * @return Get an upper bound on the value of the optimal knapsack solution. Equals {@link #getKnapsackValue()} if {@link #isOptimal()} returns true.
+	 */
+	double getUpperBound();
+	/**
+	 * @return Returns true if the last knapsack problem has been solved to optimality, false if the search has been interrupted by one of the limits
+	 */
+	boolean isOptimal();
+}
@@ -0,0 +1,612 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MultidimensionalKnapsack.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.knapsack;
+
+import java.util.Arrays;
+
+/**
+ * Solver for the multidimensional 0-1 knapsack problem:<br>
+ * {@code max \sum_i c_i x_i}<br>
+ * {@code s.t. \sum_i a_{di} x_i <= b_d}, for every dimension (resource) d<br>
+ * {@code x_i binary}<p>
+ *
+ * All bounds are obtained from the surrogate relaxation: the constraints are aggregated into a single knapsack constraint
+ * {@code \sum_i (\sum_d \mu_d a_{di}) x_i <= \sum_d \mu_d b_d} with non-negative multipliers {@code \mu_d}, of which the linear programming relaxation is
+ * solved greedily. Starting from {@code \mu_d=1/b_d}, the multipliers of the constraints which are violated by the fractional solution of the relaxation are
+ * increased, until the bound no longer improves. The items are then sorted by non-increasing surrogate efficiency {@code c_i/\sum_d\mu_d a_{di}}. The solver has two
+ * modes, see {@link Mode}:
+ * <ol>
+ * <li>Heuristic: the items are inserted greedily in the order of their surrogate efficiency, after which the solution is improved through local search: items
+ * are added while they fit, and an item in the knapsack is swapped with a more valuable item outside the knapsack whenever the latter fits.</li>
+ * <li>Exact: the heuristic solution is improved by solving the core problem, in which the items before the core (the items around the break item of the surrogate
+ * relaxation) are fixed greedily and the items after the core are excluded. The resulting incumbent is then proven optimal, or improved, by a depth-first
+ * branch and bound over all items, in which nodes are pruned through the surrogate bound.</li>
+ * </ol>
+ * A typical use in column generation is a heuristic pricing problem solver, backed by an exact solver which is invoked only when the heuristic fails to find a
+ * column.<p>
+ *
+ * In exact mode, the search can be limited in time or in the number of nodes through
+ * {@link #solveKnapsackProblem(int, int, int[], double[], int[][], long, long)}, similar to {@link LimitedKnapsackAlgorithm}. The limits are checked whenever the
+ * search backtracks, so the heuristic solution is always computed. When interrupted, the best solution found so far is returned. The upper bound is the largest
+ * surrogate bound among the subtrees which remain to be explored, or the bound of the surrogate relaxation if the search is interrupted while the core problem is
+ * solved.<p>
+ *
+ * NOTE: All item weights, as well as the maxKnapsackWeights have to be non-negative integers. The item values can be fractional, both positive and negative.
+ * Items with a value smaller or equal to 0 are never selected. Items without weight and a positive value are always selected. All working buffers are reused
+ * across calls; the array returned by {@link #getKnapsackItems()} is overwritten by the next call with the same number of items.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ */
+public class MultidimensionalKnapsack {
+
+	/**
+	 * Mode of the solver
+	 */
+	public enum Mode{
+		/** Greedy solution, improved through local search **/
+		HEURISTIC,
+		/** Core problem, followed by branch and bound over all items **/
+		EXACT
+	}
+
+	/** Precision used when comparing values **/
+	public static final double PRECISION=0.000001;
+	/** Maximum number of iterations used to compute the surrogate multipliers **/
+	private static final int MULTIPLIER_ITERATIONS=20;
+	/** Number of items on either side of the break item which are part of the core **/
+	private static final int CORE_HALF_WIDTH=10;
+	/** Number of search nodes between two consecutive checks of the time limit **/
+	private static final long TIME_CHECK_INTERVAL=256;
+
+	/** Mode of the solver **/
+	private final Mode mode;
+
+	//Solution
+	private double knapsackValue=0;
+	private int[] knapsackWeights=new int[0];
+	private boolean[] knapsackItems=new boolean[0];
+	private double upperBound=0;
+
+	//Problem dimensions
+	private int nrCandidates;
+	private int nrDimensions;
+	private int[] capacities;
+
+	//Candidate items (value>0, fit in every dimension, not all weights 0), sorted by non-increasing surrogate efficiency
+	private int[] order=new int[16];
+	private double[] efficiency=new double[16];
+	private double[] values=new double[16];
+	/** Weights of the sorted items: weights[k*nrDimensions+d] is the weight of the k-th item in dimension d **/
+	private int[] weights=new int[16];
+	private double[] surrogateWeights=new double[16];
+	private double[] prefixSurrogateWeight=new double[17];
+	private double[] prefixValue=new double[17];
+	/** Surrogate multipliers **/
+	private double[] multipliers=new double[0];
+	private double[] bestMultipliers=new double[0];
+	private double[] load=new double[0];
+
+	//Search
+	private boolean[] x=new boolean[16];
+	private boolean[] bestX=new boolean[16];
+	private double bestValue;
+	private int[] path=new int[16];
+	private int[] residual=new int[0];
+
+	//Limits
+	private long timeLimit;
+	private long nodeLimit;
+	private long nodes;
+	private long nextTimeCheck;
+
+	/**
+	 * Creates a new exact multidimensional knapsack solver
+	 */
+	public MultidimensionalKnapsack(){
+		this(Mode.EXACT);
+	}
+
+	/**
+	 * Creates a new multidimensional knapsack solver
+	 * @param mode mode of the solver
+	 */
+	public MultidimensionalKnapsack(Mode mode){
+		this.mode=mode;
+	}
+
+	/**
+	 * Solve the knapsack problem.
+	 * @param nrItems nr of items in the knapsack
+	 * @param nrDimensions nr of dimensions (resources) of the knapsack
+	 * @param maxKnapsackWeights max size/weight of the knapsack in every dimension
+	 * @param itemValues item values
+	 * @param itemWeights item weights: {@code itemWeights[d][i]} is the weight of item i in dimension d
+	 * @return The value of the knapsack solution
+	 */
+	public double solveKnapsackProblem(int nrItems, int nrDimensions, int[] maxKnapsackWeights, double[] itemValues, int[][] itemWeights){
+		return this.solveKnapsackProblem(nrItems, nrDimensions, maxKnapsackWeights, itemValues, itemWeights, Long.MAX_VALUE, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Solve the knapsack problem, until the problem is solved to optimality, or one of the limits is reached. A feasible solution is returned in either case.
+	 * The limits only apply in exact mode.
+	 * @param nrItems nr of items in the knapsack
+	 * @param nrDimensions nr of dimensions (resources) of the knapsack
+	 * @param maxKnapsackWeights max size/weight of the knapsack in every dimension
+	 * @param itemValues item values
+	 * @param itemWeights item weights: {@code itemWeights[d][i]} is the weight of item i in dimension d
+	 * @param timeLimit Future point in time (in milliseconds) by which this method must be finished
+	 * @param nodeLimit maximum number of search nodes
+	 * @return The value of the best knapsack solution found
+	 */
+	public double solveKnapsackProblem(int nrItems, int nrDimensions, int[] maxKnapsackWeights, double[] itemValues, int[][] itemWeights, long timeLimit, long nodeLimit){
+		if(knapsackItems.length != nrItems)
+			knapsackItems=new boolean[nrItems];
+		else
+			Arrays.fill(knapsackItems, false);
+		knapsackWeights=new int[nrDimensions];
+		knapsackValue=0;
+		upperBound=0;
+		this.nrDimensions=nrDimensions;
+		this.capacities=maxKnapsackWeights;
+		this.timeLimit=timeLimit;
+		this.nodeLimit=nodeLimit;
+		nodes=0;
+		nextTimeCheck=0;
+		for(int d=0; d<nrDimensions; d++){
+			if(maxKnapsackWeights[d] < 0)
+				return knapsackValue;
+		}
+		this.ensureCapacity(nrItems, nrDimensions);
+
+		//Select the candidate items. Items without weight are always selected.
+		int m=0;
+		for(int i=0; i<nrItems; i++){
+			if(itemValues[i] <= 0)
+				continue;
+			boolean fits=true, hasWeight=false;
+			for(int d=0; d<nrDimensions && fits; d++){
+				fits=itemWeights[d][i] <= maxKnapsackWeights[d];
+				hasWeight|= itemWeights[d][i] > 0;
+			}
+			if(!fits)
+				continue;
+			if(!hasWeight)
+				knapsackItems[i]=true;
+			else
+				order[m++]=i;
+		}
+		nrCandidates=m;
+
+		//Compute the surrogate multipliers, sort the items, and compute the bound of the surrogate relaxation
+		this.computeMultipliers(m, itemValues, itemWeights);
+		System.arraycopy(bestMultipliers, 0, multipliers, 0, nrDimensions);
+		this.sortItems(m, itemValues, itemWeights);
+		double surrogateCapacity=this.calcSurrogateCapacity(maxKnapsackWeights);
+		double rootBound=this.calcBound(0, m, surrogateCapacity);
+
+		//Heuristic solution
+		bestValue=0;
+		Arrays.fill(bestX, 0, m, false);
+		this.greedy(m);
+		this.localSearch(m);
+		double bound=rootBound;
+
+		if(mode == Mode.EXACT){
+			//Core problem: fix the items before the core greedily, exclude the items after the core
+			int breakItem=0;
+			while(breakItem < m && prefixSurrogateWeight[breakItem+1] <= surrogateCapacity)
+				breakItem++;
+			int coreStart=Math.max(0, breakItem-CORE_HALF_WIDTH);
+			int coreEnd=Math.min(m, breakItem+CORE_HALF_WIDTH+1);
+			Arrays.fill(x, 0, m, false);
+			System.arraycopy(maxKnapsackWeights, 0, residual, 0, nrDimensions);
+			double value=0;
+			for(int k=0; k<coreStart; k++){
+				if(this.fits(k)){
+					this.insert(k);
+					value+=values[k];
+				}
+			}
+			int pathSize=this.search(coreStart, coreEnd, value, this.calcSurrogateCapacity(residual));
+
+			//Branch and bound over all items
+			if(pathSize < 0){
+				Arrays.fill(x, 0, m, false);
+				System.arraycopy(maxKnapsackWeights, 0, residual, 0, nrDimensions);
+				pathSize=this.search(0, m, 0, surrogateCapacity);
+				if(pathSize < 0)
+					bound=bestValue;
+				else
+					bound=Math.min(rootBound, Math.max(bestValue, this.calcOpenBound(pathSize, m, surrogateCapacity)));
+			}
+		}
+
+		//Store the solution
+		for(int k=0; k<m; k++)
+			knapsackItems[order[k]]=bestX[k];
+		for(int i=0; i<nrItems; i++){
+			if(knapsackItems[i]){
+				knapsackValue+=itemValues[i];
+				for(int d=0; d<nrDimensions; d++)
+					knapsackWeights[d]+=itemWeights[d][i];
+			}
+		}
+		upperBound=Math.max(knapsackValue, bound+knapsackValue-bestValue); //Items without weight are not part of the search
+		return knapsackValue;
+	}
+
+	/**
+	 * Computes the surrogate multipliers. Starting from {@code \mu_d=1/b_d}, the linear programming relaxation of the surrogate problem is solved, and the multiplier
+	 * of every dimension is multiplied by the ratio between the load of the fractional solution in that dimension and the capacity. The multipliers yielding the
+	 * smallest bound are stored in {@link #bestMultipliers}.
+	 * @param m number of candidate items
+	 * @param itemValues item values
+	 * @param itemWeights item weights
+	 */
+	private void computeMultipliers(int m, double[] itemValues, int[][] itemWeights){
+		for(int d=0; d<nrDimensions; d++)
+			multipliers[d]= capacities[d] > 0 ? 1.0/capacities[d] : 0; //Dimensions without capacity only contain items without weight in that dimension
+		System.arraycopy(multipliers, 0, bestMultipliers, 0, nrDimensions);
+		double bestBound=Double.MAX_VALUE;
+		for(int iteration=0; iteration<MULTIPLIER_ITERATIONS && m > 0; iteration++){
+			this.sortItems(m, itemValues, itemWeights);
+			double surrogateCapacity=this.calcSurrogateCapacity(capacities);
+
+			//Solve the relaxation greedily, and compute the load of the fractional solution in every dimension
+			Arrays.fill(load, 0, nrDimensions, 0);
+			double bound=0;
+			double remaining=surrogateCapacity;
+			for(int k=0; k<m && remaining > 0; k++){
+				double fraction=Math.min(1, remaining/surrogateWeights[k]);
+				bound+=fraction*values[k];
+				remaining-=fraction*surrogateWeights[k];
+				for(int d=0; d<nrDimensions; d++)
+					load[d]+=fraction*weights[k*nrDimensions+d];
+			}
+			if(bound < bestBound-PRECISION){
+				bestBound=bound;
+				System.arraycopy(multipliers, 0, bestMultipliers, 0, nrDimensions);
+			}else if(iteration > 0)
+				break;
+
+			//Increase the multipliers of the violated dimensions, and normalize the multipliers such that the surrogate capacity equals 1
+			boolean violated=false;
+			double normalization=0;
+			for(int d=0; d<nrDimensions; d++){
+				if(capacities[d] == 0)
+					continue;
+				if(load[d] > capacities[d]+PRECISION)
+					violated=true;
+				multipliers[d]*=Math.max(0.5, load[d]/capacities[d]);
+				normalization+=multipliers[d]*capacities[d];
+			}
+			if(!violated || normalization <= 0)
+				break;
+			for(int d=0; d<nrDimensions; d++)
+				multipliers[d]/=normalization;
+		}
+	}
+
+	/**
+	 * Sorts the candidate items by non-increasing surrogate efficiency for the current multipliers, and computes the item data in this order
+	 * @param m number of candidate items
+	 * @param itemValues item values
+	 * @param itemWeights item weights
+	 */
+	private void sortItems(int m, double[] itemValues, int[][] itemWeights){
+		for(int k=0; k<m; k++){
+			double surrogateWeight=0;
+			for(int d=0; d<nrDimensions; d++)
+				surrogateWeight+=multipliers[d]*itemWeights[d][order[k]];
+			efficiency[k]=itemValues[order[k]]/surrogateWeight;
+		}
+		KnapsackUtil.sortDescending(order, efficiency, m);
+		for(int k=0; k<m; k++){
+			int i=order[k];
+			values[k]=itemValues[i];
+			surrogateWeights[k]=0;
+			for(int d=0; d<nrDimensions; d++){
+				weights[k*nrDimensions+d]=itemWeights[d][i];
+				surrogateWeights[k]+=multipliers[d]*itemWeights[d][i];
+			}
+			prefixSurrogateWeight[k+1]=prefixSurrogateWeight[k]+surrogateWeights[k];
+			prefixValue[k+1]=prefixValue[k]+values[k];
+		}
+	}
+
+	/**
+	 * Computes the surrogate capacity {@code \sum_d \mu_d b_d}
+	 * @param capacities capacity in every dimension
+	 * @return surrogate capacity
+	 */
+	private double calcSurrogateCapacity(int[] capacities){
+		double surrogateCapacity=0;
+		for(int d=0; d<nrDimensions; d++)
+			surrogateCapacity+=multipliers[d]*capacities[d];
+		return surrogateCapacity;
+	}
+
+	/**
+	 * Calculates the bound of the linear programming relaxation of the surrogate problem on the value which can be obtained from the sorted items
+	 * {@code j,...,end-1}, given the residual surrogate capacity. The last item which fits entirely is found through a binary search on the prefix sums.
+	 * @param j first item
+	 * @param end last item (exclusive)
+	 * @param surrogateCapacity residual surrogate capacity
+	 * @return bound on the value attainable from the items {@code j,...,end-1}
+	 */
+	private double calcBound(int j, int end, double surrogateCapacity){
+		double limit=prefixSurrogateWeight[j]+surrogateCapacity;
+		int low=j, high=end;
+		while(low < high){
+			int mid=(low+high+1)>>>1;
+			if(prefixSurrogateWeight[mid] <= limit)
+				low=mid;
+			else
+				high=mid-1;
+		}
+		double bound=prefixValue[low]-prefixValue[j];
+		if(low < end)
+			bound+=(limit-prefixSurrogateWeight[low])*efficiency[low];
+		return bound;
+	}
+
+	/**
+	 * Inserts the items greedily in the order of their surrogate efficiency, and stores the solution as the incumbent
+	 * @param m number of candidate items
+	 */
+	private void greedy(int m){
+		Arrays.fill(x, 0, m, false);
+		System.arraycopy(capacities, 0, residual, 0, nrDimensions);
+		double value=0;
+		for(int k=0; k<m; k++){
+			if(this.fits(k)){
+				this.insert(k);
+				value+=values[k];
+			}
+		}
+		this.updateIncumbent(value);
+	}
+
+	/**
+	 * Improves the solution in {@link #x} through local search, and stores the solution as the incumbent. Items are added while they fit. Next, an item in the
+	 * knapsack is swapped with a more valuable item outside the knapsack if the latter fits after the removal of the former, after which items are added again.
+	 * Every move strictly increases the value of the solution.
+	 * @param m number of candidate items
+	 */
+	private void localSearch(int m){
+		double value=bestValue;
+		boolean improved=true;
+		while(improved){
+			improved=false;
+			//Add items
+			for(int k=0; k<m; k++){
+				if(!x[k] && this.fits(k)){
+					this.insert(k);
+					value+=values[k];
+				}
+			}
+			//Swap items
+			for(int i=0; i<m && !improved; i++){
+				if(!x[i])
+					continue;
+				this.remove(i);
+				for(int j=0; j<m && !improved; j++){
+					if(!x[j] && j != i && values[j] > values[i]+PRECISION && this.fits(j)){
+						this.insert(j);
+						value+=values[j]-values[i];
+						improved=true;
+					}
+				}
+				if(!improved)
+					this.insert(i);
+			}
+		}
+		this.updateIncumbent(value);
+	}
+
+	/**
+	 * Depth-first branch and bound over the sorted items {@code from,...,end-1}, starting from the partial solution in {@link #x}. Each forward move inserts the
+	 * consecutive items which fit in every dimension, and skips the items which do not fit. A node is pruned when the surrogate bound does not exceed the incumbent,
+	 * in which case the search backtracks by removing the last inserted item. When one of the limits is reached, the search stops, leaving the items on the path
+	 * in {@link #path}.
+	 * @param from first item
+	 * @param end last item (exclusive)
+	 * @param value value of the partial solution
+	 * @param surrogateCapacity residual surrogate capacity of the partial solution
+	 * @return -1 if the search has completed, or the number of items on the path if the search has been interrupted by one of the limits
+	 */
+	private int search(int from, int end, double value, double surrogateCapacity){
+		int pathSize=0;
+		int j=from;
+		while(true){
+			nodes++;
+			if(j < end && value+this.calcBound(j, end, surrogateCapacity) > bestValue+PRECISION){
+				//Forward move: insert the consecutive items which fit
+				while(j < end && this.fits(j)){
+					this.insert(j);
+					value+=values[j];
+					surrogateCapacity-=surrogateWeights[j];
+					path[pathSize++]=j++;
+				}
+				if(j < end){ //Item j does not fit; skip it and continue with the next item
+					j++;
+					continue;
+				}
+			}
+			//The current node is a leaf, or has been pruned
+			this.updateIncumbent(value);
+			//Backtrack: remove the last inserted item, and continue with the items after it
+			if(pathSize == 0)
+				return -1;
+			boolean limitReached=nodes >= nodeLimit;
+			if(!limitReached && nodes >= nextTimeCheck){
+				limitReached=System.currentTimeMillis() >= timeLimit;
+				nextTimeCheck=nodes+TIME_CHECK_INTERVAL;
+			}
+			if(limitReached)
+				return pathSize;
+			int k=path[--pathSize];
+			this.remove(k);
+			value-=values[k];
+			surrogateCapacity+=surrogateWeights[k];
+			j=k+1;
+		}
+	}
+
+	/**
+	 * Calculates an upper bound on the value attainable in the subtrees which remain to be explored when the branch and bound over all items is interrupted: for every
+	 * item on the path, the subtree in which that item is excluded.
+	 * @param pathSize number of items on the path
+	 * @param m number of candidate items
+	 * @param surrogateCapacity surrogate capacity of the knapsack
+	 * @return bound on the value attainable in the remaining subtrees
+	 */
+	private double calcOpenBound(int pathSize, int m, double surrogateCapacity){
+		double bound=0;
+		double value=0;
+		for(int p=0; p<pathSize; p++){
+			int k=path[p];
+			bound=Math.max(bound, value+this.calcBound(k+1, m, surrogateCapacity));
+			value+=values[k];
+			surrogateCapacity-=surrogateWeights[k];
+		}
+		return bound;
+	}
+
+	/**
+	 * Replaces the incumbent by the solution in {@link #x} if the latter is better
+	 * @param value value of the solution in {@link #x}
+	 */
+	private void updateIncumbent(double value){
+		if(value > bestValue+PRECISION){
+			bestValue=value;
+			System.arraycopy(x, 0, bestX, 0, nrCandidates);
+		}
+	}
+
+	/**
+	 * Checks whether the k-th sorted item fits in the residual capacity in every dimension
+	 * @param k item
+	 * @return true if the item fits
+	 */
+	private boolean fits(int k){
+		int offset=k*nrDimensions;
+		for(int d=0; d<nrDimensions; d++){
+			if(weights[offset+d] > residual[d])
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Inserts the k-th sorted item in the knapsack
+	 * @param k item
+	 */
+	private void insert(int k){
+		x[k]=true;
+		int offset=k*nrDimensions;
+		for(int d=0; d<nrDimensions; d++)
+			residual[d]-=weights[offset+d];
+	}
+
+	/**
+	 * Removes the k-th sorted item from the knapsack
+	 * @param k item
+	 */
+	private void remove(int k){
+		x[k]=false;
+		int offset=k*nrDimensions;
+		for(int d=0; d<nrDimensions; d++)
+			residual[d]+=weights[offset+d];
+	}
+
+	/**
+	 * Ensures that the buffers can hold the given number of items and dimensions
+	 * @param nrItems number of items
+	 * @param nrDimensions number of dimensions
+	 */
+	private void ensureCapacity(int nrItems, int nrDimensions){
+		if(order.length < nrItems){
+			order=new int[2*nrItems];
+			efficiency=new double[2*nrItems];
+			values=new double[2*nrItems];
+			surrogateWeights=new double[2*nrItems];
+			prefixSurrogateWeight=new double[2*nrItems+1];
+			prefixValue=new double[2*nrItems+1];
+			x=new boolean[2*nrItems];
+			bestX=new boolean[2*nrItems];
+			path=new int[2*nrItems];
+		}
+		if(weights.length < order.length*nrDimensions)
+			weights=new int[order.length*nrDimensions];
+		if(multipliers.length < nrDimensions){
+			multipliers=new double[nrDimensions];
+			bestMultipliers=new double[nrDimensions];
+			load=new double[nrDimensions];
+			residual=new int[nrDimensions];
+		}
+	}
+
+	/**
+	 * Get the value of the knapsack
+	 * @return Get the value of the knapsack
+	 */
+	public double getKnapsackValue(){
+		return knapsackValue;
+	}
+	/**
+	 * Get the total weight of the knapsack in every dimension
+	 * @return Get the total weight of the knapsack in every dimension
+	 */
+	public int[] getKnapsackWeights(){
+		return knapsackWeights;
+	}
+	/**
+	 * Get the items in the knapsack
+	 * @return Get the items in the knapsack
+	 */
+	public boolean[] getKnapsackItems(){
+		return knapsackItems;
+	}
+	/**
+	 * Get an upper bound on the value of the optimal knapsack solution. In exact mode, this equals the value of the knapsack, unless the search has been interrupted
+	 * by one of the limits. In heuristic mode, this is the bound of the surrogate relaxation.
+	 * @return Get an upper bound on the value of the optimal knapsack solution
+	 */
+	public double getUpperBound(){
+		return upperBound;
+	}
+	/**
+	 * Returns whether the solution is provably optimal, i.e. whether the exact search has not been interrupted by one of the limits, or the solution attains the upper bound
+	 * @return true if the solution is optimal
+	 */
+	public boolean isOptimal(){
+		return upperBound <= knapsackValue+PRECISION;
+	}
+}
@@ -0,0 +1,312 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BatchCoverInequalitySeparator.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.knapsack.separation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.jorlib.alg.knapsack.KnapsackAlgorithm;
+import org.jorlib.alg.knapsack.separation.LiftedCoverInequalitySeparator.LiftingProcedure;
+
+/**
+ * Separates minimal and lifted cover inequalities for a batch of knapsack rows {@code \sum_j a_{ij} x_j \leq b_i} in parallel. The rows are provided as a matrix in
+ * compressed sparse row (CSR) format: the non-zeros of row {@code i} are stored at positions {@code rowStart[i],...,rowStart[i+1]-1} of the arrays
+ * {@code columns} and {@code coefficients}. All coefficients must be non-negative integers.<p>
+ *
+ * The rows are distributed dynamically over a number of tasks. Each task owns a workspace, consisting of a {@link LiftedCoverInequalitySeparator}, its
+ * {@link KnapsackAlgorithm}, and buffers holding the current row. Workspaces are reused across calls and are never shared by two tasks at the same time, so a
+ * single instance of this class may be invoked concurrently from multiple threads.
+ * The separated inequalities are returned as immutable {@link CoverInequality} objects, ranked by decreasing violation.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+public class BatchCoverInequalitySeparator {
+
+	/** Creates the knapsack algorithms used by the workspaces; every workspace requires its own instance **/
+	private final Supplier<? extends KnapsackAlgorithm> knapsackAlgorithmFactory;
+	/** Procedure used to lift the variables which are not part of the minimal cover **/
+	private final LiftingProcedure liftingProcedure;
+	/** Number of tasks among which the rows are distributed **/
+	private final int parallelism;
+	/** Executor which runs the tasks. Created on demand, unless an executor is provided in the constructor. **/
+	private ExecutorService executor;
+	/** Indicates whether the executor has been created by this separator, in which case it is shut down when the separator is closed **/
+	private final boolean ownsExecutor;
+	/** Workspaces which are currently not in use **/
+	private final ConcurrentLinkedQueue<Workspace> workspaces=new ConcurrentLinkedQueue<>();
+
+	/** Ranks the inequalities by decreasing violation; ties are broken by row **/
+	private static final Comparator<CoverInequality> VIOLATION_COMPARATOR=(c1, c2) -> {
+		int result=Double.compare(c2.getViolation(), c1.getViolation());
+		return result != 0 ? result : Integer.compare(c1.getRow(), c2.getRow());
+	};
+
+	/**
+	 * Creates a new batch separator, which distributes the rows over its own pool of threads. The pool is shut down when the separator is closed.
+	 * @param knapsackAlgorithmFactory creates the knapsack algorithms used by the separator, e.g. {@code BinaryKnapsack::new}. A new instance is requested for every workspace.
+	 * @param liftingProcedure procedure used to lift the variables which are not part of the minimal cover
+	 * @param nrThreads number of threads
+	 */
+	public BatchCoverInequalitySeparator(Supplier<? extends KnapsackAlgorithm> knapsackAlgorithmFactory, LiftingProcedure liftingProcedure, int nrThreads){
+		if(nrThreads < 1)
+			throw new IllegalArgumentException("The number of threads must be positive");
+		this.knapsackAlgorithmFactory=knapsackAlgorithmFactory;
+		this.liftingProcedure=liftingProcedure;
+		this.parallelism=nrThreads;
+		ownsExecutor=true;
+	}
+
+	/**
+	 * Creates a new batch separator, which distributes the rows over {@code parallelism} tasks on the given executor, e.g. an executor which is shared with other
+	 * components. The executor is not shut down when this separator is closed.
+	 * @param knapsackAlgorithmFactory creates the knapsack algorithms used by the separator, e.g. {@code BinaryKnapsack::new}. A new instance is requested for every workspace.
+	 * @param liftingProcedure procedure used to lift the variables which are not part of the minimal cover
+	 * @param executor executor used to run the tasks
+	 * @param parallelism number of tasks
+	 */
+	public BatchCoverInequalitySeparator(Supplier<? extends KnapsackAlgorithm> knapsackAlgorithmFactory, LiftingProcedure liftingProcedure, ExecutorService executor, int parallelism){
+		if(parallelism < 1)
+			throw new IllegalArgumentException("The parallelism must be positive");
+		this.knapsackAlgorithmFactory=knapsackAlgorithmFactory;
+		this.liftingProcedure=liftingProcedure;
+		this.parallelism=parallelism;
+		this.executor=executor;
+		ownsExecutor=false;
+	}
+
+	/**
+	 * Separates violated minimal cover inequalities {@code \sum_{j\in C} x_j \leq |C|-1} for all knapsack rows.
+	 * @param nrRows number of knapsack rows
+	 * @param rowStart start of each row in {@code columns} and {@code coefficients}; array of length at least {@code nrRows+1}
+	 * @param columns column indices of the non-zeros
+	 * @param coefficients non-negative integer coefficients {@code a_{ij}} of the non-zeros
+	 * @param rhs right hand sides {@code b_i} of the rows
+	 * @param lpPoint values of the variables, indexed by column
+	 * @return the violated minimal cover inequalities (at most one per row), ranked by decreasing violation
+	 */
+	public List<CoverInequality> separateMinimalCovers(int nrRows, int[] rowStart, int[] columns, int[] coefficients, int[] rhs, double[] lpPoint){
+		return this.separate(nrRows, rowStart, columns, coefficients, rhs, lpPoint, false, false);
+	}
+
+	/**
+	 * Separates violated lifted cover inequalities for all knapsack rows, see {@link LiftedCoverInequalitySeparator#separateLiftedCover(int, int[], int, double[], boolean)}.
+	 * @param nrRows number of knapsack rows
+	 * @param rowStart start of each row in {@code columns} and {@code coefficients}; array of length at least {@code nrRows+1}
+	 * @param columns column indices of the non-zeros
+	 * @param coefficients non-negative integer coefficients {@code a_{ij}} of the non-zeros
+	 * @param rhs right hand sides {@code b_i} of the rows
+	 * @param lpPoint values of the variables, indexed by column
+	 * @param performDownLifting When set to true, additional effort is performed to find a violated Lifted Cover inequality.
+	 * @return the violated lifted cover inequalities (at most one per row), ranked by decreasing violation
+	 */
+	public List<CoverInequality> separateLiftedCovers(int nrRows, int[] rowStart, int[] columns, int[] coefficients, int[] rhs, double[] lpPoint, boolean performDownLifting){
+		return this.separate(nrRows, rowStart, columns, coefficients, rhs, lpPoint, true, performDownLifting);
+	}
+
+	/**
+	 * Separates the rows in parallel, and ranks the resulting inequalities
+	 * @param nrRows number of knapsack rows
+	 * @param rowStart start of each row
+	 * @param columns column indices of the non-zeros
+	 * @param coefficients coefficients of the non-zeros
+	 * @param rhs right hand sides of the rows
+	 * @param lpPoint values of the variables
+	 * @param lift true if lifted covers are separated, false for minimal covers
+	 * @param performDownLifting true if down lifting is performed when lifted covers are separated
+	 * @return violated inequalities, ranked by decreasing violation
+	 */
+	private List<CoverInequality> separate(int nrRows, int[] rowStart, int[] columns, int[] coefficients, int[] rhs, double[] lpPoint, boolean lift, boolean performDownLifting){
+		if(rowStart.length < nrRows+1 || rhs.length < nrRows)
+			throw new IllegalArgumentException("rowStart must contain nrRows+1 entries, and rhs nrRows entries");
+		for(int k=0; k<rowStart[nrRows]; k++)
+			if(coefficients[k] < 0)
+				throw new IllegalArgumentException("Knapsack coefficients must be non-negative. Coefficient at position "+k+" is "+coefficients[k]);
+
+		AtomicInteger nextRow=new AtomicInteger();
+		int nrTasks=Math.min(parallelism, Math.max(1, nrRows));
+		List<Callable<List<CoverInequality>>> tasks=new ArrayList<>(nrTasks);
+		for(int t=0; t<nrTasks; t++){
+			tasks.add(() -> {
+				Workspace workspace=this.acquireWorkspace();
+				try{
+					List<CoverInequality> inequalities=new ArrayList<>();
+					for(int row=nextRow.getAndIncrement(); row<nrRows; row=nextRow.getAndIncrement()){
+						CoverInequality inequality=workspace.separateRow(row, rowStart, columns, coefficients, rhs[row], lpPoint, lift, performDownLifting);
+						if(inequality != null)
+							inequalities.add(inequality);
+					}
+					return inequalities;
+				}finally{
+					workspaces.offer(workspace);
+				}
+			});
+		}
+
+		List<CoverInequality> inequalities=new ArrayList<>();
+		if(nrTasks == 1){ //No need to involve the executor
+			try {
+				inequalities.addAll(tasks.get(0).call());
+			} catch (Exception e) {
+				throw e instanceof RuntimeException ? (RuntimeException) e : new RuntimeException(e);
+			}
+		}else{
+			try {
+				for(Future<List<CoverInequality>> future : this.getExecutor().invokeAll(tasks))
+					inequalities.addAll(future.get());
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("Interrupted while separating cover inequalities", e);
+			} catch (ExecutionException e) {
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause());
+			}
+		}
+		Collections.sort(inequalities, VIOLATION_COMPARATOR);
+		return Collections.unmodifiableList(inequalities);
+	}
+
+	/**
+	 * Returns a workspace which is currently not in use, or creates a new one
+	 * @return workspace
+	 */
+	private Workspace acquireWorkspace(){
+		Workspace workspace=workspaces.poll();
+		return workspace != null ? workspace : new Workspace(new LiftedCoverInequalitySeparator(knapsackAlgorithmFactory.get(), liftingProcedure));
+	}
+
+	/**
+	 * Returns the executor which runs the tasks. If no executor has been provided, a thread pool consisting of {@link #parallelism} threads is created.
+	 * @return executor
+	 */
+	private synchronized ExecutorService getExecutor(){
+		if(executor == null)
+			executor=Executors.newFixedThreadPool(parallelism);
+		return executor;
+	}
+
+	/**
+	 * Shuts down the thread pool of this separator, if it has been created by this separator
+	 */
+	public synchronized void close(){
+		if(ownsExecutor && executor != null){
+			executor.shutdownNow();
+			executor=null;
+		}
+	}
+
+	/**
+	 * Data used by a single task: a separator with its own knapsack algorithm, and buffers holding the coefficients and variable values of a row.
+	 */
+	private static final class Workspace{
+		private final LiftedCoverInequalitySeparator separator;
+		private int[] rowCoefficients=new int[16];
+		private double[] rowValues=new double[16];
+
+		private Workspace(LiftedCoverInequalitySeparator separator){
+			this.separator=separator;
+		}
+
+		/**
+		 * Separates a single knapsack row
+		 * @param row row
+		 * @param rowStart start of each row
+		 * @param columns column indices of the non-zeros
+		 * @param coefficients coefficients of the non-zeros
+		 * @param b right hand side of the row
+		 * @param lpPoint values of the variables
+		 * @param lift true if lifted covers are separated, false for minimal covers
+		 * @param performDownLifting true if down lifting is performed when lifted covers are separated
+		 * @return violated inequality, or null if no violated inequality has been found
+		 */
+		private CoverInequality separateRow(int row, int[] rowStart, int[] columns, int[] coefficients, int b, double[] lpPoint, boolean lift, boolean performDownLifting){
+			int start=rowStart[row];
+			int nrVars=rowStart[row+1]-start;
+			if(rowCoefficients.length < nrVars){
+				rowCoefficients=new int[2*nrVars];
+				rowValues=new double[2*nrVars];
+			}
+			long totalWeight=0;
+			for(int k=0; k<nrVars; k++){
+				rowCoefficients[k]=coefficients[start+k];
+				rowValues[k]=lpPoint[columns[start+k]];
+				totalWeight+=rowCoefficients[k];
+			}
+			if(totalWeight <= b) //No cover exists
+				return null;
+
+			if(lift){
+				separator.separateLiftedCover(nrVars, rowCoefficients, b, rowValues, performDownLifting);
+				if(!separator.coverInequalityExists() || !separator.isLiftedCoverViolated())
+					return null;
+				int[] liftedCoverCoefficients=separator.getLiftedCoverCoefficients();
+				int size=0;
+				for(int k=0; k<nrVars; k++)
+					if(liftedCoverCoefficients[k] != 0)
+						size++;
+				int[] inequalityColumns=new int[size];
+				int[] inequalityCoefficients=new int[size];
+				size=0;
+				for(int k=0; k<nrVars; k++){
+					if(liftedCoverCoefficients[k] != 0){
+						inequalityColumns[size]=columns[start+k];
+						inequalityCoefficients[size++]=liftedCoverCoefficients[k];
+					}
+				}
+				return new CoverInequality(row, inequalityColumns, inequalityCoefficients, separator.getLiftedCoverRHS(), separator.getLiftedCoverLHS(), true);
+			}else{
+				separator.separateMinimalCover(nrVars, rowCoefficients, b, rowValues);
+				if(!separator.coverInequalityExists() || !separator.isMinimalCoverViolated())
+					return null;
+				boolean[] minimalCover=separator.getMinimalCoverMask();
+				int size=separator.getMinimalCoverRHS()+1;
+				int[] inequalityColumns=new int[size];
+				int[] inequalityCoefficients=new int[size];
+				double lhs=0;
+				size=0;
+				for(int k=0; k<nrVars; k++){
+					if(minimalCover[k]){
+						inequalityColumns[size]=columns[start+k];
+						inequalityCoefficients[size++]=1;
+						lhs+=rowValues[k];
+					}
+				}
+				return new CoverInequality(row, inequalityColumns, inequalityCoefficients, separator.getMinimalCoverRHS(), lhs, false);
+			}
+		}
+	}
+}
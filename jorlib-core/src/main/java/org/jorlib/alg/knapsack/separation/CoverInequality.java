@@ -0,0 +1,180 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CoverInequality.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.knapsack.separation;
+
+import java.util.Arrays;
+
+/**
+ * Immutable (lifted) cover inequality {@code \sum_{j} \alpha_j x_j \leq rhs}, separated for one of the knapsack rows passed to the {@link BatchCoverInequalitySeparator}.
+ * The inequality is stored sparsely: only the variables with a non-zero coefficient are recorded. Variables are identified by their column index in the
+ * knapsack rows.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+public final class CoverInequality {
+
+	/** Knapsack row from which the inequality has been derived **/
+	private final int row;
+	/** Column indices of the variables with a non-zero coefficient **/
+	private final int[] columns;
+	/** Coefficients of the variables in {@link #columns} **/
+	private final int[] coefficients;
+	/** Right hand side of the inequality **/
+	private final int rhs;
+	/** Evaluation of the left hand side of the inequality in the LP point **/
+	private final double lhs;
+	/** Indicates whether the inequality is a lifted cover, or a minimal cover **/
+	private final boolean lifted;
+
+	/**
+	 * Creates a new cover inequality
+	 * @param row knapsack row from which the inequality has been derived
+	 * @param columns column indices of the variables with a non-zero coefficient
+	 * @param coefficients coefficients of the variables
+	 * @param rhs right hand side of the inequality
+	 * @param lhs evaluation of the left hand side of the inequality in the LP point
+	 * @param lifted true if the inequality is a lifted cover, false if it is a minimal cover
+	 */
+	CoverInequality(int row, int[] columns, int[] coefficients, int rhs, double lhs, boolean lifted){
+		this.row=row;
+		this.columns=columns;
+		this.coefficients=coefficients;
+		this.rhs=rhs;
+		this.lhs=lhs;
+		this.lifted=lifted;
+	}
+
+	/**
+	 * Returns the knapsack row from which the inequality has been derived
+	 * @return the knapsack row from which the inequality has been derived
+	 */
+	public int getRow(){
+		return row;
+	}
+
+	/**
+	 * Returns the number of variables with a non-zero coefficient
+	 * @return the number of variables with a non-zero coefficient
+	 */
+	public int size(){
+		return columns.length;
+	}
+
+	/**
+	 * Returns the column index of the k-th variable of the inequality
+	 * @param k position in the inequality, {@code 0\leq k< size()}
+	 * @return the column index of the k-th variable of the inequality
+	 */
+	public int getColumn(int k){
+		return columns[k];
+	}
+
+	/**
+	 * Returns the coefficient of the k-th variable of the inequality
+	 * @param k position in the inequality, {@code 0\leq k< size()}
+	 * @return the coefficient of the k-th variable of the inequality
+	 */
+	public int getCoefficient(int k){
+		return coefficients[k];
+	}
+
+	/**
+	 * Returns a copy of the column indices of the variables with a non-zero coefficient
+	 * @return a copy of the column indices of the variables with a non-zero coefficient
+	 */
+	public int[] getColumns(){
+		return columns.clone();
+	}
+
+	/**
+	 * Returns a copy of the coefficients of the variables, in the order of {@link #getColumns()}
+	 * @return a copy of the coefficients of the variables
+	 */
+	public int[] getCoefficients(){
+		return coefficients.clone();
+	}
+
+	/**
+	 * Returns the right hand side of the inequality
+	 * @return the right hand side of the inequality
+	 */
+	public int getRHS(){
+		return rhs;
+	}
+
+	/**
+	 * Returns the evaluation of the left hand side of the inequality in the LP point
+	 * @return the evaluation of the left hand side of the inequality in the LP point
+	 */
+	public double getLHS(){
+		return lhs;
+	}
+
+	/**
+	 * Returns the violation of the inequality in the LP point, i.e. {@code LHS-RHS}
+	 * @return the violation of the inequality in the LP point
+	 */
+	public double getViolation(){
+		return lhs-rhs;
+	}
+
+	/**
+	 * Returns true if the inequality is a lifted cover inequality, false if it is a minimal cover inequality
+	 * @return true if the inequality is a lifted cover inequality, false if it is a minimal cover inequality
+	 */
+	public boolean isLifted(){
+		return lifted;
+	}
+
+	@Override
+	public boolean equals(Object o){
+		if(this == o)
+			return true;
+		else if(!(o instanceof CoverInequality))
+			return false;
+		CoverInequality other=(CoverInequality) o;
+		return this.row == other.row && this.rhs == other.rhs && Arrays.equals(this.columns, other.columns) && Arrays.equals(this.coefficients, other.coefficients);
+	}
+
+	@Override
+	public int hashCode(){
+		return 31*(31*(31*row+rhs)+Arrays.hashCode(columns))+Arrays.hashCode(coefficients);
+	}
+
+	@Override
+	public String toString(){
+		StringBuilder s=new StringBuilder();
+		for(int k=0; k<columns.length; k++){
+			if(k > 0)
+				s.append(" + ");
+			s.append(coefficients[k]).append("x_").append(columns[k]);
+		}
+		return s.append(" <= ").append(rhs).toString();
+	}
+}
@@ -28,6 +28,7 @@ package org.jorlib.alg.knapsack.separation;
 
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
@@ -35,6 +36,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.jorlib.alg.knapsack.KnapsackAlgorithm;
+import org.jorlib.alg.knapsack.LimitedKnapsackAlgorithm;
 
 
 /**
@@ -53,6 +55,20 @@ import org.jorlib.alg.knapsack.KnapsackAlgorithm;
  * NOTE: Separating violated Lifted Cover Inequalities is NP-hard. Hence we rely on lifting and a separation heuristic. 
  * First we attempt to find a violated Lifted Cover inequality with {@code C2=\emptyset}. If we can't find such an inequality, we set {@code C2} to:
  * {@code C2={k}, k=arg max_{j\in C}a_j variableValue[j]}, and {@code C1=C\setminus C2}, and retry.<br><br>
+ * The variables in {@code N\setminus C} are lifted through one of two procedures, see {@link LiftingProcedure}:
+ * <ol>
+ * <li>Sequential lifting (default): the variables are lifted one at a time, which requires solving a knapsack problem per remaining variable per lifting step.</li>
+ * <li>Sequence independent lifting: all lifting coefficients are computed from a single superadditive lifting function, see:<br>
+ * {@literal Gu, Z., Nemhauser, G.L., Savelsbergh, M.W.P., Sequence independent lifting in mixed integer programming. Journal of Combinatorial Optimization, 4(1):109-129, 2000}<br>
+ * After sorting the cover, each coefficient is obtained through a binary search. The resulting inequality is valid, but may be weaker than its sequentially lifted counterpart.
+ * Lifting coefficients may be fractional; the inequality is therefore scaled to integer coefficients.</li>
+ * </ol><br>
+ * 
+ * Separation can be performed under a time limit. If the knapsack algorithm implements {@link LimitedKnapsackAlgorithm}, the knapsack problems are interrupted
+ * once the time limit is reached, and the separator degrades to a heuristic: the cover is derived from the best knapsack solution found (and reduced to a minimal
+ * cover), and the lifting coefficients are derived from the upper bounds reported by the knapsack algorithm, which keeps the inequalities valid, though possibly
+ * weaker. Once the time limit has passed, the remaining variables are lifted through sequence independent lifting, which does not require any knapsack problems
+ * to be solved. See {@link #isTimeLimitReached()}.<br><br>
  * 
  * Note: The precision of the calculations are accurate up to 0.000001.
  *  
@@ -62,17 +78,33 @@ import org.jorlib.alg.knapsack.KnapsackAlgorithm;
  */
 public class LiftedCoverInequalitySeparator {
 
+	/**
+	 * Procedure used to lift the variables which are not part of the minimal cover
+	 */
+	public enum LiftingProcedure{
+		/** Exact sequential lifting; solves a knapsack problem per remaining variable per lifting step **/
+		SEQUENTIAL,
+		/** Lifting through the superadditive lifting function of Gu, Nemhauser and Savelsbergh; computes all coefficients after a single cover computation **/
+		SEQUENCE_INDEPENDENT
+	}
+
 	/** Rounding precision **/
 	public static final double PRECISION=0.000001;
 	
 	/** Knapsack solver used by the separator **/
 	private final KnapsackAlgorithm knapsackAlgorithm;
+	/** Procedure used to lift the variables outside the cover **/
+	private final LiftingProcedure liftingProcedure;
 	
 	/** Knapsack constraint {@code \sum_{i=0}^n a_ix_i \leq b} **/
 	private int nrVars; //Number of variables
 	private int[] knapsackCoefficients;
 	private int b;
 	private double[] variableValues;
+	/** Future point in time (in milliseconds) by which the separation must be finished **/
+	private long timeLimit=Long.MAX_VALUE;
+	/** Indicates whether the time limit was reached during the last separation **/
+	private boolean timeLimitReached=false;
 	
 	/** COVER INEQUALITIES **/
 	private boolean coverInequalityExists; //Indicates whether a cover inequality exists. If {@code \sum_i a_i \leq b}, then no cover exists and hence no inequality can be generated.
@@ -94,7 +126,17 @@ public class LiftedCoverInequalitySeparator {
 	 * @param knapsackAlgorithm This separator requires an algorithm to solve knapsack problems
 	 */
 	public LiftedCoverInequalitySeparator(KnapsackAlgorithm knapsackAlgorithm){
+		this(knapsackAlgorithm, LiftingProcedure.SEQUENTIAL);
+	}
+
+	/**
+	 * Creates a new separator
+	 * @param knapsackAlgorithm This separator requires an algorithm to solve knapsack problems
+	 * @param liftingProcedure Procedure used to lift the variables which are not part of the minimal cover
+	 */
+	public LiftedCoverInequalitySeparator(KnapsackAlgorithm knapsackAlgorithm, LiftingProcedure liftingProcedure){
 		this.knapsackAlgorithm=knapsackAlgorithm;
+		this.liftingProcedure=liftingProcedure;
 	}
 	
 	/**
@@ -106,6 +148,21 @@ public class LiftedCoverInequalitySeparator {
 	 * @param variableValues values of the x_i variables
 	 */
 	public void separateMinimalCover(int nrVars, int[] knapsackCoefficients, int b, double[] variableValues){
+		this.separateMinimalCover(nrVars, knapsackCoefficients, b, variableValues, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Same as {@link #separateMinimalCover(int, int[], int, double[])}, but the separation must be finished by the given time limit. When the time limit is
+	 * reached, the cover is derived from the best knapsack solution found.
+	 * @param nrVars number of variables in the knapsack constraint
+	 * @param knapsackCoefficients a_i
+	 * @param b right hand side of the knapsack constraint
+	 * @param variableValues values of the x_i variables
+	 * @param timeLimit Future point in time (in milliseconds) by which this method must be finished
+	 */
+	public void separateMinimalCover(int nrVars, int[] knapsackCoefficients, int b, double[] variableValues, long timeLimit){
+		this.timeLimit=timeLimit;
+		this.timeLimitReached=false;
 		this.nrVars=nrVars;
 		this.knapsackCoefficients=knapsackCoefficients;
 		this.b=b;
@@ -126,6 +183,22 @@ public class LiftedCoverInequalitySeparator {
 	 * 
 	 */
 	public void separateLiftedCover(int nrVars, int[] knapsackCoefficients, int b, double[] variableValues, boolean performDownLifting){
+		this.separateLiftedCover(nrVars, knapsackCoefficients, b, variableValues, performDownLifting, Long.MAX_VALUE);
+	}
+
+	/**
+	 * Same as {@link #separateLiftedCover(int, int[], int, double[], boolean)}, but the separation must be finished by the given time limit. When the time limit
+	 * is reached, the separator degrades to a heuristic which still produces valid inequalities.
+	 * @param nrVars number of variables in the knapsack constraint
+	 * @param knapsackCoefficients a_i
+	 * @param b right hand side of the knapsack constraint
+	 * @param variableValues values of the x_i variables
+	 * @param performDownLifting When set to true, additional effort is performed to find a violated Lifted Cover AbstractInequality. When this value is false, C2 will be an empty set.
+	 * @param timeLimit Future point in time (in milliseconds) by which this method must be finished
+	 */
+	public void separateLiftedCover(int nrVars, int[] knapsackCoefficients, int b, double[] variableValues, boolean performDownLifting, long timeLimit){
+		this.timeLimit=timeLimit;
+		this.timeLimitReached=false;
 		this.nrVars=nrVars;
 		this.knapsackCoefficients=knapsackCoefficients;
 		this.b=b;
@@ -178,7 +251,7 @@ public class LiftedCoverInequalitySeparator {
 		maxKnapsackWeight-=b+1;
 		
 		//Solve problem as knapsack problem using your favorite knapsack implementation
-		knapsackAlgorithm.solveKnapsackProblem(nrVars, maxKnapsackWeight, itemValues, knapsackCoefficients);
+		this.solveKnapsackProblem(nrVars, maxKnapsackWeight, itemValues, knapsackCoefficients);
 		boolean[] selectedItems=knapsackAlgorithm.getKnapsackItems();
 		//Convert back into cover by substituting y_i=1-z_i
 		double minimalCoverValue=0;
@@ -194,15 +267,84 @@ public class LiftedCoverInequalitySeparator {
 			}
 		}
 		minimalCoverRHS--;
+		if(timeLimitReached)
+			minimalCoverValue=this.reduceToMinimalCover();
 		minimalCoverIsViolated=minimalCoverValue<=1-PRECISION;
 	}
+
+	/**
+	 * Removes variables from the cover as long as it remains a cover. Removing variable j changes the violation of the cover inequality by {@code 1-x_j\geq 0},
+	 * so the variables with the smallest values are removed first. Used when the cover has been derived from a knapsack solution which is not optimal, and before
+	 * sequence independent lifting, which requires a minimal cover. Note that an optimal knapsack solution does not necessarily produce a minimal cover: variables
+	 * with value 1 can be added to the cover at no cost.
+	 * @return {@code \sum_{i\in C} (1-x_i)} for the reduced cover
+	 */
+	private double reduceToMinimalCover(){
+		int coverWeight=0;
+		double minimalCoverValue=0;
+		for(int i : minimalCoverSet){
+			coverWeight+=knapsackCoefficients[i];
+			minimalCoverValue+=1.0-variableValues[i];
+		}
+		List<Integer> candidates=new ArrayList<>(minimalCoverSet);
+		candidates.sort((i, j) -> Double.compare(variableValues[i], variableValues[j]));
+		for(int i : candidates){
+			if(coverWeight-knapsackCoefficients[i] > b){
+				coverWeight-=knapsackCoefficients[i];
+				minimalCover[i]=false;
+				minimalCoverSet.remove(i);
+				minimalCoverRHS--;
+				minimalCoverValue-=1.0-variableValues[i];
+			}
+		}
+		return minimalCoverValue;
+	}
+
+	/**
+	 * Solves a knapsack problem within the time limit of the current separation. If the knapsack algorithm implements {@link LimitedKnapsackAlgorithm} and the
+	 * time limit is reached, the best solution found is available through the knapsack algorithm, and {@link #timeLimitReached} is set.
+	 * @param nrItems nr of items in the knapsack
+	 * @param maxKnapsackWeight max size/weight of the knapsack
+	 * @param itemValues item values
+	 * @param itemWeights item weights
+	 * @return an upper bound on the value of the optimal knapsack solution; this is the optimal value if the problem has been solved to optimality
+	 */
+	private double solveKnapsackProblem(int nrItems, int maxKnapsackWeight, double[] itemValues, int[] itemWeights){
+		if(timeLimit == Long.MAX_VALUE || !(knapsackAlgorithm instanceof LimitedKnapsackAlgorithm))
+			return knapsackAlgorithm.solveKnapsackProblem(nrItems, maxKnapsackWeight, itemValues, itemWeights);
+		LimitedKnapsackAlgorithm limitedKnapsackAlgorithm=(LimitedKnapsackAlgorithm) knapsackAlgorithm;
+		limitedKnapsackAlgorithm.solveKnapsackProblem(nrItems, maxKnapsackWeight, itemValues, itemWeights, timeLimit, Long.MAX_VALUE);
+		if(!limitedKnapsackAlgorithm.isOptimal())
+			timeLimitReached=true;
+		return limitedKnapsackAlgorithm.getUpperBound();
+	}
 	
 	
 	/**
-	 * Implementation of the lifting heuristic, p461
+	 * Lifts the variables in {@code N\setminus C} using the configured lifting procedure, and tests whether the resulting inequality is violated
 	 * @param C2 Set of variables C2. C=C1 \cup C2, C1 \cap C2= \emptyset
 	 */
 	private void computeLiftedCover(Set<Integer> C2){
+		if(timeLimit != Long.MAX_VALUE && System.currentTimeMillis() >= timeLimit)
+			timeLimitReached=true;
+		if(liftingProcedure == LiftingProcedure.SEQUENCE_INDEPENDENT || timeLimitReached)
+			this.computeSequenceIndependentLifting(C2);
+		else
+			this.computeSequentialLifting(C2);
+
+		//Test whether \sum_j\in N \alpha_j variableValues[j] > RHS, if so, we found a violated inequality
+		liftedCoverLHS=0;
+		for(int i=0; i<nrVars; i++){
+			liftedCoverLHS+=liftedCoverCoefficients[i]*variableValues[i];
+		}
+		liftedCoverIsViolated=liftedCoverLHS > liftedCoverRHS+PRECISION;
+	}
+
+	/**
+	 * Implementation of the lifting heuristic, p461
+	 * @param C2 Set of variables C2. C=C1 \cup C2, C1 \cap C2= \emptyset
+	 */
+	private void computeSequentialLifting(Set<Integer> C2){
 		
 		//List<Integer> cover=new ArrayList<Integer>(); //Variable ids which are part of the cover C
 		Set<Integer> Lk=new LinkedHashSet<>(); //Variable ids of N/C, where N is the complete set of vars.
@@ -218,22 +360,22 @@ public class LiftedCoverInequalitySeparator {
 		Lk.removeAll(C2); //Ignore all variables in set C2
 		NminLk.addAll(minimalCoverSet);
 		
+		int[] betas=new int[Lk.size()];
+		double[] itemValues=new double[nrVars];
+		int[] itemWeights=new int[nrVars];
 		while(!Lk.isEmpty()){
+			//The items of the knapsack problems are the variables in N\Lk; they are identical for all j\in Lk
+			for(int index2=0; index2<NminLk.size(); index2++){
+				int i=NminLk.get(index2);
+				itemValues[index2]=liftedCoverCoefficients[i];
+				itemWeights[index2]=knapsackCoefficients[i];
+			}
 			//Compute betas
-			int[] betas=new int[Lk.size()];
 			int index1=0;
 			for(int j : Lk){ //Calculate Beta_j for j\in Lk, equation (2.4), p462
-				double[] itemValues=new double[NminLk.size()];
-				int[] itemWeights=new int[NminLk.size()];
 				int maxKnapsackWeight=b-knapsackCoefficients[j];
-				
-				for(int index2=0; index2<NminLk.size(); index2++){
-					int i=NminLk.get(index2);
-					itemValues[index2]=liftedCoverCoefficients[i];
-					itemWeights[index2]=knapsackCoefficients[i];
-				}
-				double knapsackValue=knapsackAlgorithm.solveKnapsackProblem(NminLk.size(), maxKnapsackWeight, itemValues, itemWeights);
-				betas[index1]=(int) (minimalCoverRHS-Math.round(knapsackValue));
+				double knapsackBound=this.solveKnapsackProblem(NminLk.size(), maxKnapsackWeight, itemValues, itemWeights);
+				betas[index1]=(int) Math.max(0, minimalCoverRHS-Math.floor(knapsackBound+PRECISION)); //The optimal knapsack value is integer
 				index1++;
 			}
 			
@@ -258,13 +400,103 @@ public class LiftedCoverInequalitySeparator {
 			NminLk.add(jstar);
 			
 		}
-		//Lk should be empty here. Test whether \sum_j\in N \alpha_j variableValues[j] > |C| -1, if so, we found a violated inequality \sum_j\in N \alpha_j variableValues[j] <= |C| -1
+		//Lk should be empty here. The right hand side of the inequality equals |C|-1
 		liftedCoverRHS=minimalCoverRHS;
-		liftedCoverLHS=0;
-		for(int i=0; i<nrVars; i++){
-			liftedCoverLHS+=liftedCoverCoefficients[i]*variableValues[i];
+	}
+
+	/**
+	 * Sequence independent lifting, using the superadditive lifting function g of Gu, Nemhauser and Savelsbergh (2000). Let {@code C=\{1,...,r\}} with
+	 * {@code a_1\geq a_2\geq ... \geq a_r}, {@code \mu_h=\sum_{k=1}^h a_k}, {@code \lambda=\mu_r-b} and {@code \rho_h=\max\{0, a_{h+1}-(a_1-\lambda)\}}. Then:<br>
+	 * {@code g(z)=0} if {@code 0\leq z\leq \mu_1-\lambda},<br>
+	 * {@code g(z)=h} if {@code \mu_h-\lambda+\rho_h\leq z\leq \mu_{h+1}-\lambda, h=1,...,r-1},<br>
+	 * {@code g(z)=h-(\mu_h-\lambda+\rho_h-z)/\rho_1} if {@code \mu_h-\lambda< z< \mu_h-\lambda+\rho_h, h=1,...,r-1},<br>
+	 * and {@code \alpha_j=g(a_j)} for all {@code j\in N\setminus C}. Variables with {@code a_j>b} can never be set to 1; they receive coefficient {@code r-1}.
+	 * To keep the coefficients integral, the inequality is multiplied by {@code \rho_1} (if positive), and divided by the greatest common divisor of its coefficients.
+	 * The lifting function is only valid for minimal covers, so the cover is reduced to a minimal cover first.
+	 * @param C2 Set of variables C2. C=C1 \cup C2, C1 \cap C2= \emptyset. These variables receive coefficient 0.
+	 */
+	private void computeSequenceIndependentLifting(Set<Integer> C2){
+		double minimalCoverValue=this.reduceToMinimalCover();
+		if(C2.isEmpty())
+			minimalCoverIsViolated=minimalCoverValue<=1-PRECISION;
+
+		liftedCoverCoefficients=new int[nrVars];
+		int r=minimalCoverSet.size();
+		if(r == 0){ //No variables remain in the cover
+			liftedCoverRHS=minimalCoverRHS;
+			return;
 		}
-		liftedCoverIsViolated=liftedCoverLHS > liftedCoverRHS+PRECISION;
+
+		//Sort the cover weights in non-increasing order and compute the partial sums mu_h
+		int[] coverWeights=new int[r];
+		int index=0;
+		for(int j : minimalCoverSet)
+			coverWeights[index++]=knapsackCoefficients[j];
+		Arrays.sort(coverWeights);
+		int[] mu=new int[r+1];
+		for(int h=1; h<=r; h++)
+			mu[h]=mu[h-1]+coverWeights[r-h];
+		int lambda=mu[r]-b;
+		int a1=coverWeights[r-1];
+		int rho1= r > 1 ? Math.max(0, coverWeights[r-2]-(a1-lambda)) : 0;
+		int scale= rho1 > 0 ? rho1 : 1;
+
+		//Compute the scaled coefficients scale*g(a_j)
+		int gcd=scale;
+		for(int j=0; j<nrVars; j++){
+			if(minimalCover[j])
+				liftedCoverCoefficients[j]=scale;
+			else if(!C2.contains(j)){
+				int z=knapsackCoefficients[j];
+				if(z > b){
+					liftedCoverCoefficients[j]=(r-1)*scale;
+				}else{
+					//Find the largest h\in\{0,...,r-1\} with mu_h-lambda < z
+					int low=0, high=r-1;
+					while(low < high){
+						int mid=(low+high+1)>>>1;
+						if(mu[mid]-lambda < z)
+							low=mid;
+						else
+							high=mid-1;
+					}
+					int h=low;
+					if(h == 0)
+						liftedCoverCoefficients[j]=0;
+					else{
+						int rhoh=Math.max(0, coverWeights[r-h-1]-(a1-lambda));
+						if(z >= mu[h]-lambda+rhoh)
+							liftedCoverCoefficients[j]=h*scale;
+						else //rho_h>0, hence rho_1>0 and scale=rho_1
+							liftedCoverCoefficients[j]=h*scale-(mu[h]-lambda+rhoh-z);
+					}
+				}
+			}
+			gcd=gcd(gcd, liftedCoverCoefficients[j]);
+		}
+		liftedCoverRHS=minimalCoverRHS*scale;
+
+		//Divide the inequality by the greatest common divisor of its coefficients
+		if(gcd > 1){
+			for(int j=0; j<nrVars; j++)
+				liftedCoverCoefficients[j]/=gcd;
+			liftedCoverRHS/=gcd;
+		}
+	}
+
+	/**
+	 * Computes the greatest common divisor of two non-negative integers
+	 * @param a first integer
+	 * @param b second integer
+	 * @return greatest common divisor of a and b
+	 */
+	private static int gcd(int a, int b){
+		while(b != 0){
+			int t=a%b;
+			a=b;
+			b=t;
+		}
+		return a;
 	}
 	
 	/**
@@ -298,8 +530,8 @@ public class LiftedCoverInequalitySeparator {
 			itemValues[i]=liftedCoverCoefficients[i];
 		}
 		itemValues[k]=0;
-		double knapsackValue=knapsackAlgorithm.solveKnapsackProblem(nrVars, b+knapsackCoefficients[k], itemValues, knapsackCoefficients);
-		int gamma= (int)Math.round(knapsackValue)-liftedCoverRHS;
+		double knapsackBound=this.solveKnapsackProblem(nrVars, b+knapsackCoefficients[k], itemValues, knapsackCoefficients);
+		int gamma= (int)Math.floor(knapsackBound+PRECISION)-liftedCoverRHS; //The optimal knapsack value is integer
 		
 		liftedCoverCoefficients[k]=gamma;
 		liftedCoverRHS+=gamma;
@@ -400,5 +632,12 @@ public class LiftedCoverInequalitySeparator {
 	public boolean isLiftedCoverViolated(){
 		return liftedCoverIsViolated;
 	}
+	/**
+	 * Returns true if the time limit was reached during the last separation, in which case the separated inequalities have been computed heuristically
+	 * @return true if the time limit was reached during the last separation
+	 */
+	public boolean isTimeLimitReached(){
+		return timeLimitReached;
+	}
 	
 }
@@ -0,0 +1,414 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BasisFactorization.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.lp;
+
+import java.util.Arrays;
+
+/**
+ * Sparse LU factorization of a simplex basis matrix B, combined with a product form (eta file) update.
+ * <p>
+ * The factorization is computed column by column (left-looking), processing the sparsest columns first and selecting the pivot
+ * through threshold pivoting, preferring sparse rows. L and U are stored column-wise as sparse vectors. Each basis change after the factorization appends a single eta vector,
+ * such that {@code B^-1 = E_k ... E_1 (LU)^-1}. Once the eta file becomes too long, the basis should be refactorized.
+ * <p>
+ * Rows of B are indexed by constraint (row) index; columns of B are indexed by their position in the basis. Consequently, {@link #ftran(double[], double[])}
+ * returns a vector indexed by basis position, whereas {@link #btran(double[], double[])} returns a vector indexed by row.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ */
+final class BasisFactorization {
+
+	/** Relative threshold used during pivot selection: a candidate pivot must be at least this fraction of the largest candidate in the column **/
+	private static final double PIVOT_THRESHOLD=0.1;
+
+	/** Smallest absolute value of a pivot element **/
+	private final double pivotTolerance;
+
+	/** Dimension of the basis **/
+	private int m;
+
+	/** pivotRow[k]: row pivoted in step k **/
+	private int[] pivotRow;
+	/** rowStep[i]: step in which row i was pivoted, or -1 **/
+	private int[] rowStep;
+	/** colOrder[k]: basis position factorized in step k **/
+	private int[] colOrder;
+
+	/** Sparse columns of L (excluding the unit diagonal), indexed by step. Row indices refer to the original rows. **/
+	private int[][] lIdx;
+	private double[][] lVal;
+	private int[] lLen;
+
+	/** Sparse columns of U (excluding the diagonal), indexed by step. Indices refer to earlier steps. **/
+	private int[][] uIdx;
+	private double[][] uVal;
+	private int[] uLen;
+	private double[] uDiag;
+
+	/** Eta file **/
+	private int nrEtas=0;
+	private int[] etaPosition=new int[16];
+	private double[] etaPivot=new double[16];
+	private int[][] etaIdx=new int[16][];
+	private double[][] etaVal=new double[16][];
+
+	/** Dense work arrays, reused between calls **/
+	private double[] work=new double[0];
+	private double[] work2=new double[0];
+	private int[] touched=new int[0];
+	private boolean[] isTouched=new boolean[0];
+	private int[] rowCount=new int[0];
+	/** Binary min-heap of steps whose L columns still need to be applied during the factorization **/
+	private int[] heap=new int[0];
+	private int heapSize=0;
+
+	/** Basis position of the column which rendered the basis singular during the last factorization **/
+	private int singularPosition=-1;
+
+	/**
+	 * Creates a new factorization object
+	 * @param pivotTolerance smallest absolute value of a pivot element
+	 */
+	BasisFactorization(double pivotTolerance){
+		this.pivotTolerance=pivotTolerance;
+	}
+
+	/**
+	 * Factorizes the basis matrix B=LU. The i-th column of B (i.e. the column at basis position i) is given by the sparse vector ({@code colIdx[i]}, {@code colVal[i]}),
+	 * consisting of {@code colLen[i]} entries. The eta file is cleared.
+	 * @param m dimension of the basis
+	 * @param colIdx row indices of the basis columns
+	 * @param colVal values of the basis columns
+	 * @param colLen number of non-zero entries in each basis column
+	 * @return true if the factorization succeeded, false if the basis is (numerically) singular. In the latter case, {@link #getSingularPosition()} returns the basis
+	 * position of the offending column, and {@link #isPivotRow(int)} may be used to identify the rows which have not been pivoted.
+	 */
+	boolean factor(int m, int[][] colIdx, double[][] colVal, int[] colLen){
+		this.allocate(m);
+		nrEtas=0;
+		singularPosition=-1;
+		Arrays.fill(rowStep, -1);
+
+		//Count the number of non-zeros in each row; this count is used as a cheap approximation of the Markowitz criterion while selecting pivots
+		Arrays.fill(rowCount, 0, m, 0);
+		for(int i=0; i<m; i++)
+			for(int e=0; e<colLen[i]; e++)
+				rowCount[colIdx[i][e]]++;
+
+		//Process the columns in order of increasing number of non-zeros, thereby limiting fill-in
+		Integer[] order=new Integer[m];
+		for(int i=0; i<m; i++) order[i]=i;
+		Arrays.sort(order, (i1, i2) -> Integer.compare(colLen[i1], colLen[i2]));
+
+		for(int k=0; k<m; k++){
+			int pos=order[k];
+			colOrder[k]=pos;
+			int nrTouched=0;
+
+			heapSize=0;
+
+			//Scatter the column into the dense work array. Pivoted rows are queued: their L columns need to be applied.
+			for(int e=0; e<colLen[pos]; e++){
+				int row=colIdx[pos][e];
+				if(!isTouched[row]){
+					isTouched[row]=true;
+					touched[nrTouched++]=row;
+					if(rowStep[row] >= 0) this.heapPush(rowStep[row]);
+				}
+				work[row]+=colVal[pos][e];
+			}
+
+			//Apply the L columns of the preceding steps, in order of increasing step. Only steps with a non-zero in their pivot row are considered.
+			//The L column of step p only has entries in rows which are pivoted in a later step, so the order is maintained by a heap.
+			while(heapSize > 0){
+				int p=this.heapPop();
+				double v=work[pivotRow[p]];
+				if(v == 0) continue;
+				for(int e=0; e<lLen[p]; e++){
+					int row=lIdx[p][e];
+					if(!isTouched[row]){
+						isTouched[row]=true;
+						touched[nrTouched++]=row;
+						if(rowStep[row] >= 0) this.heapPush(rowStep[row]);
+					}
+					work[row]-=lVal[p][e]*v;
+				}
+			}
+
+			//Split the column into the U part (pivoted rows) and the candidate pivot rows
+			double maxAbs=0;
+			int nrU=0;
+			for(int t=0; t<nrTouched; t++){
+				int row=touched[t];
+				if(work[row] == 0) continue;
+				if(rowStep[row] >= 0)
+					nrU++;
+				else
+					maxAbs=Math.max(maxAbs, Math.abs(work[row]));
+			}
+			//Threshold pivoting: among the sufficiently large candidates, select the sparsest row
+			int piv=-1;
+			for(int t=0; t<nrTouched; t++){
+				int row=touched[t];
+				if(rowStep[row] >= 0 || Math.abs(work[row]) < PIVOT_THRESHOLD*maxAbs || work[row] == 0) continue;
+				if(piv == -1 || rowCount[row] < rowCount[piv] || rowCount[row] == rowCount[piv] && Math.abs(work[row]) > Math.abs(work[piv]))
+					piv=row;
+			}
+
+			if(piv == -1 || maxAbs <= pivotTolerance){ //Basis is singular
+				for(int t=0; t<nrTouched; t++){
+					work[touched[t]]=0;
+					isTouched[touched[t]]=false;
+				}
+				singularPosition=pos;
+				return false;
+			}
+
+			uIdx[k]=new int[nrU];
+			uVal[k]=new double[nrU];
+			uLen[k]=nrU;
+			uDiag[k]=work[piv];
+			int nrL=nrTouched-nrU-1;
+			lIdx[k]=new int[Math.max(nrL, 0)];
+			lVal[k]=new double[Math.max(nrL, 0)];
+			int u=0, l=0;
+			for(int t=0; t<nrTouched; t++){
+				int row=touched[t];
+				double v=work[row];
+				work[row]=0;
+				isTouched[row]=false;
+				if(v == 0 || row == piv) continue;
+				if(rowStep[row] >= 0){
+					uIdx[k][u]=rowStep[row];
+					uVal[k][u++]=v;
+				}else{
+					lIdx[k][l]=row;
+					lVal[k][l++]=v/uDiag[k];
+				}
+			}
+			lLen[k]=l;
+			pivotRow[k]=piv;
+			rowStep[piv]=k;
+		}
+		return true;
+	}
+
+	/**
+	 * Solves {@code B x = a}.
+	 * @param a right hand side, indexed by row. This array is not modified.
+	 * @param x solution, indexed by basis position.
+	 */
+	void ftran(double[] a, double[] x){
+		System.arraycopy(a, 0, work2, 0, m);
+		//Solve L z = a; z is stored in work, indexed by step
+		for(int p=0; p<m; p++){
+			double v=work2[pivotRow[p]];
+			work[p]=v;
+			if(v == 0) continue;
+			for(int e=0; e<lLen[p]; e++)
+				work2[lIdx[p][e]]-=lVal[p][e]*v;
+		}
+		//Solve U x = z
+		for(int k=m-1; k>=0; k--){
+			double v=work[k];
+			work[k]=0;
+			if(v != 0){
+				v/=uDiag[k];
+				for(int e=0; e<uLen[k]; e++)
+					work[uIdx[k][e]]-=uVal[k][e]*v;
+			}
+			x[colOrder[k]]=v;
+		}
+		//Apply the eta file
+		for(int t=0; t<nrEtas; t++){
+			int r=etaPosition[t];
+			double v=x[r];
+			if(v == 0) continue;
+			v/=etaPivot[t];
+			x[r]=v;
+			for(int e=0; e<etaIdx[t].length; e++)
+				x[etaIdx[t][e]]-=etaVal[t][e]*v;
+		}
+		Arrays.fill(work2, 0, m, 0);
+	}
+
+	/**
+	 * Solves {@code y^T B = c^T}.
+	 * @param c right hand side, indexed by basis position. This array is not modified.
+	 * @param y solution, indexed by row.
+	 */
+	void btran(double[] c, double[] y){
+		System.arraycopy(c, 0, work2, 0, m);
+		//Apply the eta file in reverse order
+		for(int t=nrEtas-1; t>=0; t--){
+			int r=etaPosition[t];
+			double v=work2[r];
+			for(int e=0; e<etaIdx[t].length; e++)
+				v-=etaVal[t][e]*work2[etaIdx[t][e]];
+			work2[r]=v/etaPivot[t];
+		}
+		//Solve U^T z = c; z is stored in work, indexed by step
+		for(int k=0; k<m; k++){
+			double v=work2[colOrder[k]];
+			for(int e=0; e<uLen[k]; e++)
+				v-=uVal[k][e]*work[uIdx[k][e]];
+			work[k]=v/uDiag[k];
+		}
+		//Solve L^T y = z
+		for(int p=m-1; p>=0; p--){
+			double v=work[p];
+			for(int e=0; e<lLen[p]; e++)
+				v-=lVal[p][e]*y[lIdx[p][e]];
+			y[pivotRow[p]]=v;
+		}
+		Arrays.fill(work, 0, m, 0);
+		Arrays.fill(work2, 0, m, 0);
+	}
+
+	/**
+	 * Registers a basis change: the column at basis position r is replaced by a column a_q, where alpha={@code B^-1 a_q} is the ftran-ed entering column.
+	 * @param r basis position of the leaving column
+	 * @param alpha entering column, premultiplied by the current basis inverse, indexed by basis position
+	 */
+	void update(int r, double[] alpha){
+		if(nrEtas == etaPosition.length){
+			int newLength=2*nrEtas;
+			etaPosition=Arrays.copyOf(etaPosition, newLength);
+			etaPivot=Arrays.copyOf(etaPivot, newLength);
+			etaIdx=Arrays.copyOf(etaIdx, newLength);
+			etaVal=Arrays.copyOf(etaVal, newLength);
+		}
+		int nnz=0;
+		for(int i=0; i<m; i++)
+			if(i != r && alpha[i] != 0) nnz++;
+		int[] idx=new int[nnz];
+		double[] val=new double[nnz];
+		nnz=0;
+		for(int i=0; i<m; i++){
+			if(i != r && alpha[i] != 0){
+				idx[nnz]=i;
+				val[nnz++]=alpha[i];
+			}
+		}
+		etaPosition[nrEtas]=r;
+		etaPivot[nrEtas]=alpha[r];
+		etaIdx[nrEtas]=idx;
+		etaVal[nrEtas]=val;
+		nrEtas++;
+	}
+
+	/**
+	 * Returns the number of basis updates since the last factorization
+	 * @return the number of basis updates since the last factorization
+	 */
+	int getNrUpdates(){
+		return nrEtas;
+	}
+
+	/**
+	 * Returns the basis position of the column which caused the last factorization to fail.
+	 * @return the basis position of the column which caused the last factorization to fail, or -1 if the factorization succeeded.
+	 */
+	int getSingularPosition(){
+		return singularPosition;
+	}
+
+	/**
+	 * Returns whether the given row has been pivoted during the last factorization. If the factorization failed, rows which have not been pivoted
+	 * may be used to repair the basis through the corresponding slack variables.
+	 * @param row row
+	 * @return true if the row has been pivoted
+	 */
+	boolean isPivotRow(int row){
+		return rowStep[row] >= 0;
+	}
+
+	/**
+	 * Adds a step to the binary min-heap
+	 * @param step step
+	 */
+	private void heapPush(int step){
+		int i=heapSize++;
+		while(i > 0){
+			int parent=(i-1)/2;
+			if(heap[parent] <= step) break;
+			heap[i]=heap[parent];
+			i=parent;
+		}
+		heap[i]=step;
+	}
+
+	/**
+	 * Removes the smallest step from the binary min-heap
+	 * @return smallest step
+	 */
+	private int heapPop(){
+		int min=heap[0];
+		int last=heap[--heapSize];
+		int i=0;
+		while(2*i+1 < heapSize){
+			int child=2*i+1;
+			if(child+1 < heapSize && heap[child+1] < heap[child]) child++;
+			if(last <= heap[child]) break;
+			heap[i]=heap[child];
+			i=child;
+		}
+		heap[i]=last;
+		return min;
+	}
+
+	/**
+	 * (Re)allocates the internal data structures
+	 * @param m dimension of the basis
+	 */
+	private void allocate(int m){
+		this.m=m;
+		if(work.length < m){
+			int capacity=Math.max(m, 2*work.length);
+			work=new double[capacity];
+			work2=new double[capacity];
+			touched=new int[capacity];
+			isTouched=new boolean[capacity];
+			rowCount=new int[capacity];
+			heap=new int[capacity];
+		}
+		if(pivotRow == null || pivotRow.length < m){
+			int capacity=Math.max(m, pivotRow == null ? 0 : 2*pivotRow.length);
+			pivotRow=new int[capacity];
+			rowStep=new int[capacity];
+			colOrder=new int[capacity];
+			lIdx=new int[capacity][];
+			lVal=new double[capacity][];
+			lLen=new int[capacity];
+			uIdx=new int[capacity][];
+			uVal=new double[capacity][];
+			uLen=new int[capacity];
+			uDiag=new double[capacity];
+		}
+	}
+}
@@ -0,0 +1,124 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * ColumnBuffer.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.lp;
+
+import java.util.Arrays;
+
+/**
+ * Buffer which collects a block of columns in Compressed Sparse Column (CSC) format, such that the columns can be added to an {@link LPModel} through a single
+ * invocation of {@link LPModel#addColumns(int, double[], double[], double[], int[], int[], double[])}. A column is started through
+ * {@link #startColumn(double, double, double)}, after which its non-zero coefficients are added through {@link #addCoefficient(int, double)}.
+ * The buffer can be reused after invoking {@link #clear()}; its internal arrays are retained.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ */
+public final class ColumnBuffer {
+
+	/** Number of columns in the buffer **/
+	private int nrColumns=0;
+	/** Objective coefficients and bounds of the columns **/
+	private double[] cost=new double[16], lower=new double[16], upper=new double[16];
+	/** Start positions of the columns in rows and coefs **/
+	private int[] colStart=new int[17];
+	/** Number of non-zero coefficients in the buffer **/
+	private int nnz=0;
+	/** Row indices and values of the non-zero coefficients **/
+	private int[] rows=new int[64];
+	private double[] coefs=new double[64];
+
+	/**
+	 * Starts a new column. The coefficients of the column are added through {@link #addCoefficient(int, double)}.
+	 * @param cost objective coefficient
+	 * @param lower lower bound (may be {@code -INFINITY})
+	 * @param upper upper bound (may be {@code INFINITY})
+	 */
+	public void startColumn(double cost, double lower, double upper){
+		if(nrColumns == this.cost.length){
+			int newCapacity=2*nrColumns;
+			this.cost=Arrays.copyOf(this.cost, newCapacity);
+			this.lower=Arrays.copyOf(this.lower, newCapacity);
+			this.upper=Arrays.copyOf(this.upper, newCapacity);
+			colStart=Arrays.copyOf(colStart, newCapacity+1);
+		}
+		this.cost[nrColumns]=cost;
+		this.lower[nrColumns]=lower;
+		this.upper[nrColumns]=upper;
+		nrColumns++;
+		colStart[nrColumns]=nnz;
+	}
+
+	/**
+	 * Adds a non-zero coefficient to the column which was started last
+	 * @param row row index
+	 * @param coef coefficient
+	 */
+	public void addCoefficient(int row, double coef){
+		if(nrColumns == 0)
+			throw new IllegalStateException("No column has been started");
+		if(nnz == rows.length){
+			rows=Arrays.copyOf(rows, 2*nnz);
+			coefs=Arrays.copyOf(coefs, 2*nnz);
+		}
+		rows[nnz]=row;
+		coefs[nnz++]=coef;
+		colStart[nrColumns]=nnz;
+	}
+
+	/**
+	 * Adds all columns in this buffer to the LP model in a single batch
+	 * @param lp LP model
+	 * @return index of the first column in the LP model; the columns in this buffer receive consecutive indices
+	 */
+	public int addTo(LPModel lp){
+		return lp.addColumns(nrColumns, cost, lower, upper, colStart, rows, coefs);
+	}
+
+	/**
+	 * Removes all columns from the buffer
+	 */
+	public void clear(){
+		nrColumns=0;
+		nnz=0;
+	}
+
+	/**
+	 * Returns the number of columns in the buffer
+	 * @return number of columns
+	 */
+	public int getNrColumns(){
+		return nrColumns;
+	}
+
+	/**
+	 * Returns the number of non-zero coefficients in the buffer
+	 * @return number of non-zero coefficients
+	 */
+	public int getNrNonZeros(){
+		return nnz;
+	}
+}
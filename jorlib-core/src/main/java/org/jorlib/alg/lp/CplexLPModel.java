@@ -0,0 +1,276 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CplexLPModel.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.lp;
+
+import ilog.concert.IloException;
+import ilog.concert.IloLPMatrix;
+import ilog.concert.IloNumVar;
+import ilog.concert.IloObjective;
+import ilog.cplex.IloCplex;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Adapter which exposes a cplex LP through the {@link LPModel} interface. The rows and columns of the LP are stored in a single {@link IloLPMatrix}, which
+ * allows blocks of rows and columns to be passed to cplex through a single call, instead of creating an {@code IloColumn} or {@code IloRange} object per
+ * column or row. Cplex parameters can be changed through the cplex instance returned by {@link #getCplex()}.
+ * Errors reported by cplex while the model is modified or solved are rethrown as {@link RuntimeException}, carrying the original {@link IloException}.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ */
+public final class CplexLPModel implements LPModel {
+
+	/** Default optimality tolerance of cplex **/
+	private static final double DEFAULT_OPTIMALITY_TOLERANCE=1e-6;
+
+	/** Cplex instance **/
+	private final IloCplex cplex;
+	/** Objective function **/
+	private final IloObjective obj;
+	/** Constraint matrix, holding all rows and columns **/
+	private final IloLPMatrix matrix;
+	/** Indicates whether the objective is maximized **/
+	private final boolean maximize;
+
+	/** Solution of the last solve **/
+	private double objectiveValue=0;
+	private double[] values=new double[0];
+	private double[] duals=new double[0];
+	private double[] reducedCosts=new double[0];
+
+	/**
+	 * Creates a new (empty) LP
+	 * @param maximize true if the objective should be maximized, false if it should be minimized
+	 * @throws IloException if the cplex instance cannot be created
+	 */
+	public CplexLPModel(boolean maximize) throws IloException {
+		this.maximize=maximize;
+		cplex=new IloCplex();
+		cplex.setOut(null); //Disable cplex output
+		obj=(maximize ? cplex.addMaximize() : cplex.addMinimize());
+		matrix=cplex.addLPMatrix();
+	}
+
+	//============= Model modification ====================
+
+	@Override
+	public int addRow(double lower, double upper, int[] cols, double[] coefs){
+		return this.addRows(1, new double[]{lower}, new double[]{upper}, new int[]{0, cols.length}, cols, coefs);
+	}
+
+	@Override
+	public int addRows(int nrRows, double[] lower, double[] upper, int[] rowStart, int[] cols, double[] coefs){
+		int[][] ind=new int[nrRows][];
+		double[][] val=new double[nrRows][];
+		for(int k=0; k<nrRows; k++){
+			ind[k]=Arrays.copyOfRange(cols, rowStart[k], rowStart[k+1]);
+			val[k]=Arrays.copyOfRange(coefs, rowStart[k], rowStart[k+1]);
+		}
+		try {
+			return matrix.addRows(Arrays.copyOf(lower, nrRows), Arrays.copyOf(upper, nrRows), ind, val);
+		} catch (IloException e) {
+			throw new RuntimeException("Cplex failed to add rows", e);
+		}
+	}
+
+	@Override
+	public int addColumn(double cost, double lower, double upper, int[] rows, double[] coefs){
+		return this.addColumns(1, new double[]{cost}, new double[]{lower}, new double[]{upper}, new int[]{0, rows.length}, rows, coefs);
+	}
+
+	@Override
+	public int addColumns(int nrColumns, double[] cost, double[] lower, double[] upper, int[] colStart, int[] rows, double[] coefs){
+		int[][] ind=new int[nrColumns][];
+		double[][] val=new double[nrColumns][];
+		for(int k=0; k<nrColumns; k++){
+			ind[k]=Arrays.copyOfRange(rows, colStart[k], colStart[k+1]);
+			val[k]=Arrays.copyOfRange(coefs, colStart[k], colStart[k+1]);
+		}
+		try {
+			IloNumVar[] vars=cplex.numVarArray(nrColumns, Arrays.copyOf(lower, nrColumns), Arrays.copyOf(upper, nrColumns));
+			int first=matrix.addCols(vars, ind, val);
+			cplex.setLinearCoefs(obj, Arrays.copyOf(cost, nrColumns), vars);
+			return first;
+		} catch (IloException e) {
+			throw new RuntimeException("Cplex failed to add columns", e);
+		}
+	}
+
+	@Override
+	public void removeColumns(int[] columns){
+		try {
+			IloNumVar[] vars=new IloNumVar[columns.length];
+			for(int k=0; k<columns.length; k++)
+				vars[k]=matrix.getNumVar(columns[k]);
+			matrix.removeCols(columns);
+			cplex.delete(vars);
+		} catch (IloException e) {
+			throw new RuntimeException("Cplex failed to remove columns", e);
+		}
+	}
+
+	@Override
+	public void setColumnBounds(int col, double lower, double upper){
+		try {
+			IloNumVar var=matrix.getNumVar(col);
+			var.setLB(lower);
+			var.setUB(upper);
+		} catch (IloException e) {
+			throw new RuntimeException("Cplex failed to change the column bounds", e);
+		}
+	}
+
+	@Override
+	public void setRowBounds(int row, double lower, double upper){
+		try {
+			matrix.getRange(row).setBounds(lower, upper);
+		} catch (IloException e) {
+			throw new RuntimeException("Cplex failed to change the row bounds", e);
+		}
+	}
+
+	@Override
+	public void setCost(int col, double cost){
+		try {
+			cplex.setLinearCoef(obj, cost, matrix.getNumVar(col));
+		} catch (IloException e) {
+			throw new RuntimeException("Cplex failed to change the objective coefficient", e);
+		}
+	}
+
+	//============= Solve ====================
+
+	@Override
+	public void setOptimalityTolerance(double tolerance){
+		try {
+			//Cplex accepts optimality tolerances in the range [1e-9, 1e-1]
+			cplex.setParam(IloCplex.DoubleParam.EpOpt, (tolerance == 0 ? DEFAULT_OPTIMALITY_TOLERANCE : Math.max(1e-9, Math.min(1e-1, tolerance))));
+		} catch (IloException e) {
+			throw new RuntimeException("Cplex failed to set the optimality tolerance", e);
+		}
+	}
+
+	@Override
+	public Status solve(long timeLimit){
+		try {
+			//Set time limit
+			double timeRemaining=Math.max(1,(timeLimit-System.currentTimeMillis())/1000.0);
+			cplex.setParam(IloCplex.DoubleParam.TiLim, timeRemaining); //set time limit in seconds
+
+			if(!cplex.solve() || cplex.getStatus()!=IloCplex.Status.Optimal){
+				if(cplex.getCplexStatus()==IloCplex.CplexStatus.AbortTimeLim) //Aborted due to time limit
+					return Status.TIME_LIMIT;
+				else if(cplex.getCplexStatus()==IloCplex.CplexStatus.AbortItLim)
+					return Status.ITERATION_LIMIT;
+				else if(cplex.getStatus()==IloCplex.Status.Infeasible)
+					return Status.INFEASIBLE;
+				else if(cplex.getStatus()==IloCplex.Status.Unbounded)
+					return Status.UNBOUNDED;
+				else
+					return Status.UNSOLVED;
+			}
+			objectiveValue=cplex.getObjValue();
+			values=cplex.getValues(matrix);
+			duals=cplex.getDuals(matrix);
+			reducedCosts=cplex.getReducedCosts(matrix);
+			return Status.OPTIMAL;
+		} catch (IloException e) {
+			throw new RuntimeException("Cplex failed to solve the LP", e);
+		}
+	}
+
+	@Override
+	public double getObjectiveValue(){
+		return objectiveValue;
+	}
+
+	@Override
+	public double getValue(int col){
+		return values[col];
+	}
+
+	@Override
+	public double[] getValues(){
+		return values.clone();
+	}
+
+	@Override
+	public double getDual(int row){
+		return duals[row];
+	}
+
+	@Override
+	public double[] getDuals(){
+		return duals.clone();
+	}
+
+	@Override
+	public double getReducedCost(int col){
+		return reducedCosts[col];
+	}
+
+	//============= Model information ====================
+
+	@Override
+	public boolean isMaximization(){
+		return maximize;
+	}
+
+	@Override
+	public int getNrColumns(){
+		return matrix.getNcols();
+	}
+
+	@Override
+	public int getNrRows(){
+		return matrix.getNrows();
+	}
+
+	@Override
+	public void exportModel(String fileName) throws IOException{
+		try {
+			cplex.exportModel(fileName);
+		} catch (IloException e) {
+			throw new IOException(e);
+		}
+	}
+
+	/**
+	 * Returns the underlying cplex instance, e.g. to change cplex parameters
+	 * @return cplex instance
+	 */
+	public IloCplex getCplex(){
+		return cplex;
+	}
+
+	@Override
+	public void close(){
+		cplex.end();
+	}
+}
@@ -0,0 +1,233 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * LPModel.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.lp;
+
+import java.io.IOException;
+
+/**
+ * Solver independent representation of a Linear Program of the form:<br>
+ * {@code min (or max) \sum_j c_j x_j}<br>
+ * {@code s.t. lr_i <= \sum_j a_ij x_j <= ur_i} for all rows i<br>
+ * {@code lc_j <= x_j <= uc_j} for all columns j<br>
+ * Rows and columns are identified by their index, starting at 0, in the order in which they are added to the model.
+ * <p>
+ * Besides methods to add a single row or column, this interface provides methods to modify the model in batches. Batches are passed as sparse
+ * matrices in compressed form: a block of columns is passed in Compressed Sparse Column (CSC) format, a block of rows in Compressed Sparse Row (CSR) format.
+ * For a block of {@code n} columns, the non-zero coefficients of column {@code k} are stored in positions {@code colStart[k], ..., colStart[k+1]-1}
+ * of the arrays {@code rows} and {@code coefs}; the array {@code colStart} must therefore contain at least {@code n+1} entries. Adding columns
+ * in batches is considerably cheaper than adding them one at a time, in particular when the LP is handled by an external solver.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ */
+public interface LPModel {
+
+	/**
+	 * Status of the LP after invoking {@link #solve(long)}
+	 */
+	enum Status{
+		/** The LP has not been solved yet **/
+		UNSOLVED,
+		/** An optimal solution has been found **/
+		OPTIMAL,
+		/** The LP is infeasible **/
+		INFEASIBLE,
+		/** The LP is unbounded **/
+		UNBOUNDED,
+		/** The maximum number of iterations has been reached **/
+		ITERATION_LIMIT,
+		/** The time limit has been reached **/
+		TIME_LIMIT
+	}
+
+	/** Bounds with an absolute value larger or equal to this value are considered to be infinite **/
+	double INFINITY=1e30;
+
+	//============= Model modification ====================
+
+	/**
+	 * Adds a new row {@code lower <= \sum_j coefs[j] x_{cols[j]} <= upper} to the model.
+	 * @param lower lower bound (may be {@code -INFINITY})
+	 * @param upper upper bound (may be {@code INFINITY})
+	 * @param cols indices of the columns with a non-zero coefficient in this row
+	 * @param coefs coefficients
+	 * @return index of the new row
+	 */
+	int addRow(double lower, double upper, int[] cols, double[] coefs);
+
+	/**
+	 * Adds a block of rows to the model. The coefficients are provided in CSR format.
+	 * @param nrRows number of rows in the block
+	 * @param lower lower bounds of the rows (may be {@code -INFINITY})
+	 * @param upper upper bounds of the rows (may be {@code INFINITY})
+	 * @param rowStart start positions of the rows in {@code cols} and {@code coefs} ({@code nrRows+1} entries)
+	 * @param cols column indices of the non-zero coefficients
+	 * @param coefs non-zero coefficients
+	 * @return index of the first new row; the rows in the block receive consecutive indices
+	 */
+	int addRows(int nrRows, double[] lower, double[] upper, int[] rowStart, int[] cols, double[] coefs);
+
+	/**
+	 * Adds a new column to the model.
+	 * @param cost objective coefficient
+	 * @param lower lower bound (may be {@code -INFINITY})
+	 * @param upper upper bound (may be {@code INFINITY})
+	 * @param rows indices of the rows in which the column has a non-zero coefficient
+	 * @param coefs coefficients
+	 * @return index of the new column
+	 */
+	int addColumn(double cost, double lower, double upper, int[] rows, double[] coefs);
+
+	/**
+	 * Adds a block of columns to the model. The coefficients are provided in CSC format.
+	 * @param nrColumns number of columns in the block
+	 * @param cost objective coefficients of the columns
+	 * @param lower lower bounds of the columns (may be {@code -INFINITY})
+	 * @param upper upper bounds of the columns (may be {@code INFINITY})
+	 * @param colStart start positions of the columns in {@code rows} and {@code coefs} ({@code nrColumns+1} entries)
+	 * @param rows row indices of the non-zero coefficients
+	 * @param coefs non-zero coefficients
+	 * @return index of the first new column; the columns in the block receive consecutive indices
+	 */
+	int addColumns(int nrColumns, double[] cost, double[] lower, double[] upper, int[] colStart, int[] rows, double[] coefs);
+
+	/**
+	 * Removes a set of columns from the model. The remaining columns are renumbered consecutively, preserving their relative order.
+	 * @param columns indices of the columns to be removed
+	 */
+	void removeColumns(int[] columns);
+
+	/**
+	 * Changes the bounds of a column
+	 * @param col column index
+	 * @param lower lower bound (may be {@code -INFINITY})
+	 * @param upper upper bound (may be {@code INFINITY})
+	 */
+	void setColumnBounds(int col, double lower, double upper);
+
+	/**
+	 * Changes the bounds of a row
+	 * @param row row index
+	 * @param lower lower bound (may be {@code -INFINITY})
+	 * @param upper upper bound (may be {@code INFINITY})
+	 */
+	void setRowBounds(int row, double lower, double upper);
+
+	/**
+	 * Changes the objective coefficient of a column
+	 * @param col column index
+	 * @param cost new objective coefficient
+	 */
+	void setCost(int col, double cost);
+
+	//============= Solve ====================
+
+	/**
+	 * Sets the optimality tolerance used by subsequent invocations of {@link #solve(long)}, i.e. the largest violation of the reduced cost optimality conditions which is
+	 * accepted in an optimal solution. A loose tolerance results in a faster, but approximate, solve.
+	 * @param tolerance optimality tolerance; 0 restores the default tolerance of the solver
+	 */
+	void setOptimalityTolerance(double tolerance);
+
+	/**
+	 * Solves the LP
+	 * @param timeLimit Future point in time (in milliseconds) by which this method must be finished
+	 * @return status of the LP
+	 */
+	Status solve(long timeLimit);
+
+	/**
+	 * Returns the objective value of the last solve
+	 * @return objective value
+	 */
+	double getObjectiveValue();
+
+	/**
+	 * Returns the value of a column in the solution of the last solve
+	 * @param col column index
+	 * @return value of the column
+	 */
+	double getValue(int col);
+
+	/**
+	 * Returns the values of all columns in the solution of the last solve
+	 * @return values of the columns, indexed by column
+	 */
+	double[] getValues();
+
+	/**
+	 * Returns the dual value of a row
+	 * @param row row index
+	 * @return dual value of the row
+	 */
+	double getDual(int row);
+
+	/**
+	 * Returns the dual values of all rows
+	 * @return dual values, indexed by row
+	 */
+	double[] getDuals();
+
+	/**
+	 * Returns the reduced cost of a column
+	 * @param col column index
+	 * @return reduced cost of the column
+	 */
+	double getReducedCost(int col);
+
+	//============= Model information ====================
+
+	/**
+	 * Returns whether the objective is maximized
+	 * @return true if the objective is maximized, false if it is minimized
+	 */
+	boolean isMaximization();
+
+	/**
+	 * Returns the number of columns in the model
+	 * @return number of columns
+	 */
+	int getNrColumns();
+
+	/**
+	 * Returns the number of rows in the model
+	 * @return number of rows
+	 */
+	int getNrRows();
+
+	/**
+	 * Exports the model to a file in LP format
+	 * @param fileName name of the file
+	 * @throws IOException if the file cannot be written
+	 */
+	void exportModel(String fileName) throws IOException;
+
+	/**
+	 * Releases all resources held by the model. The model cannot be used after invoking this method.
+	 */
+	void close();
+}
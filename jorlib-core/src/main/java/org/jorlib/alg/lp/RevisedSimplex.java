@@ -0,0 +1,1253 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * RevisedSimplex.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.lp;
+
+import java.io.BufferedWriter;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Pure java implementation of the bounded revised simplex method. Solves Linear Programs of the form:<br>
+ * {@code min (or max) \sum_j c_j x_j}<br>
+ * {@code s.t. lr_i <= \sum_j a_ij x_j <= ur_i} for all rows i<br>
+ * {@code lc_j <= x_j <= uc_j} for all columns j<br>
+ * Bounds may be infinite ({@link LPModel#INFINITY}); equality constraints are modeled by setting {@code lr_i = ur_i}.
+ * <p>
+ * Internally, a logical (slack) variable {@code s_i = \sum_j a_ij x_j} with bounds {@code [lr_i, ur_i]} is added for every row. The basis matrix is maintained
+ * through a sparse LU factorization with product form updates. Both a primal simplex (with a phase 1 minimizing the sum of infeasibilities)
+ * and a dual simplex are implemented; both use a Harris ratio test. The model may be modified between consecutive invocations of {@link #solve(long)}:
+ * columns and rows can be added and bounds can be changed. Each solve warm starts from the basis of the previous solve:
+ * <ul>
+ * <li>after adding columns, the previous basis remains primal feasible, and the primal simplex is used,</li>
+ * <li>after adding rows or changing bounds, the previous basis remains dual feasible, and the dual simplex is used.</li>
+ * </ul>
+ * This class is intended for small to medium sized LPs, such as the master problems solved in a Column Generation procedure. It does not
+ * perform any presolve or scaling.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ */
+public class RevisedSimplex implements LPModel {
+
+	/** Status of a variable **/
+	private static final int AT_LOWER=0, AT_UPPER=1, AT_ZERO=2, BASIC=3;
+	/** Placeholder in the basis for a basic column which has been removed from the model **/
+	private static final int REMOVED=Integer.MAX_VALUE;
+
+	/** Primal feasibility tolerance **/
+	private static final double PRIMAL_TOLERANCE=1e-7;
+	/** Dual feasibility tolerance. This tolerance is also the default optimality tolerance. **/
+	private static final double DUAL_TOLERANCE=1e-7;
+	/** Smallest absolute value of a pivot element **/
+	private static final double PIVOT_TOLERANCE=1e-9;
+	/** Maximum number of basis updates before the basis is refactorized **/
+	private static final int REFACTORIZATION_FREQUENCY=64;
+	/** Number of consecutive degenerate iterations after which Bland's rule is used to prevent cycling **/
+	private static final int DEGENERACY_THRESHOLD=50;
+
+	/** 1 for minimization problems, -1 for maximization problems **/
+	private final double sense;
+
+	//Columns (structural variables)
+	/** Number of columns **/
+	private int nrColumns=0;
+	/** Objective coefficients **/
+	private double[] cost=new double[16];
+	/** Column bounds **/
+	private double[] colLower=new double[16], colUpper=new double[16];
+	/** Sparse column vectors: row indices, values and number of non-zeros **/
+	private int[][] colIdx=new int[16][];
+	private double[][] colVal=new double[16][];
+	private int[] colLen=new int[16];
+	/** Value of each column in the current basic solution **/
+	private double[] x=new double[16];
+	/** Status of each column **/
+	private int[] colStatus=new int[16];
+	/** Reduced cost of each column **/
+	private double[] reducedCost=new double[16];
+
+	//Rows (logical variables)
+	/** Number of rows **/
+	private int nrRows=0;
+	/** Row bounds **/
+	private double[] rowLower=new double[16], rowUpper=new double[16];
+	/** Activity of each row (i.e. the value of its logical variable) in the current basic solution **/
+	private double[] s=new double[16];
+	/** Status of each logical variable **/
+	private int[] rowStatus=new int[16];
+	/** Dual value of each row **/
+	private double[] dual=new double[16];
+
+	//Basis. Variables are encoded as integers: a column j is encoded as j, the logical variable of row i is encoded as -(i+1).
+	/** Variables in the basis, indexed by basis position **/
+	private int[] basis=new int[16];
+	/** Basis factorization **/
+	private final BasisFactorization factorization=new BasisFactorization(PIVOT_TOLERANCE);
+
+	//Work arrays, indexed by basis position or row
+	private double[] alpha=new double[16];
+	private double[] rho=new double[16];
+	private double[] rhs=new double[16];
+	private double[] cB=new double[16];
+
+	/** Status of the last solve **/
+	private Status status=Status.UNSOLVED;
+	/** Objective value of the last solve **/
+	private double objectiveValue=0;
+	/** Number of iterations performed during the last solve **/
+	private int iterations=0;
+	/** Maximum number of iterations per solve **/
+	private int maxIterations=Integer.MAX_VALUE;
+	/** Optimality tolerance used when pricing in phase 2 of the primal simplex. Phase 1 of the primal simplex and the dual simplex always use {@link #DUAL_TOLERANCE}. **/
+	private double pricingTolerance=DUAL_TOLERANCE;
+	/** Future point in time by which the current solve must be finished **/
+	private long timeLimit=Long.MAX_VALUE;
+	/** Number of consecutive degenerate iterations **/
+	private int nrDegenerateIterations=0;
+
+	/**
+	 * Creates a new (empty) minimization LP
+	 */
+	public RevisedSimplex(){
+		this(false);
+	}
+
+	/**
+	 * Creates a new (empty) LP
+	 * @param maximize true if the objective should be maximized, false if it should be minimized
+	 */
+	public RevisedSimplex(boolean maximize){
+		this.sense=(maximize ? -1 : 1);
+	}
+
+	//============= Model modification ====================
+
+	/**
+	 * Adds a new row {@code lower <= 0 <= upper} to the model without any non-zero coefficients. Coefficients are added through the columns
+	 * which are subsequently added to the model.
+	 * @param lower lower bound (may be {@code -INFINITY})
+	 * @param upper upper bound (may be {@code INFINITY})
+	 * @return index of the new row
+	 */
+	public int addRow(double lower, double upper){
+		return this.addRow(lower, upper, new int[0], new double[0]);
+	}
+
+	/**
+	 * Adds a new row {@code lower <= \sum_j coefs[j] x_{cols[j]} <= upper} to the model. The logical variable of the new row enters the basis, so the
+	 * current basis remains dual feasible.
+	 * @param lower lower bound (may be {@code -INFINITY})
+	 * @param upper upper bound (may be {@code INFINITY})
+	 * @param cols indices of the columns with a non-zero coefficient in this row
+	 * @param coefs coefficients
+	 * @return index of the new row
+	 * @throws IllegalArgumentException if a column index is out of range
+	 */
+	@Override
+	public int addRow(double lower, double upper, int[] cols, double[] coefs){
+		if(cols.length != coefs.length)
+			throw new IllegalArgumentException("The number of column indices and coefficients differ");
+		this.checkIndices(cols, 0, cols.length, nrColumns, "Column");
+		this.ensureRowCapacity(nrRows+1);
+		return this.addRow(lower, upper, cols, coefs, 0, cols.length);
+	}
+
+	/**
+	 * Adds a block of rows to the model. The logical variables of the new rows enter the basis, so the current basis remains dual feasible.
+	 * @param nrRows number of rows in the block
+	 * @param lower lower bounds of the rows (may be {@code -INFINITY})
+	 * @param upper upper bounds of the rows (may be {@code INFINITY})
+	 * @param rowStart start positions of the rows in {@code cols} and {@code coefs} ({@code nrRows+1} entries)
+	 * @param cols column indices of the non-zero coefficients
+	 * @param coefs non-zero coefficients
+	 * @return index of the first new row
+	 * @throws IllegalArgumentException if a column index is out of range
+	 */
+	@Override
+	public int addRows(int nrRows, double[] lower, double[] upper, int[] rowStart, int[] cols, double[] coefs){
+		if(cols.length != coefs.length)
+			throw new IllegalArgumentException("The number of column indices and coefficients differ");
+		this.checkIndices(cols, rowStart[0], rowStart[nrRows], nrColumns, "Column");
+		this.ensureRowCapacity(this.nrRows+nrRows);
+		int first=this.nrRows;
+		for(int k=0; k<nrRows; k++)
+			this.addRow(lower[k], upper[k], cols, coefs, rowStart[k], rowStart[k+1]);
+		return first;
+	}
+
+	/**
+	 * Adds a new row with the coefficients stored in positions {@code from, ..., to-1} of the arrays {@code cols} and {@code coefs}. The capacity of the row arrays
+	 * must be sufficient.
+	 */
+	private int addRow(double lower, double upper, int[] cols, double[] coefs, int from, int to){
+		if(lower > upper)
+			throw new IllegalArgumentException("Lower bound of row exceeds its upper bound");
+		int row=nrRows++;
+		rowLower[row]=lower;
+		rowUpper[row]=upper;
+		double activity=0;
+		for(int k=from; k<to; k++){
+			if(coefs[k] == 0) continue;
+			int j=cols[k];
+			if(colLen[j] == colIdx[j].length){
+				colIdx[j]=Arrays.copyOf(colIdx[j], Math.max(4, 2*colLen[j]));
+				colVal[j]=Arrays.copyOf(colVal[j], Math.max(4, 2*colLen[j]));
+			}
+			colIdx[j][colLen[j]]=row;
+			colVal[j][colLen[j]++]=coefs[k];
+			activity+=coefs[k]*x[j];
+		}
+		//The logical variable of the new row becomes basic
+		s[row]=activity;
+		rowStatus[row]=BASIC;
+		basis[row]=-(row+1);
+		dual[row]=0;
+		return row;
+	}
+
+	/**
+	 * Adds a new column to the model. The column is added as a non-basic variable at one of its bounds, so the current basis remains primal feasible.
+	 * @param cost objective coefficient
+	 * @param lower lower bound (may be {@code -INFINITY})
+	 * @param upper upper bound (may be {@code INFINITY})
+	 * @param rows indices of the rows in which the column has a non-zero coefficient
+	 * @param coefs coefficients
+	 * @return index of the new column
+	 * @throws IllegalArgumentException if a row index is out of range
+	 */
+	@Override
+	public int addColumn(double cost, double lower, double upper, int[] rows, double[] coefs){
+		if(rows.length != coefs.length)
+			throw new IllegalArgumentException("The number of row indices and coefficients differ");
+		this.checkIndices(rows, 0, rows.length, nrRows, "Row");
+		this.ensureColumnCapacity(nrColumns+1);
+		return this.addColumn(cost, lower, upper, rows, coefs, 0, rows.length);
+	}
+
+	/**
+	 * Adds a block of columns to the model. The columns are added as non-basic variables at one of their bounds, so the current basis remains primal feasible.
+	 * @param nrColumns number of columns in the block
+	 * @param cost objective coefficients of the columns
+	 * @param lower lower bounds of the columns (may be {@code -INFINITY})
+	 * @param upper upper bounds of the columns (may be {@code INFINITY})
+	 * @param colStart start positions of the columns in {@code rows} and {@code coefs} ({@code nrColumns+1} entries)
+	 * @param rows row indices of the non-zero coefficients
+	 * @param coefs non-zero coefficients
+	 * @return index of the first new column
+	 * @throws IllegalArgumentException if a row index is out of range
+	 */
+	@Override
+	public int addColumns(int nrColumns, double[] cost, double[] lower, double[] upper, int[] colStart, int[] rows, double[] coefs){
+		if(rows.length != coefs.length)
+			throw new IllegalArgumentException("The number of row indices and coefficients differ");
+		this.checkIndices(rows, colStart[0], colStart[nrColumns], nrRows, "Row");
+		this.ensureColumnCapacity(this.nrColumns+nrColumns);
+		int first=this.nrColumns;
+		for(int k=0; k<nrColumns; k++)
+			this.addColumn(cost[k], lower[k], upper[k], rows, coefs, colStart[k], colStart[k+1]);
+		return first;
+	}
+
+	/**
+	 * Adds a new column with the coefficients stored in positions {@code from, ..., to-1} of the arrays {@code rows} and {@code coefs}. The capacity of the column arrays
+	 * must be sufficient.
+	 */
+	private int addColumn(double cost, double lower, double upper, int[] rows, double[] coefs, int from, int to){
+		if(lower > upper)
+			throw new IllegalArgumentException("Lower bound of column exceeds its upper bound");
+		int j=nrColumns++;
+		this.cost[j]=cost;
+		colLower[j]=lower;
+		colUpper[j]=upper;
+		int nnz=0;
+		for(int k=from; k<to; k++)
+			if(coefs[k] != 0) nnz++;
+		colIdx[j]=new int[nnz];
+		colVal[j]=new double[nnz];
+		nnz=0;
+		for(int k=from; k<to; k++){
+			if(coefs[k] == 0) continue;
+			colIdx[j][nnz]=rows[k];
+			colVal[j][nnz++]=coefs[k];
+		}
+		colLen[j]=nnz;
+		colStatus[j]=this.nonbasicStatus(lower, upper);
+		x[j]=this.nonbasicValue(colStatus[j], lower, upper);
+		reducedCost[j]=0;
+		return j;
+	}
+
+	/**
+	 * Verifies that the indices stored in positions {@code from, ..., to-1} of the given array lie in the range {@code [0, n)}. The indices are verified before
+	 * the model is modified, so an invalid row or column is rejected without changing the model.
+	 * @param indices row or column indices
+	 * @param from first position to verify
+	 * @param to position after the last position to verify
+	 * @param n number of rows or columns
+	 * @param type type of the indices, used in the exception message
+	 * @throws IllegalArgumentException if an index is out of range
+	 */
+	private void checkIndices(int[] indices, int from, int to, int n, String type){
+		for(int k=from; k<to; k++)
+			if(indices[k] < 0 || indices[k] >= n)
+				throw new IllegalArgumentException(type+" index out of range: "+indices[k]);
+	}
+
+	/**
+	 * Removes a set of columns from the model. The remaining columns are renumbered consecutively, preserving their relative order. Removed basic columns
+	 * are replaced by logical variables during the next solve.
+	 * @param columns indices of the columns to be removed
+	 */
+	@Override
+	public void removeColumns(int[] columns){
+		boolean[] remove=new boolean[nrColumns];
+		for(int j : columns)
+			remove[j]=true;
+		int[] newIndex=new int[nrColumns];
+		int n=0;
+		for(int j=0; j<nrColumns; j++){
+			if(remove[j]){
+				newIndex[j]=-1;
+				continue;
+			}
+			newIndex[j]=n;
+			cost[n]=cost[j];
+			colLower[n]=colLower[j];
+			colUpper[n]=colUpper[j];
+			colIdx[n]=colIdx[j];
+			colVal[n]=colVal[j];
+			colLen[n]=colLen[j];
+			x[n]=x[j];
+			colStatus[n]=colStatus[j];
+			reducedCost[n]=reducedCost[j];
+			n++;
+		}
+		Arrays.fill(colIdx, n, nrColumns, null);
+		Arrays.fill(colVal, n, nrColumns, null);
+		nrColumns=n;
+		for(int i=0; i<nrRows; i++){
+			if(basis[i] >= 0 && basis[i] != REMOVED)
+				basis[i]=(remove[basis[i]] ? REMOVED : newIndex[basis[i]]);
+		}
+	}
+
+	/**
+	 * Changes the bounds of a column
+	 * @param col column index
+	 * @param lower lower bound (may be {@code -INFINITY})
+	 * @param upper upper bound (may be {@code INFINITY})
+	 */
+	@Override
+	public void setColumnBounds(int col, double lower, double upper){
+		if(lower > upper)
+			throw new IllegalArgumentException("Lower bound of column exceeds its upper bound");
+		colLower[col]=lower;
+		colUpper[col]=upper;
+		if(colStatus[col] != BASIC){
+			colStatus[col]=this.adjustNonbasicStatus(colStatus[col], lower, upper);
+			x[col]=this.nonbasicValue(colStatus[col], lower, upper);
+		}
+	}
+
+	/**
+	 * Changes the bounds of a row
+	 * @param row row index
+	 * @param lower lower bound (may be {@code -INFINITY})
+	 * @param upper upper bound (may be {@code INFINITY})
+	 */
+	@Override
+	public void setRowBounds(int row, double lower, double upper){
+		if(lower > upper)
+			throw new IllegalArgumentException("Lower bound of row exceeds its upper bound");
+		rowLower[row]=lower;
+		rowUpper[row]=upper;
+		if(rowStatus[row] != BASIC){
+			rowStatus[row]=this.adjustNonbasicStatus(rowStatus[row], lower, upper);
+			s[row]=this.nonbasicValue(rowStatus[row], lower, upper);
+		}
+	}
+
+	/**
+	 * Changes the objective coefficient of a column
+	 * @param col column index
+	 * @param cost new objective coefficient
+	 */
+	@Override
+	public void setCost(int col, double cost){
+		this.cost[col]=cost;
+	}
+
+	//============= Solve ====================
+
+	/**
+	 * Solves the LP, warm starting from the basis obtained during the previous invocation of this method (if any).
+	 * @param timeLimit Future point in time (in milliseconds) by which this method must be finished
+	 * @return status of the LP
+	 */
+	@Override
+	public Status solve(long timeLimit){
+		this.timeLimit=timeLimit;
+		iterations=0;
+		nrDegenerateIterations=0;
+
+		this.refactor();
+		if(this.isPrimalFeasible()){
+			status=this.primal(false);
+		}else if(this.makeDualFeasible()){
+			status=this.dual();
+			//Clean up with the primal simplex: this resolves small dual infeasibilities and verifies infeasibility claims of the dual simplex
+			if(status == Status.OPTIMAL || status == Status.INFEASIBLE || status == Status.UNSOLVED)
+				status=this.primal(!this.isPrimalFeasible());
+		}else{
+			status=this.primal(true);
+		}
+
+		//Compute the final primal and dual information
+		if(factorization.getNrUpdates() > 0)
+			this.refactor();
+		this.computeDuals(false);
+		objectiveValue=0;
+		for(int j=0; j<nrColumns; j++){
+			objectiveValue+=cost[j]*x[j];
+			reducedCost[j]=sense*this.reducedCost(j);
+		}
+		for(int i=0; i<nrRows; i++)
+			dual[i]=sense*rho[i];
+		return status;
+	}
+
+	/**
+	 * Solves the LP without a time limit
+	 * @return status of the LP
+	 */
+	public Status solve(){
+		return this.solve(Long.MAX_VALUE);
+	}
+
+	/**
+	 * Primal simplex
+	 * @param phase1 indicates whether the primal simplex starts in phase 1 (basis is not primal feasible).
+	 * @return status
+	 */
+	private Status primal(boolean phase1){
+		if(phase1){
+			Status phase1Status=this.primalIterations(true);
+			if(phase1Status != Status.OPTIMAL)
+				return phase1Status;
+		}
+		return this.primalIterations(false);
+	}
+
+	/**
+	 * Performs primal simplex iterations until optimality, (in)feasibility or unboundedness is established.
+	 * @param phase1 true if the sum of infeasibilities is minimized, false if the actual objective is minimized
+	 * @return status. In phase 1, the status OPTIMAL indicates that a feasible basis has been found.
+	 */
+	private Status primalIterations(boolean phase1){
+		//A loose tolerance in phase 1 could terminate phase 1 before a feasible basis is found, thereby incorrectly classifying the LP as infeasible
+		double tolerance=(phase1 ? DUAL_TOLERANCE : pricingTolerance);
+		while(true){
+			Status limitStatus=this.checkLimits();
+			if(limitStatus != null)
+				return limitStatus;
+			if(phase1 && this.isPrimalFeasible())
+				return Status.OPTIMAL;
+
+			//Pricing: select entering variable
+			this.computeDuals(phase1);
+			boolean bland=nrDegenerateIterations >= DEGENERACY_THRESHOLD;
+			int entering=Integer.MIN_VALUE;
+			double bestScore=0;
+			double enteringReducedCost=0;
+			for(int v=-nrRows; v<nrColumns; v++){
+				int st=this.status(v);
+				if(st == BASIC || this.lower(v) == this.upper(v)) continue;
+				double d=(phase1 ? 0 : this.cost(v))-this.dotProduct(v, rho);
+				boolean eligible=(st == AT_LOWER && d < -tolerance) || (st == AT_UPPER && d > tolerance) || (st == AT_ZERO && Math.abs(d) > tolerance);
+				if(!eligible) continue;
+				if(bland){
+					entering=v;
+					enteringReducedCost=d;
+					break;
+				}else if(Math.abs(d) > bestScore){
+					bestScore=Math.abs(d);
+					entering=v;
+					enteringReducedCost=d;
+				}
+			}
+			if(entering == Integer.MIN_VALUE) //No improving column
+				return (phase1 ? Status.INFEASIBLE : Status.OPTIMAL);
+
+			double dir=(enteringReducedCost < 0 ? 1 : -1);
+			this.ftran(entering, alpha);
+
+			//Harris ratio test, pass 1: determine the maximum step size using relaxed bounds
+			double thetaMax=Double.POSITIVE_INFINITY;
+			for(int i=0; i<nrRows; i++){
+				double delta=-dir*alpha[i];
+				if(Math.abs(delta) < PIVOT_TOLERANCE) continue;
+				double bound=this.blockingBound(basis[i], delta, phase1);
+				if(Double.isNaN(bound)) continue;
+				double relaxedRatio=(delta > 0 ? (bound+PRIMAL_TOLERANCE-this.value(basis[i]))/delta : (bound-PRIMAL_TOLERANCE-this.value(basis[i]))/delta);
+				thetaMax=Math.min(thetaMax, relaxedRatio);
+			}
+			//Harris ratio test, pass 2: among the candidates, select the one with the largest pivot element
+			int leaving=-1;
+			double leavingBound=0;
+			double theta=Double.POSITIVE_INFINITY;
+			double largestPivot=0;
+			for(int i=0; i<nrRows; i++){
+				double delta=-dir*alpha[i];
+				if(Math.abs(delta) < PIVOT_TOLERANCE) continue;
+				double bound=this.blockingBound(basis[i], delta, phase1);
+				if(Double.isNaN(bound)) continue;
+				double ratio=(bound-this.value(basis[i]))/delta;
+				if(ratio <= thetaMax && (bland ? leaving == -1 || basis[i] < basis[leaving] : Math.abs(delta) > largestPivot)){
+					leaving=i;
+					leavingBound=bound;
+					largestPivot=Math.abs(delta);
+					theta=Math.max(ratio, 0);
+				}
+			}
+
+			//Check whether the entering variable reaches its opposite bound first
+			double range=this.upper(entering)-this.lower(entering);
+			boolean boundFlip=range < INFINITY && range <= theta;
+			if(leaving == -1 && !boundFlip){
+				if(phase1) //Should not happen in phase 1; the basis must be numerically troublesome
+					return Status.INFEASIBLE;
+				return Status.UNBOUNDED;
+			}
+			if(boundFlip)
+				theta=range;
+
+			//Update primal values
+			this.setValue(entering, this.value(entering)+dir*theta);
+			for(int i=0; i<nrRows; i++)
+				this.setValue(basis[i], this.value(basis[i])-dir*theta*alpha[i]);
+			nrDegenerateIterations=(theta <= PRIMAL_TOLERANCE ? nrDegenerateIterations+1 : 0);
+			iterations++;
+
+			if(boundFlip){
+				this.setStatus(entering, this.status(entering) == AT_LOWER ? AT_UPPER : AT_LOWER);
+				this.setValue(entering, this.status(entering) == AT_LOWER ? this.lower(entering) : this.upper(entering));
+			}else{
+				int leavingVar=basis[leaving];
+				this.setValue(leavingVar, leavingBound);
+				this.setStatus(leavingVar, leavingBound == this.upper(leavingVar) && leavingBound != this.lower(leavingVar) ? AT_UPPER : AT_LOWER);
+				this.pivot(leaving, entering);
+			}
+		}
+	}
+
+	/**
+	 * Dual simplex. The current basis must be dual feasible.
+	 * @return status. The status INFEASIBLE indicates that the primal problem is infeasible. The status UNSOLVED indicates that the dual simplex
+	 * gave up (e.g. due to stalling), in which case the primal simplex should take over.
+	 */
+	private Status dual(){
+		int nrNumericalRestarts=0;
+		int maxDualIterations=iterations+10*(nrRows+nrColumns)+1000;
+		while(true){
+			Status limitStatus=this.checkLimits();
+			if(limitStatus != null)
+				return limitStatus;
+			if(iterations >= maxDualIterations)
+				return Status.UNSOLVED;
+
+			//Select the leaving variable: the basic variable with the largest infeasibility
+			int leaving=-1;
+			double largestInfeasibility=PRIMAL_TOLERANCE;
+			for(int i=0; i<nrRows; i++){
+				double infeasibility=this.infeasibility(basis[i]);
+				if(infeasibility > largestInfeasibility){
+					largestInfeasibility=infeasibility;
+					leaving=i;
+				}
+			}
+			if(leaving == -1)
+				return Status.OPTIMAL;
+			int leavingVar=basis[leaving];
+			boolean toLower=this.value(leavingVar) < this.lower(leavingVar);
+			double target=(toLower ? this.lower(leavingVar) : this.upper(leavingVar));
+
+			//Compute row 'leaving' of B^-1 N, and the reduced costs
+			Arrays.fill(rhs, 0, nrRows, 0);
+			rhs[leaving]=1;
+			factorization.btran(rhs, alpha); //alpha is used as temporary storage for the row of B^-1
+			this.computeDuals(false);
+
+			//Harris ratio test, pass 1
+			double thetaMax=Double.POSITIVE_INFINITY;
+			for(int v=-nrRows; v<nrColumns; v++){
+				int st=this.status(v);
+				if(st == BASIC || this.lower(v) == this.upper(v)) continue;
+				double alphaR=this.dotProduct(v, alpha);
+				if(!this.isDualEligible(st, alphaR, toLower)) continue;
+				double d=this.cost(v)-this.dotProduct(v, rho);
+				thetaMax=Math.min(thetaMax, (Math.abs(d)+DUAL_TOLERANCE)/Math.abs(alphaR));
+			}
+			//Harris ratio test, pass 2
+			int entering=Integer.MIN_VALUE;
+			double enteringAlphaR=0;
+			for(int v=-nrRows; v<nrColumns; v++){
+				int st=this.status(v);
+				if(st == BASIC || this.lower(v) == this.upper(v)) continue;
+				double alphaR=this.dotProduct(v, alpha);
+				if(!this.isDualEligible(st, alphaR, toLower)) continue;
+				double d=this.cost(v)-this.dotProduct(v, rho);
+				if(Math.abs(d)/Math.abs(alphaR) <= thetaMax && Math.abs(alphaR) > Math.abs(enteringAlphaR)){
+					entering=v;
+					enteringAlphaR=alphaR;
+				}
+			}
+			if(entering == Integer.MIN_VALUE) //Dual unbounded, hence primal infeasible
+				return Status.INFEASIBLE;
+
+			//Compute the entering column and verify numerical consistency
+			this.ftran(entering, alpha);
+			if(Math.abs(alpha[leaving]-enteringAlphaR) > 1e-7*(1+Math.abs(enteringAlphaR))){
+				if(nrNumericalRestarts++ < 10 && factorization.getNrUpdates() > 0){
+					this.refactor();
+					continue;
+				}
+			}
+
+			//Update primal values
+			double t=(this.value(leavingVar)-target)/alpha[leaving];
+			this.setValue(entering, this.value(entering)+t);
+			for(int i=0; i<nrRows; i++)
+				this.setValue(basis[i], this.value(basis[i])-t*alpha[i]);
+			this.setValue(leavingVar, target);
+			this.setStatus(leavingVar, toLower ? AT_LOWER : AT_UPPER);
+			iterations++;
+			this.pivot(leaving, entering);
+		}
+	}
+
+	/**
+	 * Tests whether a nonbasic variable is a candidate to enter the basis in the dual ratio test
+	 * @param status status of the nonbasic variable
+	 * @param alphaR coefficient of the variable in the pivot row
+	 * @param increase true if the leaving variable must increase
+	 * @return true if the variable is a candidate
+	 */
+	private boolean isDualEligible(int status, double alphaR, boolean increase){
+		if(Math.abs(alphaR) < PIVOT_TOLERANCE)
+			return false;
+		if(status == AT_ZERO)
+			return true;
+		//An increase of a nonbasic variable by t changes the leaving variable by -t*alphaR
+		if(increase)
+			return (status == AT_LOWER && alphaR < 0) || (status == AT_UPPER && alphaR > 0);
+		else
+			return (status == AT_LOWER && alphaR > 0) || (status == AT_UPPER && alphaR < 0);
+	}
+
+	/**
+	 * Tries to make the current basis dual feasible by moving boxed nonbasic variables to their opposite bound.
+	 * @return true if the basis is dual feasible.
+	 */
+	private boolean makeDualFeasible(){
+		this.computeDuals(false);
+		boolean dualFeasible=true;
+		boolean flipped=false;
+		for(int v=-nrRows; v<nrColumns && dualFeasible; v++){
+			int st=this.status(v);
+			if(st == BASIC || this.lower(v) == this.upper(v)) continue;
+			double d=this.cost(v)-this.dotProduct(v, rho);
+			if(st == AT_LOWER && d < -DUAL_TOLERANCE){
+				if(this.upper(v) < INFINITY){
+					this.setStatus(v, AT_UPPER);
+					this.setValue(v, this.upper(v));
+					flipped=true;
+				}else
+					dualFeasible=false;
+			}else if(st == AT_UPPER && d > DUAL_TOLERANCE){
+				if(this.lower(v) > -INFINITY){
+					this.setStatus(v, AT_LOWER);
+					this.setValue(v, this.lower(v));
+					flipped=true;
+				}else
+					dualFeasible=false;
+			}else if(st == AT_ZERO && Math.abs(d) > DUAL_TOLERANCE){
+				dualFeasible=false;
+			}
+		}
+		if(flipped)
+			this.computePrimalValues();
+		return dualFeasible;
+	}
+
+	//============= Basis handling ====================
+
+	/**
+	 * Replaces the variable at the given basis position by the entering variable and updates the factorization.
+	 * @param position basis position of the leaving variable
+	 * @param entering entering variable; {@link #alpha} must contain its ftran-ed column.
+	 */
+	private void pivot(int position, int entering){
+		basis[position]=entering;
+		this.setStatus(entering, BASIC);
+		factorization.update(position, alpha);
+		if(factorization.getNrUpdates() >= REFACTORIZATION_FREQUENCY)
+			this.refactor();
+	}
+
+	/**
+	 * Refactorizes the basis matrix, and recomputes the values of the basic variables. A singular basis is repaired by replacing the offending
+	 * columns with logical variables. If no logical variable is available to repair the basis, the solve restarts from the slack basis, which
+	 * consists of the logical variables only and is never singular.
+	 */
+	private void refactor(){
+		int[][] idx=new int[nrRows][];
+		double[][] val=new double[nrRows][];
+		int[] len=new int[nrRows];
+		while(true){
+			for(int i=0; i<nrRows; i++){
+				int v=basis[i];
+				if(v == REMOVED){
+					idx[i]=new int[0];
+					val[i]=new double[0];
+					len[i]=0;
+				}else if(v >= 0){
+					idx[i]=colIdx[v];
+					val[i]=colVal[v];
+					len[i]=colLen[v];
+				}else{
+					idx[i]=new int[]{-v-1};
+					val[i]=new double[]{-1};
+					len[i]=1;
+				}
+			}
+			if(factorization.factor(nrRows, idx, val, len))
+				break;
+
+			//Repair the basis: replace the offending variable by the logical variable of a row which has not been pivoted
+			int position=factorization.getSingularPosition();
+			int replacement=-1;
+			for(int i=0; i<nrRows && replacement == -1; i++)
+				if(!factorization.isPivotRow(i) && rowStatus[i] != BASIC)
+					replacement=i;
+			if(replacement == -1){
+				this.resetToSlackBasis();
+				continue;
+			}
+			int leavingVar=basis[position];
+			if(leavingVar != REMOVED){
+				this.setStatus(leavingVar, this.nonbasicStatus(this.lower(leavingVar), this.upper(leavingVar)));
+				this.setValue(leavingVar, this.nonbasicValue(this.status(leavingVar), this.lower(leavingVar), this.upper(leavingVar)));
+			}
+			basis[position]=-(replacement+1);
+			rowStatus[replacement]=BASIC;
+		}
+		this.computePrimalValues();
+	}
+
+	/**
+	 * Replaces the basis by the slack basis: all columns become nonbasic at one of their bounds, and the logical variable of every row becomes basic.
+	 */
+	private void resetToSlackBasis(){
+		for(int i=0; i<nrRows; i++){
+			int v=basis[i];
+			if(v >= 0 && v != REMOVED){
+				colStatus[v]=this.nonbasicStatus(colLower[v], colUpper[v]);
+				x[v]=this.nonbasicValue(colStatus[v], colLower[v], colUpper[v]);
+			}
+			basis[i]=-(i+1);
+			rowStatus[i]=BASIC;
+		}
+	}
+
+	/**
+	 * Computes the values of the basic variables from the values of the nonbasic variables: {@code x_B = -B^-1 N x_N}
+	 */
+	private void computePrimalValues(){
+		Arrays.fill(rhs, 0, nrRows, 0);
+		for(int j=0; j<nrColumns; j++){
+			if(colStatus[j] == BASIC || x[j] == 0) continue;
+			for(int k=0; k<colLen[j]; k++)
+				rhs[colIdx[j][k]]-=colVal[j][k]*x[j];
+		}
+		for(int i=0; i<nrRows; i++)
+			if(rowStatus[i] != BASIC)
+				rhs[i]+=s[i];
+		factorization.ftran(rhs, alpha);
+		for(int i=0; i<nrRows; i++)
+			this.setValue(basis[i], alpha[i]);
+	}
+
+	/**
+	 * Computes the simplex multipliers {@code y^T = c_B^T B^-1}, and stores them in {@link #rho}.
+	 * @param phase1 if true, the phase 1 costs are used (-1 for basic variables below their lower bound, 1 for basic variables above their upper bound), otherwise
+	 * the actual costs are used.
+	 */
+	private void computeDuals(boolean phase1){
+		for(int i=0; i<nrRows; i++){
+			int v=basis[i];
+			if(phase1){
+				double value=this.value(v);
+				cB[i]=(value < this.lower(v)-PRIMAL_TOLERANCE ? -1 : (value > this.upper(v)+PRIMAL_TOLERANCE ? 1 : 0));
+			}else{
+				cB[i]=this.cost(v);
+			}
+		}
+		factorization.btran(cB, rho);
+	}
+
+	/**
+	 * Computes {@code B^-1 a_v}, where {@code a_v} is the column of variable v
+	 * @param v variable
+	 * @param result array in which the result is stored
+	 */
+	private void ftran(int v, double[] result){
+		Arrays.fill(rhs, 0, nrRows, 0);
+		if(v >= 0){
+			for(int k=0; k<colLen[v]; k++)
+				rhs[colIdx[v][k]]=colVal[v][k];
+		}else{
+			rhs[-v-1]=-1;
+		}
+		factorization.ftran(rhs, result);
+	}
+
+	/**
+	 * Computes the inner product of the column of variable v with the given vector (indexed by row)
+	 * @param v variable
+	 * @param y vector
+	 * @return inner product
+	 */
+	private double dotProduct(int v, double[] y){
+		if(v < 0)
+			return -y[-v-1];
+		double result=0;
+		for(int k=0; k<colLen[v]; k++)
+			result+=colVal[v][k]*y[colIdx[v][k]];
+		return result;
+	}
+
+	/**
+	 * Computes the (internal) reduced cost of a column, using the multipliers stored in {@link #rho}
+	 * @param j column
+	 * @return reduced cost
+	 */
+	private double reducedCost(int j){
+		return (colStatus[j] == BASIC ? 0 : this.cost(j)-this.dotProduct(j, rho));
+	}
+
+	/**
+	 * Returns the bound which blocks a basic variable when it changes in the given direction, or NaN if the variable is not blocked.
+	 * @param v basic variable
+	 * @param delta direction of change
+	 * @param phase1 indicates whether the primal simplex is in phase 1. In phase 1, basic variables which are infeasible are blocked by the bound they violate.
+	 * @return blocking bound
+	 */
+	private double blockingBound(int v, double delta, boolean phase1){
+		double value=this.value(v);
+		double bound;
+		if(delta > 0){
+			if(phase1 && value < this.lower(v)-PRIMAL_TOLERANCE)
+				bound=this.lower(v);
+			else if(phase1 && value > this.upper(v)+PRIMAL_TOLERANCE)
+				return Double.NaN;
+			else
+				bound=this.upper(v);
+		}else{
+			if(phase1 && value > this.upper(v)+PRIMAL_TOLERANCE)
+				bound=this.upper(v);
+			else if(phase1 && value < this.lower(v)-PRIMAL_TOLERANCE)
+				return Double.NaN;
+			else
+				bound=this.lower(v);
+		}
+		return (Math.abs(bound) >= INFINITY ? Double.NaN : bound);
+	}
+
+	/**
+	 * Checks whether the iteration or time limit has been reached
+	 * @return null if no limit has been reached, the corresponding status otherwise
+	 */
+	private Status checkLimits(){
+		if(iterations >= maxIterations)
+			return Status.ITERATION_LIMIT;
+		if(iterations % 100 == 0 && System.currentTimeMillis() >= timeLimit)
+			return Status.TIME_LIMIT;
+		return null;
+	}
+
+	/**
+	 * Returns whether all basic variables are within their bounds
+	 * @return true if the current basis is primal feasible
+	 */
+	private boolean isPrimalFeasible(){
+		for(int i=0; i<nrRows; i++)
+			if(this.infeasibility(basis[i]) > PRIMAL_TOLERANCE)
+				return false;
+		return true;
+	}
+
+	/**
+	 * Returns the amount by which a variable violates its bounds
+	 * @param v variable
+	 * @return bound violation
+	 */
+	private double infeasibility(int v){
+		double value=this.value(v);
+		return Math.max(0, Math.max(this.lower(v)-value, value-this.upper(v)));
+	}
+
+	//============= Variable access ====================
+
+	private double value(int v){
+		return (v >= 0 ? x[v] : s[-v-1]);
+	}
+
+	private void setValue(int v, double value){
+		if(v >= 0) x[v]=value;
+		else s[-v-1]=value;
+	}
+
+	private double lower(int v){
+		double lower=(v >= 0 ? colLower[v] : rowLower[-v-1]);
+		return (lower <= -INFINITY ? Double.NEGATIVE_INFINITY : lower);
+	}
+
+	private double upper(int v){
+		double upper=(v >= 0 ? colUpper[v] : rowUpper[-v-1]);
+		return (upper >= INFINITY ? Double.POSITIVE_INFINITY : upper);
+	}
+
+	private double cost(int v){
+		return (v >= 0 ? sense*cost[v] : 0);
+	}
+
+	private int status(int v){
+		return (v >= 0 ? colStatus[v] : rowStatus[-v-1]);
+	}
+
+	private void setStatus(int v, int status){
+		if(v >= 0) colStatus[v]=status;
+		else rowStatus[-v-1]=status;
+	}
+
+	/**
+	 * Determines the status of a nonbasic variable with the given bounds
+	 */
+	private int nonbasicStatus(double lower, double upper){
+		if(lower > -INFINITY) return AT_LOWER;
+		else if(upper < INFINITY) return AT_UPPER;
+		else return AT_ZERO;
+	}
+
+	/**
+	 * Adjusts the status of a nonbasic variable after its bounds have changed
+	 */
+	private int adjustNonbasicStatus(int status, double lower, double upper){
+		if(status == AT_LOWER && lower > -INFINITY || status == AT_UPPER && upper < INFINITY)
+			return status;
+		return this.nonbasicStatus(lower, upper);
+	}
+
+	/**
+	 * Returns the value of a nonbasic variable with the given status
+	 */
+	private double nonbasicValue(int status, double lower, double upper){
+		return (status == AT_LOWER ? lower : (status == AT_UPPER ? upper : 0));
+	}
+
+	private void ensureColumnCapacity(int capacity){
+		if(capacity <= cost.length) return;
+		int newCapacity=Math.max(capacity, 2*cost.length);
+		cost=Arrays.copyOf(cost, newCapacity);
+		colLower=Arrays.copyOf(colLower, newCapacity);
+		colUpper=Arrays.copyOf(colUpper, newCapacity);
+		colIdx=Arrays.copyOf(colIdx, newCapacity);
+		colVal=Arrays.copyOf(colVal, newCapacity);
+		colLen=Arrays.copyOf(colLen, newCapacity);
+		x=Arrays.copyOf(x, newCapacity);
+		colStatus=Arrays.copyOf(colStatus, newCapacity);
+		reducedCost=Arrays.copyOf(reducedCost, newCapacity);
+	}
+
+	private void ensureRowCapacity(int capacity){
+		if(capacity <= rowLower.length) return;
+		int newCapacity=Math.max(capacity, 2*rowLower.length);
+		rowLower=Arrays.copyOf(rowLower, newCapacity);
+		rowUpper=Arrays.copyOf(rowUpper, newCapacity);
+		s=Arrays.copyOf(s, newCapacity);
+		rowStatus=Arrays.copyOf(rowStatus, newCapacity);
+		dual=Arrays.copyOf(dual, newCapacity);
+		basis=Arrays.copyOf(basis, newCapacity);
+		alpha=Arrays.copyOf(alpha, newCapacity);
+		rho=Arrays.copyOf(rho, newCapacity);
+		rhs=Arrays.copyOf(rhs, newCapacity);
+		cB=Arrays.copyOf(cB, newCapacity);
+	}
+
+	/**
+	 * Writes the model to a file in (CPLEX) LP format. Columns are named x0, x1, ..., rows are named r0, r1, .... Ranged rows are written as two separate rows.
+	 * @param fileName name of the file
+	 * @throws IOException if the file cannot be written
+	 */
+	@Override
+	public void exportModel(String fileName) throws IOException{
+		//Construct a row-wise representation of the constraint matrix
+		List<List<Integer>> rowCols=new ArrayList<>(nrRows);
+		List<List<Double>> rowCoefs=new ArrayList<>(nrRows);
+		for(int i=0; i<nrRows; i++){
+			rowCols.add(new ArrayList<>());
+			rowCoefs.add(new ArrayList<>());
+		}
+		for(int j=0; j<nrColumns; j++){
+			for(int k=0; k<colLen[j]; k++){
+				rowCols.get(colIdx[j][k]).add(j);
+				rowCoefs.get(colIdx[j][k]).add(colVal[j][k]);
+			}
+		}
+
+		try(BufferedWriter writer=new BufferedWriter(new FileWriter(fileName))){
+			writer.write(sense > 0 ? "Minimize" : "Maximize");
+			writer.newLine();
+			StringBuilder objective=new StringBuilder(" obj:");
+			for(int j=0; j<nrColumns; j++)
+				if(cost[j] != 0) objective.append(cost[j] > 0 ? " + " : " - ").append(Math.abs(cost[j])).append(" x").append(j);
+			writer.write(objective.toString());
+			writer.newLine();
+			writer.write("Subject To");
+			writer.newLine();
+			for(int i=0; i<nrRows; i++){
+				StringBuilder lhs=new StringBuilder();
+				for(int k=0; k<rowCols.get(i).size(); k++){
+					double coef=rowCoefs.get(i).get(k);
+					lhs.append(coef > 0 ? " + " : " - ").append(Math.abs(coef)).append(" x").append(rowCols.get(i).get(k));
+				}
+				if(lhs.length() == 0) lhs.append(" 0 x0");
+				if(rowLower[i] == rowUpper[i]){
+					writer.write(" r"+i+":"+lhs+" = "+rowLower[i]);
+					writer.newLine();
+				}else{
+					if(rowLower[i] > -INFINITY){
+						writer.write(" r"+i+(rowUpper[i] < INFINITY ? "_lb:" : ":")+lhs+" >= "+rowLower[i]);
+						writer.newLine();
+					}
+					if(rowUpper[i] < INFINITY){
+						writer.write(" r"+i+(rowLower[i] > -INFINITY ? "_ub:" : ":")+lhs+" <= "+rowUpper[i]);
+						writer.newLine();
+					}
+				}
+			}
+			writer.write("Bounds");
+			writer.newLine();
+			for(int j=0; j<nrColumns; j++){
+				if(colLower[j] <= -INFINITY && colUpper[j] >= INFINITY)
+					writer.write(" x"+j+" free");
+				else
+					writer.write(" "+(colLower[j] <= -INFINITY ? "-inf" : colLower[j])+" <= x"+j+" <= "+(colUpper[j] >= INFINITY ? "+inf" : colUpper[j]));
+				writer.newLine();
+			}
+			writer.write("End");
+			writer.newLine();
+		}
+	}
+
+	//============= Solution access ====================
+
+	/**
+	 * Sets the maximum number of simplex iterations per invocation of {@link #solve(long)}
+	 * @param maxIterations maximum number of iterations
+	 */
+	public void setMaxIterations(int maxIterations){
+		this.maxIterations=maxIterations;
+	}
+
+	/**
+	 * Sets the optimality tolerance, i.e. the largest violation of the reduced cost optimality conditions which is accepted in an optimal solution. The tolerance
+	 * only affects the pricing step in phase 2 of the primal simplex: feasibility is always established with the default tolerance, so a loose tolerance never
+	 * causes a feasible LP to be reported as infeasible.
+	 * @param tolerance optimality tolerance; tolerances smaller than the default tolerance (including 0) restore the default tolerance
+	 */
+	@Override
+	public void setOptimalityTolerance(double tolerance){
+		this.pricingTolerance=Math.max(tolerance, DUAL_TOLERANCE);
+	}
+
+	/**
+	 * Returns the status of the last solve
+	 * @return the status of the last solve
+	 */
+	public Status getStatus(){
+		return status;
+	}
+
+	/**
+	 * Returns the objective value of the current solution
+	 * @return the objective value of the current solution
+	 */
+	@Override
+	public double getObjectiveValue(){
+		return objectiveValue;
+	}
+
+	/**
+	 * Returns the value of a column in the current solution
+	 * @param col column index
+	 * @return value of the column
+	 */
+	@Override
+	public double getValue(int col){
+		return x[col];
+	}
+
+	/**
+	 * Returns the values of all columns in the current solution
+	 * @return the values of all columns
+	 */
+	@Override
+	public double[] getValues(){
+		return Arrays.copyOf(x, nrColumns);
+	}
+
+	/**
+	 * Returns the dual value of a row. For a minimization problem, the dual value of a binding {@code >=} row is non-negative and the dual
+	 * value of a binding {@code <=} row is non-positive. The reduced cost of a column j equals {@code c_j - \sum_i a_ij dual_i}.
+	 * @param row row index
+	 * @return dual value
+	 */
+	@Override
+	public double getDual(int row){
+		return dual[row];
+	}
+
+	/**
+	 * Returns the dual values of all rows
+	 * @return the dual values of all rows
+	 */
+	@Override
+	public double[] getDuals(){
+		return Arrays.copyOf(dual, nrRows);
+	}
+
+	/**
+	 * Returns the reduced cost of a column
+	 * @param col column index
+	 * @return reduced cost
+	 */
+	@Override
+	public double getReducedCost(int col){
+		return reducedCost[col];
+	}
+
+	/**
+	 * Returns the activity {@code \sum_j a_ij x_j} of a row in the current solution
+	 * @param row row index
+	 * @return row activity
+	 */
+	public double getRowActivity(int row){
+		return s[row];
+	}
+
+	/**
+	 * Returns the number of simplex iterations performed during the last solve
+	 * @return the number of simplex iterations performed during the last solve
+	 */
+	public int getIterationCount(){
+		return iterations;
+	}
+
+	/**
+	 * Returns the lower bound of a column
+	 * @param col column index
+	 * @return lower bound
+	 */
+	public double getColumnLowerBound(int col){
+		return colLower[col];
+	}
+
+	/**
+	 * Returns the upper bound of a column
+	 * @param col column index
+	 * @return upper bound
+	 */
+	public double getColumnUpperBound(int col){
+		return colUpper[col];
+	}
+
+	/**
+	 * Returns the lower bound of a row
+	 * @param row row index
+	 * @return lower bound
+	 */
+	public double getRowLowerBound(int row){
+		return rowLower[row];
+	}
+
+	/**
+	 * Returns the upper bound of a row
+	 * @param row row index
+	 * @return upper bound
+	 */
+	public double getRowUpperBound(int row){
+		return rowUpper[row];
+	}
+
+	/**
+	 * Returns whether the objective is maximized
+	 * @return true if the objective is maximized, false if it is minimized
+	 */
+	@Override
+	public boolean isMaximization(){
+		return sense < 0;
+	}
+
+	/**
+	 * Returns the number of columns
+	 * @return the number of columns
+	 */
+	@Override
+	public int getNrColumns(){
+		return nrColumns;
+	}
+
+	/**
+	 * Returns the number of rows
+	 * @return the number of rows
+	 */
+	@Override
+	public int getNrRows(){
+		return nrRows;
+	}
+
+	/**
+	 * The LP does not hold any external resources; this method does nothing.
+	 */
+	@Override
+	public void close(){
+	}
+}
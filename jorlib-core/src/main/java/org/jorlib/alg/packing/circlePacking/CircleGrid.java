@@ -0,0 +1,448 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CircleGrid.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.packing.circlePacking;
+
+import java.util.Arrays;
+
+/**
+ * Spatial index over a fixed set of circles 0, 1, ..., n-1, which answers overlap and neighbour queries without comparing all pairs of circles.<p>
+ *
+ * The plane is divided into square cells with a side of twice the largest radius, so two circles can only overlap if their centers lie in the
+ * same or in adjacent cells. The circles of a cell are kept in an intrusive doubly linked list; the non-empty cells are stored in a hash table
+ * keyed by the cell coordinates, so the grid is unbounded. Moving a circle takes constant time; a neighbour query inspects the 3x3 block of
+ * cells around the circle.<p>
+ *
+ * A circle is either present in the grid or absent (e.g. because it has not been placed yet); queries only report circles which are present.
+ * The coordinates and radii are kept in primitive arrays, which {@link SmallestEnclosingCircleCalculator#calcContainer(CircleGrid)} uses
+ * directly, so the grid can be shared by the container calculator and the packing heuristics.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+public class CircleGrid {
+
+	/** Number of circles **/
+	private final int n;
+	/** x-coordinates of the circles **/
+	final double[] xCors;
+	/** y-coordinates of the circles **/
+	final double[] yCors;
+	/** radii of the circles **/
+	final double[] radii;
+	/** Largest radius **/
+	private final double maxRadius;
+	/** Side of a cell **/
+	private final double cellSize;
+	/** Number of circles present in the grid **/
+	private int nrPresent=0;
+
+	/** Slot in the hash table of the cell containing the circle, or -1 if the circle is absent **/
+	private final int[] slotOf;
+	/** Next circle in the same cell, or -1 **/
+	private final int[] next;
+	/** Previous circle in the same cell, or -1 **/
+	private final int[] previous;
+
+	/** Cell keys of the hash table **/
+	private long[] keys;
+	/** First circle of every cell in the hash table, or -1 if the cell is empty **/
+	private int[] heads;
+	/** Indicates which slots of the hash table are used **/
+	private boolean[] used;
+	/** Number of used slots **/
+	private int nrUsedSlots=0;
+	/** Number of bits of the hash values **/
+	private int hashBits;
+
+	/**
+	 * Creates a new grid for circles with the given radii. Initially, no circle is present.
+	 * @param radii radii of the circles (must be strictly positive)
+	 */
+	public CircleGrid(double[] radii){
+		this.n=radii.length;
+		double max=0;
+		for(double radius : radii){
+			if(!(radius > 0) || Double.isInfinite(radius))
+				throw new IllegalArgumentException("Radii must be strictly positive: "+radius);
+			max=Math.max(max, radius);
+		}
+		this.radii=radii.clone();
+		this.maxRadius=max;
+		this.cellSize=2*max;
+		this.xCors=new double[n];
+		this.yCors=new double[n];
+		this.slotOf=new int[n];
+		this.next=new int[n];
+		this.previous=new int[n];
+		Arrays.fill(slotOf, -1);
+		hashBits=4;
+		while((1 << hashBits) < 4*n)
+			hashBits++;
+		this.allocateTable();
+	}
+
+	/**
+	 * Creates a new grid in which all circles are present
+	 * @param xCors x-coordinates of the circles
+	 * @param yCors y-coordinates of the circles
+	 * @param radii radii of the circles (must be strictly positive)
+	 */
+	public CircleGrid(double[] xCors, double[] yCors, double[] radii){
+		this(radii);
+		for(int i=0; i<n; i++)
+			this.insertCircle(i, xCors[i], yCors[i]);
+	}
+
+	/**
+	 * Inserts a circle into the grid at the given position. If the circle is already present, it is moved.
+	 * @param i circle
+	 * @param xCor x-coordinate of the circle
+	 * @param yCor y-coordinate of the circle
+	 */
+	public void insertCircle(int i, double xCor, double yCor){
+		if(slotOf[i] != -1){
+			this.moveCircle(i, xCor, yCor);
+			return;
+		}
+		xCors[i]=xCor;
+		yCors[i]=yCor;
+		nrPresent++;
+		this.link(i, this.findSlot(this.cellKey(xCor, yCor), true));
+	}
+
+	/**
+	 * Removes a circle from the grid
+	 * @param i circle
+	 */
+	public void removeCircle(int i){
+		if(slotOf[i] == -1)
+			return;
+		this.unlink(i);
+		nrPresent--;
+	}
+
+	/**
+	 * Moves a circle which is present in the grid to a new position
+	 * @param i circle
+	 * @param xCor new x-coordinate of the circle
+	 * @param yCor new y-coordinate of the circle
+	 */
+	public void moveCircle(int i, double xCor, double yCor){
+		if(slotOf[i] == -1)
+			throw new IllegalArgumentException("Circle "+i+" is not present in the grid");
+		xCors[i]=xCor;
+		yCors[i]=yCor;
+		long key=this.cellKey(xCor, yCor);
+		if(keys[slotOf[i]] == key) //Circle remains in the same cell
+			return;
+		this.unlink(i);
+		this.link(i, this.findSlot(key, true));
+	}
+
+	/**
+	 * Moves all circles, which must be present in the grid, to new positions
+	 * @param xCors new x-coordinates of the circles
+	 * @param yCors new y-coordinates of the circles
+	 */
+	public void moveCircles(double[] xCors, double[] yCors){
+		for(int i=0; i<n; i++)
+			this.moveCircle(i, xCors[i], yCors[i]);
+	}
+
+	/**
+	 * Collects the circles which may overlap with circle i: all circles, other than i, whose centers lie in the 3x3 block of cells around the
+	 * center of circle i. Every circle overlapping with circle i is reported, but not every reported circle overlaps with circle i.
+	 * @param i circle, which must be present in the grid
+	 * @param result array of length at least {@link #getNrCircles()} in which the circles are stored
+	 * @return number of circles stored in result
+	 */
+	public int getNeighbours(int i, int[] result){
+		if(slotOf[i] == -1)
+			throw new IllegalArgumentException("Circle "+i+" is not present in the grid");
+		long cx=this.cellCoordinate(xCors[i]);
+		long cy=this.cellCoordinate(yCors[i]);
+		int count=0;
+		for(long x=cx-1; x<=cx+1; x++){
+			for(long y=cy-1; y<=cy+1; y++){
+				int slot=this.findSlot(this.key(x, y), false);
+				if(slot == -1)
+					continue;
+				for(int j=heads[slot]; j != -1; j=next[j]){
+					if(j != i)
+						result[count++]=j;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Collects the circles which overlap with circle i, i.e. the circles j for which the distance between the centers is smaller than
+	 * {@code r_i+r_j}.
+	 * @param i circle, which must be present in the grid
+	 * @param result array of length at least {@link #getNrCircles()} in which the circles are stored
+	 * @return number of circles stored in result
+	 */
+	public int getOverlappingCircles(int i, int[] result){
+		int count=0;
+		int nrNeighbours=this.getNeighbours(i, result);
+		for(int k=0; k<nrNeighbours; k++){
+			int j=result[k];
+			if(this.intersects(j, xCors[i], yCors[i], radii[i]))
+				result[count++]=j;
+		}
+		return count;
+	}
+
+	/**
+	 * Collects the circles which intersect with the given disk, i.e. the circles j for which the distance between the center of the disk and
+	 * the center of circle j is smaller than {@code radius+r_j}.
+	 * @param xCor x-coordinate of the center of the disk
+	 * @param yCor y-coordinate of the center of the disk
+	 * @param radius radius of the disk (non-negative)
+	 * @param result array of length at least {@link #getNrCircles()} in which the circles are stored
+	 * @return number of circles stored in result
+	 */
+	public int getIntersectingCircles(double xCor, double yCor, double radius, int[] result){
+		double reach=radius+maxRadius;
+		long minX=this.cellCoordinate(xCor-reach), maxX=this.cellCoordinate(xCor+reach);
+		long minY=this.cellCoordinate(yCor-reach), maxY=this.cellCoordinate(yCor+reach);
+		int count=0;
+		if((double)(maxX-minX+1)*(maxY-minY+1) > nrPresent){ //Cheaper to inspect all circles
+			for(int j=0; j<n; j++){
+				if(slotOf[j] != -1 && this.intersects(j, xCor, yCor, radius))
+					result[count++]=j;
+			}
+			return count;
+		}
+		for(long x=minX; x<=maxX; x++){
+			for(long y=minY; y<=maxY; y++){
+				int slot=this.findSlot(this.key(x, y), false);
+				if(slot == -1)
+					continue;
+				for(int j=heads[slot]; j != -1; j=next[j]){
+					if(this.intersects(j, xCor, yCor, radius))
+						result[count++]=j;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @return Returns the number of circles
+	 */
+	public int getNrCircles(){
+		return n;
+	}
+
+	/**
+	 * @return Returns the number of circles which are present in the grid
+	 */
+	public int getNrPresentCircles(){
+		return nrPresent;
+	}
+
+	/**
+	 * @param i circle
+	 * @return Returns true if the circle is present in the grid
+	 */
+	public boolean isPresent(int i){
+		return slotOf[i] != -1;
+	}
+
+	/**
+	 * @param i circle
+	 * @return Returns the x-coordinate of the circle
+	 */
+	public double getX(int i){
+		return xCors[i];
+	}
+
+	/**
+	 * @param i circle
+	 * @return Returns the y-coordinate of the circle
+	 */
+	public double getY(int i){
+		return yCors[i];
+	}
+
+	/**
+	 * @param i circle
+	 * @return Returns the radius of the circle
+	 */
+	public double getRadius(int i){
+		return radii[i];
+	}
+
+	/**
+	 * @return Returns the largest radius
+	 */
+	public double getMaxRadius(){
+		return maxRadius;
+	}
+
+	/**
+	 * @return Returns the side of a cell
+	 */
+	public double getCellSize(){
+		return cellSize;
+	}
+
+	/**
+	 * Checks whether circle j intersects with the given disk
+	 * @param j circle
+	 * @param xCor x-coordinate of the disk
+	 * @param yCor y-coordinate of the disk
+	 * @param radius radius of the disk
+	 * @return true if the circle intersects with the disk
+	 */
+	private boolean intersects(int j, double xCor, double yCor, double radius){
+		double dx=xCors[j]-xCor;
+		double dy=yCors[j]-yCor;
+		double rr=radii[j]+radius;
+		return dx*dx+dy*dy < rr*rr;
+	}
+
+	/**
+	 * Adds a circle to the list of a cell
+	 * @param i circle
+	 * @param slot slot of the cell
+	 */
+	private void link(int i, int slot){
+		slotOf[i]=slot;
+		previous[i]=-1;
+		next[i]=heads[slot];
+		if(heads[slot] != -1)
+			previous[heads[slot]]=i;
+		heads[slot]=i;
+	}
+
+	/**
+	 * Removes a circle from the list of its cell
+	 * @param i circle
+	 */
+	private void unlink(int i){
+		int slot=slotOf[i];
+		if(previous[i] != -1)
+			next[previous[i]]=next[i];
+		else
+			heads[slot]=next[i];
+		if(next[i] != -1)
+			previous[next[i]]=previous[i];
+		slotOf[i]=-1;
+	}
+
+	/**
+	 * Looks up the slot of a cell in the hash table
+	 * @param key key of the cell
+	 * @param create true if a slot must be created when the cell is not in the table
+	 * @return slot of the cell, or -1 if the cell is not in the table and create is false
+	 */
+	private int findSlot(long key, boolean create){
+		int mask=keys.length-1;
+		int slot=(int)((key*0x9E3779B97F4A7C15L) >>> (64-hashBits));
+		while(used[slot]){
+			if(keys[slot] == key)
+				return slot;
+			slot=(slot+1) & mask;
+		}
+		if(!create)
+			return -1;
+		if(2*(nrUsedSlots+1) > keys.length){ //Rebuild the table, thereby dropping empty cells
+			this.rehash();
+			return this.findSlot(key, true);
+		}
+		used[slot]=true;
+		keys[slot]=key;
+		heads[slot]=-1;
+		nrUsedSlots++;
+		return slot;
+	}
+
+	/**
+	 * Rebuilds the hash table from the circles which are present. The table is enlarged if it is more than a quarter full with non-empty cells.
+	 */
+	private void rehash(){
+		int nrCells=0;
+		for(int slot=0; slot<keys.length; slot++){
+			if(used[slot] && heads[slot] != -1)
+				nrCells++;
+		}
+		if(4*(nrCells+1) > keys.length)
+			hashBits++;
+		long[] oldKeys=keys;
+		int[] oldHeads=heads;
+		boolean[] oldUsed=used;
+		this.allocateTable();
+		for(int slot=0; slot<oldKeys.length; slot++){
+			if(!oldUsed[slot] || oldHeads[slot] == -1)
+				continue;
+			int newSlot=this.findSlot(oldKeys[slot], true);
+			heads[newSlot]=oldHeads[slot];
+			for(int i=oldHeads[slot]; i != -1; i=next[i])
+				slotOf[i]=newSlot;
+		}
+	}
+
+	/**
+	 * Allocates an empty hash table of size 2^hashBits
+	 */
+	private void allocateTable(){
+		keys=new long[1 << hashBits];
+		heads=new int[1 << hashBits];
+		used=new boolean[1 << hashBits];
+		nrUsedSlots=0;
+	}
+
+	/**
+	 * @param coordinate x or y coordinate
+	 * @return Returns the cell coordinate of the given coordinate
+	 */
+	private long cellCoordinate(double coordinate){
+		return (long)Math.floor(coordinate/cellSize);
+	}
+
+	/**
+	 * @param xCor x-coordinate
+	 * @param yCor y-coordinate
+	 * @return Returns the key of the cell containing the given point
+	 */
+	private long cellKey(double xCor, double yCor){
+		return this.key(this.cellCoordinate(xCor), this.cellCoordinate(yCor));
+	}
+
+	/**
+	 * @param x cell coordinate along the x-axis
+	 * @param y cell coordinate along the y-axis
+	 * @return Returns the key of the cell
+	 */
+	private long key(long x, long y){
+		return (x << 32) ^ (y & 0xFFFFFFFFL);
+	}
+}
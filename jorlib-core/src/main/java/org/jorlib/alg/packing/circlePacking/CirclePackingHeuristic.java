@@ -0,0 +1,757 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CirclePackingHeuristic.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.packing.circlePacking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Heuristic for the problem of packing a set of circles, of possibly different radii, into the smallest possible circular container.<p>
+ *
+ * A start solution is obtained through greedy placement: the circles are placed in order of decreasing radius, each circle at a position where
+ * it touches two circles which have already been placed. Among the positions which do not overlap with the circles placed so far, the position
+ * which results in the smallest container is selected; the container is maintained incrementally by a {@link DynamicEnclosingCircle}.<p>
+ *
+ * The start solution is improved through a penalty based local search, following the quasi-physical approach of:<br>
+ * Huang, W., Ye, T. Quasi-physical global optimization method for solving the equal circle packing problem.<br>
+ * Science China Information Sciences, volume 54, issue 7, pp 1333-1339, 2011<p>
+ *
+ * The radius of the container is fixed to a value slightly smaller than the best container found, and the overlap between the circles, as well as
+ * between the circles and the container, is penalized through the elastic energy {@code \sum_{i<j} overlap_{ij}^2+\sum_i overlap_i^2}. The energy is
+ * minimized through the L-BFGS method. When the minimization gets stuck in a local minimum with positive energy, the circle with the largest
+ * relative energy jumps to the position with the least overlap among a number of random positions in the container. Once the energy vanishes,
+ * the circles are pushed apart to remove the remaining (numerical) overlap, and the container is recomputed. When the container cannot be
+ * shrunk further, a new start is made, either from a randomized greedy solution or from a perturbation of the best solution found.<p>
+ *
+ * Overlapping pairs of circles are found through a {@link CircleGrid}, which is also used to recompute the container. For small instances,
+ * all pairs of circles are compared instead.<p>
+ *
+ * In the parallel multi-start mode, every thread performs its own starts, while sharing the best solution found. All methods which take a time
+ * limit return the best solution found when the time limit is reached. The first (greedy) start is always completed, even if the time limit has
+ * already passed, so a solution is always returned.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+public class CirclePackingHeuristic {
+
+	/** Precision parameter **/
+	public static final double PRECISION=SmallestEnclosingCircleCalculator.PRECISION;
+	/** Relative overlap below which a configuration is considered to be free of overlap by the local search **/
+	private static final double OVERLAP_TOLERANCE=1e-10;
+	/** Number of previous steps stored by the L-BFGS method **/
+	private static final int LBFGS_MEMORY=6;
+	/** Maximum number of L-BFGS iterations of a single energy minimization **/
+	private static final int MAX_ITERATIONS=1000;
+	/** Maximum number of consecutive jumps for a given container radius **/
+	private static final int MAX_JUMPS=30;
+	/** Number of random positions evaluated when a circle jumps **/
+	private static final int JUMP_SAMPLES=20;
+	/** Initial relative decrease of the container radius **/
+	private static final double INITIAL_SHRINK=0.01;
+	/** Smallest relative decrease of the container radius, after which a new start is made **/
+	private static final double MIN_SHRINK=1e-5;
+	/** Minimum number of circles for which overlapping pairs are found through the grid, rather than by comparing all pairs **/
+	private static final int GRID_THRESHOLD=32;
+
+	/** Radii of the circles **/
+	private final double[] radii;
+	/** Number of circles **/
+	private final int n;
+	/** Seed of the random generators **/
+	private final long seed;
+
+	/** Best solution found during the current solve; shared between threads **/
+	private CirclePackingSolution bestSolution;
+
+	/**
+	 * Creates a new heuristic for the given circles
+	 * @param radii radii of the circles (must be strictly positive)
+	 */
+	public CirclePackingHeuristic(double[] radii){
+		this(radii, 0);
+	}
+
+	/**
+	 * Creates a new heuristic for the given circles
+	 * @param radii radii of the circles (must be strictly positive)
+	 * @param seed seed of the random generators
+	 */
+	public CirclePackingHeuristic(double[] radii, long seed){
+		if(radii.length == 0)
+			throw new IllegalArgumentException("At least one circle must be provided");
+		for(double radius : radii){
+			if(!(radius > 0) || Double.isInfinite(radius))
+				throw new IllegalArgumentException("Radii must be strictly positive: "+radius);
+		}
+		this.radii=radii.clone();
+		this.n=radii.length;
+		this.seed=seed;
+	}
+
+	/**
+	 * Packs the circles through greedy placement, without local search
+	 * @return greedy packing
+	 */
+	public CirclePackingSolution solveGreedy(){
+		Worker worker=new Worker(new Random(seed));
+		worker.greedy(false);
+		return worker.getSolution();
+	}
+
+	/**
+	 * Packs the circles through greedy placement, followed by local search and restarts, until the time limit is reached
+	 * @param timeLimit Future point in time (in milliseconds) by which this method must be finished
+	 * @return best packing found
+	 */
+	public CirclePackingSolution solve(long timeLimit){
+		return this.solve(timeLimit, 1);
+	}
+
+	/**
+	 * Packs the circles through a parallel multi-start heuristic: every thread repeatedly constructs a start solution and improves it through
+	 * local search, until the time limit is reached. The threads share the best solution found.
+	 * @param timeLimit Future point in time (in milliseconds) by which this method must be finished
+	 * @param nrThreads number of threads
+	 * @return best packing found
+	 */
+	public CirclePackingSolution solve(long timeLimit, int nrThreads){
+		if(nrThreads < 1)
+			throw new IllegalArgumentException("The number of threads must be positive");
+		synchronized(this){
+			bestSolution=null;
+		}
+		if(nrThreads == 1){ //No need to involve an executor
+			new Worker(new Random(seed)).run(timeLimit, true);
+		}else{
+			List<Callable<Void>> tasks=new ArrayList<>(nrThreads);
+			for(int t=0; t<nrThreads; t++){
+				Worker worker=new Worker(new Random(seed+t));
+				boolean deterministicStart=(t == 0);
+				tasks.add(() -> {
+					worker.run(timeLimit, deterministicStart);
+					return null;
+				});
+			}
+			ExecutorService executor=Executors.newFixedThreadPool(nrThreads);
+			try{
+				for(Future<Void> future : executor.invokeAll(tasks))
+					future.get();
+			}catch(InterruptedException e){
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("Interrupted while packing circles", e);
+			}catch(ExecutionException e){
+				throw e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : new RuntimeException(e.getCause());
+			}finally{
+				executor.shutdownNow();
+			}
+		}
+		return this.getBestSolution();
+	}
+
+	/**
+	 * Replaces the best solution if the given solution is better
+	 * @param solution solution
+	 */
+	private synchronized void offerSolution(CirclePackingSolution solution){
+		if(bestSolution == null || solution.getContainerRadius() < bestSolution.getContainerRadius())
+			bestSolution=solution;
+	}
+
+	/**
+	 * @return Returns the best solution found during the current solve, or null if no solution has been found yet
+	 */
+	private synchronized CirclePackingSolution getBestSolution(){
+		return bestSolution;
+	}
+
+	/**
+	 * Performs the starts of a single thread. Every worker owns its own buffers and container. The position of circle i is stored at
+	 * positions 2i (x-coordinate) and 2i+1 (y-coordinate) of the position vectors.
+	 */
+	private final class Worker{
+		private final Random random;
+		/** Circles ordered by decreasing radius **/
+		private final int[] sortedCircles;
+		/** Order in which the circles are placed by the greedy procedure **/
+		private final int[] order=new int[n];
+		/** Current positions **/
+		private final double[] positions=new double[2*n];
+		/** Positions of the best (feasible) solution of the current start **/
+		private final double[] feasiblePositions=new double[2*n];
+		/** Container radius of the best solution of the current start **/
+		private double feasibleRadius;
+		/** Container of the circles placed by the greedy procedure **/
+		private DynamicEnclosingCircle container;
+		/** Spatial index over the circles **/
+		private final CircleGrid grid=new CircleGrid(radii);
+		/** Indicates whether overlapping pairs are found through the grid **/
+		private final boolean useGrid=(n >= GRID_THRESHOLD);
+		/** Calculator used to recompute the container **/
+		private final SmallestEnclosingCircleCalculator calculator=new SmallestEnclosingCircleCalculator(SmallestEnclosingCircleCalculator.Method.MOVE_TO_FRONT);
+		/** Buffers holding the results of grid queries **/
+		private final int[] neighbours=new int[n], intersecting=new int[n];
+
+		//Buffers of the L-BFGS method
+		private final double[] gradient=new double[2*n];
+		private final double[] direction=new double[2*n];
+		private final double[] trialPositions=new double[2*n];
+		private final double[] trialGradient=new double[2*n];
+		private final double[][] s=new double[LBFGS_MEMORY][2*n];
+		private final double[][] y=new double[LBFGS_MEMORY][2*n];
+		private final double[] rho=new double[LBFGS_MEMORY];
+		private final double[] alpha=new double[LBFGS_MEMORY];
+		/** Energy of the individual circles **/
+		private final double[] circleEnergy=new double[n];
+		/** Circle which jumped last **/
+		private int lastJump=-1;
+
+		private Worker(Random random){
+			this.random=random;
+			//Sort the circles by decreasing radius (insertion sort, keeps the order of equal circles)
+			sortedCircles=new int[n];
+			for(int i=0; i<n; i++){
+				int j=i-1;
+				while(j >= 0 && radii[sortedCircles[j]] < radii[i]){
+					sortedCircles[j+1]=sortedCircles[j];
+					j--;
+				}
+				sortedCircles[j+1]=i;
+			}
+		}
+
+		/**
+		 * Performs starts until the time limit is reached. The first start is always completed.
+		 * @param timeLimit Future point in time (in milliseconds) by which this method must be finished
+		 * @param deterministicStart true if the first start is made from the (non randomized) greedy solution
+		 */
+		private void run(long timeLimit, boolean deterministicStart){
+			boolean first=true;
+			do{
+				boolean randomized=!(first && deterministicStart);
+				CirclePackingSolution best=getBestSolution();
+				//Start from a perturbation of the best solution, or from a greedy solution
+				if(!(randomized && best != null && random.nextBoolean() && this.perturb(best, timeLimit)))
+					this.greedy(randomized);
+				offerSolution(this.getSolution());
+				if(n <= 2) //The greedy solution is optimal
+					return;
+				first=false;
+				this.improve(timeLimit);
+			}while(System.currentTimeMillis() < timeLimit);
+		}
+
+		/**
+		 * Places the circles one by one, in order of decreasing radius, such that each circle touches two circles which have been placed before.
+		 * The circle is placed at the position resulting in the smallest container, ties are broken in favor of the position closest to the center
+		 * of the container.
+		 * @param randomized true if the order of the circles and the position of the second circle are randomized
+		 */
+		private void greedy(boolean randomized){
+			System.arraycopy(sortedCircles, 0, order, 0, n);
+			if(randomized){
+				for(int k=0; k<n-1; k++){
+					if(random.nextDouble() < 0.25){
+						int tmp=order[k];
+						order[k]=order[k+1];
+						order[k+1]=tmp;
+					}
+				}
+			}
+			container=new DynamicEnclosingCircle(n);
+			for(int i=0; i<n; i++)
+				grid.removeCircle(i);
+			for(int k=0; k<n; k++){
+				int c=order[k];
+				if(k == 0){
+					positions[2*c]=0;
+					positions[2*c+1]=0;
+				}else if(k == 1){
+					double angle=(randomized ? 2*Math.PI*random.nextDouble() : 0);
+					int first=order[0];
+					positions[2*c]=positions[2*first]+(radii[first]+radii[c])*Math.cos(angle);
+					positions[2*c+1]=positions[2*first+1]+(radii[first]+radii[c])*Math.sin(angle);
+				}else{
+					this.placeGreedily(k);
+				}
+				container.addCircle(positions[2*c], positions[2*c+1], radii[c]);
+				grid.insertCircle(c, positions[2*c], positions[2*c+1]);
+			}
+			feasibleRadius=this.centerPositions();
+			System.arraycopy(positions, 0, feasiblePositions, 0, 2*n);
+		}
+
+		/**
+		 * Places circle order[k] next to the circles order[0], ..., order[k-1]
+		 * @param k number of circles placed so far
+		 */
+		private void placeGreedily(int k){
+			int c=order[k];
+			double rc=radii[c];
+			double[] center=container.getContainerPosition();
+			double R=container.getRadius();
+			double bestScore=Double.POSITIVE_INFINITY;
+			double bestDistance=Double.POSITIVE_INFINITY;
+			double bestX=0, bestY=0;
+			for(int a=0; a<k; a++){
+				int i=order[a];
+				double xi=positions[2*i], yi=positions[2*i+1];
+				double ra=radii[i]+rc;
+				//Circles j which are close enough to i such that circle c can touch both
+				int nrNeighbours=grid.getIntersectingCircles(xi, yi, radii[i]+2*rc, neighbours);
+				for(int b=0; b<nrNeighbours; b++){
+					int j=neighbours[b];
+					if(j <= i)
+						continue;
+					double dx=positions[2*j]-xi;
+					double dy=positions[2*j+1]-yi;
+					double rb=radii[j]+rc;
+					double d=Math.sqrt(dx*dx+dy*dy);
+					if(d == 0 || d > ra+rb || d < Math.abs(ra-rb))
+						continue;
+					//Intersection points of the circles with radius ra around i, and radius rb around j
+					double l=(ra*ra-rb*rb+d*d)/(2*d);
+					double h=Math.sqrt(Math.max(0, ra*ra-l*l));
+					double mx=xi+l*dx/d, my=yi+l*dy/d;
+					for(int sign=-1; sign<=1; sign+=2){
+						double px=mx-sign*h*dy/d;
+						double py=my+sign*h*dx/d;
+						double distance=Math.sqrt((px-center[0])*(px-center[0])+(py-center[1])*(py-center[1]));
+						//Radius of the smallest circle enclosing the container and the new circle, an upper bound on the new container
+						double score=(distance+rc <= R+PRECISION ? R : (R+distance+rc)/2);
+						if(score > bestScore || (score == bestScore && distance >= bestDistance) || grid.getIntersectingCircles(px, py, rc*(1-OVERLAP_TOLERANCE), intersecting) > 0)
+							continue;
+						bestScore=score;
+						bestDistance=distance;
+						bestX=px;
+						bestY=py;
+					}
+				}
+			}
+			if(bestScore == Double.POSITIVE_INFINITY){ //No feasible position found: place the circle outside the container
+				double angle=2*Math.PI*random.nextDouble();
+				bestX=center[0]+(R+rc+2*PRECISION)*Math.cos(angle);
+				bestY=center[1]+(R+rc+2*PRECISION)*Math.sin(angle);
+			}
+			positions[2*c]=bestX;
+			positions[2*c+1]=bestY;
+		}
+
+		/**
+		 * Creates a start solution by swapping the positions of a few random pairs of circles with different radii in the given solution, after
+		 * which the overlap is removed through local search.
+		 * @param solution solution to be perturbed
+		 * @param timeLimit Future point in time (in milliseconds) by which this method must be finished
+		 * @return true if a feasible start solution has been obtained
+		 */
+		private boolean perturb(CirclePackingSolution solution, long timeLimit){
+			double[] xCors=solution.getXCors();
+			double[] yCors=solution.getYCors();
+			for(int i=0; i<n; i++){
+				positions[2*i]=xCors[i];
+				positions[2*i+1]=yCors[i];
+			}
+			int nrSwaps=1+random.nextInt(Math.max(1, n/10));
+			for(int swap=0; swap<nrSwaps; swap++){
+				int i=random.nextInt(n);
+				int j=random.nextInt(n);
+				if(radii[i] == radii[j]){ //Swapping equal circles has no effect: relocate circle i instead
+					this.jump(i, solution.getContainerRadius());
+				}else{
+					double tmpX=positions[2*i], tmpY=positions[2*i+1];
+					positions[2*i]=positions[2*j];
+					positions[2*i+1]=positions[2*j+1];
+					positions[2*j]=tmpX;
+					positions[2*j+1]=tmpY;
+				}
+			}
+			if(!this.minimize(solution.getContainerRadius()*(1+INITIAL_SHRINK), timeLimit))
+				return false;
+			feasibleRadius=this.removeOverlap();
+			System.arraycopy(positions, 0, feasiblePositions, 0, 2*n);
+			return true;
+		}
+
+		/**
+		 * Improves the current start solution: the container is shrunk, after which the overlap is removed through energy minimization and jumps.
+		 * @param timeLimit Future point in time (in milliseconds) by which this method must be finished
+		 */
+		private void improve(long timeLimit){
+			double shrink=INITIAL_SHRINK;
+			while(shrink >= MIN_SHRINK && System.currentTimeMillis() < timeLimit){
+				double R=feasibleRadius*(1-shrink);
+				double scale=R/feasibleRadius;
+				for(int i=0; i<2*n; i++)
+					positions[i]=feasiblePositions[i]*scale;
+				boolean feasible=this.minimize(R, timeLimit);
+				lastJump=-1;
+				for(int jumps=0; !feasible && jumps<MAX_JUMPS && System.currentTimeMillis() < timeLimit; jumps++){
+					this.jump(this.selectJumpingCircle(R), R);
+					feasible=this.minimize(R, timeLimit);
+				}
+				if(feasible){
+					double newRadius=this.removeOverlap();
+					if(newRadius < feasibleRadius){
+						feasibleRadius=newRadius;
+						System.arraycopy(positions, 0, feasiblePositions, 0, 2*n);
+						offerSolution(this.getSolution());
+						continue;
+					}
+				}
+				shrink/=2;
+			}
+			System.arraycopy(feasiblePositions, 0, positions, 0, 2*n);
+		}
+
+		/**
+		 * Minimizes the elastic energy for a container of radius R, centered at the origin, through the L-BFGS method
+		 * @param R radius of the container
+		 * @param timeLimit Future point in time (in milliseconds) by which this method must be finished
+		 * @return true if a configuration without overlap (within the overlap tolerance) has been found
+		 */
+		private boolean minimize(double R, long timeLimit){
+			double tolerance=OVERLAP_TOLERANCE*R;
+			double energyTolerance=tolerance*tolerance;
+			double energy=this.energy(positions, R, gradient);
+			int memory=0, newest=-1;
+			for(int iteration=0; iteration<MAX_ITERATIONS; iteration++){
+				if(energy <= energyTolerance)
+					return true;
+				if(System.currentTimeMillis() >= timeLimit)
+					return false;
+
+				//Two-loop recursion: direction=-H*gradient
+				for(int i=0; i<2*n; i++)
+					direction[i]=-gradient[i];
+				for(int m=0; m<memory; m++){
+					int k=(newest-m+LBFGS_MEMORY)%LBFGS_MEMORY;
+					alpha[k]=rho[k]*dot(s[k], direction);
+					axpy(-alpha[k], y[k], direction);
+				}
+				if(memory > 0){
+					double gamma=dot(s[newest], y[newest])/dot(y[newest], y[newest]);
+					for(int i=0; i<2*n; i++)
+						direction[i]*=gamma;
+				}
+				for(int m=memory-1; m>=0; m--){
+					int k=(newest-m+LBFGS_MEMORY)%LBFGS_MEMORY;
+					double beta=rho[k]*dot(y[k], direction);
+					axpy(alpha[k]-beta, s[k], direction);
+				}
+				double slope=dot(gradient, direction);
+				if(!(slope < 0)){ //Not a descent direction: restart from the steepest descent direction
+					for(int i=0; i<2*n; i++)
+						direction[i]=-gradient[i];
+					slope=dot(gradient, direction);
+					memory=0;
+				}
+
+				//Backtracking line search (Armijo condition)
+				double step=1;
+				double trialEnergy;
+				while(true){
+					for(int i=0; i<2*n; i++)
+						trialPositions[i]=positions[i]+step*direction[i];
+					trialEnergy=this.energy(trialPositions, R, trialGradient);
+					if(trialEnergy <= energy+1e-4*step*slope)
+						break;
+					step*=0.5;
+					if(step < 1e-12)
+						return false; //Local minimum
+				}
+				if(energy-trialEnergy <= 1e-12*energy)
+					return false; //Stagnation
+
+				//Store the step
+				newest=(newest+1)%LBFGS_MEMORY;
+				for(int i=0; i<2*n; i++){
+					s[newest][i]=trialPositions[i]-positions[i];
+					y[newest][i]=trialGradient[i]-gradient[i];
+				}
+				double sy=dot(s[newest], y[newest]);
+				if(sy > 0){
+					rho[newest]=1/sy;
+					memory=Math.min(memory+1, LBFGS_MEMORY);
+				}else{
+					memory=0;
+				}
+				System.arraycopy(trialPositions, 0, positions, 0, 2*n);
+				System.arraycopy(trialGradient, 0, gradient, 0, 2*n);
+				energy=trialEnergy;
+			}
+			return energy <= energyTolerance;
+		}
+
+		/**
+		 * Computes the elastic energy of a configuration, as well as its gradient
+		 * @param pos positions of the circles
+		 * @param R radius of the container, centered at the origin
+		 * @param grad gradient (output)
+		 * @return elastic energy
+		 */
+		private double energy(double[] pos, double R, double[] grad){
+			double energy=0;
+			Arrays.fill(grad, 0);
+			if(useGrid)
+				this.synchronizeGrid(pos);
+			for(int i=0; i<n; i++){
+				double xi=pos[2*i], yi=pos[2*i+1], ri=radii[i];
+				//Overlap with the container
+				double d=Math.sqrt(xi*xi+yi*yi);
+				double overlap=d+ri-R;
+				if(overlap > 0){
+					energy+=overlap*overlap;
+					if(d > 0){
+						double g=2*overlap/d;
+						grad[2*i]+=g*xi;
+						grad[2*i+1]+=g*yi;
+					}
+				}
+				//Overlap with the other circles
+				int nrCandidates=this.getCandidates(i);
+				for(int k=0; k<nrCandidates; k++){
+					int j=neighbours[k];
+					double dx=xi-pos[2*j];
+					double dy=yi-pos[2*j+1];
+					double rr=ri+radii[j];
+					if(dx >= rr || dx <= -rr || dy >= rr || dy <= -rr)
+						continue;
+					double d2=dx*dx+dy*dy;
+					if(d2 >= rr*rr)
+						continue;
+					d=Math.sqrt(d2);
+					overlap=rr-d;
+					energy+=overlap*overlap;
+					if(d > 0){
+						double g=-2*overlap/d;
+						grad[2*i]+=g*dx;
+						grad[2*i+1]+=g*dy;
+						grad[2*j]-=g*dx;
+						grad[2*j+1]-=g*dy;
+					}
+				}
+			}
+			return energy;
+		}
+
+		/**
+		 * Selects the circle with the largest energy relative to its squared radius, excluding the circle which jumped last
+		 * @param R radius of the container
+		 * @return circle which jumps next
+		 */
+		private int selectJumpingCircle(double R){
+			Arrays.fill(circleEnergy, 0);
+			if(useGrid)
+				this.synchronizeGrid(positions);
+			for(int i=0; i<n; i++){
+				double xi=positions[2*i], yi=positions[2*i+1];
+				double overlap=Math.sqrt(xi*xi+yi*yi)+radii[i]-R;
+				if(overlap > 0)
+					circleEnergy[i]+=overlap*overlap;
+				int nrCandidates=this.getCandidates(i);
+				for(int k=0; k<nrCandidates; k++){
+					int j=neighbours[k];
+					double dx=xi-positions[2*j];
+					double dy=yi-positions[2*j+1];
+					overlap=radii[i]+radii[j]-Math.sqrt(dx*dx+dy*dy);
+					if(overlap > 0){
+						circleEnergy[i]+=overlap*overlap;
+						circleEnergy[j]+=overlap*overlap;
+					}
+				}
+			}
+			int selected=-1;
+			for(int i=0; i<n; i++){
+				if(i != lastJump && (selected == -1 || circleEnergy[i]/(radii[i]*radii[i]) > circleEnergy[selected]/(radii[selected]*radii[selected])))
+					selected=i;
+			}
+			if(selected == -1) //Single circle
+				selected=0;
+			lastJump=selected;
+			return selected;
+		}
+
+		/**
+		 * Moves a circle to the random position inside the container at which it has the least overlap with the other circles
+		 * @param c circle
+		 * @param R radius of the container
+		 */
+		private void jump(int c, double R){
+			double maxDistance=Math.max(0, R-radii[c]);
+			double bestEnergy=Double.POSITIVE_INFINITY;
+			double bestX=0, bestY=0;
+			if(useGrid)
+				this.synchronizeGrid(positions);
+			for(int sample=0; sample<JUMP_SAMPLES; sample++){
+				double distance=maxDistance*Math.sqrt(random.nextDouble());
+				double angle=2*Math.PI*random.nextDouble();
+				double px=distance*Math.cos(angle), py=distance*Math.sin(angle);
+				double energy=0;
+				int nrCandidates=(useGrid ? grid.getIntersectingCircles(px, py, radii[c], intersecting) : n);
+				for(int k=0; k<nrCandidates && energy<bestEnergy; k++){
+					int j=(useGrid ? intersecting[k] : k);
+					if(j == c)
+						continue;
+					double dx=px-positions[2*j];
+					double dy=py-positions[2*j+1];
+					double overlap=radii[c]+radii[j]-Math.sqrt(dx*dx+dy*dy);
+					if(overlap > 0)
+						energy+=overlap*overlap;
+				}
+				if(energy < bestEnergy){
+					bestEnergy=energy;
+					bestX=px;
+					bestY=py;
+				}
+			}
+			positions[2*c]=bestX;
+			positions[2*c+1]=bestY;
+		}
+
+		/**
+		 * Removes the remaining overlap between the circles by scaling all positions, and recomputes the container. The positions are translated
+		 * such that the container is centered at the origin.
+		 * @return radius of the container
+		 */
+		private double removeOverlap(){
+			double scale=1;
+			if(useGrid)
+				this.synchronizeGrid(positions);
+			for(int i=0; i<n; i++){
+				int nrCandidates=this.getCandidates(i);
+				for(int k=0; k<nrCandidates; k++){
+					int j=neighbours[k];
+					double dx=positions[2*i]-positions[2*j];
+					double dy=positions[2*i+1]-positions[2*j+1];
+					double rr=radii[i]+radii[j];
+					double d2=dx*dx+dy*dy;
+					if(d2 < rr*rr)
+						scale=Math.max(scale, rr/Math.sqrt(d2));
+				}
+			}
+			if(scale > 1){
+				scale*=1+1e-14;
+				for(int i=0; i<2*n; i++)
+					positions[i]*=scale;
+			}
+			return this.centerPositions();
+		}
+
+		/**
+		 * Recomputes the container after the circles have been moved, and translates the circles such that the container is centered at the origin
+		 * @return radius of the container
+		 */
+		private double centerPositions(){
+			this.synchronizeGrid(positions);
+			calculator.calcContainer(grid);
+			double[] center=calculator.getContainerPosition();
+			//The container may leave circles outside by at most PRECISION; enlarge it such that it encloses all circles
+			double R=0;
+			for(int i=0; i<n; i++){
+				positions[2*i]-=center[0];
+				positions[2*i+1]-=center[1];
+				R=Math.max(R, Math.sqrt(positions[2*i]*positions[2*i]+positions[2*i+1]*positions[2*i+1])+radii[i]);
+			}
+			return R;
+		}
+
+		/**
+		 * Moves the circles in the grid to the given positions
+		 * @param pos positions of the circles
+		 */
+		private void synchronizeGrid(double[] pos){
+			for(int i=0; i<n; i++)
+				grid.insertCircle(i, pos[2*i], pos[2*i+1]);
+		}
+
+		/**
+		 * Collects the circles j&gt;i which may overlap with circle i in the neighbours buffer. When the grid is used, it must contain the
+		 * current positions of the circles.
+		 * @param i circle
+		 * @return number of circles in the neighbours buffer
+		 */
+		private int getCandidates(int i){
+			int count=0;
+			if(useGrid){
+				int nrNeighbours=grid.getNeighbours(i, neighbours);
+				for(int k=0; k<nrNeighbours; k++){
+					if(neighbours[k] > i)
+						neighbours[count++]=neighbours[k];
+				}
+			}else{
+				for(int j=i+1; j<n; j++)
+					neighbours[count++]=j;
+			}
+			return count;
+		}
+
+		/**
+		 * @return Returns the feasible solution of the current start
+		 */
+		private CirclePackingSolution getSolution(){
+			double[] xCors=new double[n];
+			double[] yCors=new double[n];
+			for(int i=0; i<n; i++){
+				xCors[i]=feasiblePositions[2*i];
+				yCors[i]=feasiblePositions[2*i+1];
+			}
+			return new CirclePackingSolution(xCors, yCors, radii.clone(), feasibleRadius);
+		}
+	}
+
+	/**
+	 * Computes the dot product of two vectors
+	 * @param a first vector
+	 * @param b second vector
+	 * @return dot product
+	 */
+	private static double dot(double[] a, double[] b){
+		double result=0;
+		for(int i=0; i<a.length; i++)
+			result+=a[i]*b[i];
+		return result;
+	}
+
+	/**
+	 * Computes b+=factor*a
+	 * @param factor factor
+	 * @param a vector
+	 * @param b vector which is updated
+	 */
+	private static void axpy(double factor, double[] a, double[] b){
+		for(int i=0; i<a.length; i++)
+			b[i]+=factor*a[i];
+	}
+}
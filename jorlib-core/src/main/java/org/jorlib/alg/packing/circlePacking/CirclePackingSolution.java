@@ -0,0 +1,120 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CirclePackingSolution.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.packing.circlePacking;
+
+/**
+ * Immutable packing of a set of circles into a circular container, computed by the {@link CirclePackingHeuristic}. The container is centered
+ * at the origin; circle i has radius {@code radii[i]} and is centered at {@code (xCors[i], yCors[i])}. The container is the smallest enclosing
+ * circle of the circles (within {@link SmallestEnclosingCircleCalculator#PRECISION}).
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+public final class CirclePackingSolution {
+
+	/** x-coordinates of the circles **/
+	private final double[] xCors;
+	/** y-coordinates of the circles **/
+	private final double[] yCors;
+	/** radii of the circles **/
+	private final double[] radii;
+	/** Radius of the container **/
+	private final double containerRadius;
+
+	/**
+	 * Creates a new packing
+	 * @param xCors x-coordinates of the circles
+	 * @param yCors y-coordinates of the circles
+	 * @param radii radii of the circles
+	 * @param containerRadius radius of the container, centered at the origin
+	 */
+	CirclePackingSolution(double[] xCors, double[] yCors, double[] radii, double containerRadius){
+		this.xCors=xCors;
+		this.yCors=yCors;
+		this.radii=radii;
+		this.containerRadius=containerRadius;
+	}
+
+	/**
+	 * @return Returns the number of circles
+	 */
+	public int getNrCircles(){
+		return radii.length;
+	}
+
+	/**
+	 * @return Returns the x-coordinates of the circles
+	 */
+	public double[] getXCors(){
+		return xCors.clone();
+	}
+
+	/**
+	 * @return Returns the y-coordinates of the circles
+	 */
+	public double[] getYCors(){
+		return yCors.clone();
+	}
+
+	/**
+	 * @return Returns the radii of the circles
+	 */
+	public double[] getRadii(){
+		return radii.clone();
+	}
+
+	/**
+	 * @return Returns the radius of the container
+	 */
+	public double getContainerRadius(){
+		return containerRadius;
+	}
+
+	/**
+	 * Returns the largest overlap between two circles, or between a circle and the container. A packing is feasible if this value does not exceed
+	 * the desired tolerance.
+	 * @return the largest overlap, or 0 if no circles overlap
+	 */
+	public double getMaxOverlap(){
+		double maxOverlap=0;
+		for(int i=0; i<radii.length; i++){
+			maxOverlap=Math.max(maxOverlap, Math.sqrt(xCors[i]*xCors[i]+yCors[i]*yCors[i])+radii[i]-containerRadius);
+			for(int j=i+1; j<radii.length; j++){
+				double dx=xCors[i]-xCors[j];
+				double dy=yCors[i]-yCors[j];
+				maxOverlap=Math.max(maxOverlap, radii[i]+radii[j]-Math.sqrt(dx*dx+dy*dy));
+			}
+		}
+		return maxOverlap;
+	}
+
+	@Override
+	public String toString(){
+		return "Packing of "+radii.length+" circles, container radius: "+containerRadius;
+	}
+}
@@ -0,0 +1,499 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * DynamicEnclosingCircle.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.packing.circlePacking;
+
+import java.awt.geom.Point2D;
+import java.util.Arrays;
+
+import org.jorlib.alg.packing.circlePacking.SmallestEnclosingCircleCalculator.Method;
+
+/**
+ * Maintains the smallest enclosing circle (the container) of a dynamic set of circles, which can be inserted, removed and moved. Every circle
+ * is identified by the id returned when it is inserted; ids of removed circles are reused.<p>
+ *
+ * Besides the container, this class maintains its support set: the circles which touch the boundary of the container. The smallest enclosing
+ * circle is fully determined by its support set, so updates are cheap in the common case:
+ * <ul>
+ * <li>a circle which is inserted or moved inside the container does not change the container;</li>
+ * <li>a circle which is removed, or moved inside the container, but which is not part of the support set, does not change the container;</li>
+ * <li>a circle which is inserted outside the container, or a circle outside the support set which is moved outside the container, must lie on the
+ * boundary of the new container. The container is extended through
+ * {@link SmallestEnclosingCircleCalculator#incrementalCalcContainer(int, double[], double[], double[], int, double, double, double)}, which fixes
+ * this circle as a support circle.</li>
+ * </ul>
+ * All other updates (a support circle is removed or moved) invalidate the container. The container is recomputed lazily, i.e. the first time it
+ * is queried after an update, through the double precision move-to-front implementation of {@link SmallestEnclosingCircleCalculator}. The batch
+ * updates, e.g. {@link #moveCircles(int[], double[], double[])}, invalidate the container instead of extending it, such that any number of
+ * updates costs a single recomputation.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+public class DynamicEnclosingCircle {
+
+	/** Precision parameter **/
+	public static final double PRECISION=SmallestEnclosingCircleCalculator.PRECISION;
+
+	/** Calculator used to recompute the container **/
+	private final SmallestEnclosingCircleCalculator calculator=new SmallestEnclosingCircleCalculator(Method.MOVE_TO_FRONT);
+
+	/** x-coordinates of the circles, indexed by id **/
+	private double[] xCors;
+	/** y-coordinates of the circles, indexed by id **/
+	private double[] yCors;
+	/** radii of the circles, indexed by id **/
+	private double[] radii;
+	/** Indicates for every id whether it belongs to a circle in the set **/
+	private boolean[] inUse;
+	/** Indicates for every id whether the circle is part of the support set of the container **/
+	private boolean[] support;
+	/** Number of ids which have been handed out **/
+	private int nrIds=0;
+	/** Ids of removed circles, which can be reused **/
+	private int[] freeIds;
+	/** Number of ids in freeIds **/
+	private int nrFreeIds=0;
+	/** Number of circles in the set **/
+	private int nrCircles=0;
+
+	/** Ids of the circles in the support set **/
+	private int[] supportIds=new int[4];
+	/** Size of the support set **/
+	private int nrSupportCircles=0;
+
+	/** x-cor of the center of the container **/
+	private double x=0;
+	/** y-cor of the center of the container **/
+	private double y=0;
+	/** Radius of the container **/
+	private double R=0;
+	/** Indicates whether the container and its support set are up to date **/
+	private boolean valid=true;
+	/** Number of times the container has been recomputed **/
+	private long nrRecomputations=0;
+	/** Number of times the container has been extended **/
+	private long nrExtensions=0;
+
+	/** Buffers holding the coordinates of the circles in the set when the container is recomputed **/
+	private double[] xBuffer, yBuffer, rBuffer;
+	/** Ids of the circles in the buffers **/
+	private int[] idBuffer;
+
+	/**
+	 * Creates a new, empty, set of circles
+	 */
+	public DynamicEnclosingCircle(){
+		this(16);
+	}
+
+	/**
+	 * Creates a new, empty, set of circles
+	 * @param initialCapacity expected number of circles
+	 */
+	public DynamicEnclosingCircle(int initialCapacity){
+		if(initialCapacity < 1)
+			throw new IllegalArgumentException("Initial capacity must be positive");
+		this.allocate(initialCapacity);
+	}
+
+	/**
+	 * Creates a new set of circles, identified by their x-coordinates, y-coordinates and radii. The circles receive ids 0, 1, ..., n-1.
+	 * @param xCors x-coordinates of the circles
+	 * @param yCors y-coordinates of the circles
+	 * @param radii radii of the circles (must be strictly positive)
+	 */
+	public DynamicEnclosingCircle(double[] xCors, double[] yCors, double[] radii){
+		this(Math.max(1, xCors.length));
+		this.addCircles(xCors, yCors, radii);
+	}
+
+	/**
+	 * Inserts a new circle. If the circle does not fit in the container, the container is extended such that the new circle touches its boundary.
+	 * @param xCor x-coordinate of the circle
+	 * @param yCor y-coordinate of the circle
+	 * @param radius radius of the circle (must be strictly positive)
+	 * @return id of the circle
+	 */
+	public int addCircle(double xCor, double yCor, double radius){
+		return this.addCircle(xCor, yCor, radius, true);
+	}
+
+	/**
+	 * Inserts a new circle
+	 * @param xCor x-coordinate of the circle
+	 * @param yCor y-coordinate of the circle
+	 * @param radius radius of the circle (must be strictly positive)
+	 * @param extend indicates whether the container is extended when the circle does not fit; otherwise the container is invalidated
+	 * @return id of the circle
+	 */
+	private int addCircle(double xCor, double yCor, double radius, boolean extend){
+		if(!(radius > 0))
+			throw new IllegalArgumentException("Radius must be strictly positive: "+radius);
+		int id;
+		if(nrFreeIds > 0)
+			id=freeIds[--nrFreeIds];
+		else{
+			if(nrIds == xCors.length)
+				this.allocate(2*nrIds);
+			id=nrIds++;
+		}
+		xCors[id]=xCor;
+		yCors[id]=yCor;
+		radii[id]=radius;
+		inUse[id]=true;
+		support[id]=false;
+		nrCircles++;
+		if(valid && (nrCircles == 1 || !this.isContained(id))){
+			if(extend)
+				this.extendContainer(id);
+			else
+				valid=false;
+		}
+		return id;
+	}
+
+	/**
+	 * Inserts a batch of circles. The container is recomputed at most once, the next time it is queried.
+	 * @param xCors x-coordinates of the circles
+	 * @param yCors y-coordinates of the circles
+	 * @param radii radii of the circles (must be strictly positive)
+	 * @return ids of the circles
+	 */
+	public int[] addCircles(double[] xCors, double[] yCors, double[] radii){
+		int[] ids=new int[xCors.length];
+		for(int i=0; i<ids.length; i++)
+			ids[i]=this.addCircle(xCors[i], yCors[i], radii[i], false);
+		return ids;
+	}
+
+	/**
+	 * Removes a circle. The container is only invalidated if the circle is part of the support set.
+	 * @param id id of the circle
+	 */
+	public void removeCircle(int id){
+		this.checkId(id);
+		inUse[id]=false;
+		nrCircles--;
+		if(support[id]){
+			support[id]=false;
+			valid=false;
+		}
+		if(freeIds.length == nrFreeIds)
+			freeIds=Arrays.copyOf(freeIds, 2*freeIds.length);
+		freeIds[nrFreeIds++]=id;
+	}
+
+	/**
+	 * Removes a batch of circles. The container is recomputed at most once, the next time it is queried.
+	 * @param ids ids of the circles
+	 */
+	public void removeCircles(int[] ids){
+		for(int id : ids)
+			this.removeCircle(id);
+	}
+
+	/**
+	 * Moves a circle to a new position. The container is only invalidated if the circle is part of the support set. A circle outside the support
+	 * set which ends up outside the container does not invalidate the container; instead, the container is extended such that the circle touches
+	 * its boundary.
+	 * @param id id of the circle
+	 * @param xCor new x-coordinate of the circle
+	 * @param yCor new y-coordinate of the circle
+	 */
+	public void moveCircle(int id, double xCor, double yCor){
+		this.moveCircle(id, xCor, yCor, true);
+	}
+
+	/**
+	 * Moves a circle to a new position
+	 * @param id id of the circle
+	 * @param xCor new x-coordinate of the circle
+	 * @param yCor new y-coordinate of the circle
+	 * @param extend indicates whether the container is extended when a circle outside the support set ends up outside the container; otherwise
+	 * the container is invalidated
+	 */
+	private void moveCircle(int id, double xCor, double yCor, boolean extend){
+		this.checkId(id);
+		xCors[id]=xCor;
+		yCors[id]=yCor;
+		if(!valid || this.isContained(id) && !support[id])
+			return;
+		if(extend && !support[id])
+			this.extendContainer(id);
+		else
+			valid=false;
+	}
+
+	/**
+	 * Moves a batch of circles. The container is recomputed at most once, the next time it is queried.
+	 * @param ids ids of the circles
+	 * @param xCors new x-coordinates of the circles
+	 * @param yCors new y-coordinates of the circles
+	 */
+	public void moveCircles(int[] ids, double[] xCors, double[] yCors){
+		for(int i=0; i<ids.length; i++)
+			this.moveCircle(ids[i], xCors[i], yCors[i], false);
+	}
+
+	/**
+	 * Tests whether a circle would fit in the current container, without modifying the set of circles.
+	 * @param xCor x-coordinate of the circle
+	 * @param yCor y-coordinate of the circle
+	 * @param radius radius of the circle
+	 * @return true if the circle is enclosed by the current container
+	 */
+	public boolean fitsInContainer(double xCor, double yCor, double radius){
+		this.update();
+		return Point2D.distance(xCor, yCor, x, y)+radius <= R+PRECISION;
+	}
+
+	/**
+	 * Get the radius of the enclosing circle
+	 * @return the radius of the enclosing circle
+	 */
+	public double getRadius(){
+		this.update();
+		return R;
+	}
+
+	/**
+	 * Get the x and y coordinates of the center of the enclosing circle
+	 * @return x and y coordinates of the center of the enclosing circle, returned as an array a, where a[0]=x-cor and a[1]=y-cor
+	 */
+	public double[] getContainerPosition(){
+		this.update();
+		return new double[]{x,y};
+	}
+
+	/**
+	 * Get the ids of the circles which touch the boundary of the enclosing circle
+	 * @return ids of the circles in the support set
+	 */
+	public int[] getSupportCircles(){
+		this.update();
+		return Arrays.copyOf(supportIds, nrSupportCircles);
+	}
+
+	/**
+	 * @return Returns the number of circles in the set
+	 */
+	public int getNrCircles(){
+		return nrCircles;
+	}
+
+	/**
+	 * @param id id of a circle
+	 * @return Returns true if the circle with the given id belongs to the set
+	 */
+	public boolean containsCircle(int id){
+		return id >= 0 && id < nrIds && inUse[id];
+	}
+
+	/**
+	 * @param id id of the circle
+	 * @return Returns the x-coordinate of the circle
+	 */
+	public double getX(int id){
+		this.checkId(id);
+		return xCors[id];
+	}
+
+	/**
+	 * @param id id of the circle
+	 * @return Returns the y-coordinate of the circle
+	 */
+	public double getY(int id){
+		this.checkId(id);
+		return yCors[id];
+	}
+
+	/**
+	 * @param id id of the circle
+	 * @return Returns the radius of the circle
+	 */
+	public double getRadius(int id){
+		this.checkId(id);
+		return radii[id];
+	}
+
+	/**
+	 * @return Returns the number of times the container has been recomputed from scratch
+	 */
+	public long getNrRecomputations(){
+		return nrRecomputations;
+	}
+
+	/**
+	 * @return Returns the number of times the container has been extended to enclose a circle outside the container
+	 */
+	public long getNrExtensions(){
+		return nrExtensions;
+	}
+
+	/**
+	 * Recomputes the container and its support set if they have been invalidated by an update
+	 */
+	private void update(){
+		if(valid)
+			return;
+		valid=true;
+		if(nrCircles == 0){
+			this.clearSupportSet();
+			x=y=R=0;
+			return;
+		}
+
+		int n=this.fillBuffers();
+		calculator.calcContainer(xBuffer, yBuffer, rBuffer, n);
+		nrRecomputations++;
+		this.setContainer(n);
+	}
+
+	/**
+	 * Extends the (valid) container such that it encloses a circle which lies outside the container. The circle is either new, or a circle outside
+	 * the support set which has been moved; the smallest enclosing circle of the other circles is therefore the current container, and the circle
+	 * must touch the boundary of the new container.
+	 * @param id id of the circle outside the container
+	 */
+	private void extendContainer(int id){
+		if(nrCircles == 1){
+			this.clearSupportSet();
+			x=xCors[id];
+			y=yCors[id];
+			R=radii[id];
+			this.addSupportCircle(id);
+			return;
+		}
+		int n=this.fillBuffers();
+		int pos=0;
+		while(idBuffer[pos] != id)
+			pos++;
+		calculator.incrementalCalcContainer(pos, xBuffer, yBuffer, rBuffer, n, x, y, R);
+		nrExtensions++;
+		this.setContainer(n);
+	}
+
+	/**
+	 * Copies the circles in the set into consecutive buffers
+	 * @return number of circles in the buffers
+	 */
+	private int fillBuffers(){
+		if(xBuffer == null || xBuffer.length < nrCircles){
+			xBuffer=new double[xCors.length];
+			yBuffer=new double[xCors.length];
+			rBuffer=new double[xCors.length];
+			idBuffer=new int[xCors.length];
+		}
+		int n=0;
+		for(int id=0; id<nrIds; id++){
+			if(inUse[id]){
+				xBuffer[n]=xCors[id];
+				yBuffer[n]=yCors[id];
+				rBuffer[n]=radii[id];
+				idBuffer[n++]=id;
+			}
+		}
+		return n;
+	}
+
+	/**
+	 * Copies the container computed by the calculator, and determines its support set: all circles in the buffers touching the boundary of the container
+	 * @param n number of circles in the buffers
+	 */
+	private void setContainer(int n){
+		this.clearSupportSet();
+		double[] position=calculator.getContainerPosition();
+		x=position[0];
+		y=position[1];
+		R=calculator.getRadius();
+		for(int i=0; i<n; i++){
+			int id=idBuffer[i];
+			if(Point2D.distance(xCors[id], yCors[id], x, y)+radii[id] >= R-PRECISION)
+				this.addSupportCircle(id);
+		}
+	}
+
+	/**
+	 * Empties the support set
+	 */
+	private void clearSupportSet(){
+		for(int i=0; i<nrSupportCircles; i++)
+			support[supportIds[i]]=false;
+		nrSupportCircles=0;
+	}
+
+	/**
+	 * Adds a circle to the support set
+	 * @param id id of the circle
+	 */
+	private void addSupportCircle(int id){
+		support[id]=true;
+		if(nrSupportCircles == supportIds.length)
+			supportIds=Arrays.copyOf(supportIds, 2*nrSupportCircles);
+		supportIds[nrSupportCircles++]=id;
+	}
+
+	/**
+	 * Checks whether a circle in the set is enclosed by the current container
+	 * @param id id of the circle
+	 * @return true if the circle is enclosed by the container
+	 */
+	private boolean isContained(int id){
+		return Point2D.distance(xCors[id], yCors[id], x, y)+radii[id] <= R+PRECISION;
+	}
+
+	/**
+	 * Checks whether the id belongs to a circle in the set
+	 * @param id id of a circle
+	 */
+	private void checkId(int id){
+		if(!this.containsCircle(id))
+			throw new IllegalArgumentException("No circle with id "+id);
+	}
+
+	/**
+	 * Grows the arrays indexed by id
+	 * @param capacity new capacity
+	 */
+	private void allocate(int capacity){
+		if(xCors == null){
+			xCors=new double[capacity];
+			yCors=new double[capacity];
+			radii=new double[capacity];
+			inUse=new boolean[capacity];
+			support=new boolean[capacity];
+			freeIds=new int[capacity];
+		}else{
+			xCors=Arrays.copyOf(xCors, capacity);
+			yCors=Arrays.copyOf(yCors, capacity);
+			radii=Arrays.copyOf(radii, capacity);
+			inUse=Arrays.copyOf(inUse, capacity);
+			support=Arrays.copyOf(support, capacity);
+		}
+	}
+}
@@ -31,8 +31,10 @@ import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import org.jorlib.alg.packing.circlePacking.util.MathUtil;
 
@@ -61,13 +63,32 @@ import org.jorlib.alg.packing.circlePacking.util.MathUtil;
  * best results with their Quadratic programming approach, but we obtained better results with their 'Randomized incremental algorithm'.
  * Further experimenting may be required to determine the fastest method.<p>
  * 
- * To limit the impact caused by rounding issues, this class uses BigDecimals for added precision.
+ * To limit the impact caused by rounding issues, this class uses BigDecimals for added precision. Since BigDecimal arithmetic is slow, the
+ * method {@link #calcContainer(double[], double[], double[])} runs the same algorithm in double precision. Every containment test which cannot
+ * be decided reliably in double precision (the test lies within the rounding error of the decision boundary), as well as every ill-conditioned
+ * construction of a container, causes the computation to be redone through the BigDecimal implementation. The result of both methods is
+ * therefore the same (within {@link #PRECISION}).<p>
+ * 
+ * Two implementations of the algorithm are available, see {@link Method}. The recursive implementation processes the circles in their given
+ * order and recurses once per circle, which limits the number of circles it can handle. The move-to-front implementation processes the circles
+ * in random order with a recursion depth of at most 4, and runs in expected linear time.
  * 
  * @author Joris Kinable
  * @since April 8, 2015
  *
  */
 public class SmallestEnclosingCircleCalculator {
+	
+	/**
+	 * Implementation of the MiniCircle algorithm
+	 */
+	public enum Method{
+		/** Recursive implementation, processing the circles in the order in which they are provided **/
+		RECURSIVE,
+		/** Iterative move-to-front implementation (Welzl, Gaertner), processing the circles in random order **/
+		MOVE_TO_FRONT
+	}
+	
 	//For debugging purposes, validation can be enabled to verify that intermediate solutions are correct.
 	public static final boolean VALIDATORS_ENABLED=false;
 	//Enable/disable debugging output
@@ -75,6 +96,10 @@ public class SmallestEnclosingCircleCalculator {
 	
 	/** Precision parameter **/
 	public static final double PRECISION=0.000001;
+	/** Relative rounding error of the double precision computations; containment tests closer than this to their decision boundary are inconclusive **/
+	private static final double ROUNDING_ERROR=1e-12;
+	/** Maximum deviation of a support circle from the boundary of a container computed in double precision **/
+	private static final double MAX_CONSTRUCTION_ERROR=PRECISION/1000;
 		
 		
 	private int n; //the number of circles
@@ -82,6 +107,41 @@ public class SmallestEnclosingCircleCalculator {
 	private BigDecimal[] yCors; //yCors of circles
 	private BigDecimal[] radii; //radii of circles
 	
+	private double[] xCorsD; //xCors of circles (double precision computations)
+	private double[] yCorsD; //yCors of circles (double precision computations)
+	private double[] radiiD; //radii of circles (double precision computations)
+	private double diskX; //x-cor of the center of the disk computed in double precision
+	private double diskY; //y-cor of the center of the disk computed in double precision
+	private double diskR; //radix of the disk computed in double precision
+	private double diskError; //maximum deviation of the support circles from the boundary of the disk computed in double precision
+	private boolean inconclusive; //true if the double precision computations could not be carried out reliably
+	
+	/** Implementation of the MiniCircle algorithm **/
+	private final Method method;
+	/** Random generator used to shuffle the circles (move-to-front implementation) **/
+	private final Random random=new Random(0);
+	/** Order in which the circles are processed (move-to-front implementation) **/
+	private int[] order=new int[0];
+	/** True if the move-to-front implementation uses BigDecimals, false if it uses doubles **/
+	private boolean exact;
+	/** Disk computed by the move-to-front implementation using BigDecimals **/
+	private Disk exactDisk;
+	
+	/**
+	 * Creates a new calculator which uses the recursive implementation of the MiniCircle algorithm
+	 */
+	public SmallestEnclosingCircleCalculator(){
+		this(Method.RECURSIVE);
+	}
+	
+	/**
+	 * Creates a new calculator
+	 * @param method implementation of the MiniCircle algorithm
+	 */
+	public SmallestEnclosingCircleCalculator(Method method){
+		this.method=method;
+	}
+	
 	private BigDecimal R=BigDecimal.ZERO; //Radix of enclosing circle
 	private BigDecimal x=BigDecimal.ZERO; //x-cor of the center of the enclosing circle
 	private BigDecimal y=BigDecimal.ZERO; //y-cor of the center of the enclosing circle
@@ -147,12 +207,20 @@ public class SmallestEnclosingCircleCalculator {
 		this.radii=MathUtil.doubleToBigDecimalArray(radii);
 		this.n=xCors.length;
 		
-		List<Integer> C=new ArrayList<>();
-		for(int i=0; i<n; i++)
-			C.add(i);
-		List<Integer> B=Collections.emptyList();
-		
-		Disk d=this.miniCircle(C, B);
+		Disk d;
+		if(method == Method.MOVE_TO_FRONT){
+			this.exact=true;
+			this.inconclusive=false; //May have been set by a preceding double precision computation
+			this.initializeOrder(-1);
+			this.miniCircleMoveToFront(n, -1, -1, -1, 0);
+			d=exactDisk;
+		}else{
+			List<Integer> C=new ArrayList<>();
+			for(int i=0; i<n; i++)
+				C.add(i);
+			List<Integer> B=Collections.emptyList();
+			d=this.miniCircle(C, B);
+		}
 		if(DEBUG) System.out.println("Final disk: "+d);
 		if(VALIDATORS_ENABLED) this.validateSolution(d);
 		
@@ -163,6 +231,82 @@ public class SmallestEnclosingCircleCalculator {
 		if(DEBUG) System.out.println("Disk: "+d);
 	}
 	
+	/**
+	 * Given a set of circles identified by their x-coordinates, y-coordinates and radii, this method calculates
+	 * the smallest enclosing circle which encloses all the circles provided. The result is identical to the result of
+	 * {@link #calcExactContainer(double[], double[], double[])}, but the computations are performed in double precision.
+	 * Only if a containment test or the construction of an intermediate container is numerically unreliable, the
+	 * container is recomputed through {@link #calcExactContainer(double[], double[], double[])}.
+	 * @param xCors x-coordinates of the circles to be enclosed (can be positive and negative values)
+	 * @param yCors y-coordinates of the circles to be enclosed (can be positive and negative values)
+	 * @param radii radii of the circles to be enclosed (must be strictly positive, circles can be of any size)
+	 */
+	public void calcContainer(double[] xCors, double[] yCors, double[] radii){
+		this.calcContainer(xCors, yCors, radii, xCors.length);
+	}
+	
+	/**
+	 * Calculates the smallest enclosing circle of the circles which are present in the given grid, see
+	 * {@link #calcContainer(double[], double[], double[])}. If all circles are present, the coordinates are read directly from the grid.
+	 * @param grid spatial index holding the circles to be enclosed
+	 */
+	public void calcContainer(CircleGrid grid){
+		int nrCircles=grid.getNrCircles();
+		if(grid.getNrPresentCircles() == nrCircles){
+			this.calcContainer(grid.xCors, grid.yCors, grid.radii, nrCircles);
+			return;
+		}
+		double[] xCors=new double[grid.getNrPresentCircles()];
+		double[] yCors=new double[xCors.length];
+		double[] radii=new double[xCors.length];
+		int k=0;
+		for(int i=0; i<nrCircles; i++){
+			if(grid.isPresent(i)){
+				xCors[k]=grid.xCors[i];
+				yCors[k]=grid.yCors[i];
+				radii[k++]=grid.radii[i];
+			}
+		}
+		this.calcContainer(xCors, yCors, radii, k);
+	}
+	
+	/**
+	 * Same as {@link #calcContainer(double[], double[], double[])}, but only the first nrCircles entries of the arrays are taken into account.
+	 * This allows the arrays to be reused as buffers.
+	 * @param xCors x-coordinates of the circles to be enclosed (can be positive and negative values)
+	 * @param yCors y-coordinates of the circles to be enclosed (can be positive and negative values)
+	 * @param radii radii of the circles to be enclosed (must be strictly positive, circles can be of any size)
+	 * @param nrCircles number of circles to be enclosed
+	 */
+	public void calcContainer(double[] xCors, double[] yCors, double[] radii, int nrCircles){
+		this.xCorsD=xCors;
+		this.yCorsD=yCors;
+		this.radiiD=radii;
+		this.n=nrCircles;
+		this.inconclusive=false;
+		
+		if(method == Method.MOVE_TO_FRONT){
+			this.exact=false;
+			this.initializeOrder(-1);
+			this.miniCircleMoveToFront(n, -1, -1, -1, 0);
+		}else{
+			this.miniCircle(0, -1, -1, 0);
+		}
+		if(inconclusive){
+			if(DEBUG) System.out.println("Double precision computations are inconclusive, switching to BigDecimals");
+			if(nrCircles == xCors.length)
+				this.calcExactContainer(xCors, yCors, radii);
+			else
+				this.calcExactContainer(Arrays.copyOf(xCors, nrCircles), Arrays.copyOf(yCors, nrCircles), Arrays.copyOf(radii, nrCircles));
+			return;
+		}
+		if(DEBUG) System.out.println("Final disk: center: ("+diskX+";"+diskY+"), radix: "+diskR);
+		
+		this.x=BigDecimal.valueOf(diskX);
+		this.y=BigDecimal.valueOf(diskY);
+		this.R=BigDecimal.valueOf(diskR);
+	}
+	
 	/**
 	 * Given are a set of old circles, a circular container which encloses these circles and a new circle. This method tests whether the new
 	 * circle fits into the existing container. If yes, the method returns. If not, the method increases the size of the container such that
@@ -177,23 +321,47 @@ public class SmallestEnclosingCircleCalculator {
 	 * @param radiusContainer: : radix of existing container
 	 */
 	public void incrementalCalcContainer(int posCircleToAdd, double[] xCors, double[] yCors, double[] radii, double xCorContainer, double yCorContainer, double radiusContainer){
+		this.incrementalCalcContainer(posCircleToAdd, xCors, yCors, radii, xCors.length, xCorContainer, yCorContainer, radiusContainer);
+	}
+
+	/**
+	 * Same as {@link #incrementalCalcContainer(int, double[], double[], double[], double, double, double)}, but only the first nrCircles entries of the
+	 * arrays are taken into account. This allows the arrays to be reused as buffers.
+	 * @param posCircleToAdd: the position of the circle that is being added in the xCors/yCors/radii vectors
+	 * @param xCors: xCors of placed circles (including the circle that is being added)
+	 * @param yCors: yCors of placed circles (including the circle that is being added)
+	 * @param radii: radii of placed circles (including the circle that is being added)
+	 * @param nrCircles: number of placed circles (including the circle that is being added)
+	 * @param xCorContainer: xCor of center of existing container
+	 * @param yCorContainer: yCor of center of existing container
+	 * @param radiusContainer: : radix of existing container
+	 */
+	public void incrementalCalcContainer(int posCircleToAdd, double[] xCors, double[] yCors, double[] radii, int nrCircles, double xCorContainer, double yCorContainer, double radiusContainer){
 		Disk d=new Disk(BigDecimal.valueOf(xCorContainer), BigDecimal.valueOf(yCorContainer), BigDecimal.valueOf(radiusContainer));
 		
 		if(!d.circleIsContained(BigDecimal.valueOf(xCors[posCircleToAdd]), BigDecimal.valueOf(yCors[posCircleToAdd]), BigDecimal.valueOf(radii[posCircleToAdd]))){ //If the new circle does not fall within the existing container, calculate a new container:
 			this.xCors=MathUtil.doubleToBigDecimalArray(xCors);
 			this.yCors=MathUtil.doubleToBigDecimalArray(yCors);
 			this.radii=MathUtil.doubleToBigDecimalArray(radii);
-			this.n=xCors.length;
+			this.n=nrCircles;
 			
-			List<Integer> C=new ArrayList<>();
-			for(int i=0; i<n; i++){
-				if(i!=posCircleToAdd)
-					C.add(i);
+			Disk dNew;
+			if(method == Method.MOVE_TO_FRONT){
+				this.exact=true;
+				this.inconclusive=false; //May have been set by a preceding double precision computation
+				this.initializeOrder(posCircleToAdd);
+				this.miniCircleMoveToFront(n-1, posCircleToAdd, -1, -1, 1); //The new circle must be on the edge of the container
+				dNew=exactDisk;
+			}else{
+				List<Integer> C=new ArrayList<>();
+				for(int i=0; i<n; i++){
+					if(i!=posCircleToAdd)
+						C.add(i);
+				}
+				List<Integer> B=new ArrayList<>();
+				B.add(posCircleToAdd); //The new circle must be on the edge of the container
+				dNew=this.miniCircle(C, B);
 			}
-			List<Integer> B=new ArrayList<>();
-			B.add(posCircleToAdd); //The new circle must be on the edge of the container
-			
-			Disk dNew=this.miniCircle(C, B);
 			if(DEBUG) System.out.println("Final disk: "+dNew);
 			this.validateSolution(dNew);
 			
@@ -372,6 +540,11 @@ public class SmallestEnclosingCircleCalculator {
 		
 		if(DEBUG) System.out.println("Getting disk size for: c1: ("+xCors[id1]+","+yCors[id1]+") r: "+radii[id1]+"\nc2: ("+xCors[id2]+","+yCors[id2]+") r: "+radii[id2]+"\nc3: ("+xCors[id3]+","+yCors[id3]+") r: "+radii[id3]);
 		
+		//Centers are collinear (or coincide): the equations below are singular
+		BigDecimal det=xCors[id2].subtract(xCors[id1]).multiply(yCors[id3].subtract(yCors[id1])).subtract(xCors[id3].subtract(xCors[id1]).multiply(yCors[id2].subtract(yCors[id1])));
+		if(det.abs().compareTo(BigDecimal.valueOf(PRECISION)) <= 0)
+			return this.getDiskCollinearCircles(id1, id2, id3);
+		
 		//Calculate the X coordinate
 		BigDecimal c1;
 		BigDecimal c2;
@@ -459,10 +632,17 @@ public class SmallestEnclosingCircleCalculator {
 			d=BigDecimal.ZERO;
 		}
 		
-		//double r1=(-b+Math.sqrt(d))/(2*a);
-		BigDecimal r1=(b.negate().add(MathUtil.sqrt(d, MathContext.DECIMAL128))).divide(BigDecimal.valueOf(2).multiply(a),25, RoundingMode.HALF_UP);
-		//double r2=(-b-Math.sqrt(d))/(2*a); //this SHOULD be negative?
-		BigDecimal r2=(b.negate().subtract(MathUtil.sqrt(d, MathContext.DECIMAL128))).divide(BigDecimal.valueOf(2).multiply(a),25, RoundingMode.HALF_UP);
+		BigDecimal r1;
+		BigDecimal r2;
+		if(a.signum() == 0){ //Linear equation: r=-c/b
+			r1=MathUtil.divide(c.negate(), b);
+			r2=r1;
+		}else{
+			//double r1=(-b+Math.sqrt(d))/(2*a);
+			r1=(b.negate().add(MathUtil.sqrt(d, MathContext.DECIMAL128))).divide(BigDecimal.valueOf(2).multiply(a),25, RoundingMode.HALF_UP);
+			//double r2=(-b-Math.sqrt(d))/(2*a); //this SHOULD be negative?
+			r2=(b.negate().subtract(MathUtil.sqrt(d, MathContext.DECIMAL128))).divide(BigDecimal.valueOf(2).multiply(a),25, RoundingMode.HALF_UP);
+		}
 		
 		if(DEBUG) System.out.println("r1: "+r1+" r2: "+r2);
 
@@ -476,6 +656,284 @@ public class SmallestEnclosingCircleCalculator {
 	}
 	
 	
+	/**
+	 * Calculate the smallest enclosing circle for three circles with collinear (or coincident) centers. No circle which is tangent to all three circles
+	 * may exist in this case, e.g. when one of the circles encloses another circle. Since the center of the smallest enclosing circle lies on the line through the
+	 * centers, the smallest enclosing circle is determined by one or two of the circles.
+	 * @param id1 first circle
+	 * @param id2 second circle
+	 * @param id3 third circle
+	 * @return Smallest enclosing circle
+	 */
+	private Disk getDiskCollinearCircles(int id1, int id2, int id3){
+		int[] ids={id1, id2, id3};
+		Disk best=null;
+		Disk largest=null;
+		for(int i=0; i<3; i++){
+			for(int j=i; j<3; j++){
+				Disk D;
+				if(i == j){
+					D=new Disk(xCors[ids[i]], yCors[ids[i]], radii[ids[i]]);
+				}else{
+					//A disk tangent to two circles, one of which encloses the other, is never smaller than the larger circle
+					Disk Di=new Disk(xCors[ids[i]], yCors[ids[i]], radii[ids[i]]);
+					Disk Dj=new Disk(xCors[ids[j]], yCors[ids[j]], radii[ids[j]]);
+					if(Di.circleIsContained(xCors[ids[j]], yCors[ids[j]], radii[ids[j]]) || Dj.circleIsContained(xCors[ids[i]], yCors[ids[i]], radii[ids[i]]))
+						continue;
+					D=this.getDiskTwoTangentCircles(Arrays.asList(ids[i], ids[j]));
+				}
+				if(largest == null || D.R.compareTo(largest.R) > 0)
+					largest=D;
+				if((best == null || D.R.compareTo(best.R) < 0) && D.circleIsContained(xCors[id1], yCors[id1], radii[id1])
+						&& D.circleIsContained(xCors[id2], yCors[id2], radii[id2]) && D.circleIsContained(xCors[id3], yCors[id3], radii[id3]))
+					best=D;
+			}
+		}
+		return (best == null ? largest : best);
+	}
+	
+	/**
+	 * Fills the order buffer with a random permutation of the circles
+	 * @param excludedCircle circle which is left out of the permutation, or -1 if all circles are included
+	 */
+	private void initializeOrder(int excludedCircle){
+		if(order.length < n)
+			order=new int[n];
+		int length=0;
+		for(int i=0; i<n; i++){
+			if(i != excludedCircle)
+				order[length++]=i;
+		}
+		for(int i=length-1; i>0; i--){
+			int j=random.nextInt(i+1);
+			int tmp=order[i];
+			order[i]=order[j];
+			order[j]=tmp;
+		}
+	}
+	
+	/**
+	 * Move-to-front implementation of the MiniCircle function. Computes the smallest enclosing circle of the circles order[0], ..., order[end-1]
+	 * which has the circles in B on its boundary. Every circle which is not contained in the current disk is moved to the front of the order, so
+	 * that circles which are likely to be on the boundary of the container are tested first. Depending on the exact field, the disk is computed
+	 * using doubles (diskX, diskY, diskR) or BigDecimals (exactDisk).
+	 * @param end number of circles in the order which must be enclosed
+	 * @param b1 first boundary circle
+	 * @param b2 second boundary circle
+	 * @param b3 third boundary circle
+	 * @param nrBoundaryCircles size of set B
+	 */
+	private void miniCircleMoveToFront(int end, int b1, int b2, int b3, int nrBoundaryCircles){
+		this.calcBoundaryDisk(b1, b2, b3, nrBoundaryCircles);
+		if(nrBoundaryCircles == 3)
+			return;
+		for(int i=0; i<end && !inconclusive; i++){
+			int c=order[i];
+			if(this.circleIsContainedMoveToFront(c) || inconclusive)
+				continue;
+			//A new corner point has been found
+			if(nrBoundaryCircles == 0)
+				this.miniCircleMoveToFront(i, c, -1, -1, 1);
+			else if(nrBoundaryCircles == 1)
+				this.miniCircleMoveToFront(i, b1, c, -1, 2);
+			else
+				this.miniCircleMoveToFront(i, b1, b2, c, 3);
+			System.arraycopy(order, 0, order, 1, i);
+			order[0]=c;
+		}
+	}
+	
+	/**
+	 * Computes the smallest disk which has the circles in B on its boundary (move-to-front implementation)
+	 * @param b1 first boundary circle
+	 * @param b2 second boundary circle
+	 * @param b3 third boundary circle
+	 * @param nrBoundaryCircles size of set B
+	 */
+	private void calcBoundaryDisk(int b1, int b2, int b3, int nrBoundaryCircles){
+		if(exact){
+			if(nrBoundaryCircles == 0)
+				exactDisk=new Disk(BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+			else if(nrBoundaryCircles == 1)
+				exactDisk=new Disk(xCors[b1], yCors[b1], radii[b1]);
+			else if(nrBoundaryCircles == 2)
+				exactDisk=this.getDiskTwoTangentCircles(Arrays.asList(b1, b2));
+			else
+				exactDisk=this.getDiskThreeTangentCircles(Arrays.asList(b1, b2, b3));
+		}else{
+			if(nrBoundaryCircles == 0)
+				this.setDisk(0, 0, 0);
+			else if(nrBoundaryCircles == 1)
+				this.setDisk(xCorsD[b1], yCorsD[b1], radiiD[b1]);
+			else if(nrBoundaryCircles == 2)
+				this.calcDiskTwoTangentCircles(b1, b2);
+			else
+				this.calcDiskThreeTangentCircles(b1, b2, b3);
+		}
+	}
+	
+	/**
+	 * Checks whether the disk computed by the move-to-front implementation encloses circle i
+	 * @param i circle
+	 * @return true if the disk encloses circle i
+	 */
+	private boolean circleIsContainedMoveToFront(int i){
+		if(exact)
+			return exactDisk.circleIsContained(xCors[i], yCors[i], radii[i]);
+		else
+			return this.circleIsContained(i);
+	}
+	
+	/**
+	 * Double precision implementation of the MiniCircle function (Algorithm 2.6 in the paper). The set C consists of the circles
+	 * start, start+1, ..., n-1; the set B consists of at most 2 circles. The resulting disk is stored in diskX, diskY, diskR.
+	 * @param start first circle in C
+	 * @param b1 first boundary circle
+	 * @param b2 second boundary circle
+	 * @param nrBoundaryCircles size of set B
+	 */
+	private void miniCircle(int start, int b1, int b2, int nrBoundaryCircles){
+		if(start == n){
+			if(nrBoundaryCircles == 0) //Calculate an empty circle
+				this.setDisk(0, 0, 0);
+			else if(nrBoundaryCircles == 1) //The container should contain a single circle
+				this.setDisk(xCorsD[b1], yCorsD[b1], radiiD[b1]);
+			else //The container should contain two circles
+				this.calcDiskTwoTangentCircles(b1, b2);
+			return;
+		}
+		this.miniCircle(start+1, b1, b2, nrBoundaryCircles);
+		if(!inconclusive && !this.circleIsContained(start) && !inconclusive){ //A new corner point has been found
+			if(nrBoundaryCircles == 0)
+				this.miniCircle(start+1, start, -1, 1);
+			else if(nrBoundaryCircles == 1)
+				this.miniCircle(start+1, b1, start, 2);
+			else
+				this.calcDiskThreeTangentCircles(b1, b2, start);
+		}
+	}
+	
+	/**
+	 * Checks whether the disk computed in double precision encloses circle i. If the outcome of the test falls within the rounding error,
+	 * the computations are marked as inconclusive.
+	 * @param i circle
+	 * @return true if the disk encloses circle i
+	 */
+	private boolean circleIsContained(int i){
+		double dx=xCorsD[i]-diskX;
+		double dy=yCorsD[i]-diskY;
+		double slack=diskR+PRECISION-Math.sqrt(dx*dx+dy*dy)-radiiD[i];
+		double scale=Math.abs(xCorsD[i])+Math.abs(yCorsD[i])+radiiD[i]+Math.abs(diskX)+Math.abs(diskY)+diskR;
+		if(Math.abs(slack) <= ROUNDING_ERROR*scale+diskError)
+			inconclusive=true;
+		return slack > 0;
+	}
+	
+	/**
+	 * Calculate, in double precision, the smallest enclosing circle for circles c1 and c2. The center of this circle lies on the line through the
+	 * centers of c1 and c2.
+	 * @param c1 first circle
+	 * @param c2 second circle
+	 */
+	private void calcDiskTwoTangentCircles(int c1, int c2){
+		double dx=xCorsD[c2]-xCorsD[c1];
+		double dy=yCorsD[c2]-yCorsD[c1];
+		double dist=Math.sqrt(dx*dx+dy*dy);
+		double r=(radiiD[c1]+radiiD[c2]+dist)/2;
+		if(dist == 0)
+			this.setDisk(xCorsD[c1], yCorsD[c1], r);
+		else{
+			double t=(r-radiiD[c1])/dist;
+			this.setDisk(xCorsD[c1]+t*dx, yCorsD[c1]+t*dy, r);
+		}
+		this.validateDisk(c1, c2, c2);
+	}
+	
+	/**
+	 * Calculate, in double precision, the smallest enclosing circle which touches circles c1, c2 and c3 (Apollonius problem). Relative to the
+	 * center of c1, the center (u,v) of this circle satisfies the linear equations
+	 * {@code u*x_i+v*y_i=(r_i-r_1)R+(x_i^2+y_i^2-r_i^2+r_1^2)/2} for i=2,3, as well as {@code u^2+v^2=(R-r_1)^2}. The radius R is the smallest
+	 * root of the resulting quadratic equation for which the container encloses all three circles.
+	 * @param c1 first circle
+	 * @param c2 second circle
+	 * @param c3 third circle
+	 */
+	private void calcDiskThreeTangentCircles(int c1, int c2, int c3){
+		double x2=xCorsD[c2]-xCorsD[c1], y2=yCorsD[c2]-yCorsD[c1];
+		double x3=xCorsD[c3]-xCorsD[c1], y3=yCorsD[c3]-yCorsD[c1];
+		double r1=radiiD[c1];
+		double det=x2*y3-x3*y2;
+		if(Math.abs(det) <= ROUNDING_ERROR*(Math.abs(x2)+Math.abs(y2))*(Math.abs(x3)+Math.abs(y3))){ //Centers are collinear
+			inconclusive=true;
+			return;
+		}
+		double k2=(x2*x2+y2*y2-radiiD[c2]*radiiD[c2]+r1*r1)/2, s2=radiiD[c2]-r1;
+		double k3=(x3*x3+y3*y3-radiiD[c3]*radiiD[c3]+r1*r1)/2, s3=radiiD[c3]-r1;
+		//u=u0+u1*R, v=v0+v1*R
+		double u0=(k2*y3-k3*y2)/det, u1=(s2*y3-s3*y2)/det;
+		double v0=(x2*k3-x3*k2)/det, v1=(x2*s3-x3*s2)/det;
+		//a*R^2+b*R+c=0
+		double a=u1*u1+v1*v1-1;
+		double b=2*(u0*u1+v0*v1+r1);
+		double c=u0*u0+v0*v0-r1*r1;
+		double minR=Math.max(r1, Math.max(radiiD[c2], radiiD[c3]))-MAX_CONSTRUCTION_ERROR;
+		double r;
+		if(Math.abs(a) <= ROUNDING_ERROR*(u1*u1+v1*v1+1)){ //Linear equation
+			r=-c/b;
+		}else{
+			double d=Math.max(0, b*b-4*a*c);
+			double q=-(b+Math.copySign(Math.sqrt(d), b))/2; //Numerically stable roots q/a and c/q
+			double root1=q/a;
+			double root2=(q == 0 ? root1 : c/q);
+			double small=Math.min(root1, root2), large=Math.max(root1, root2);
+			r=(small >= minR ? small : large);
+		}
+		if(!(r >= minR)){
+			inconclusive=true;
+			return;
+		}
+		this.setDisk(xCorsD[c1]+u0+u1*r, yCorsD[c1]+v0+v1*r, r);
+		this.validateDisk(c1, c2, c3);
+	}
+	
+	/**
+	 * Sets the disk computed in double precision
+	 * @param x x-cor of the center
+	 * @param y y-cor of the center
+	 * @param R radix
+	 */
+	private void setDisk(double x, double y, double R){
+		this.diskX=x;
+		this.diskY=y;
+		this.diskR=R;
+		this.diskError=0;
+	}
+	
+	/**
+	 * Computes the maximum deviation of the given support circles from the boundary of the disk computed in double precision. If this deviation
+	 * is too large, the construction of the disk is ill-conditioned, and the computations are marked as inconclusive.
+	 * @param c1 first support circle
+	 * @param c2 second support circle
+	 * @param c3 third support circle
+	 */
+	private void validateDisk(int c1, int c2, int c3){
+		diskError=Math.max(this.boundaryDeviation(c1), Math.max(this.boundaryDeviation(c2), this.boundaryDeviation(c3)));
+		if(!(diskError <= MAX_CONSTRUCTION_ERROR))
+			inconclusive=true;
+	}
+	
+	/**
+	 * Computes the distance between the boundary of circle c and the boundary of the disk computed in double precision, assuming that c touches
+	 * the disk from the inside.
+	 * @param c circle
+	 * @return absolute deviation
+	 */
+	private double boundaryDeviation(int c){
+		double dx=xCorsD[c]-diskX;
+		double dy=yCorsD[c]-diskY;
+		return Math.abs(Math.sqrt(dx*dx+dy*dy)+radiiD[c]-diskR);
+	}
+	
 	/**
 	 * Method for debugging purposes. For a given enclosing circle, this method checks whether all circles are contained.
 	 * @param d Enclosing circle
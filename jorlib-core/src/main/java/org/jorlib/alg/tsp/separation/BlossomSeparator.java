@@ -0,0 +1,392 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BlossomSeparator.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.tsp.separation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jgrapht.Graph;
+
+/**
+ * This class separates 2-matching blossom inequalities for the TSP. Let {@code G(V,E)} be a undirected graph. A blossom consists of a handle {@code H\subset V} and
+ * an odd set of teeth {@code T\subseteq \delta{H}}, {@code |T|>=3}. Every TSP solution satisfies the blossom inequality
+ * {@code x(E(H)) + x(T) <= |H| + (|T|-1)/2}, or equivalently (using the degree constraints) {@code x(\delta{H}\setminus T) + \sum_{e\in T} (1-x_e) >=1}. The left hand
+ * side of the latter form is referred to as the cut value of the blossom; a blossom is violated if its cut value is smaller than 1.<br><p>
+ *
+ * Two separation procedures are provided:
+ * <ul>
+ * <li>{@link #separateBlossoms(Map)}: the exact separation procedure of Padberg and Rao. Each edge e=(i,j) of the support graph is subdivided by a new vertex
+ * {@code k_e}; edge (i,k_e) receives capacity {@code x_e} and edge (k_e,j) capacity {@code 1-x_e}. The vertices {@code k_e} and the vertices which are incident to an
+ * odd number of (1-x_e)-edges are labeled odd. Every cut containing an odd number of odd vertices corresponds to a blossom with the same cut value, and the minimum
+ * odd cut is one of the fundamental cuts of a Gomory-Hu tree, which is constructed through Gusfield's algorithm using a push-relabel maximum flow algorithm. All
+ * violated odd fundamental cuts are returned, see {@literal M.W. Padberg and M.R. Rao, "Odd minimum cut-sets and b-matchings", Mathematics of Operations Research,
+ * volume 7, number 1, pp 67-80, 1982.}</li>
+ * <li>{@link #separateBlossomsHeuristically(Map)}: the fast heuristic of Padberg and Hong. Each connected component of the graph induced by the fractional edges
+ * ({@code 0 < x_e < 1}) is used as a handle; the teeth are the edges with {@code x_e=1} leaving the handle. If the number of teeth is odd, the blossom is violated.
+ * The components are computed in {@code O(|V|+|E|)} time.</li>
+ * </ul>
+ * Blossoms with a single tooth are not returned: if such a blossom is violated, the handle defines a violated subtour, which should be separated through the
+ * {@link SubtourSeparator}. The returned handles never contain the first vertex of the input graph; since the blossom inequality is invariant under complementing
+ * the handle when the degree constraints hold, this does not restrict the separation.<p>
+ *
+ * Note: the graph must be provided as a JgraphT graph, and may be directed, undirected or mixed. As in {@link SubtourSeparator}, multiple edges between two vertices i,j
+ * are aggregated into an undirected edge (i,j). The teeth are reported as the edges of the input graph which have a positive value.<p>
+ *
+ * WARNING: if the input graph is modified, i.e. edges or vertices are added/removed then the behavior of this class is undefined!
+ * 			A new instance should of this class should be made if this happens!
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ */
+public class BlossomSeparator<V, E> {
+
+	/** Precision 0.000001**/
+	public static final double PRECISION=0.000001;
+
+	//Solution
+	private final List<Set<V>> handles=new ArrayList<>();
+	private final List<Set<E>> teeth=new ArrayList<>();
+	private final List<Double> cutValues=new ArrayList<>();
+
+	private final Graph<V,E> inputGraph; //Original graph which defines the TSP problem
+	private final SupportGraph<V,E> supportGraph; //Undirected support graph of the fractional solution
+	private final int n;
+
+	//Split graph and Gomory-Hu tree
+	private int[] splitTail=new int[32], splitHead=new int[32];
+	private double[] splitCapacity=new double[32];
+	private int[] edgeTail=new int[16], edgeHead=new int[16]; //Endpoints of the edges of the support graph; edgeHead is the (1-x_e)-endpoint
+	private double[] edgeValue=new double[16];
+	private boolean[] odd=new boolean[16];
+	private int[] treeParent=new int[16];
+	private double[] treeWeight=new double[16];
+	private int[] childStart=new int[17], children=new int[16];
+	private int[] treeOrder=new int[16];
+	private boolean[] oddSubtree=new boolean[16];
+	private boolean[] inCut=new boolean[16];
+	private final PushRelabelMaxFlow maxFlow=new PushRelabelMaxFlow();
+
+	//Working buffers
+	private final boolean[] inHandle;
+	private final int[] stack;
+	private final Set<Set<V>> distinctHandles=new HashSet<>();
+
+	/**
+	 * This method instantiates the Blossom Separator. The input can be any type of graph: directed, undirected, or mixed, complete or incomplete,
+	 * weighted or without weights.
+	 * @param inputGraph input graph
+	 */
+	public BlossomSeparator(Graph<V,E> inputGraph){
+		this.inputGraph=inputGraph;
+		this.supportGraph=new SupportGraph<>(inputGraph);
+		n=supportGraph.nrInputVertices;
+		inHandle=new boolean[n];
+		stack=new int[n];
+	}
+
+	/**
+	 * Separates violated blossom inequalities through the exact separation procedure of Padberg and Rao.
+	 * @param edgeValueMap Mapping of edges to their corresponding values, i.e. the x_e variable values for all e \in E. It suffices to provide the values
+	 *                     of the non-zero edges. All other edges are presumed to have the value 0.
+	 */
+	public void separateBlossoms(Map<E, Double> edgeValueMap){
+		this.clear();
+		supportGraph.update(edgeValueMap, PRECISION);
+		int m=this.collectEdges();
+
+		//1. Build the split graph: vertex n+e subdivides edge e
+		int nrSplitVertices=n+m;
+		this.ensureSplitCapacity(nrSplitVertices);
+		Arrays.fill(odd, 0, nrSplitVertices, false);
+		for(int e=0; e<m; e++){
+			splitTail[2*e]=edgeTail[e];
+			splitHead[2*e]=n+e;
+			splitCapacity[2*e]=edgeValue[e];
+			splitTail[2*e+1]=n+e;
+			splitHead[2*e+1]=edgeHead[e];
+			splitCapacity[2*e+1]=Math.max(0, 1-edgeValue[e]);
+			odd[n+e]=true;
+			odd[edgeHead[e]]=!odd[edgeHead[e]];
+		}
+		maxFlow.build(nrSplitVertices, 2*m, splitTail, splitHead, splitCapacity, true);
+
+		//2. Gomory-Hu tree (Gusfield)
+		Arrays.fill(treeParent, 0, nrSplitVertices, 0);
+		treeParent[0]=-1;
+		for(int s=1; s<nrSplitVertices; s++){
+			int t=treeParent[s];
+			double value=maxFlow.minCut(s, t);
+			treeWeight[s]=value;
+			for(int i=0; i<nrSplitVertices; i++)
+				if(i != s && treeParent[i] == t && maxFlow.isOnSourceSide(i))
+					treeParent[i]=s;
+			if(treeParent[t] >= 0 && maxFlow.isOnSourceSide(treeParent[t])){
+				treeParent[s]=treeParent[t];
+				treeParent[t]=s;
+				treeWeight[s]=treeWeight[t];
+				treeWeight[t]=value;
+			}
+		}
+
+		//3. Order the tree from the root, and compute the parity of the number of odd vertices in each subtree
+		Arrays.fill(childStart, 0, nrSplitVertices+1, 0);
+		for(int i=1; i<nrSplitVertices; i++)
+			childStart[treeParent[i]+1]++;
+		for(int i=0; i<nrSplitVertices; i++)
+			childStart[i+1]+=childStart[i];
+		System.arraycopy(childStart, 0, treeOrder, 0, nrSplitVertices);
+		for(int i=1; i<nrSplitVertices; i++)
+			children[treeOrder[treeParent[i]]++]=i;
+		int size=0;
+		treeOrder[size++]=0;
+		for(int k=0; k<size; k++)
+			for(int c=childStart[treeOrder[k]]; c<childStart[treeOrder[k]+1]; c++)
+				treeOrder[size++]=children[c];
+		Arrays.fill(oddSubtree, 0, nrSplitVertices, false);
+		for(int k=nrSplitVertices-1; k>=0; k--){
+			int v=treeOrder[k];
+			oddSubtree[v]^=odd[v];
+			if(v != 0)
+				oddSubtree[treeParent[v]]^=oddSubtree[v];
+		}
+
+		//4. Every fundamental cut with an odd number of odd vertices and a value smaller than 1 defines a violated blossom
+		for(int v=1; v<nrSplitVertices; v++){
+			if(!oddSubtree[v] || treeWeight[v] >= 1-PRECISION)
+				continue;
+			Arrays.fill(inCut, 0, nrSplitVertices, false);
+			int top=0;
+			treeOrder[top++]=v;
+			while(top > 0){
+				int u=treeOrder[--top];
+				inCut[u]=true;
+				for(int c=childStart[u]; c<childStart[u+1]; c++)
+					treeOrder[top++]=children[c];
+			}
+			for(int i=0; i<n; i++)
+				inHandle[i]=inCut[i];
+			this.recordBlossom(edgeValueMap, m, true);
+		}
+	}
+
+	/**
+	 * Separates violated blossom inequalities through the heuristic of Padberg and Hong: the handles are the connected components of the graph induced by the
+	 * fractional edges.
+	 * @param edgeValueMap Mapping of edges to their corresponding values, i.e. the x_e variable values for all e \in E. It suffices to provide the values
+	 *                     of the non-zero edges. All other edges are presumed to have the value 0.
+	 */
+	public void separateBlossomsHeuristically(Map<E, Double> edgeValueMap){
+		this.clear();
+		supportGraph.update(edgeValueMap, PRECISION);
+		int m=this.collectEdges();
+
+		int[] component=supportGraph.component;
+		Arrays.fill(component, -1);
+		int nrComponents=0;
+		for(int root=0; root<n; root++){
+			if(component[root] >= 0 || !this.hasFractionalEdge(root)) continue;
+			int top=0;
+			stack[top++]=root;
+			component[root]=nrComponents;
+			while(top > 0){
+				int i=stack[--top];
+				for(int k=supportGraph.adjStart[i]; k<supportGraph.adjEnd(i); k++){
+					int j=supportGraph.adjTarget[k];
+					if(component[j] < 0 && supportGraph.adjWeight[k] < 1-PRECISION){
+						component[j]=nrComponents;
+						stack[top++]=j;
+					}
+				}
+			}
+			nrComponents++;
+		}
+		for(int c=0; c<nrComponents; c++){
+			for(int i=0; i<n; i++)
+				inHandle[i]= component[i] == c;
+			this.recordBlossom(edgeValueMap, m, false);
+		}
+	}
+
+	/**
+	 * Returns whether a vertex is incident to a fractional edge
+	 * @param i vertex
+	 * @return true if vertex i is incident to an edge with {@code 0 < x_e < 1}
+	 */
+	private boolean hasFractionalEdge(int i){
+		for(int k=supportGraph.adjStart[i]; k<supportGraph.adjEnd(i); k++)
+			if(supportGraph.adjWeight[k] < 1-PRECISION)
+				return true;
+		return false;
+	}
+
+	/**
+	 * Stores the edges of the support graph in {@link #edgeTail}, {@link #edgeHead} and {@link #edgeValue}.
+	 * @return number of edges in the support graph
+	 */
+	private int collectEdges(){
+		int m=supportGraph.m;
+		if(edgeTail.length < m){
+			edgeTail=new int[2*m];
+			edgeHead=new int[2*m];
+			edgeValue=new double[2*m];
+		}
+		int e=0;
+		for(int i=0; i<n; i++){
+			for(int k=supportGraph.adjStart[i]; k<supportGraph.adjEnd(i); k++){
+				if(i < supportGraph.adjTarget[k]){
+					edgeTail[e]=i;
+					edgeHead[e]=supportGraph.adjTarget[k];
+					edgeValue[e++]=supportGraph.adjWeight[k];
+				}
+			}
+		}
+		return m;
+	}
+
+	/**
+	 * Ensures that the buffers of the split graph can hold the given number of vertices
+	 * @param nrSplitVertices number of vertices in the split graph
+	 */
+	private void ensureSplitCapacity(int nrSplitVertices){
+		if(odd.length >= nrSplitVertices)
+			return;
+		int capacity=2*nrSplitVertices;
+		splitTail=new int[2*capacity];
+		splitHead=new int[2*capacity];
+		splitCapacity=new double[2*capacity];
+		odd=new boolean[capacity];
+		treeParent=new int[capacity];
+		treeWeight=new double[capacity];
+		childStart=new int[capacity+1];
+		children=new int[capacity];
+		treeOrder=new int[capacity];
+		oddSubtree=new boolean[capacity];
+		inCut=new boolean[capacity];
+	}
+
+	/**
+	 * Records the blossom with the handle marked in {@link #inHandle}, if it is violated and has at least 3 teeth. When the teeth are determined by the split graph, an
+	 * edge e leaving the handle is a tooth if the cut separates vertex {@code k_e} from the (1-x_e)-endpoint of e. Otherwise, every edge with value 1 leaving the handle
+	 * is a tooth.
+	 * @param edgeValueMap edge values
+	 * @param m number of edges in the support graph
+	 * @param splitGraphTeeth true if the teeth are determined by the cut in the split graph, stored in {@link #inCut}
+	 */
+	private void recordBlossom(Map<E, Double> edgeValueMap, int m, boolean splitGraphTeeth){
+		//Normalize the handle such that it does not contain vertex 0
+		boolean complement=inHandle[0];
+		double value=0;
+		int nrTeeth=0, handleSize=0;
+		Set<Long> toothEdges=new HashSet<>();
+		for(int e=0; e<m; e++){
+			int i=edgeTail[e], j=edgeHead[e];
+			if(inHandle[i] == inHandle[j])
+				continue;
+			boolean tooth=(splitGraphTeeth ? inCut[n+e] != inCut[j] : edgeValue[e] >= 1-PRECISION);
+			if(tooth){
+				nrTeeth++;
+				value+=Math.max(0, 1-edgeValue[e]);
+				toothEdges.add((long)i*n+j);
+			}else{
+				value+=edgeValue[e];
+			}
+		}
+		for(int i=0; i<n; i++)
+			if(inHandle[i] != complement) handleSize++;
+		if(nrTeeth < 3 || nrTeeth % 2 == 0 || value >= 1-PRECISION || handleSize == 0 || handleSize == n)
+			return;
+
+		Set<V> handle=new HashSet<>();
+		for(int i=0; i<n; i++)
+			if(inHandle[i] != complement)
+				handle.add(supportGraph.getVertex(i));
+		if(!distinctHandles.add(handle))
+			return;
+		Set<E> teethSet=new HashSet<>();
+		for(Map.Entry<E, Double> entry : edgeValueMap.entrySet()){
+			if(entry.getValue() <= PRECISION) continue;
+			int i=supportGraph.getIndex(inputGraph.getEdgeSource(entry.getKey()));
+			int j=supportGraph.getIndex(inputGraph.getEdgeTarget(entry.getKey()));
+			if(toothEdges.contains((long)Math.min(i,j)*n+Math.max(i,j)))
+				teethSet.add(entry.getKey());
+		}
+		handles.add(handle);
+		teeth.add(teethSet);
+		cutValues.add(value);
+	}
+
+	/**
+	 * Clears the blossoms found in the previous invocation
+	 */
+	private void clear(){
+		handles.clear();
+		teeth.clear();
+		cutValues.clear();
+		distinctHandles.clear();
+	}
+
+	/**
+	 * Returns whether a violated blossom inequality has been found
+	 * @return whether a violated blossom inequality has been found
+	 */
+	public boolean hasBlossom(){
+		return !handles.isEmpty();
+	}
+
+	/**
+	 * Returns the handles H of the violated blossoms
+	 * @return the handles of the violated blossoms
+	 */
+	public List<Set<V>> getHandles(){
+		return Collections.unmodifiableList(handles);
+	}
+
+	/**
+	 * Returns the teeth T of the violated blossoms, in the same order as {@link #getHandles()}
+	 * @return the teeth of the violated blossoms
+	 */
+	public List<Set<E>> getTeeth(){
+		return Collections.unmodifiableList(teeth);
+	}
+
+	/**
+	 * Returns {@code x(\delta{H}\setminus T) + \sum_{e\in T} (1-x_e)} for each violated blossom, in the same order as {@link #getHandles()}. A blossom is
+	 * violated if this value is smaller than 1.
+	 * @return the cut values of the violated blossoms
+	 */
+	public List<Double> getCutValues(){
+		return Collections.unmodifiableList(cutValues);
+	}
+}
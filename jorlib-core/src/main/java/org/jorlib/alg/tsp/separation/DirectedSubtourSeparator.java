@@ -0,0 +1,461 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * DirectedSubtourSeparator.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.tsp.separation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jgrapht.Graph;
+
+/**
+ * This class separates directed subtours, i.e. violated directed cut-set inequalities for the Asymmetric Traveling Salesman Problem (ATSP). Let {@code G(V,A)} be a
+ * directed graph with vertex set {@code V} and arc set {@code A}. A valid ATSP solution should satisfy {@code \sum_{a\in \delta^+{S}} x_a >=1} for all
+ * {@code S\subset V, S \noteq \emptyset}, where {@code \delta^+{S}\subset A} is the set of arcs leaving {@code S}, and {@code x_a} is a binary variable indicating
+ * whether arc {@code a\in A} is used in the ATSP solution. Contrary to {@link SubtourSeparator}, arcs (i,j) and (j,i) are not aggregated, so the
+ * separation does not require the graph to be symmetrized.<br><p>
+ *
+ * The separation is performed on the support graph of the fractional solution. If the support graph is not strongly connected, the violated inequalities are
+ * derived from its strongly connected components, which are computed in {@code O(|V|+|A|)} time. Otherwise, a minimum cut is computed from vertex {@code r} (the first vertex of the input graph)
+ * to every other vertex {@code t}, and from {@code t} to {@code r}, using a push-relabel maximum flow algorithm. Every set {@code S} either contains r or not, so the most
+ * violated inequality is always among the {@code 2(|V|-1)} computed cuts. All violated cuts are returned, ordered from most violated to least violated.<br><p>
+ *
+ * Precedence variant: for the Sequential Ordering Problem (SOP), a tour starting and ending at a depot {@code d} must visit vertex i before vertex j for each precedence
+ * (i,j). The path from i to j then avoids d, the path from d to i avoids j, and the path from j to d avoids i. This yields the precedence cut-set inequalities
+ * {@code \sum_{u\in S, v\notin S\cup\{w\}} x_{uv} >=1}, where the excluded vertex {@code w} is not in {@code S}, and either {@code i\in S, j\notin S, w=d}, or
+ * {@code d\in S, i\notin S, w=j}, or {@code j\in S, d\notin S, w=i}. These inequalities are separated through {@link #separatePrecedenceCuts(Map, Object, Map, int)}
+ * with one maximum flow computation per precedence and type.<br><p>
+ *
+ * All working buffers, including the flow network, are allocated once and reused in subsequent invocations.<p>
+ *
+ * Note: the arcs of the graph are defined by {@link Graph#getEdgeSource(Object)} and {@link Graph#getEdgeTarget(Object)}. The values of multiple arcs from i to j add up.<p>
+ *
+ * WARNING: if the input graph is modified, i.e. edges or vertices are added/removed then the behavior of this class is undefined!
+ * 			A new instance should of this class should be made if this happens!
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ */
+public class DirectedSubtourSeparator<V, E> {
+
+	/** Precision 0.000001**/
+	public static final double PRECISION=0.000001;
+
+	//Solution
+	private double minCutValue=-1;
+	private boolean hasSubtour=false;
+	private final List<Set<V>> cutSets=new ArrayList<>();
+	private final List<Double> cutValues=new ArrayList<>();
+	private final List<V> excludedVertices=new ArrayList<>();
+
+	private final Graph<V,E> inputGraph; //Original graph which defines the ATSP problem
+	private final List<V> vertices; //Vertices of the input graph, indexed by their number
+	private final Map<V, Integer> vertexIndex; //Number of each vertex
+	private final int n;
+
+	//Support graph: arcs with a positive value
+	private int nrArcs=0;
+	private int[] arcTail=new int[16], arcHead=new int[16];
+	private double[] arcValue=new double[16];
+	private int[] capacityTail=new int[16], capacityHead=new int[16]; //Arcs of the flow network
+	private double[] capacity=new double[16];
+	private final PushRelabelMaxFlow maxFlow=new PushRelabelMaxFlow();
+
+	//Working buffers of the strongly connected component computation
+	private final int[] outStart;
+	private int[] outHead=new int[16];
+	private final int[] component;
+	private final int[] lowLink;
+	private final int[] order;
+	private final int[] stack;
+	private final int[] callStack;
+	private final int[] callArc;
+	private final boolean[] hasIncoming;
+	private final boolean[] hasOutgoing;
+
+	//Violated cuts found in the current invocation
+	private final List<ViolatedCut> violatedCuts=new ArrayList<>();
+	private final boolean[] cutBuffer;
+
+	/**
+	 * This method instantiates the Directed Subtour Separator. The arcs of the graph are defined by the source and target of its edges.
+	 * @param inputGraph input graph
+	 */
+	public DirectedSubtourSeparator(Graph<V,E> inputGraph){
+		if(inputGraph.vertexSet().size() < 2)
+			throw new IllegalArgumentException("Graph has less than 2 vertices");
+		this.inputGraph=inputGraph;
+		vertices=new ArrayList<>(inputGraph.vertexSet());
+		n=vertices.size();
+		vertexIndex=new HashMap<>();
+		for(int i=0; i<n; i++)
+			vertexIndex.put(vertices.get(i), i);
+		outStart=new int[n+1];
+		component=new int[n];
+		lowLink=new int[n];
+		order=new int[n];
+		stack=new int[n];
+		callStack=new int[n];
+		callArc=new int[n];
+		hasIncoming=new boolean[n];
+		hasOutgoing=new boolean[n];
+		cutBuffer=new boolean[n];
+	}
+
+	/**
+	 * Separates all violated directed cut-set inequalities {@code \sum_{a\in \delta^+{S}} x_a >=1}.
+	 * @param edgeValueMap Mapping of edges to their corresponding values, i.e. the x_a variable values for all a \in A. It suffices to provide the values
+	 *                     of the non-zero arcs. All other arcs are presumed to have the value 0.
+	 */
+	public void separateSubtours(Map<E, Double> edgeValueMap){
+		this.separateSubtours(edgeValueMap, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Separates the {@code maxNrCuts} most violated directed cut-set inequalities {@code \sum_{a\in \delta^+{S}} x_a >=1}.
+	 * @param edgeValueMap Mapping of edges to their corresponding values, i.e. the x_a variable values for all a \in A. It suffices to provide the values
+	 *                     of the non-zero arcs. All other arcs are presumed to have the value 0.
+	 * @param maxNrCuts maximum number of inequalities returned
+	 */
+	public void separateSubtours(Map<E, Double> edgeValueMap, int maxNrCuts){
+		if(maxNrCuts < 1)
+			throw new IllegalArgumentException("maxNrCuts must be at least 1");
+		this.buildSupportGraph(edgeValueMap);
+		violatedCuts.clear();
+		minCutValue=Double.MAX_VALUE;
+
+		int nrComponents=this.computeStronglyConnectedComponents();
+		if(nrComponents > 1){
+			//A component without outgoing arcs defines a violated cut; so does the complement of a component without incoming arcs
+			Arrays.fill(hasIncoming, 0, nrComponents, false);
+			Arrays.fill(hasOutgoing, 0, nrComponents, false);
+			for(int a=0; a<nrArcs; a++){
+				if(component[arcTail[a]] != component[arcHead[a]]){
+					hasOutgoing[component[arcTail[a]]]=true;
+					hasIncoming[component[arcHead[a]]]=true;
+				}
+			}
+			for(int c=0; c<nrComponents; c++){
+				if(!hasOutgoing[c]){
+					for(int i=0; i<n; i++)
+						cutBuffer[i]= component[i] == c;
+					this.recordCut(0, -1);
+				}
+				if(!hasIncoming[c]){
+					for(int i=0; i<n; i++)
+						cutBuffer[i]= component[i] != c;
+					this.recordCut(0, -1);
+				}
+			}
+		}else{
+			//Compute the minimum cuts between the root and every other vertex, in both directions
+			this.buildFlowNetwork(-1);
+			for(int t=1; t<n; t++){
+				double value=maxFlow.minCut(0, t);
+				if(value < 1-PRECISION || value < minCutValue){
+					for(int i=0; i<n; i++)
+						cutBuffer[i]=maxFlow.isOnSourceSide(i);
+					this.recordCut(value, -1);
+				}
+				value=maxFlow.minCut(t, 0);
+				if(value < 1-PRECISION || value < minCutValue){
+					for(int i=0; i<n; i++)
+						cutBuffer[i]=maxFlow.isOnSourceSide(i);
+					this.recordCut(value, -1);
+				}
+			}
+		}
+		this.selectCuts(maxNrCuts);
+	}
+
+	/**
+	 * Separates the {@code maxNrCuts} most violated precedence cut-set inequalities for the Sequential Ordering Problem (see the class description). The subtour
+	 * inequalities themselves are not separated by this method; use {@link #separateSubtours(Map, int)}. For each returned inequality, {@link #getExcludedVertices()}
+	 * returns the vertex w whose incoming arcs do not count towards the cut.
+	 * @param edgeValueMap Mapping of edges to their corresponding values, i.e. the x_a variable values for all a \in A. It suffices to provide the values
+	 *                     of the non-zero arcs. All other arcs are presumed to have the value 0.
+	 * @param depot vertex at which the tour starts and ends
+	 * @param successors for each vertex i, the vertices which must be visited after i
+	 * @param maxNrCuts maximum number of inequalities returned
+	 */
+	public void separatePrecedenceCuts(Map<E, Double> edgeValueMap, V depot, Map<V, ? extends Collection<V>> successors, int maxNrCuts){
+		if(maxNrCuts < 1)
+			throw new IllegalArgumentException("maxNrCuts must be at least 1");
+		this.buildSupportGraph(edgeValueMap);
+		violatedCuts.clear();
+		minCutValue=Double.MAX_VALUE;
+
+		int d=vertexIndex.get(depot);
+		for(Map.Entry<V, ? extends Collection<V>> entry : successors.entrySet()){
+			int i=vertexIndex.get(entry.getKey());
+			for(V successor : entry.getValue()){
+				int j=vertexIndex.get(successor);
+				if(i == d || j == d || i == j)
+					throw new IllegalArgumentException("Invalid precedence: "+entry.getKey()+" -> "+successor);
+				this.separatePrecedenceCut(i, j, d); //Path from i to j avoids the depot
+				this.separatePrecedenceCut(d, i, j); //Path from the depot to i avoids j
+				this.separatePrecedenceCut(j, d, i); //Path from j to the depot avoids i
+			}
+		}
+		this.selectCuts(maxNrCuts);
+	}
+
+	/**
+	 * Computes a minimum cut from source to sink in the support graph without vertex w, and records it if it is violated.
+	 * @param source source vertex
+	 * @param sink sink vertex
+	 * @param w excluded vertex
+	 */
+	private void separatePrecedenceCut(int source, int sink, int w){
+		this.buildFlowNetwork(w);
+		double value=maxFlow.minCut(source, sink);
+		if(value < 1-PRECISION || value < minCutValue){
+			for(int i=0; i<n; i++)
+				cutBuffer[i]= i != w && maxFlow.isOnSourceSide(i);
+			this.recordCut(value, w);
+		}
+	}
+
+	/**
+	 * Rebuilds the support graph from the given arc values.
+	 * @param edgeValueMap arc values
+	 */
+	private void buildSupportGraph(Map<E, Double> edgeValueMap){
+		nrArcs=0;
+		for(Map.Entry<E, Double> entry : edgeValueMap.entrySet()){
+			double value=entry.getValue();
+			if(value <= PRECISION) continue;
+			int i=vertexIndex.get(inputGraph.getEdgeSource(entry.getKey()));
+			int j=vertexIndex.get(inputGraph.getEdgeTarget(entry.getKey()));
+			if(i == j) continue;
+			if(nrArcs == arcTail.length){
+				arcTail=Arrays.copyOf(arcTail, 2*nrArcs);
+				arcHead=Arrays.copyOf(arcHead, 2*nrArcs);
+				arcValue=Arrays.copyOf(arcValue, 2*nrArcs);
+			}
+			arcTail[nrArcs]=i;
+			arcHead[nrArcs]=j;
+			arcValue[nrArcs++]=value;
+		}
+
+		//Out-adjacency in CSR format
+		Arrays.fill(outStart, 0);
+		for(int a=0; a<nrArcs; a++)
+			outStart[arcTail[a]+1]++;
+		for(int i=0; i<n; i++)
+			outStart[i+1]+=outStart[i];
+		if(outHead.length < nrArcs)
+			outHead=new int[arcTail.length];
+		System.arraycopy(outStart, 0, order, 0, n);
+		for(int a=0; a<nrArcs; a++)
+			outHead[order[arcTail[a]]++]=arcHead[a];
+	}
+
+	/**
+	 * Builds the flow network from the support graph. The capacity of an arc equals its value.
+	 * @param excludedVertex arcs incident to this vertex are omitted, or -1 if all arcs are included
+	 */
+	private void buildFlowNetwork(int excludedVertex){
+		if(capacityTail.length < nrArcs){
+			capacityTail=new int[arcTail.length];
+			capacityHead=new int[arcTail.length];
+			capacity=new double[arcTail.length];
+		}
+		int nrNetworkArcs=0;
+		for(int a=0; a<nrArcs; a++){
+			if(arcTail[a] == excludedVertex || arcHead[a] == excludedVertex) continue;
+			capacityTail[nrNetworkArcs]=arcTail[a];
+			capacityHead[nrNetworkArcs]=arcHead[a];
+			capacity[nrNetworkArcs++]=arcValue[a];
+		}
+		maxFlow.build(n, nrNetworkArcs, capacityTail, capacityHead, capacity, false);
+	}
+
+	/**
+	 * Computes the strongly connected components of the support graph through Tarjan's algorithm (iterative implementation) in {@code O(|V|+|A|)} time.
+	 * @return number of strongly connected components
+	 */
+	private int computeStronglyConnectedComponents(){
+		Arrays.fill(order, -1);
+		Arrays.fill(component, -1);
+		int counter=0, nrComponents=0, top=0;
+		for(int root=0; root<n; root++){
+			if(order[root] >= 0) continue;
+			int depth=0;
+			callStack[depth]=root;
+			callArc[depth]=outStart[root];
+			order[root]=lowLink[root]=counter++;
+			stack[top++]=root;
+			while(depth >= 0){
+				int v=callStack[depth];
+				if(callArc[depth] < outStart[v+1]){
+					int w=outHead[callArc[depth]++];
+					if(order[w] < 0){
+						order[w]=lowLink[w]=counter++;
+						stack[top++]=w;
+						callStack[++depth]=w;
+						callArc[depth]=outStart[w];
+					}else if(component[w] < 0){
+						lowLink[v]=Math.min(lowLink[v], order[w]);
+					}
+				}else{
+					if(lowLink[v] == order[v]){
+						int w;
+						do{
+							w=stack[--top];
+							component[w]=nrComponents;
+						}while(w != v);
+						nrComponents++;
+					}
+					depth--;
+					if(depth >= 0)
+						lowLink[callStack[depth]]=Math.min(lowLink[callStack[depth]], lowLink[v]);
+				}
+			}
+		}
+		return nrComponents;
+	}
+
+	/**
+	 * Records the cut marked in {@link #cutBuffer}. The cut is stored as a violated cut if its value is smaller than 1, and it replaces the most violated cut if
+	 * its value is smaller.
+	 * @param value value of the cut
+	 * @param excludedVertex excluded vertex of a precedence cut, or -1
+	 */
+	private void recordCut(double value, int excludedVertex){
+		minCutValue=Math.min(minCutValue, value);
+		if(value >= 1-PRECISION)
+			return;
+		int size=0;
+		for(int i=0; i<n; i++)
+			if(cutBuffer[i]) size++;
+		int[] cut=new int[size];
+		size=0;
+		for(int i=0; i<n; i++)
+			if(cutBuffer[i]) cut[size++]=i;
+		violatedCuts.add(new ViolatedCut(value, cut, excludedVertex));
+	}
+
+	/**
+	 * Sorts the violated cuts from most violated to least violated, removes duplicates and stores the {@code maxNrCuts} most violated cuts.
+	 * @param maxNrCuts maximum number of cuts
+	 */
+	private void selectCuts(int maxNrCuts){
+		cutSets.clear();
+		cutValues.clear();
+		excludedVertices.clear();
+		Collections.sort(violatedCuts, new Comparator<ViolatedCut>() {
+			@Override
+			public int compare(ViolatedCut c1, ViolatedCut c2) {
+				return Double.compare(c1.value, c2.value);
+			}
+		});
+		Set<List<Object>> distinctCuts=new HashSet<>();
+		for(ViolatedCut violatedCut : violatedCuts){
+			if(cutSets.size() == maxNrCuts)
+				break;
+			Set<V> set=new HashSet<>();
+			for(int i : violatedCut.vertices)
+				set.add(vertices.get(i));
+			V excludedVertex=(violatedCut.excludedVertex < 0 ? null : vertices.get(violatedCut.excludedVertex));
+			if(distinctCuts.add(Arrays.<Object>asList(set, excludedVertex))){
+				cutSets.add(set);
+				cutValues.add(violatedCut.value);
+				excludedVertices.add(excludedVertex);
+			}
+		}
+		violatedCuts.clear();
+		hasSubtour=!cutSets.isEmpty();
+	}
+
+	/**
+	 * Returns whether a violated inequality has been found
+	 * @return whether a violated inequality has been found
+	 */
+	public boolean hasSubtour(){
+		return hasSubtour;
+	}
+
+	/**
+	 * Returns the value of the most violated inequality, i.e. {@code \sum_{a\in \delta^+{S'}} x_a}. If no violated inequality exists, the value of the minimum
+	 * cut is returned.
+	 * @return value of the most violated inequality
+	 */
+	public double getCutValue(){
+		return minCutValue;
+	}
+
+	/**
+	 * Returns the sets S' of the violated inequalities, ordered from most violated to least violated.
+	 * @return the sets S' of the violated inequalities
+	 */
+	public List<Set<V>> getCutSets(){
+		return Collections.unmodifiableList(cutSets);
+	}
+
+	/**
+	 * Returns the values of the violated inequalities, in the same order as {@link #getCutSets()}.
+	 * @return the values of the violated inequalities
+	 */
+	public List<Double> getCutValues(){
+		return Collections.unmodifiableList(cutValues);
+	}
+
+	/**
+	 * Returns, for each violated inequality, the excluded vertex w: arcs entering w do not count towards the cut. The excluded vertex is null for directed
+	 * subtour inequalities, and only defined for the precedence cut-set inequalities separated by {@link #separatePrecedenceCuts(Map, Object, Map, int)}.
+	 * @return the excluded vertices of the violated inequalities
+	 */
+	public List<V> getExcludedVertices(){
+		return Collections.unmodifiableList(excludedVertices);
+	}
+
+	/**
+	 * A violated cut, defined by the numbers of the vertices in S'
+	 */
+	private static final class ViolatedCut{
+		private final double value;
+		private final int[] vertices;
+		private final int excludedVertex;
+
+		private ViolatedCut(double value, int[] vertices, int excludedVertex){
+			this.value=value;
+			this.vertices=vertices;
+			this.excludedVertex=excludedVertex;
+		}
+	}
+}
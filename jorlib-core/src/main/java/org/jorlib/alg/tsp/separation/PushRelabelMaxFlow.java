@@ -0,0 +1,274 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * PushRelabelMaxFlow.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.tsp.separation;
+
+import java.util.Arrays;
+
+/**
+ * Minimum s-t cut computation through the push-relabel algorithm of Goldberg and Tarjan (FIFO selection rule, gap heuristic and periodic global relabeling), see
+ * {@literal A.V. Goldberg and R.E. Tarjan, "A new approach to the maximum-flow problem", Journal of the ACM, volume 35, number 4, pp 921-940, 1988.}
+ * <p>
+ * Only the first phase of the algorithm is executed: the maximum preflow suffices to determine the value of a maximum flow and a minimum cut. The network is stored in
+ * primitive arrays; each arc is paired with its reverse arc. The network and all working buffers are reused when the network is rebuilt, or when cuts between
+ * different pairs of vertices are computed.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ */
+final class PushRelabelMaxFlow {
+
+	/** Residual capacities smaller than this value are treated as zero **/
+	private static final double EPSILON=1e-10;
+
+	/** Number of vertices and arcs (including reverse arcs) **/
+	private int n=0;
+	private int nrArcs=0;
+
+	/** Network in CSR format: the arcs leaving vertex v are stored in positions arcStart[v], ..., arcStart[v+1]-1 **/
+	private int[] arcStart=new int[1];
+	private int[] arcHead=new int[0];
+	private int[] arcReverse=new int[0];
+	private double[] capacity=new double[0];
+	private double[] residual=new double[0];
+
+	//Working buffers
+	private double[] excess=new double[0];
+	private int[] label=new int[0];
+	private int[] labelCount=new int[0];
+	private int[] currentArc=new int[0];
+	private int[] queue=new int[0];
+	private boolean[] inQueue=new boolean[0];
+	private int[] position=new int[0];
+
+	/**
+	 * Rebuilds the network.
+	 * @param nrVertices number of vertices
+	 * @param nrEdges number of edges
+	 * @param tail tail of each edge
+	 * @param head head of each edge
+	 * @param edgeCapacity capacity of each edge
+	 * @param undirected if true, each edge has the given capacity in both directions; otherwise the reverse arc of each edge has capacity 0
+	 */
+	void build(int nrVertices, int nrEdges, int[] tail, int[] head, double[] edgeCapacity, boolean undirected){
+		this.n=nrVertices;
+		this.nrArcs=2*nrEdges;
+		if(arcStart.length < n+1){
+			arcStart=new int[n+1];
+			excess=new double[n];
+			label=new int[n];
+			labelCount=new int[2*n+1];
+			currentArc=new int[n];
+			queue=new int[n];
+			inQueue=new boolean[n];
+			position=new int[n];
+		}
+		if(arcHead.length < nrArcs){
+			arcHead=new int[nrArcs];
+			arcReverse=new int[nrArcs];
+			capacity=new double[nrArcs];
+			residual=new double[nrArcs];
+		}
+
+		//Counting sort of the arcs by tail
+		Arrays.fill(arcStart, 0, n+1, 0);
+		for(int e=0; e<nrEdges; e++){
+			arcStart[tail[e]+1]++;
+			arcStart[head[e]+1]++;
+		}
+		for(int v=0; v<n; v++){
+			arcStart[v+1]+=arcStart[v];
+			position[v]=arcStart[v];
+		}
+		for(int e=0; e<nrEdges; e++){
+			int forward=position[tail[e]]++;
+			int backward=position[head[e]]++;
+			arcHead[forward]=head[e];
+			arcReverse[forward]=backward;
+			capacity[forward]=edgeCapacity[e];
+			arcHead[backward]=tail[e];
+			arcReverse[backward]=forward;
+			capacity[backward]=(undirected ? edgeCapacity[e] : 0);
+		}
+	}
+
+	/**
+	 * Computes a minimum cut separating source from sink. After this method returns, {@link #isOnSourceSide(int)} indicates the side of each vertex.
+	 * @param source source vertex
+	 * @param sink sink vertex
+	 * @return value of the minimum cut, i.e. the value of a maximum flow from source to sink
+	 */
+	double minCut(int source, int sink){
+		System.arraycopy(capacity, 0, residual, 0, nrArcs);
+		Arrays.fill(excess, 0, n, 0);
+		Arrays.fill(inQueue, 0, n, false);
+		for(int v=0; v<n; v++)
+			currentArc[v]=arcStart[v];
+
+		this.globalRelabel(source, sink);
+
+		//Saturate the arcs leaving the source
+		int head=0, size=0;
+		for(int a=arcStart[source]; a<arcStart[source+1]; a++){
+			if(residual[a] > EPSILON){
+				int w=arcHead[a];
+				double delta=residual[a];
+				residual[a]=0;
+				residual[arcReverse[a]]+=delta;
+				excess[w]+=delta;
+				excess[source]-=delta;
+				if(w != sink && !inQueue[w] && label[w] < n){
+					inQueue[w]=true;
+					queue[(head+size++)%n]=w;
+				}
+			}
+		}
+
+		//Discharge active vertices in FIFO order
+		int relabels=0;
+		while(size > 0){
+			int v=queue[head];
+			head=(head+1)%n;
+			size--;
+			inQueue[v]=false;
+			while(excess[v] > EPSILON && label[v] < n){
+				//Push along admissible arcs
+				int a=currentArc[v];
+				for(; a<arcStart[v+1] && excess[v] > EPSILON; a++){
+					int w=arcHead[a];
+					if(residual[a] > EPSILON && label[v] == label[w]+1){
+						double delta=Math.min(excess[v], residual[a]);
+						residual[a]-=delta;
+						residual[arcReverse[a]]+=delta;
+						excess[v]-=delta;
+						excess[w]+=delta;
+						if(w != source && w != sink && !inQueue[w] && label[w] < n){
+							inQueue[w]=true;
+							queue[(head+size++)%n]=w;
+						}
+						if(excess[v] <= EPSILON)
+							break;
+					}
+				}
+				currentArc[v]=Math.min(a, arcStart[v+1]);
+				if(excess[v] <= EPSILON)
+					break;
+
+				//Relabel
+				int oldLabel=label[v];
+				int newLabel=2*n;
+				for(int b=arcStart[v]; b<arcStart[v+1]; b++)
+					if(residual[b] > EPSILON)
+						newLabel=Math.min(newLabel, label[arcHead[b]]+1);
+				labelCount[oldLabel]--;
+				label[v]=Math.min(newLabel, n);
+				labelCount[label[v]]++;
+				currentArc[v]=arcStart[v];
+				relabels++;
+
+				//Gap heuristic: vertices above an empty label can no longer reach the sink
+				if(labelCount[oldLabel] == 0 && oldLabel < n){
+					for(int w=0; w<n; w++){
+						if(label[w] > oldLabel && label[w] < n){
+							labelCount[label[w]]--;
+							label[w]=n;
+							labelCount[n]++;
+						}
+					}
+				}
+
+				//Periodic global relabeling
+				if(relabels % n == 0 && label[v] < n){
+					this.globalRelabel(source, sink);
+					if(label[v] >= n)
+						break;
+				}
+			}
+		}
+
+		//Vertices which can still reach the sink in the residual network form the sink side of the cut
+		this.markSinkSide(sink);
+		return excess[sink];
+	}
+
+	/**
+	 * Sets the label of each vertex to its distance to the sink in the residual network, or to n if the sink cannot be reached.
+	 * @param source source vertex
+	 * @param sink sink vertex
+	 */
+	private void globalRelabel(int source, int sink){
+		Arrays.fill(label, 0, n, n);
+		Arrays.fill(labelCount, 0, 2*n+1, 0);
+		label[sink]=0;
+		int head=0, tail=0;
+		position[tail++]=sink;
+		while(head < tail){
+			int w=position[head++];
+			for(int a=arcStart[w]; a<arcStart[w+1]; a++){
+				int v=arcHead[a];
+				if(label[v] == n && v != source && residual[arcReverse[a]] > EPSILON){
+					label[v]=label[w]+1;
+					position[tail++]=v;
+				}
+			}
+		}
+		label[source]=n;
+		for(int v=0; v<n; v++){
+			labelCount[label[v]]++;
+			currentArc[v]=arcStart[v];
+		}
+	}
+
+	/**
+	 * Marks the vertices which can reach the sink in the residual network by setting their label to 0; all other vertices receive label n.
+	 * @param sink sink vertex
+	 */
+	private void markSinkSide(int sink){
+		Arrays.fill(label, 0, n, n);
+		label[sink]=0;
+		int head=0, tail=0;
+		position[tail++]=sink;
+		while(head < tail){
+			int w=position[head++];
+			for(int a=arcStart[w]; a<arcStart[w+1]; a++){
+				int v=arcHead[a];
+				if(label[v] == n && residual[arcReverse[a]] > EPSILON){
+					label[v]=0;
+					position[tail++]=v;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Returns whether a vertex is on the source side of the minimum cut computed in the last invocation of {@link #minCut(int, int)}.
+	 * @param v vertex
+	 * @return true if the vertex is on the source side of the cut
+	 */
+	boolean isOnSourceSide(int v){
+		return label[v] == n;
+	}
+}
@@ -26,14 +26,16 @@
  */
 package org.jorlib.alg.tsp.separation;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 import org.jgrapht.Graph;
-import org.jgrapht.Graphs;
-import org.jgrapht.alg.StoerWagnerMinimumCut;
-import org.jgrapht.graph.DefaultWeightedEdge;
-import org.jgrapht.graph.SimpleWeightedGraph;
 
 /**
  * This class separates subtours. These subtours may be used to generate Dantzig Fulkerson Johnson (DFJ) subtour elimination constraints.
@@ -48,9 +50,20 @@ import org.jgrapht.graph.SimpleWeightedGraph;
  * Note: the graph must be provided as a JgraphT graph. The graph representing the problem can be directed, undirected, or mixed,
  * complete or incomplete, weighted or without weights. The directed graphs are often useful to model cases where a vehicle can only
  * drive from one city to the other in a particular direction.<p>
- * Note2: To separate the subtours, we rely on the StoerWagnerMinimumCut implementation from the JgraphT package. 
- * 		This implementation deterministically computes the minimum cut in a graph in {@code O(|V||E| + |V|log|V|)} time, see
- * 		{@literal M. Stoer and F. Wagner, "A Simple Min-Cut Algorithm", Journal of the ACM, volume 44, number 4. pp 585-591, 1997.}<p>
+ * Note2: The separation is performed on the support graph of the fractional solution, i.e. the graph induced by the edges with a positive value, which is
+ * 		stored in primitive arrays (see {@link SupportGraph}). If the support graph is disconnected, one of its connected components is returned; the components
+ * 		are computed in {@code O(|V|+|E|)} time. Otherwise, the minimum cut is computed with the algorithm of Stoer and Wagner in
+ * 		{@code O(|V||E| + |V|^2 log|V|)} time, where {@code |E|} is the number of edges in the support graph, see
+ * 		{@literal M. Stoer and F. Wagner, "A Simple Min-Cut Algorithm", Journal of the ACM, volume 44, number 4. pp 585-591, 1997.}
+ * 		All working buffers are allocated once, and reused in subsequent invocations of {@link #separateSubtour(Map)}.<p>
+ * Note3: The returned cut set never contains the first vertex of the input graph, i.e. the first vertex returned by {@code inputGraph.vertexSet()}.<p>
+ * Note4: {@link #separateSubtours(Map, int)} separates multiple violated subtours in a single invocation. The support graph is first reduced through the safe
+ * 		shrinking rules of Padberg and Rinaldi: two adjacent vertices are contracted if every cut separating them can be replaced by a cut which does not separate them,
+ * 		or by one of the two singletons, without increasing its value. Next, a Gomory-Hu tree of the shrunk graph is constructed with the algorithm of Gusfield,
+ * 		using a push-relabel maximum flow algorithm. The cuts which are recorded during shrinking, and the fundamental cuts of the Gomory-Hu tree, are returned if they
+ * 		are violated. This yields at most {@code 2|V|} distinct violated subtours per invocation, including a most violated one, see
+ * 		{@literal M. Padberg and G. Rinaldi, "An efficient algorithm for the minimum capacity cut problem", Mathematical Programming, volume 47, pp 19-36, 1990}, and
+ * 		{@literal D. Gusfield, "Very simple methods for all pairs network flow analysis", SIAM Journal on Computing, volume 19, number 1, pp 143-155, 1990.}<p>
  * 
  * WARNING: if the input graph is modified, i.e. edges or vertices are added/removed then the behavior of this class is undefined!
  * 			A new instance should of this class should be made if this happens! A future extension of this class could add a graph
@@ -69,9 +82,35 @@ public class SubtourSeparator<V, E> {
 	private double minCutValue=-1;
 	private boolean hasSubtour=false;
 	private Set<V> cutSet;
+	private final List<Set<V>> cutSets=new ArrayList<>();
+	private final List<Double> cutValues=new ArrayList<>();
 	
-	private Graph<V,E> inputGraph; //Original graph which defines the TSP problem
-	private SimpleWeightedGraph<V, DefaultWeightedEdge> workingGraph; //Undirected graph
+	private final SupportGraph<V,E> supportGraph; //Undirected support graph of the fractional solution
+
+	//Working buffers of the Stoer-Wagner algorithm
+	private final int[] representative; //Super vertex which contains a vertex
+	private final int[] memberNext; //Linked list of the vertices in a super vertex
+	private final int[] memberTail; //Last vertex in the linked list of a super vertex
+	private final int[] activeVertices; //Super vertices in the contracted graph
+	private final boolean[] added; //Super vertices which have been added to the current ordering
+	private final double[] key; //Connectivity of a super vertex to the current ordering
+	private final int[] heap; //Indexed max-heap on key
+	private final int[] heapPosition;
+	private final boolean[] inCut; //Vertices in the best cut
+
+	//Working buffers of the multiple subtour separation
+	private final List<ViolatedCut> violatedCuts=new ArrayList<>(); //Violated cuts, in terms of the vertices of the input graph
+	private final boolean[] cutBuffer; //Cut which is being recorded
+	private final int[] partner; //Vertex with which a vertex is contracted in the current shrinking round
+	private final int[] newIndex; //Index of a vertex after contraction
+	private final int[] markStamp; //Marks the neighbors of a vertex during shrinking
+	private final double[] markWeight;
+	private int stamp=0;
+	private final int[] superVertex; //Super vertex containing a vertex of the input graph after shrinking
+	private final int[] treeParent; //Parent of a vertex in the Gomory-Hu tree
+	private int[] flowTail=new int[16], flowHead=new int[16];
+	private double[] flowCapacity=new double[16];
+	private final PushRelabelMaxFlow maxFlow=new PushRelabelMaxFlow();
 	
 	/**
 	 * This method instantiates the Subtour Separator. The input can be any type of graph: directed, undirected, or mixed,
@@ -82,11 +121,26 @@ public class SubtourSeparator<V, E> {
 	 * @param inputGraph input graph
 	 */
 	public SubtourSeparator(Graph<V,E> inputGraph){
-		this.inputGraph=inputGraph;
-		this.workingGraph=new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
-		Graphs.addAllVertices(workingGraph, inputGraph.vertexSet());
-		for(E edge : inputGraph.edgeSet())
-			Graphs.addEdge(workingGraph, inputGraph.getEdgeSource(edge), inputGraph.getEdgeTarget(edge),0);
+		if(inputGraph.vertexSet().size() < 2)
+			throw new IllegalArgumentException("Graph has less than 2 vertices");
+		this.supportGraph=new SupportGraph<>(inputGraph);
+		int n=supportGraph.n;
+		representative=new int[n];
+		memberNext=new int[n];
+		memberTail=new int[n];
+		activeVertices=new int[n];
+		added=new boolean[n];
+		key=new double[n];
+		heap=new int[n];
+		heapPosition=new int[n];
+		inCut=new boolean[n];
+		cutBuffer=new boolean[n];
+		partner=new int[n];
+		newIndex=new int[n];
+		markStamp=new int[n];
+		markWeight=new double[n];
+		superVertex=new int[n];
+		treeParent=new int[n];
 	}
 	
 	/**
@@ -95,30 +149,388 @@ public class SubtourSeparator<V, E> {
 	 *                     of the non-zero edges. All other edges are presumed to have the value 0.
 	 */
 	public void separateSubtour(Map<E, Double> edgeValueMap){
-		//Update the weights of our working graph
-		//a. Reset all weights to zero
-		for(DefaultWeightedEdge edge : workingGraph.edgeSet())
-			workingGraph.setEdgeWeight(edge, 0);
-
-		//b. Update the edge values with the values supplied in the edgeValueMap
-		for(Map.Entry<E, Double> entry : edgeValueMap.entrySet()){
-			if(entry.getValue() > PRECISION){
-				V i=inputGraph.getEdgeSource(entry.getKey());
-				V j=inputGraph.getEdgeTarget(entry.getKey());
-				DefaultWeightedEdge edge = workingGraph.getEdge(i,j);
-				workingGraph.setEdgeWeight(edge, entry.getValue() + workingGraph.getEdgeWeight(edge));
-			}
+		//Build the support graph
+		supportGraph.update(edgeValueMap, PRECISION);
+
+		//If the support graph is disconnected, every connected component defines a subtour with cut value 0
+		if(supportGraph.computeComponents() > 1){
+			minCutValue=0;
+			this.selectSmallestComponent();
+		}else{
+			minCutValue=this.stoerWagner();
 		}
-		//Compute the min cut in the graph
-		//WARNING: The StoerWagnerMinimumCut class copies the workingGraph each time it is invoked! This is expensive and may be avoided.
-		StoerWagnerMinimumCut<V,DefaultWeightedEdge> mc= new StoerWagnerMinimumCut<>(workingGraph);
-		minCutValue=mc.minCutWeight();
-		cutSet=mc.minCut();
+		this.buildCutSet();
 		
 		//If the cut value is smaller than 2, a subtour constraint has been violated
 		hasSubtour= minCutValue<2-PRECISION;
 	}
 
+	/**
+	 * Marks the vertices of the smallest connected component which does not contain vertex 0 as the cut set.
+	 */
+	private void selectSmallestComponent(){
+		int[] component=supportGraph.component;
+		int[] componentSize=heap; //Reuse the heap buffer; there are at most n components
+		Arrays.fill(componentSize, 0, supportGraph.nrComponents, 0);
+		for(int i=0; i<supportGraph.n; i++)
+			componentSize[component[i]]++;
+		int best=1; //Component 0 contains vertex 0
+		for(int c=2; c<supportGraph.nrComponents; c++)
+			if(componentSize[c] < componentSize[best])
+				best=c;
+		for(int i=0; i<supportGraph.n; i++)
+			inCut[i]= component[i] == best;
+	}
+
+	/**
+	 * Computes a minimum cut in the (connected) support graph using the algorithm of Stoer and Wagner. Each phase computes a maximum adjacency ordering of the
+	 * super vertices in the contracted graph; the connectivity between super vertices is derived from the edges of the support graph, so the contracted graph
+	 * is never stored explicitly. The vertices on the smallest side of the minimum cut are marked in {@link #inCut}.
+	 * @return value of the minimum cut
+	 */
+	private double stoerWagner(){
+		int n=supportGraph.n;
+		for(int i=0; i<n; i++){
+			representative[i]=i;
+			memberNext[i]=-1;
+			memberTail[i]=i;
+			activeVertices[i]=i;
+		}
+		int nrActive=n;
+		double bestCutValue=Double.MAX_VALUE;
+
+		while(nrActive > 1){
+			//Maximum adjacency ordering
+			for(int k=0; k<nrActive; k++){
+				int v=activeVertices[k];
+				added[v]=false;
+				key[v]=0;
+				heap[k]=v;
+				heapPosition[v]=k;
+			}
+			int heapSize=nrActive;
+			int s=-1, t=-1;
+			double cutOfThePhase=0;
+			while(heapSize > 0){
+				//Poll the super vertex which is most tightly connected to the ordering
+				int u=heap[0];
+				heapSize--;
+				if(heapSize > 0){
+					heap[0]=heap[heapSize];
+					heapPosition[heap[0]]=0;
+					this.siftDown(0, heapSize);
+				}
+				added[u]=true;
+				s=t;
+				t=u;
+				cutOfThePhase=key[u];
+				//Update the connectivity of its neighbors
+				for(int x=u; x != -1; x=memberNext[x]){
+					for(int k=supportGraph.adjStart[x]; k<supportGraph.adjEnd(x); k++){
+						int g=representative[supportGraph.adjTarget[k]];
+						if(added[g]) continue;
+						key[g]+=supportGraph.adjWeight[k];
+						this.siftUp(heapPosition[g]);
+					}
+				}
+			}
+
+			//The cut of the phase separates t from the remaining vertices
+			if(cutOfThePhase < bestCutValue){
+				bestCutValue=cutOfThePhase;
+				Arrays.fill(inCut, false);
+				for(int x=t; x != -1; x=memberNext[x])
+					inCut[x]=true;
+			}
+
+			//Merge t into s
+			for(int x=t; x != -1; x=memberNext[x])
+				representative[x]=s;
+			memberNext[memberTail[s]]=t;
+			memberTail[s]=memberTail[t];
+			for(int k=0; k<nrActive; k++){
+				if(activeVertices[k] == t){
+					activeVertices[k]=activeVertices[--nrActive];
+					break;
+				}
+			}
+		}
+
+		//Ensure that the cut set does not contain vertex 0
+		if(inCut[0])
+			for(int i=0; i<n; i++)
+				inCut[i]=!inCut[i];
+		return bestCutValue;
+	}
+
+	/**
+	 * Moves a heap element up until the heap property is restored
+	 * @param position position in the heap
+	 */
+	private void siftUp(int position){
+		int v=heap[position];
+		while(position > 0){
+			int parent=(position-1)/2;
+			if(key[heap[parent]] >= key[v]) break;
+			heap[position]=heap[parent];
+			heapPosition[heap[position]]=position;
+			position=parent;
+		}
+		heap[position]=v;
+		heapPosition[v]=position;
+	}
+
+	/**
+	 * Moves a heap element down until the heap property is restored
+	 * @param position position in the heap
+	 * @param heapSize number of elements in the heap
+	 */
+	private void siftDown(int position, int heapSize){
+		int v=heap[position];
+		while(2*position+1 < heapSize){
+			int child=2*position+1;
+			if(child+1 < heapSize && key[heap[child+1]] > key[heap[child]])
+				child++;
+			if(key[v] >= key[heap[child]]) break;
+			heap[position]=heap[child];
+			heapPosition[heap[position]]=position;
+			position=child;
+		}
+		heap[position]=v;
+		heapPosition[v]=position;
+	}
+
+	/**
+	 * Converts the vertices marked in {@link #inCut} to the cut set.
+	 */
+	private void buildCutSet(){
+		cutSet=new HashSet<>();
+		for(int i=0; i<supportGraph.nrInputVertices; i++)
+			if(inCut[i])
+				cutSet.add(supportGraph.getVertex(i));
+	}
+
+	/**
+	 * Separates all violated subtours which can be identified through shrinking and a Gomory-Hu tree (see Note4 in the class description). After invocation,
+	 * {@link #getCutSets()} and {@link #getCutValues()} return the violated subtours, ordered from most violated to least violated, whereas {@link #getCutSet()} and
+	 * {@link #getCutValue()} return a minimum cut, as in {@link #separateSubtour(Map)}.
+	 * @param edgeValueMap Mapping of edges to their corresponding values, i.e. the x_e variable values for all e \in E. It suffices to provide the values
+	 *                     of the non-zero edges. All other edges are presumed to have the value 0.
+	 */
+	public void separateSubtours(Map<E, Double> edgeValueMap){
+		this.separateSubtours(edgeValueMap, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * Separates the {@code maxNrCuts} most violated subtours which can be identified through shrinking and a Gomory-Hu tree (see Note4 in the class description).
+	 * After invocation, {@link #getCutSets()} and {@link #getCutValues()} return the violated subtours, ordered from most violated to least violated, whereas
+	 * {@link #getCutSet()} and {@link #getCutValue()} return a minimum cut, as in {@link #separateSubtour(Map)}.
+	 * @param edgeValueMap Mapping of edges to their corresponding values, i.e. the x_e variable values for all e \in E. It suffices to provide the values
+	 *                     of the non-zero edges. All other edges are presumed to have the value 0.
+	 * @param maxNrCuts maximum number of subtours returned
+	 */
+	public void separateSubtours(Map<E, Double> edgeValueMap, int maxNrCuts){
+		if(maxNrCuts < 1)
+			throw new IllegalArgumentException("maxNrCuts must be at least 1");
+		violatedCuts.clear();
+		cutSets.clear();
+		cutValues.clear();
+
+		//Build the support graph
+		supportGraph.update(edgeValueMap, PRECISION);
+
+		if(supportGraph.computeComponents() > 1){
+			//Every connected component which does not contain vertex 0 defines a subtour with cut value 0
+			minCutValue=0;
+			this.selectSmallestComponent();
+			this.recordComponents();
+		}else{
+			minCutValue=Double.MAX_VALUE;
+			this.shrink();
+			if(supportGraph.n > 1)
+				this.gomoryHu();
+		}
+		this.buildCutSet();
+		hasSubtour= minCutValue<2-PRECISION;
+
+		//Select the most violated, distinct subtours
+		Collections.sort(violatedCuts, new Comparator<ViolatedCut>() {
+			@Override
+			public int compare(ViolatedCut c1, ViolatedCut c2) {
+				return Double.compare(c1.value, c2.value);
+			}
+		});
+		Set<Set<V>> distinctCutSets=new HashSet<>();
+		for(ViolatedCut violatedCut : violatedCuts){
+			if(cutSets.size() == maxNrCuts)
+				break;
+			Set<V> set=new HashSet<>();
+			for(int i : violatedCut.vertices)
+				set.add(supportGraph.getVertex(i));
+			if(distinctCutSets.add(set)){
+				cutSets.add(set);
+				cutValues.add(violatedCut.value);
+			}
+		}
+		violatedCuts.clear();
+	}
+
+	/**
+	 * Records every connected component of the support graph which does not contain vertex 0 as a violated cut. The vertices are bucketed by component in linear time.
+	 */
+	private void recordComponents(){
+		int n=supportGraph.n;
+		int nrComponents=supportGraph.nrComponents;
+		int[] component=supportGraph.component;
+		//Count the vertices in each component; newIndex[c+1] holds the size of component c
+		Arrays.fill(newIndex, 0, nrComponents, 0);
+		for(int i=0; i<n; i++)
+			if(component[i]+1 < nrComponents)
+				newIndex[component[i]+1]++;
+		for(int c=1; c<nrComponents; c++)
+			newIndex[c]+=newIndex[c-1];
+		//newIndex[c] is now the start of component c in the bucket array partner
+		for(int i=0; i<n; i++)
+			partner[newIndex[component[i]]++]=i;
+		//newIndex[c] is now the end of component c
+		for(int c=1; c<nrComponents; c++)
+			violatedCuts.add(new ViolatedCut(0, Arrays.copyOfRange(partner, newIndex[c-1], newIndex[c])));
+	}
+
+	/**
+	 * Shrinks the support graph through the safe shrinking rules of Padberg and Rinaldi. Let {@code d(i)} be the total weight of the edges incident to vertex i, and
+	 * {@code w(i,j)} the weight of edge (i,j). Vertices i and j are contracted if {@code w(i,j) >= min(d(i),d(j))/2}, or if there exists a vertex k such that
+	 * {@code w(i,j)+w(i,k) >= d(i)/2} and {@code w(i,j)+w(j,k) >= d(j)/2}. In both cases, every cut separating i and j can be replaced by a cut with at most the same value which
+	 * does not separate i and j, or by one of the singletons {i} or {j}. The singletons are therefore recorded before contraction. In each round, a matching of
+	 * contractible vertex pairs is contracted, until no contractible pairs remain.
+	 */
+	private void shrink(){
+		int[] adjStart=supportGraph.adjStart;
+		double[] weightedDegree=supportGraph.weightedDegree;
+		boolean shrunk=true;
+		while(shrunk && supportGraph.n > 1){
+			int n=supportGraph.n;
+			int[] adjTarget=supportGraph.adjTarget;
+			double[] adjWeight=supportGraph.adjWeight;
+			Arrays.fill(partner, 0, n, -1);
+			shrunk=false;
+			for(int i=0; i<n; i++){
+				if(partner[i] >= 0) continue;
+				stamp++;
+				for(int k=adjStart[i]; k<adjStart[i+1]; k++){
+					markStamp[adjTarget[k]]=stamp;
+					markWeight[adjTarget[k]]=adjWeight[k];
+				}
+				for(int k=adjStart[i]; k<adjStart[i+1]; k++){
+					int j=adjTarget[k];
+					if(j < i || partner[j] >= 0) continue;
+					double w=adjWeight[k];
+					boolean safe= w >= Math.min(weightedDegree[i], weightedDegree[j])/2-PRECISION;
+					for(int l=adjStart[j]; !safe && l<adjStart[j+1]; l++){
+						int h=adjTarget[l];
+						safe= h != i && markStamp[h] == stamp && w+markWeight[h] >= weightedDegree[i]/2-PRECISION && w+adjWeight[l] >= weightedDegree[j]/2-PRECISION;
+					}
+					if(safe){
+						this.recordSingleton(i);
+						this.recordSingleton(j);
+						partner[i]=j;
+						partner[j]=i;
+						shrunk=true;
+						break;
+					}
+				}
+			}
+			if(shrunk){
+				int newN=0;
+				for(int i=0; i<n; i++)
+					newIndex[i]=(partner[i] < 0 || partner[i] > i ? newN++ : newIndex[partner[i]]);
+				supportGraph.contract(newIndex, newN);
+			}
+		}
+	}
+
+	/**
+	 * Records the cut defined by the vertices of the input graph contained in super vertex i.
+	 * @param i super vertex
+	 */
+	private void recordSingleton(int i){
+		double value=supportGraph.weightedDegree[i];
+		if(value >= minCutValue && value >= 2-PRECISION)
+			return;
+		Arrays.fill(cutBuffer, false);
+		for(int x=supportGraph.memberHead[i]; x != -1; x=supportGraph.memberNext[x])
+			cutBuffer[x]=true;
+		this.recordCut(value);
+	}
+
+	/**
+	 * Builds a Gomory-Hu tree of the shrunk support graph through the algorithm of Gusfield, and records the fundamental cuts of the tree. For each vertex s>0,
+	 * a minimum cut between s and its parent t in the tree is computed; the vertices on the side of s which have t as their parent are attached to s.
+	 */
+	private void gomoryHu(){
+		int n=supportGraph.n;
+		//Build the flow network
+		int nrEdges=0;
+		if(flowTail.length < supportGraph.m){
+			flowTail=new int[2*supportGraph.m];
+			flowHead=new int[2*supportGraph.m];
+			flowCapacity=new double[2*supportGraph.m];
+		}
+		for(int i=0; i<n; i++){
+			for(int k=supportGraph.adjStart[i]; k<supportGraph.adjEnd(i); k++){
+				if(i < supportGraph.adjTarget[k]){
+					flowTail[nrEdges]=i;
+					flowHead[nrEdges]=supportGraph.adjTarget[k];
+					flowCapacity[nrEdges++]=supportGraph.adjWeight[k];
+				}
+			}
+			for(int x=supportGraph.memberHead[i]; x != -1; x=supportGraph.memberNext[x])
+				superVertex[x]=i;
+		}
+		maxFlow.build(n, nrEdges, flowTail, flowHead, flowCapacity, true);
+
+		//Gusfield's algorithm
+		Arrays.fill(treeParent, 0, n, 0);
+		for(int s=1; s<n; s++){
+			int t=treeParent[s];
+			double value=maxFlow.minCut(s, t);
+			if(value < minCutValue || value < 2-PRECISION){
+				for(int x=0; x<supportGraph.nrInputVertices; x++)
+					cutBuffer[x]=maxFlow.isOnSourceSide(superVertex[x]);
+				this.recordCut(value);
+			}
+			for(int i=s+1; i<n; i++)
+				if(treeParent[i] == t && maxFlow.isOnSourceSide(i))
+					treeParent[i]=s;
+		}
+	}
+
+	/**
+	 * Records the cut marked in {@link #cutBuffer}. The cut is stored as a violated cut if its value is smaller than 2, and it replaces the minimum cut if
+	 * its value is smaller than the value of the current minimum cut. Cuts are normalized such that they do not contain vertex 0.
+	 * @param value value of the cut
+	 */
+	private void recordCut(double value){
+		int nrInputVertices=supportGraph.nrInputVertices;
+		if(cutBuffer[0])
+			for(int x=0; x<nrInputVertices; x++)
+				cutBuffer[x]=!cutBuffer[x];
+		if(value < minCutValue){
+			minCutValue=value;
+			System.arraycopy(cutBuffer, 0, inCut, 0, nrInputVertices);
+		}
+		if(value < 2-PRECISION){
+			int size=0;
+			for(int x=0; x<nrInputVertices; x++)
+				if(cutBuffer[x]) size++;
+			int[] vertices=new int[size];
+			size=0;
+			for(int x=0; x<nrInputVertices; x++)
+				if(cutBuffer[x]) vertices[size++]=x;
+			violatedCuts.add(new ViolatedCut(value, vertices));
+		}
+	}
+
 	/**
 	 * Returns whether a subtour exists in the fractional TSP solution
 	 * @return whether a subtour exists in the fractional TSP solution
@@ -142,4 +554,34 @@ public class SubtourSeparator<V, E> {
 	public Set<V> getCutSet(){
 		return cutSet;
 	}
+
+	/**
+	 * Returns the violated subtours found by {@link #separateSubtours(Map, int)}, ordered from most violated to least violated. Each set S' satisfies
+	 * {@code \sum_{e\in \delta{S'}} x_e <2, S'\subset V, S' \noteq \emptyset}, and does not contain the first vertex of the input graph.
+	 * @return the violated subtours
+	 */
+	public List<Set<V>> getCutSets(){
+		return Collections.unmodifiableList(cutSets);
+	}
+
+	/**
+	 * Returns {@code \sum_{e\in \delta{S'}} x_e} for each violated subtour S' returned by {@link #getCutSets()}, in the same order.
+	 * @return the cut values of the violated subtours
+	 */
+	public List<Double> getCutValues(){
+		return Collections.unmodifiableList(cutValues);
+	}
+
+	/**
+	 * A violated cut, defined by the numbers of the vertices of the input graph on one side of the cut
+	 */
+	private static final class ViolatedCut{
+		private final double value;
+		private final int[] vertices;
+
+		private ViolatedCut(double value, int[] vertices){
+			this.value=value;
+			this.vertices=vertices;
+		}
+	}
 }
@@ -0,0 +1,300 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * SupportGraph.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.tsp.separation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jgrapht.Graph;
+
+/**
+ * Undirected support graph of a fractional solution, stored in Compressed Sparse Row (CSR) format. The support graph only contains the edges with a positive value;
+ * multiple edges between the same pair of vertices (e.g. arcs (i,j) and (j,i)) are aggregated into a single undirected edge. The vertices of the input graph are numbered
+ * {@code 0,...,n-1} in the order of {@link Graph#vertexSet()}.
+ * <p>
+ * The adjacency of vertex {@code i} is stored in positions {@code adjStart[i], ..., adjStart[i+1]-1} of the arrays {@code adjTarget} and {@code adjWeight}. Each edge
+ * appears twice in the adjacency arrays, once for each endpoint. All arrays are reused when the support graph is rebuilt.
+ * <p>
+ * The support graph may be shrunk by contracting sets of vertices into super vertices (see {@link #contract(int[], int)}). The vertices of the input graph which have been
+ * contracted into a super vertex {@code v} are stored in a linked list, starting at {@code memberHead[v]} and linked through {@code memberNext}.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ * @param <V> vertex type
+ * @param <E> edge type
+ */
+final class SupportGraph<V,E> {
+
+	/** Input graph **/
+	private final Graph<V,E> inputGraph;
+	/** Vertices of the input graph, indexed by their number **/
+	private final List<V> vertices;
+	/** Number of each vertex **/
+	private final Map<V, Integer> vertexIndex;
+	/** Number of vertices in the input graph **/
+	final int nrInputVertices;
+
+	/** Number of (super) vertices in the support graph **/
+	int n;
+	/** Number of (undirected, aggregated) edges in the support graph **/
+	int m=0;
+	/** CSR adjacency **/
+	final int[] adjStart;
+	int[] adjTarget=new int[16];
+	double[] adjWeight=new double[16];
+	/** Total weight of the edges incident to each vertex **/
+	final double[] weightedDegree;
+
+	/** Vertices of the input graph contained in each super vertex **/
+	final int[] memberHead;
+	final int[] memberNext;
+	private final int[] memberTail;
+
+	/** Connected component of each vertex, and number of connected components **/
+	final int[] component;
+	int nrComponents=0;
+
+	//Work arrays
+	private int[] rawSource=new int[16], rawTarget=new int[16];
+	private double[] rawWeight=new double[16];
+	private final int[] degree;
+	private final int[] position;
+	private final int[] stack;
+
+	/**
+	 * Creates a new support graph for the given input graph
+	 * @param inputGraph input graph
+	 */
+	SupportGraph(Graph<V,E> inputGraph){
+		this.inputGraph=inputGraph;
+		vertices=new ArrayList<>(inputGraph.vertexSet());
+		nrInputVertices=n=vertices.size();
+		vertexIndex=new HashMap<>();
+		for(int i=0; i<n; i++)
+			vertexIndex.put(vertices.get(i), i);
+		adjStart=new int[n+1];
+		weightedDegree=new double[n];
+		memberHead=new int[n];
+		memberNext=new int[n];
+		memberTail=new int[n];
+		component=new int[n];
+		degree=new int[n];
+		position=new int[n];
+		stack=new int[n];
+	}
+
+	/**
+	 * Rebuilds the support graph from the given edge values. Only edges with a value larger than {@code precision} are included.
+	 * @param edgeValueMap Mapping of edges to their corresponding values. Edges which are not included in the map are presumed to have the value 0.
+	 * @param precision edges with a value smaller or equal to this value are ignored
+	 */
+	void update(Map<E, Double> edgeValueMap, double precision){
+		n=nrInputVertices;
+		for(int i=0; i<n; i++){
+			memberHead[i]=i;
+			memberNext[i]=-1;
+			memberTail[i]=i;
+		}
+
+		//Collect the edges with a positive value
+		int nrRaw=0;
+		for(Map.Entry<E, Double> entry : edgeValueMap.entrySet()){
+			double value=entry.getValue();
+			if(value <= precision) continue;
+			int i=vertexIndex.get(inputGraph.getEdgeSource(entry.getKey()));
+			int j=vertexIndex.get(inputGraph.getEdgeTarget(entry.getKey()));
+			if(i != j)
+				nrRaw=this.addRawEdge(nrRaw, i, j, value);
+		}
+		this.buildAdjacency(nrRaw);
+	}
+
+	/**
+	 * Contracts the support graph. Vertex {@code i} is mapped to super vertex {@code newIndex[i]}; all vertices mapped to the same super vertex are merged,
+	 * and parallel edges are aggregated. Edges between vertices which are merged disappear.
+	 * @param newIndex mapping of the current vertices to the vertices of the contracted graph, with values in {@code 0,...,newN-1}. The super vertices must be numbered
+	 *                 in the order of their first occurrence in this array, which implies {@code newIndex[i] <= i}.
+	 * @param newN number of vertices in the contracted graph
+	 */
+	void contract(int[] newIndex, int newN){
+		//Collect the edges of the contracted graph
+		int nrRaw=0;
+		for(int i=0; i<n; i++){
+			for(int k=adjStart[i]; k<adjStart[i+1]; k++){
+				int j=adjTarget[k];
+				if(i < j && newIndex[i] != newIndex[j])
+					nrRaw=this.addRawEdge(nrRaw, newIndex[i], newIndex[j], adjWeight[k]);
+			}
+		}
+
+		//Merge the member lists. Super vertex newIndex[i] <= i, so the lists can be merged in place
+		Arrays.fill(position, 0, newN, -1);
+		for(int i=0; i<n; i++){
+			int v=newIndex[i];
+			if(position[v] < 0){
+				position[v]=i;
+				memberHead[v]=memberHead[i];
+				memberTail[v]=memberTail[i];
+			}else{
+				memberNext[memberTail[v]]=memberHead[i];
+				memberTail[v]=memberTail[i];
+			}
+		}
+		n=newN;
+		this.buildAdjacency(nrRaw);
+	}
+
+	/**
+	 * Appends an edge to the raw edge list
+	 * @param nrRaw number of edges in the raw edge list
+	 * @param i first endpoint
+	 * @param j second endpoint
+	 * @param value weight of the edge
+	 * @return number of edges in the raw edge list after adding the edge
+	 */
+	private int addRawEdge(int nrRaw, int i, int j, double value){
+		if(nrRaw == rawSource.length){
+			rawSource=Arrays.copyOf(rawSource, 2*nrRaw);
+			rawTarget=Arrays.copyOf(rawTarget, 2*nrRaw);
+			rawWeight=Arrays.copyOf(rawWeight, 2*nrRaw);
+		}
+		rawSource[nrRaw]=i;
+		rawTarget[nrRaw]=j;
+		rawWeight[nrRaw]=value;
+		return nrRaw+1;
+	}
+
+	/**
+	 * Builds the CSR adjacency of the first {@code n} vertices from the raw edge list.
+	 * @param nrRaw number of edges in the raw edge list
+	 */
+	private void buildAdjacency(int nrRaw){
+		//1. Bucket the edges by endpoint (counting sort)
+		Arrays.fill(degree, 0, n, 0);
+		for(int k=0; k<nrRaw; k++){
+			degree[rawSource[k]]++;
+			degree[rawTarget[k]]++;
+		}
+		if(adjTarget.length < 2*nrRaw){
+			adjTarget=new int[4*nrRaw];
+			adjWeight=new double[4*nrRaw];
+		}
+		adjStart[0]=0;
+		for(int i=0; i<n; i++){
+			adjStart[i+1]=adjStart[i]+degree[i];
+			position[i]=adjStart[i];
+		}
+		for(int k=0; k<nrRaw; k++){
+			int i=rawSource[k], j=rawTarget[k];
+			adjTarget[position[i]]=j;
+			adjWeight[position[i]++]=rawWeight[k];
+			adjTarget[position[j]]=i;
+			adjWeight[position[j]++]=rawWeight[k];
+		}
+
+		//2. Aggregate parallel edges and compact the adjacency lists. position[j] temporarily records where neighbor j is stored in the current list.
+		Arrays.fill(position, 0, n, -1);
+		int next=0;
+		for(int i=0; i<n; i++){
+			int start=next;
+			weightedDegree[i]=0;
+			for(int k=adjStart[i]; k<adjStart[i+1]; k++){
+				int j=adjTarget[k];
+				weightedDegree[i]+=adjWeight[k];
+				if(position[j] >= start){
+					adjWeight[position[j]]+=adjWeight[k];
+				}else{
+					position[j]=next;
+					adjTarget[next]=j;
+					adjWeight[next++]=adjWeight[k];
+				}
+			}
+			adjStart[i]=start;
+		}
+		adjStart[n]=next;
+		m=next/2;
+	}
+
+	/**
+	 * Returns the end position (exclusive) of the adjacency list of a vertex.
+	 * @param i vertex number
+	 * @return end position of the adjacency list of vertex i
+	 */
+	int adjEnd(int i){
+		return adjStart[i+1];
+	}
+
+	/**
+	 * Computes the connected components of the support graph in {@code O(n+m)} time. The component of each vertex is stored in {@link #component};
+	 * components are numbered in the order of their lowest vertex.
+	 * @return number of connected components
+	 */
+	int computeComponents(){
+		Arrays.fill(component, 0, n, -1);
+		nrComponents=0;
+		for(int root=0; root<n; root++){
+			if(component[root] >= 0) continue;
+			int top=0;
+			stack[top++]=root;
+			component[root]=nrComponents;
+			while(top > 0){
+				int i=stack[--top];
+				for(int k=adjStart[i]; k<adjStart[i+1]; k++){
+					int j=adjTarget[k];
+					if(component[j] < 0){
+						component[j]=nrComponents;
+						stack[top++]=j;
+					}
+				}
+			}
+			nrComponents++;
+		}
+		return nrComponents;
+	}
+
+	/**
+	 * Returns the vertex of the input graph with the given number
+	 * @param i vertex number
+	 * @return vertex
+	 */
+	V getVertex(int i){
+		return vertices.get(i);
+	}
+
+	/**
+	 * Returns the number of a vertex of the input graph
+	 * @param vertex vertex
+	 * @return vertex number
+	 */
+	int getIndex(V vertex){
+		return vertexIndex.get(vertex);
+	}
+}
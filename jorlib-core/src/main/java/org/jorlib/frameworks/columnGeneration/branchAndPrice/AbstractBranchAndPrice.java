@@ -33,6 +33,7 @@ import org.jorlib.frameworks.columnGeneration.branchAndPrice.bapNodeComparators.
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.branchingDecisions.BranchingDecisionListener;
 import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
 import org.jorlib.frameworks.columnGeneration.colgenMain.ColGen;
+import org.jorlib.frameworks.columnGeneration.colgenMain.MasterToleranceSchedule;
 import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
 import org.jorlib.frameworks.columnGeneration.master.AbstractMaster;
 import org.jorlib.frameworks.columnGeneration.master.MasterData;
@@ -108,6 +109,8 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 	protected int totalGeneratedColumns=0;
 	/** Counts how many column generation iterations have been made. **/
 	protected int totalNrIterations=0;
+	/** Schedule which determines the optimality tolerance with which the master problem is solved during column generation. By default, the master problem is always solved to optimality. **/
+	protected MasterToleranceSchedule masterToleranceSchedule=new MasterToleranceSchedule();
 
 	/**
 	 * Creates a new Branch-and-Price instance, thereby initializing the data structures, and the root node.
@@ -275,15 +278,7 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 			if(this.isIntegerNode(bapNode)){
 				int integerObjective=MathProgrammingUtil.doubleToInt(bapNode.objective);
 				notifier.fireNodeIsIntegerEvent(bapNode, bapNode.bound, integerObjective);
-				if(optimizationSenseMaster == OptimizationSense.MINIMIZE && integerObjective < this.upperBoundOnObjective){
-					this.objectiveIncumbentSolution = integerObjective;
-					this.upperBoundOnObjective = integerObjective;
-					this.incumbentSolution =bapNode.solution;
-				}else if(optimizationSenseMaster == OptimizationSense.MAXIMIZE && integerObjective > this.lowerBoundOnObjective){
-					this.objectiveIncumbentSolution = integerObjective;
-					this.lowerBoundOnObjective = integerObjective;
-					this.incumbentSolution =bapNode.solution;
-				}
+				this.updateIncumbent(bapNode, integerObjective);
 			}else{ //We need to branch
 				notifier.fireNodeIsFractionalEvent(bapNode, bapNode.bound, bapNode.objective);
 				List<BAPNode<T, U>> newBranches=new ArrayList<>();
@@ -339,6 +334,7 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		try {
 			cg = new ColGen<>(dataModel, master, pricingProblems, solvers, pricingProblemManager, bapNode.initialColumns, objectiveIncumbentSolution, bapNode.getBound()); //Solve the node
 			for(CGListener listener : columnGenerationEventListeners) cg.addCGEventListener(listener);
+			cg.setMasterToleranceSchedule(masterToleranceSchedule);
 			cg.solve(timeLimit);
 		}finally{
 			//Update statistics
@@ -503,6 +499,44 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 				optimizationSenseMaster == OptimizationSense.MAXIMIZE && Math.floor(node.bound+config.PRECISION) <= lowerBoundOnObjective);
 	}
 
+	/**
+	 * Replaces the incumbent solution by the solution of the given integer node if the latter is better. When the incumbent solution improves, all open
+	 * nodes which are dominated by the new incumbent are removed from the queue through {@link #pruneQueue()}. The queue is not swept when the incumbent
+	 * does not improve, since no additional nodes can be pruned in that case.
+	 * @param node node with an integer solution
+	 * @param integerObjective objective value of the integer solution
+	 * @return true if the incumbent solution improved
+	 */
+	protected boolean updateIncumbent(BAPNode<T,U> node, int integerObjective){
+		if(optimizationSenseMaster == OptimizationSense.MINIMIZE && integerObjective < this.upperBoundOnObjective){
+			this.upperBoundOnObjective = integerObjective;
+		}else if(optimizationSenseMaster == OptimizationSense.MAXIMIZE && integerObjective > this.lowerBoundOnObjective){
+			this.lowerBoundOnObjective = integerObjective;
+		}else
+			return false;
+		this.objectiveIncumbentSolution = integerObjective;
+		this.incumbentSolution = node.solution;
+		this.pruneQueue();
+		return true;
+	}
+
+	/**
+	 * Eagerly removes all open nodes from the queue which can no longer lead to a solution better than the incumbent solution. For each of these nodes, a
+	 * PruneNodeEvent is fired and the data (columns, inequalities) associated with the node is released. This method is invoked each time the incumbent
+	 * solution improves, thereby preventing the queue from holding onto dominated nodes (and their columns) until they are polled.
+	 */
+	protected void pruneQueue(){
+		for(Iterator<BAPNode<T,U>> it=queue.iterator(); it.hasNext(); ){
+			BAPNode<T,U> bapNode=it.next();
+			if(this.nodeCanBePruned(bapNode)){
+				it.remove();
+				notifier.firePruneNodeEvent(bapNode, bapNode.bound);
+				bapNode.release();
+				nodesProcessed++;
+			}
+		}
+	}
+
 	/**
 	 * Tests whether a given node has a feasible solution, i.e. that it does not have artificial columns
 	 * @param node node
@@ -529,6 +563,15 @@ public abstract class AbstractBranchAndPrice<T extends ModelInterface, U extends
 		this.queue=newQueue;
 	}
 
+	/**
+	 * Sets the schedule which determines the optimality tolerance with which the master problem is solved during column generation. The schedule is reset at the start of the
+	 * column generation procedure of each node.
+	 * @param masterToleranceSchedule tolerance schedule
+	 */
+	public void setMasterToleranceSchedule(MasterToleranceSchedule masterToleranceSchedule){
+		this.masterToleranceSchedule=masterToleranceSchedule;
+	}
+
 	/**
 	 * Destroy both the master problem and pricing problems. A CutHandler which has been provided to the Constructor will not be destroyed by this method.
 	 */
@@ -218,6 +218,17 @@ public class BAPNode<T,U extends AbstractColumn<T, ?>> {
 		return rootPath.size();
 	}
 
+	/**
+	 * Releases the columns and inequalities associated with this node. This method is invoked when the node is pruned before it has been solved, i.e. when
+	 * the node will never be processed. Afterwards, the node only retains its ID, root path, branching decisions and bound.
+	 */
+	protected void release(){
+		initialColumns.clear();
+		initialInequalities.clear();
+		solution=Collections.emptyList();
+		inequalities=Collections.emptyList();
+	}
+
 	/**
 	 * Textual description of the node.
 	 * @return Textual description of the node.
@@ -32,6 +32,10 @@ import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
 /**
  * Abstract Class modeling a column in the column generation procedure.
  * Note that the fields in a column (except the value assigned to it by the master problem) are all final: a column should NOT be tempered with.
+ * <p>
+ * Optionally, a column may expose its coefficients in the constraints of the master problem through a sparse representation: the array {@link #rows} holds the indices
+ * of the rows in which the column has a non-zero coefficient, and the array {@link #coefs} holds the corresponding coefficients. Generic master problems, such as
+ * {@link org.jorlib.frameworks.columnGeneration.master.SetPartitioningMaster}, build their columns directly from this representation.
  * 
  * @author Joris Kinable
  * @version 13-4-2015
@@ -49,6 +53,11 @@ public abstract class AbstractColumn<T, V extends AbstractPricingProblem<T>>{
 	
 	/** The pricing problem to which this column belongs **/
 	public final V associatedPricingProblem;
+
+	/** Indices of the rows of the master problem in which this column has a non-zero coefficient, or null if the column does not expose its coefficients **/
+	public final int[] rows;
+	/** Non-zero coefficients of this column, in the same order as {@link #rows}, or null if the column does not expose its coefficients **/
+	public final double[] coefs;
 	
 	/**
 	 * Constructs a new column
@@ -57,9 +66,48 @@ public abstract class AbstractColumn<T, V extends AbstractPricingProblem<T>>{
 	 * @param creator Who/What created this column?
 	 */
 	public AbstractColumn(V associatedPricingProblem, boolean isArtificial, String creator){
+		this(associatedPricingProblem, isArtificial, creator, null, null);
+	}
+
+	/**
+	 * Constructs a new column which exposes its coefficients in the master problem through a sparse representation
+	 * @param associatedPricingProblem Pricing problem to which this column belongs
+	 * @param isArtificial Is this an artificial column?
+	 * @param creator Who/What created this column?
+	 * @param rows Indices of the rows of the master problem in which this column has a non-zero coefficient
+	 * @param coefs Non-zero coefficients of this column, in the same order as the rows
+	 */
+	public AbstractColumn(V associatedPricingProblem, boolean isArtificial, String creator, int[] rows, double[] coefs){
+		if((rows == null) != (coefs == null) || rows != null && rows.length != coefs.length)
+			throw new IllegalArgumentException("The number of row indices and coefficients differ");
 		this.creator=creator;
 		this.isArtificialColumn=isArtificial;
 		this.associatedPricingProblem=associatedPricingProblem;
+		this.rows=rows;
+		this.coefs=coefs;
+	}
+
+	/**
+	 * Indicates whether this column exposes its coefficients in the master problem through a sparse representation
+	 * @return true if {@link #rows} and {@link #coefs} are available
+	 */
+	public boolean hasCoefficients(){
+		return rows != null;
+	}
+
+	/**
+	 * Computes the dot product of this column with a dense vector indexed by row, e.g. the dual values of the master problem:
+	 * {@code \sum_k coefs[k]*vector[rows[k]]}. The reduced cost of a column equals its cost minus the dot product of the column with the dual values.
+	 * @param vector dense vector, indexed by row
+	 * @return dot product
+	 */
+	public double dotProduct(double[] vector){
+		if(rows == null)
+			throw new UnsupportedOperationException("This column does not expose its coefficients");
+		double product=0;
+		for(int k=0; k<rows.length; k++)
+			product+=coefs[k]*vector[rows[k]];
+		return product;
 	}
 	
 	/**
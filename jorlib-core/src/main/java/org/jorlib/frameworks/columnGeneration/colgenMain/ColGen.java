@@ -97,6 +97,8 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	protected long pricingSolveTime=0;
 	/** Total number of columns generated and added to the master problem **/
 	protected int nrGeneratedColumns=0;
+	/** Schedule which determines the optimality tolerance with which the master problem is solved. By default, the master problem is always solved to optimality. **/
+	protected MasterToleranceSchedule toleranceSchedule=new MasterToleranceSchedule();
 	
 	/**
 	 * Create a new column generation instance
@@ -205,6 +207,10 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	 * <li>The bound on the best attainable solution to the master problem is worse than the cutoff value. Assuming that the master is a minimization problem, the Colgen procedure is terminated if {@code ceil(boundOnMasterObjective) >= cutoffValue}</li>
 	 * <li>The solution to the master problem is provable optimal, i.e the bound on the best attainable solution to the master problem equals the solution of the master problem.</li>
 	 * </ol>
+	 * The master problem is solved with the optimality tolerance provided by the {@link MasterToleranceSchedule} (see {@link #setMasterToleranceSchedule(MasterToleranceSchedule)}).
+	 * As long as the master problem is solved approximately, no bound on the master objective is computed, and the procedure does not terminate when the pricing problems fail
+	 * to identify new columns: instead, the master problem is resolved to optimality. Columns returned by the pricing problems which already exist in an approximately solved
+	 * master problem are discarded.
 	 * @param timeLimit Future point in time (ms) by which the procedure should be finished. Should be defined as: {@code System.currentTimeMilis()+<desired runtime>}
 	 * @throws TimeLimitExceededException Exception is thrown when time limit is exceeded
 	 */
@@ -212,15 +218,19 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 		//set time limit pricing problems
 		pricingProblemManager.setTimeLimit(timeLimit);
 		colGenSolveTime=System.currentTimeMillis();
+		toleranceSchedule.reset();
 		
 		boolean foundNewColumns=false; //Identify whether the pricing problem generated new columns
 		boolean hasNewCuts; //Identify whether the master problem violates any valid inequalities
+		boolean resolveMaster; //Identify whether the master problem must be resolved to optimality
 		notifier.fireStartCGEvent();
 		do{
 			nrOfColGenIterations++;
 			hasNewCuts=false;
+			resolveMaster=false;
 			
 			//Solve the master
+			boolean approximateMaster=!toleranceSchedule.isExact();
 			this.invokeMaster(timeLimit);
 
 			//We can stop when the optimality gap is closed. We still need to check for violated inequalities though.
@@ -242,6 +252,14 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 			List<U> newColumns=this.invokePricingProblems(timeLimit); //List containing new columns generated by the pricing problem
 			foundNewColumns=!newColumns.isEmpty();
 
+			//Tighten the optimality tolerance of the master when the pricing problems return few columns. We can only stop when the master has been solved to optimality.
+			toleranceSchedule.update(newColumns.size());
+			if(!foundNewColumns && approximateMaster && !master.isOptimal()){
+				toleranceSchedule.tightenFully();
+				resolveMaster=true;
+				continue;
+			}
+
 			//Check whether the boundOnMasterObjective exceeds the cutoff value
 			if(boundOnMasterExceedsCutoffValue())
 				break;
@@ -254,8 +272,9 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 				masterSolveTime+=(System.currentTimeMillis()-time); //Generating inequalities is considered part of the master problem
 			}
 			
-		}while(foundNewColumns || hasNewCuts);
-		this.boundOnMasterObjective = (optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.max(this.boundOnMasterObjective, this.objectiveMasterProblem) : Math.min(this.boundOnMasterObjective, this.objectiveMasterProblem)); //When solved to optimality, the bound on the master problem objective equals the objective value.
+		}while(foundNewColumns || hasNewCuts || resolveMaster);
+		if(master.isOptimal())
+			this.boundOnMasterObjective = (optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.max(this.boundOnMasterObjective, this.objectiveMasterProblem) : Math.min(this.boundOnMasterObjective, this.objectiveMasterProblem)); //When solved to optimality, the bound on the master problem objective equals the objective value.
 		colGenSolveTime=System.currentTimeMillis()-colGenSolveTime;
 		notifier.fireFinishCGEvent();
 	}
@@ -268,7 +287,7 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 	protected void invokeMaster(long timeLimit) throws TimeLimitExceededException {
 		notifier.fireStartMasterEvent();
 		long time=System.currentTimeMillis();
-		master.solve(timeLimit);
+		master.solve(timeLimit, toleranceSchedule.getTolerance());
 		objectiveMasterProblem =master.getObjective();
 		masterSolveTime+=(System.currentTimeMillis()-time);
 		notifier.fireFinishMasterEvent();
@@ -276,7 +295,8 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 
 	/**
 	 * Invokes the solve methods of the algorithms which solve the Pricing Problem. In addition, after solving the Pricing Problems
-	 * and before any new columns are added to the Master Problem, this method invokes the {@link #calculateBoundOnMasterObjective(Class solver) calculateBoundOnMasterObjective} method.
+	 * and before any new columns are added to the Master Problem, this method invokes the {@link #calculateBoundOnMasterObjective(Class solver) calculateBoundOnMasterObjective} method,
+	 * provided that the Master Problem has been solved to optimality.
 	 * @param timeLimit Future point in time by which the Pricing Problem must be finished
 	 * @return list of new columns which have to be added to the Master Problem, or an empty list if no columns could be identified
 	 * @throws TimeLimitExceededException TimeLimitExceededException
@@ -296,9 +316,13 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 		pricingProblemManager.setTimeLimit(timeLimit);
 		for(Class<? extends AbstractPricingProblemSolver<T, U, V>> solver : solvers){
 			newColumns=pricingProblemManager.solvePricingProblems(solver);
+			//Columns in an approximately solved master problem may have a negative reduced cost; pricing problem solvers may therefore return columns which already exist
+			if(!master.isOptimal())
+				newColumns=this.removeKnownColumns(newColumns);
 
-			//Calculate a bound on the optimal solution of the master problem
-			this.boundOnMasterObjective =(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.max(boundOnMasterObjective,this.calculateBoundOnMasterObjective(solver)) : Math.min(boundOnMasterObjective,this.calculateBoundOnMasterObjective(solver)));
+			//Calculate a bound on the optimal solution of the master problem. The bound is only valid if the master problem has been solved to optimality.
+			if(master.isOptimal())
+				this.boundOnMasterObjective =(optimizationSenseMaster == OptimizationSense.MINIMIZE ? Math.max(boundOnMasterObjective,this.calculateBoundOnMasterObjective(solver)) : Math.min(boundOnMasterObjective,this.calculateBoundOnMasterObjective(solver)));
 
 			//Stop when we found new columns
 			if(!newColumns.isEmpty()){
@@ -309,15 +333,28 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 
 		pricingSolveTime+=(System.currentTimeMillis()-time);
 		nrGeneratedColumns+=newColumns.size();
-		//Add columns to the master problem
+		//Add columns to the master problem (as a single batch)
 		if(!newColumns.isEmpty()){
-			for(U column : newColumns){
-				master.addColumn(column);
-			}
+			master.addColumns(newColumns);
 		}
 		return newColumns;
 	}
 
+	/**
+	 * Removes the columns which already exist in the master problem, as well as duplicate columns, from the given list of columns.
+	 * @param columns columns returned by the pricing problems
+	 * @return columns which do not exist in the master problem yet
+	 */
+	private List<U> removeKnownColumns(List<U> columns){
+		List<U> unknownColumns=new ArrayList<>(columns.size());
+		Set<U> distinctColumns=new HashSet<>();
+		for(U column : columns){
+			if(distinctColumns.add(column) && !master.getColumns(column.associatedPricingProblem).contains(column))
+				unknownColumns.add(column);
+		}
+		return unknownColumns;
+	}
+
 	/**
 	 * Compute bound on the optimal objective value attainable by the the current master problem. The bound may be based on both information from the master,
 	 * as well as information from the pricing problem solutions.<br>
@@ -342,6 +379,15 @@ public class ColGen<T extends ModelInterface, U extends AbstractColumn<T, V>, V
 		return (optimizationSenseMaster == OptimizationSense.MINIMIZE ? -Double.MAX_VALUE : Double.MAX_VALUE);
 	}
 	
+	/**
+	 * Sets the schedule which determines the optimality tolerance with which the master problem is solved in each iteration. The schedule is reset at the start of
+	 * each invocation of {@link #solve(long)}.
+	 * @param toleranceSchedule tolerance schedule
+	 */
+	public void setMasterToleranceSchedule(MasterToleranceSchedule toleranceSchedule){
+		this.toleranceSchedule=toleranceSchedule;
+	}
+
 	/**
 	 * Returns the objective value of the column generation procedure
 	 * @return Returns the objective value of the column generation procedure
@@ -0,0 +1,135 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MasterToleranceSchedule.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.colgenMain;
+
+/**
+ * Schedule which determines the optimality tolerance used to solve the master problem in each column generation iteration.
+ * <p>
+ * In early column generation iterations the dual values of the master problem are far from their final values, and it suffices to solve the master problem
+ * approximately. The column generation procedure starts with a loose optimality tolerance. Whenever the pricing problems return fewer than a given number of columns,
+ * the tolerance is multiplied by a tightening factor. Once the tolerance drops below the minimum tolerance, the master problem is solved to (default) optimality,
+ * indicated by a tolerance of 0. A bound on the master objective is only computed when the master problem has been solved to optimality, and the column generation
+ * procedure only terminates when the master problem has been solved to optimality.
+ * <p>
+ * Note that columns in an approximately solved master problem may still have a negative reduced cost, so the pricing problems may return columns which already
+ * exist in the master problem. {@link ColGen} discards these columns; when no other columns are returned, the master problem is resolved to optimality.
+ * <p>
+ * The default schedule always solves the master problem to optimality.
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ */
+public class MasterToleranceSchedule {
+
+	/** Tolerance used in the first column generation iteration **/
+	private final double initialTolerance;
+	/** Smallest tolerance used before switching to the default optimality tolerance **/
+	private final double minimumTolerance;
+	/** Factor by which the tolerance is multiplied when the tolerance is tightened **/
+	private final double tighteningFactor;
+	/** The tolerance is tightened when the pricing problems return fewer columns than this threshold **/
+	private final int columnThreshold;
+
+	/** Current tolerance **/
+	private double tolerance;
+
+	/**
+	 * Creates a schedule which always solves the master problem to optimality.
+	 */
+	public MasterToleranceSchedule(){
+		this(0, 0, 0, 0);
+	}
+
+	/**
+	 * Creates a new tolerance schedule.
+	 * @param initialTolerance tolerance used in the first column generation iteration
+	 * @param minimumTolerance smallest (positive) tolerance used before switching to the default optimality tolerance of the master problem
+	 * @param tighteningFactor factor in (0,1) by which the tolerance is multiplied when the tolerance is tightened
+	 * @param columnThreshold the tolerance is tightened when the pricing problems return fewer columns than this threshold
+	 */
+	public MasterToleranceSchedule(double initialTolerance, double minimumTolerance, double tighteningFactor, int columnThreshold){
+		if(initialTolerance < 0 || minimumTolerance < 0)
+			throw new IllegalArgumentException("Tolerances must be non-negative");
+		if(initialTolerance > 0 && (tighteningFactor <= 0 || tighteningFactor >= 1))
+			throw new IllegalArgumentException("Tightening factor must be in (0,1)");
+		if(initialTolerance > 0 && minimumTolerance == 0)
+			throw new IllegalArgumentException("Minimum tolerance must be positive");
+		this.initialTolerance=initialTolerance;
+		this.minimumTolerance=minimumTolerance;
+		this.tighteningFactor=tighteningFactor;
+		this.columnThreshold=columnThreshold;
+		this.reset();
+	}
+
+	/**
+	 * Resets the schedule to its initial tolerance. Invoked at the start of each column generation procedure.
+	 */
+	public void reset(){
+		tolerance=(initialTolerance < minimumTolerance ? 0 : initialTolerance);
+	}
+
+	/**
+	 * Returns the optimality tolerance with which the master problem must be solved in the current iteration.
+	 * @return optimality tolerance, or 0 if the master problem must be solved to optimality
+	 */
+	public double getTolerance(){
+		return tolerance;
+	}
+
+	/**
+	 * Returns whether the master problem is solved to optimality with the current tolerance.
+	 * @return true if the current tolerance is 0
+	 */
+	public boolean isExact(){
+		return tolerance == 0;
+	}
+
+	/**
+	 * Updates the tolerance after solving the pricing problems. The tolerance is tightened when fewer than {@code columnThreshold} columns have been found.
+	 * @param nrNewColumns number of columns returned by the pricing problems
+	 */
+	public void update(int nrNewColumns){
+		if(nrNewColumns < columnThreshold)
+			this.tighten();
+	}
+
+	/**
+	 * Tightens the tolerance by the tightening factor.
+	 */
+	public void tighten(){
+		tolerance*=tighteningFactor;
+		if(tolerance < minimumTolerance)
+			tolerance=0;
+	}
+
+	/**
+	 * Sets the tolerance to 0, i.e. the master problem is solved to optimality in the remaining iterations.
+	 */
+	public void tightenFully(){
+		tolerance=0;
+	}
+}
@@ -0,0 +1,274 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * AbstractLPMaster.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jorlib.alg.lp.ColumnBuffer;
+import org.jorlib.alg.lp.LPModel;
+import org.jorlib.alg.lp.RevisedSimplex;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.CutHandler;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.util.OrderedBiMap;
+
+/**
+ * Master Problem which is formulated as a solver independent {@link LPModel}. By default, the LP is solved through the pure java LP solver {@link RevisedSimplex},
+ * thereby removing the dependency on an external (native) LP solver such as cplex. A different solver can be used by overriding {@link #createLPModel()}, e.g. by
+ * returning a {@link org.jorlib.alg.lp.CplexLPModel}.
+ * <p>
+ * Each column in the master problem corresponds to a column in the LP. The variable stored in the {@link MasterData} object for a column is the index of the column in the LP.
+ * Implementations of this class build the rows of the LP in {@link #buildModel(LPModel)} and describe the LP column of a master column in {@link #buildColumn(AbstractColumn, ColumnBuffer)}, e.g.:
+ * <pre>
+ * {@code buffer.startColumn(cost, 0, LPModel.INFINITY);}
+ * {@code for(...) buffer.addCoefficient(row, coefficient);}
+ * </pre>
+ * All columns passed to {@link #addColumns(List)}, e.g. all columns generated in a single pricing iteration, are added to the LP in a single batch.
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ *
+ * @param <T> Type of data model
+ * @param <U> Type of columns
+ * @param <V> Type of pricing problem
+ * @param <W> Type of Master Data
+ */
+public abstract class AbstractLPMaster<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>, W extends MasterData<T,U,V,Integer>> extends AbstractMaster<T,U,V,W>{
+
+	/** LP model. A new LP is created each time {@link #buildModel()} is invoked. **/
+	protected LPModel lp;
+	/** Buffer which collects the columns which are added to the LP in a single batch **/
+	private final ColumnBuffer columnBuffer=new ColumnBuffer();
+
+	/**
+	 * Creates a new Master Problem.
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 * @param optimizationSenseMaster indicates whether the Master Problem is a Minimiation or a Maximization problem
+	 */
+	public AbstractLPMaster(T dataModel, List<V> pricingProblems, OptimizationSense optimizationSenseMaster){
+		super(dataModel, pricingProblems, optimizationSenseMaster);
+	}
+
+	/**
+	 * Creates a new Master Problem.
+	 * @param dataModel data model
+	 * @param pricingProblem pricing problem
+	 * @param optimizationSenseMaster indicates whether the Master Problem is a Minimiation or a Maximization problem
+	 */
+	public AbstractLPMaster(T dataModel, V pricingProblem, OptimizationSense optimizationSenseMaster){
+		super(dataModel, pricingProblem, optimizationSenseMaster);
+	}
+
+	/**
+	 * Creates a new Master Problem.
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 * @param cutHandler Reference to a cut handler
+	 * @param optimizationSenseMaster indicates whether the Master Problem is a Minimiation or a Maximization problem
+	 */
+	public AbstractLPMaster(T dataModel, List<V> pricingProblems, CutHandler<T,W> cutHandler, OptimizationSense optimizationSenseMaster){
+		super(dataModel, pricingProblems, cutHandler, optimizationSenseMaster);
+	}
+
+	/**
+	 * Creates a new Master Problem.
+	 * @param dataModel data model
+	 * @param pricingProblem pricing problem
+	 * @param cutHandler Reference to a cut handler
+	 * @param optimizationSenseMaster indicates whether the Master Problem is a Minimiation or a Maximization problem
+	 */
+	public AbstractLPMaster(T dataModel, V pricingProblem, CutHandler<T,W> cutHandler, OptimizationSense optimizationSenseMaster){
+		super(dataModel, pricingProblem, cutHandler, optimizationSenseMaster);
+	}
+
+	/**
+	 * Creates a new (empty) LP through {@link #createLPModel()} and invokes {@link #buildModel(LPModel)} to populate it.
+	 * @return a MasterData object
+	 */
+	@Override
+	protected final W buildModel(){
+		lp=this.createLPModel();
+		return this.buildModel(lp);
+	}
+
+	/**
+	 * Creates a new, empty, LP model. By default, a {@link RevisedSimplex} instance is returned. Override this method to use a different LP solver.
+	 * @return empty LP model
+	 */
+	protected LPModel createLPModel(){
+		return new RevisedSimplex(optimizationSenseMaster == OptimizationSense.MAXIMIZE);
+	}
+
+	/**
+	 * Build the master problem, i.e. define the rows of the LP.
+	 * @param lp Empty LP model
+	 * @return a MasterData object
+	 */
+	protected abstract W buildModel(LPModel lp);
+
+	/**
+	 * Describes the LP column corresponding to the given column of the master problem. Implementations must start exactly one column in the buffer through
+	 * {@link ColumnBuffer#startColumn(double, double, double)}, followed by its non-zero coefficients.
+	 * @param column column of the master problem
+	 * @param buffer buffer to which the LP column must be added
+	 */
+	protected abstract void buildColumn(U column, ColumnBuffer buffer);
+
+	/**
+	 * Adds a single column to the master problem.
+	 * @param column column to add
+	 */
+	@Override
+	public final void addColumn(U column){
+		this.addColumns(Collections.singletonList(column));
+	}
+
+	/**
+	 * Adds a set of columns to the master problem. The columns are added to the LP in a single batch.
+	 * @param columns columns to add
+	 * @throws RuntimeException if a column already exists in the master problem, or occurs more than once in the list; the LP is left unchanged
+	 */
+	@Override
+	public void addColumns(List<U> columns){
+		if(columns.isEmpty()) return;
+		//Reject duplicate columns before the LP is modified, thereby keeping the LP and the master data consistent
+		Set<U> distinctColumns=new HashSet<>();
+		for(U column : columns){
+			if(!distinctColumns.add(column) || masterData.getColumnsForPricingProblem(column.associatedPricingProblem).contains(column))
+				throw new RuntimeException("Duplicate column has been generated for pricing problem: "+column.associatedPricingProblem.toString()+"! This column already exists and by definition should not have negative reduced cost: "+column);
+		}
+		columnBuffer.clear();
+		for(U column : columns){
+			int nrColumns=columnBuffer.getNrColumns();
+			this.buildColumn(column, columnBuffer);
+			if(columnBuffer.getNrColumns() != nrColumns+1)
+				throw new IllegalStateException("buildColumn must add exactly one column to the buffer");
+		}
+		int index=columnBuffer.addTo(lp);
+		for(U column : columns)
+			masterData.addColumn(column, index++);
+	}
+
+	/**
+	 * Solves the LP. Depending on the LP solver, the solve warm starts from the basis of the previous solve.
+	 * @param timeLimit Future point in time by which this method must be finished
+	 * @return Returns true if successfull (and optimal)
+	 * @throws TimeLimitExceededException if time limit is exceeded
+	 */
+	@Override
+	protected boolean solveMasterProblem(long timeLimit) throws TimeLimitExceededException{
+		//Potentially export the model
+		if(config.EXPORT_MODEL) this.exportModel("master_"+this.getIterationCount()+".lp");
+
+		//Solve the model
+		LPModel.Status status=lp.solve(timeLimit);
+		if(status == LPModel.Status.TIME_LIMIT)
+			throw new TimeLimitExceededException();
+		else if(status != LPModel.Status.OPTIMAL)
+			throw new RuntimeException("Master problem solve failed! Status: "+status);
+		masterData.objectiveValue=lp.getObjectiveValue();
+		return true;
+	}
+
+	/**
+	 * Solves the LP with the given optimality tolerance through {@link #solveMasterProblem(long)}. Afterwards, the default optimality tolerance of the LP is restored.
+	 * @param timeLimit Future point in time by which this method must be finished
+	 * @param optimalityTolerance optimality tolerance, or 0 if the LP must be solved to optimality
+	 * @return Returns true if successfull and solved to optimality, false if the LP has been solved with a positive tolerance
+	 * @throws TimeLimitExceededException if time limit is exceeded
+	 */
+	@Override
+	protected boolean solveMasterProblem(long timeLimit, double optimalityTolerance) throws TimeLimitExceededException{
+		if(optimalityTolerance == 0)
+			return this.solveMasterProblem(timeLimit);
+		lp.setOptimalityTolerance(optimalityTolerance);
+		try{
+			this.solveMasterProblem(timeLimit);
+			return false;
+		}finally{
+			lp.setOptimalityTolerance(0);
+		}
+	}
+
+	/**
+	 * Returns the solution, i.e. the columns with a non-zero value in the LP. The value of each column is stored in {@link AbstractColumn#value}.
+	 * @return solution consisting of non-zero columns
+	 */
+	@Override
+	public List<U> getSolution(){
+		List<U> solution=new ArrayList<>();
+		double[] values=lp.getValues();
+		for(V pricingProblem : pricingProblems){
+			OrderedBiMap<U, Integer> varMap=masterData.getVarMapForPricingProblem(pricingProblem);
+			for(U column : varMap.keyList()){
+				column.value=values[varMap.get(column)];
+				if(column.value >= config.PRECISION)
+					solution.add(column);
+			}
+		}
+		return solution;
+	}
+
+	/**
+	 * Prints the columns constituting the solution of the master problem
+	 */
+	@Override
+	public void printSolution(){
+		System.out.println("Master solution:");
+		for(U column : this.getSolution())
+			System.out.println(column);
+	}
+
+	/**
+	 * Export the LP to a file in LP format. The file is stored in the directory specified by {@link org.jorlib.frameworks.columnGeneration.util.Configuration#EXPORT_MASTER_DIR}.
+	 * @param fileName Name of the exported file
+	 */
+	@Override
+	public void exportModel(String fileName){
+		try {
+			lp.exportModel(config.EXPORT_MASTER_DIR+fileName);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Close the master problem, thereby releasing the resources held by the LP.
+	 */
+	@Override
+	public void close(){
+		lp.close();
+	}
+}
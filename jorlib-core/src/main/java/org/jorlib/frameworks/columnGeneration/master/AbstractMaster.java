@@ -159,6 +159,31 @@ public abstract class AbstractMaster<T extends ModelInterface, U extends Abstrac
 	 * @throws TimeLimitExceededException if time limit is exceeded
 	 */
 	protected abstract boolean solveMasterProblem(long timeLimit) throws TimeLimitExceededException;
+
+	/**
+	 * Solve the master problem with a given optimality tolerance. A loose tolerance may be used in early column generation iterations, when approximate dual values suffice
+	 * to generate new columns (see {@link org.jorlib.frameworks.columnGeneration.colgenMain.MasterToleranceSchedule}).
+	 * @param timeLimit Future point in time by which this method must be finished
+	 * @param optimalityTolerance optimality tolerance, or 0 if the master problem must be solved to optimality
+	 * @throws TimeLimitExceededException if time limit is exceeded
+	 */
+	public void solve(long timeLimit, double optimalityTolerance) throws TimeLimitExceededException{
+		masterData.iterations++;
+		masterData.optimal=this.solveMasterProblem(timeLimit, optimalityTolerance);
+	}
+
+	/**
+	 * Method implementing the solve procedure for the master problem with a given optimality tolerance. Implementations which solve the master problem with a positive tolerance
+	 * must return false, as the solution is not guaranteed to be optimal. By default, the tolerance is ignored and the master problem is solved to optimality through
+	 * {@link #solveMasterProblem(long)}. Override this method if the master problem supports approximate solves.
+	 * @param timeLimit Future point in time by which this method must be finished
+	 * @param optimalityTolerance optimality tolerance, or 0 if the master problem must be solved to optimality
+	 * @return Returns true if successfull and optimal
+	 * @throws TimeLimitExceededException if time limit is exceeded
+	 */
+	protected boolean solveMasterProblem(long timeLimit, double optimalityTolerance) throws TimeLimitExceededException{
+		return this.solveMasterProblem(timeLimit);
+	}
 	
 	/**
 	 * Get the reduced cost information required for a particular pricingProblem. The pricing problem often looks like:
@@ -239,8 +264,9 @@ public abstract class AbstractMaster<T extends ModelInterface, U extends Abstrac
 	public abstract void addColumn(U column);
 
 	/**
-	 * Add an initial solution (list of columns)
-	 * @param columns initial set of columns
+	 * Add a list of columns, e.g. an initial solution or all columns generated during a single pricing iteration. By default, the columns are added one by one
+	 * through {@link #addColumn(AbstractColumn)}. Override this method if the master problem supports adding columns in a single batch.
+	 * @param columns columns to add
 	 */
 	public void addColumns(List<U> columns){
 		for(U column : columns){
@@ -0,0 +1,216 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * SetPartitioningMaster.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jorlib.alg.lp.ColumnBuffer;
+import org.jorlib.alg.lp.LPModel;
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.CutHandler;
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.util.OrderedBiMap;
+
+/**
+ * Generic master problem for set partitioning, set covering and set packing formulations:<br>
+ * {@code min (or max) \sum_j c_j x_j}<br>
+ * {@code s.t. \sum_j a_ij x_j = 1} (partitioning), {@code >= 1} (covering) or {@code <= 1} (packing) for every row i<br>
+ * {@code x_j >= 0}<br>
+ * The coefficients {@code a_ij} of a column are taken directly from its sparse representation ({@link AbstractColumn#rows} and {@link AbstractColumn#coefs}), so
+ * all columns added to this master problem must expose their coefficients. Row i of the master problem corresponds to row i of the LP. The dual values
+ * of the rows are passed to the pricing problems through {@link AbstractPricingProblem#initPricingProblem(double[])}. The reduced cost of a column is
+ * computed as a single sparse dot product through {@link #getReducedCost(AbstractColumn)}.
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ *
+ * @param <T> Type of data model
+ * @param <U> Type of columns
+ * @param <V> Type of pricing problem
+ * @param <W> Type of Master Data
+ */
+public abstract class SetPartitioningMaster<T extends ModelInterface, U extends AbstractColumn<T, V>, V extends AbstractPricingProblem<T>, W extends MasterData<T,U,V,Integer>> extends AbstractLPMaster<T,U,V,W>{
+
+	/**
+	 * Type of the rows in the master problem
+	 */
+	public enum RowType{
+		/** Every row must be covered exactly once: {@code \sum_j a_ij x_j = 1} **/
+		PARTITIONING,
+		/** Every row must be covered at least once: {@code \sum_j a_ij x_j >= 1} **/
+		COVERING,
+		/** Every row may be covered at most once: {@code \sum_j a_ij x_j <= 1} **/
+		PACKING
+	}
+
+	/** Number of rows in the master problem (set in {@link #buildModel(LPModel)}) **/
+	protected int nrRows;
+	/** Dual values of the rows, obtained from the last solve of the master problem **/
+	protected double[] duals;
+
+	/**
+	 * Creates a new Master Problem.
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 * @param optimizationSenseMaster indicates whether the Master Problem is a Minimiation or a Maximization problem
+	 */
+	public SetPartitioningMaster(T dataModel, List<V> pricingProblems, OptimizationSense optimizationSenseMaster){
+		super(dataModel, pricingProblems, optimizationSenseMaster);
+	}
+
+	/**
+	 * Creates a new Master Problem.
+	 * @param dataModel data model
+	 * @param pricingProblem pricing problem
+	 * @param optimizationSenseMaster indicates whether the Master Problem is a Minimiation or a Maximization problem
+	 */
+	public SetPartitioningMaster(T dataModel, V pricingProblem, OptimizationSense optimizationSenseMaster){
+		super(dataModel, pricingProblem, optimizationSenseMaster);
+	}
+
+	/**
+	 * Creates a new Master Problem.
+	 * @param dataModel data model
+	 * @param pricingProblems pricing problems
+	 * @param cutHandler Reference to a cut handler
+	 * @param optimizationSenseMaster indicates whether the Master Problem is a Minimiation or a Maximization problem
+	 */
+	public SetPartitioningMaster(T dataModel, List<V> pricingProblems, CutHandler<T,W> cutHandler, OptimizationSense optimizationSenseMaster){
+		super(dataModel, pricingProblems, cutHandler, optimizationSenseMaster);
+	}
+
+	/**
+	 * Creates a new Master Problem.
+	 * @param dataModel data model
+	 * @param pricingProblem pricing problem
+	 * @param cutHandler Reference to a cut handler
+	 * @param optimizationSenseMaster indicates whether the Master Problem is a Minimiation or a Maximization problem
+	 */
+	public SetPartitioningMaster(T dataModel, V pricingProblem, CutHandler<T,W> cutHandler, OptimizationSense optimizationSenseMaster){
+		super(dataModel, pricingProblem, cutHandler, optimizationSenseMaster);
+	}
+
+	/**
+	 * Returns the number of rows in the master problem. This method is invoked while the master problem is built, i.e. during the construction of this object.
+	 * @return number of rows
+	 */
+	protected abstract int getNrRows();
+
+	/**
+	 * Returns the type of the rows in the master problem
+	 * @return type of the rows
+	 */
+	protected abstract RowType getRowType();
+
+	/**
+	 * Returns the objective coefficient of a column
+	 * @param column column
+	 * @return objective coefficient of the column
+	 */
+	protected abstract double getCost(U column);
+
+	/**
+	 * Creates a new MasterData object
+	 * @param varMap A double map which stores the variables. The first key is the pricing problem, the second key is a column and the value is the index of the column in the LP.
+	 * @return a MasterData object
+	 */
+	protected abstract W createMasterData(Map<V, OrderedBiMap<U, Integer>> varMap);
+
+	/**
+	 * Adds one row per element to the LP. The coefficients of the rows are added through the columns.
+	 * @param lp Empty LP model
+	 * @return a MasterData object
+	 */
+	@Override
+	protected W buildModel(LPModel lp){
+		nrRows=this.getNrRows();
+		duals=new double[nrRows];
+		RowType rowType=this.getRowType();
+		double[] lower=new double[nrRows];
+		double[] upper=new double[nrRows];
+		Arrays.fill(lower, rowType == RowType.PACKING ? -LPModel.INFINITY : 1);
+		Arrays.fill(upper, rowType == RowType.COVERING ? LPModel.INFINITY : 1);
+		lp.addRows(nrRows, lower, upper, new int[nrRows+1], new int[0], new double[0]);
+
+		Map<V, OrderedBiMap<U, Integer>> varMap=new LinkedHashMap<>();
+		for(V pricingProblem : pricingProblems)
+			varMap.put(pricingProblem, new OrderedBiMap<>());
+		return this.createMasterData(varMap);
+	}
+
+	/**
+	 * Builds the LP column directly from the sparse representation of the column.
+	 * @param column column of the master problem
+	 * @param buffer buffer to which the LP column must be added
+	 */
+	@Override
+	protected void buildColumn(U column, ColumnBuffer buffer){
+		if(!column.hasCoefficients())
+			throw new IllegalArgumentException("Column does not expose its coefficients: "+column);
+		buffer.startColumn(this.getCost(column), 0, LPModel.INFINITY);
+		for(int k=0; k<column.rows.length; k++)
+			buffer.addCoefficient(column.rows[k], column.coefs[k]);
+	}
+
+	/**
+	 * Solves the LP and stores the dual values of the rows.
+	 * @param timeLimit Future point in time by which this method must be finished
+	 * @return Returns true if successfull (and optimal)
+	 * @throws TimeLimitExceededException if time limit is exceeded
+	 */
+	@Override
+	protected boolean solveMasterProblem(long timeLimit) throws TimeLimitExceededException{
+		boolean solved=super.solveMasterProblem(timeLimit);
+		for(int i=0; i<nrRows; i++)
+			duals[i]=lp.getDual(i);
+		return solved;
+	}
+
+	/**
+	 * Passes the dual values of the rows to the pricing problem.
+	 * @param pricingProblem pricing problem
+	 */
+	@Override
+	public void initializePricingProblem(V pricingProblem){
+		pricingProblem.initPricingProblem(duals.clone());
+	}
+
+	/**
+	 * Computes the reduced cost of a column with respect to the dual values of the last solve of the master problem, i.e.
+	 * {@code c_j - \sum_i a_ij dual_i}, as a single sparse dot product.
+	 * @param column column
+	 * @return reduced cost of the column
+	 */
+	public double getReducedCost(U column){
+		return this.getCost(column)-column.dotProduct(duals);
+	}
+}
@@ -75,6 +75,26 @@ public abstract class AbstractCutGenerator<T extends ModelInterface, W extends M
 	 */
 	public abstract List<AbstractInequality> generateInqualities();
 	
+	/**
+	 * Separate valid inequalities without adding them to the master problem. The inequalities returned by this method are added to the master problem afterwards through
+	 * {@link #addCut(AbstractInequality)}. This method is invoked by the {@link CutHandler} when inequalities are separated in parallel
+	 * (see {@link org.jorlib.frameworks.columnGeneration.util.Configuration#PARALLEL_CUT_SEPARATION}): it may be executed concurrently with the other generators, and must
+	 * therefore only read the data in the master data object. Generators which implement this method must override {@link #supportsConcurrentSeparation()}.
+	 * @return returns a list of violated inequalities which have been found
+	 */
+	public List<AbstractInequality> separateInequalities(){
+		throw new UnsupportedOperationException("Not implemented. You should override this function");
+	}
+
+	/**
+	 * Indicates whether this generator implements {@link #separateInequalities()}, i.e. whether it can separate inequalities concurrently with other generators.
+	 * Generators which do not support concurrent separation are invoked sequentially through {@link #generateInqualities()}. Default: false
+	 * @return true if this generator supports concurrent separation
+	 */
+	public boolean supportsConcurrentSeparation(){
+		return false;
+	}
+
 	/**
 	 * Add an inequality of the type generated by this AbstractCutGenerator to the model. The inequality may have been generated elsewhere, e.g. by a different node,
 	 * or the user may provide an initial set of inequalities.
@@ -82,6 +102,47 @@ public abstract class AbstractCutGenerator<T extends ModelInterface, W extends M
 	 */
 	public abstract void addCut(AbstractInequality cut);
 
+	/**
+	 * Add a batch of inequalities of the type generated by this AbstractCutGenerator to the model. The {@link CutHandler} uses this method to add all inequalities
+	 * returned by {@link #separateInequalities()} at once. Generators which separate many inequalities per invocation may override this method to add them to the
+	 * master problem in a single operation. By default, the inequalities are added one by one through {@link #addCut(AbstractInequality)}.
+	 * @param cuts cuts to be added
+	 */
+	public void addCuts(List<AbstractInequality> cuts){
+		for(AbstractInequality cut : cuts)
+			this.addCut(cut);
+	}
+
+	/**
+	 * Computes the slack of an inequality of the type generated by this AbstractCutGenerator with respect to the current solution of the master problem. The slack is positive if
+	 * the inequality is satisfied but not tight, zero if it is tight, and negative if it is violated. This method is used by the {@link CutPool} to age inequalities and to
+	 * separate inequalities from the pool. Generators which implement this method must override {@link #supportsCutPool()}.
+	 * @param cut inequality
+	 * @return slack of the inequality
+	 */
+	public double getSlack(AbstractInequality cut){
+		throw new UnsupportedOperationException("Not implemented. You should override this function");
+	}
+
+	/**
+	 * Remove an inequality of the type generated by this AbstractCutGenerator from the master problem. The inequality may be added again later through {@link #addCut(AbstractInequality)}.
+	 * This method is used by the {@link CutPool} to remove inequalities which have had slack for a number of consecutive rounds. Generators which implement this method
+	 * must override {@link #supportsCutPool()}.
+	 * @param cut inequality to be removed
+	 */
+	public void removeCut(AbstractInequality cut){
+		throw new UnsupportedOperationException("Not implemented. You should override this function");
+	}
+
+	/**
+	 * Indicates whether this generator implements {@link #getSlack(AbstractInequality)} and {@link #removeCut(AbstractInequality)}, i.e. whether the {@link CutPool} may remove its
+	 * inequalities from the master problem and separate them from the pool. Inequalities of generators which do not support this are still deduplicated by the pool. Default: false
+	 * @return true if this generator supports aging and separation of its inequalities through the cut pool
+	 */
+	public boolean supportsCutPool(){
+		return false;
+	}
+
 	/**
 	 * Returns all inequalities maintained by this generator
 	 * @return list of inequalities maintained by the generator
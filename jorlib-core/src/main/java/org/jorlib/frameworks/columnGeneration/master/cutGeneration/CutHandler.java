@@ -27,6 +27,13 @@
 package org.jorlib.frameworks.columnGeneration.master.cutGeneration;
 
 import java.util.*;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.CHListener;
 import org.jorlib.frameworks.columnGeneration.branchAndPrice.EventHandling.FinishGeneratingCutsEvent;
@@ -40,6 +47,13 @@ import org.slf4j.LoggerFactory;
 
 /**
  * The CutHandler is a manager class which maintains various {@link AbstractCutGenerator}(s) to generate inequalities of different types.
+ * <p>
+ * By default, the generators are invoked one by one. When {@link Configuration#PARALLEL_CUT_SEPARATION} is enabled, the generators which support concurrent separation
+ * (see {@link AbstractCutGenerator#supportsConcurrentSeparation()}) are invoked in parallel. The inequalities are added to the master problem afterwards on the calling
+ * thread, in the order in which the generators have been registered.
+ * <p>
+ * Optionally, a {@link CutPool} may be attached to the cut handler through {@link #setCutPool(CutPool)}. The pool rejects duplicate inequalities, removes inequalities which
+ * have had slack for a number of consecutive rounds from the master problem, and is checked for violated inequalities before the cut generators are invoked.
  * 
  * @author Joris Kinable
  * @version 13-4-2015
@@ -50,17 +64,44 @@ public class CutHandler<T extends ModelInterface,W extends MasterData>{
 	/** Logger for this class **/
 	protected final Logger logger = LoggerFactory.getLogger(CutHandler.class);
 	/** Configuration file for this class **/
-	protected final Configuration config=Configuration.getConfiguration();
+	protected final Configuration config;
 
 	/** Set of CutGenerators **/
 	protected Set<AbstractCutGenerator<T,W>> cutGenerators;
 	/** Helper class which notifies CHListeners **/
 	CHNotifier notifier;
+	/** Executor which runs the generators in parallel. Created on demand, unless an executor is provided in the constructor. **/
+	private ExecutorService executor;
+	/** Indicates whether the executor has been created by this cut handler, in which case it is shut down when the cut handler is closed **/
+	private boolean ownsExecutor;
+	/** Pool of inequalities, or null if no pool is used **/
+	protected CutPool cutPool=null;
 
 	/** Creates a new CutHandler **/
 	public CutHandler(){
+		this(Configuration.getConfiguration());
+	}
+
+	/**
+	 * Creates a new CutHandler which uses the given configuration instead of the global configuration
+	 * @param config configuration
+	 */
+	protected CutHandler(Configuration config){
+		this.config=config;
 		cutGenerators=new LinkedHashSet<>();
 		notifier=new CHNotifier();
+		ownsExecutor=true;
+	}
+
+	/**
+	 * Creates a new CutHandler which separates inequalities in parallel on the given executor, e.g. an executor which is shared with other components.
+	 * The executor is not shut down when this cut handler is closed.
+	 * @param executor executor used to run the cut generators in parallel
+	 */
+	public CutHandler(ExecutorService executor){
+		this();
+		this.executor=executor;
+		ownsExecutor=false;
 	}
 	
 	
@@ -74,6 +115,25 @@ public class CutHandler<T extends ModelInterface,W extends MasterData>{
 		for(AbstractCutGenerator<T,W> cg : cutGenerators){
 			cg.setMasterData(masterData);
 		}
+		//A new master problem does not contain any of the inequalities in the pool
+		if(cutPool != null)
+			cutPool.deactivateAll();
+	}
+
+	/**
+	 * Attach a pool of inequalities to this cut handler. Inequalities which are already present in the master problem when the pool is attached are not registered with the pool.
+	 * @param cutPool cut pool, or null to disable the pool
+	 */
+	public void setCutPool(CutPool cutPool){
+		this.cutPool=cutPool;
+	}
+
+	/**
+	 * Returns the pool of inequalities attached to this cut handler
+	 * @return cut pool, or null if no pool is used
+	 */
+	public CutPool getCutPool(){
+		return cutPool;
 	}
 	
 	/**
@@ -95,18 +155,156 @@ public class CutHandler<T extends ModelInterface,W extends MasterData>{
 	/**
 	 * Generates inequalities for the master problem of the column generation model, by invoking the {@link AbstractCutGenerator#generateInqualities() generateInequalities} method for each
 	 * of the registered cut generators. Returns as soon as a single cut has been found!
+	 * When {@link Configuration#PARALLEL_CUT_SEPARATION} is enabled, the generators are invoked in parallel instead (see {@link #generateInequalitiesInParallel(List)}).
+	 * When a {@link CutPool} is attached, the pool is checked for violated inequalities first; the cut generators are only invoked if the pool does not yield any
+	 * violated inequalities, or if quick return is disabled.
 	 * @return true if inequalities have been found
 	 */
 	public boolean generateInequalities(){
 		List<AbstractInequality> separatedInequalities=new ArrayList<>();
 		notifier.fireStartGeneratingCutsEvent();
+		if(cutPool != null)
+			separatedInequalities.addAll(this.separateFromPool());
+		if(!config.QUICK_RETURN_AFTER_CUTS_FOUND || separatedInequalities.isEmpty()){
+			if(config.PARALLEL_CUT_SEPARATION && cutGenerators.size() > 1){
+				this.generateInequalitiesInParallel(separatedInequalities);
+			}else{
+				for(AbstractCutGenerator<T,W> cutGen: cutGenerators){
+					separatedInequalities.addAll(this.invokeGenerator(cutGen));
+					if(config.QUICK_RETURN_AFTER_CUTS_FOUND && !separatedInequalities.isEmpty())
+						break;
+				}
+			}
+		}
+		notifier.fireFinishGeneratingCutsEvent(separatedInequalities);
+		return !separatedInequalities.isEmpty();
+	}
+
+	/**
+	 * Ages the inequalities in the cut pool, and adds the inequalities in the pool which are violated by the current master solution to the master problem.
+	 * @return inequalities from the pool which have been added to the master problem
+	 */
+	private List<AbstractInequality> separateFromPool(){
+		int removed=cutPool.updateSlacks();
+		List<AbstractInequality> violatedInequalities=cutPool.separate();
+		for(AbstractInequality inequality : violatedInequalities){
+			cutPool.add(inequality);
+			inequality.maintainingGenerator.addCut(inequality);
+		}
+		logger.debug("Cut pool: removed {} inequalities from the master problem, added {} violated inequalities from the pool", removed, violatedInequalities.size());
+		return violatedInequalities;
+	}
+
+	/**
+	 * Invokes a single cut generator. When a cut pool is attached and the generator supports separation without modifying the master problem, the separated inequalities
+	 * are filtered through the pool before they are added to the master problem. Otherwise, the inequalities are added to the master problem by the generator, and registered with
+	 * the pool afterwards.
+	 * @param cutGen cut generator
+	 * @return inequalities which have been added to the master problem
+	 */
+	private List<AbstractInequality> invokeGenerator(AbstractCutGenerator<T,W> cutGen){
+		if(cutPool == null)
+			return cutGen.generateInqualities();
+		else if(cutGen.supportsConcurrentSeparation())
+			return this.addInequalities(cutGen, cutGen.separateInequalities());
+		List<AbstractInequality> inequalities=cutGen.generateInqualities();
+		for(AbstractInequality inequality : inequalities){
+			if(!cutPool.add(inequality))
+				logger.warn("Cut generator {} added a duplicate inequality to the master problem: {}", cutGen, inequality);
+		}
+		return inequalities;
+	}
+
+	/**
+	 * Adds inequalities separated by the given generator to the master problem as a single batch through {@link AbstractCutGenerator#addCuts(List)}. When a cut pool
+	 * is attached, inequalities which are already present in the master problem are skipped.
+	 * @param cutGen cut generator
+	 * @param inequalities inequalities separated by the generator
+	 * @return inequalities which have been added to the master problem
+	 */
+	private List<AbstractInequality> addInequalities(AbstractCutGenerator<T,W> cutGen, List<AbstractInequality> inequalities){
+		List<AbstractInequality> addedInequalities=new ArrayList<>(inequalities.size());
+		for(AbstractInequality inequality : inequalities){
+			if(cutPool == null || cutPool.add(inequality))
+				addedInequalities.add(inequality);
+		}
+		if(!addedInequalities.isEmpty())
+			cutGen.addCuts(addedInequalities);
+		return addedInequalities;
+	}
+
+	/**
+	 * Generates inequalities by invoking {@link AbstractCutGenerator#separateInequalities()} in parallel for all generators which support concurrent separation.
+	 * When {@link Configuration#QUICK_RETURN_AFTER_CUTS_FOUND} is enabled, the generators which are still running are cancelled (interrupted) as soon as one of the generators
+	 * returns inequalities; generators should therefore check the interrupt status of their thread during long separation procedures. This method always waits until all
+	 * generators have stopped, so no generator is running when the master problem is modified.<br>
+	 * Next, the inequalities are added to the master problem through {@link AbstractCutGenerator#addCuts(List)}, in the order in which the generators have been registered.
+	 * Inequalities which are rejected by the cut pool (if any) are skipped.
+	 * Finally, the generators which do not support concurrent separation are invoked one by one, unless inequalities have already been found and quick return is enabled.
+	 * @param separatedInequalities list to which the newly separated inequalities are added
+	 */
+	protected void generateInequalitiesInParallel(List<AbstractInequality> separatedInequalities){
+		//1. Schedule the generators which support concurrent separation
+		List<SeparationTask> tasks=new ArrayList<>();
+		CompletionService<List<AbstractInequality>> completionService=new ExecutorCompletionService<>(this.getExecutor());
+		for(AbstractCutGenerator<T,W> cutGen : cutGenerators){
+			if(cutGen.supportsConcurrentSeparation()){
+				SeparationTask task=new SeparationTask(cutGen);
+				tasks.add(task);
+				completionService.submit(task);
+			}
+		}
+
+		//2. Wait for all generators to finish. When quick return is enabled, cancel the remaining generators as soon as a generator returns inequalities.
+		Throwable failure=null;
+		boolean cancelled=false;
+		for(int i=0; i<tasks.size(); i++){
+			try {
+				Future<List<AbstractInequality>> f=completionService.take(); //take() is a blocking procedure
+				List<AbstractInequality> cuts=f.get();
+				if(!cancelled && config.QUICK_RETURN_AFTER_CUTS_FOUND && cuts != null && !cuts.isEmpty()){
+					for(SeparationTask task : tasks) task.cancel();
+					cancelled=true;
+				}
+			} catch (ExecutionException e) {
+				if(failure == null)
+					failure=e.getCause();
+				if(!cancelled){
+					for(SeparationTask task : tasks) task.cancel();
+					cancelled=true;
+				}
+			} catch (InterruptedException e) {
+				for(SeparationTask task : tasks) task.cancel();
+				Thread.currentThread().interrupt();
+				return;
+			}
+		}
+		if(failure != null)
+			throw new RuntimeException("Separation of inequalities failed", failure);
+
+		//3. Add the inequalities to the master problem, in the order in which the generators have been registered
+		for(SeparationTask task : tasks){
+			if(task.inequalities != null)
+				separatedInequalities.addAll(this.addInequalities(task.cutGen, task.inequalities));
+		}
+
+		//4. Invoke the remaining generators one by one
 		for(AbstractCutGenerator<T,W> cutGen: cutGenerators){
-			separatedInequalities.addAll(cutGen.generateInqualities());
 			if(config.QUICK_RETURN_AFTER_CUTS_FOUND && !separatedInequalities.isEmpty())
 				break;
+			if(!cutGen.supportsConcurrentSeparation())
+				separatedInequalities.addAll(this.invokeGenerator(cutGen));
 		}
-		notifier.fireFinishGeneratingCutsEvent(separatedInequalities);
-		return !separatedInequalities.isEmpty();
+	}
+
+	/**
+	 * Returns the executor which runs the generators in parallel. If no executor has been provided, a thread pool consisting of {@link Configuration#MAXTHREADS} threads is created.
+	 * @return executor
+	 */
+	private ExecutorService getExecutor(){
+		if(executor == null)
+			executor=Executors.newFixedThreadPool(config.MAXTHREADS);
+		return executor;
 	}
 	
 	/**
@@ -119,7 +317,7 @@ public class CutHandler<T extends ModelInterface,W extends MasterData>{
 		for(AbstractInequality cut : cuts){
 			if(!this.cutGenerators.contains(cut.maintainingGenerator))
 				throw new RuntimeException("Attempt to add cut failed. AbstractCutGenerator for this type of inequalities is not registered with the cut handler!");
-			else
+			else if(cutPool == null || cutPool.add(cut))
 				cut.maintainingGenerator.addCut(cut);
 		}
 	}
@@ -142,6 +340,8 @@ public class CutHandler<T extends ModelInterface,W extends MasterData>{
 		for(AbstractCutGenerator<T,W> cutGen : cutGenerators){
 			cutGen.close();
 		}
+		if(ownsExecutor && executor != null)
+			executor.shutdownNow();
 	}
 
 	/**
@@ -160,6 +360,64 @@ public class CutHandler<T extends ModelInterface,W extends MasterData>{
 		notifier.removeListener(listener);
 	}
 
+	/**
+	 * Task which separates inequalities through {@link AbstractCutGenerator#separateInequalities()}. A cancelled task which has not started yet does not invoke the generator;
+	 * a cancelled task which is running is interrupted. The inequalities found by a task are only retained when the task completed before it was cancelled.
+	 */
+	private class SeparationTask implements Callable<List<AbstractInequality>>{
+		/** Generator invoked by this task **/
+		private final AbstractCutGenerator<T,W> cutGen;
+		/** Thread which is running this task, or null if the task is not running **/
+		private Thread runner;
+		/** Indicates whether the task has been cancelled **/
+		private boolean cancelled=false;
+		/** Inequalities separated by the generator, or null if the task has not completed before it was cancelled **/
+		private List<AbstractInequality> inequalities=null;
+
+		/**
+		 * Creates a new separation task
+		 * @param cutGen generator invoked by this task
+		 */
+		private SeparationTask(AbstractCutGenerator<T,W> cutGen){
+			this.cutGen=cutGen;
+		}
+
+		@Override
+		public List<AbstractInequality> call() {
+			synchronized (this){
+				if(cancelled) return null;
+				runner=Thread.currentThread();
+			}
+			List<AbstractInequality> cuts=null;
+			try {
+				cuts=cutGen.separateInequalities();
+			}catch (RuntimeException e){
+				synchronized (this){
+					if(cancelled) return null; //Exceptions caused by the cancellation of the task are ignored
+				}
+				throw e;
+			}finally {
+				synchronized (this){
+					runner=null;
+					if(!cancelled)
+						inequalities=cuts;
+					Thread.interrupted(); //Clear the interrupt status of the pooled thread
+				}
+			}
+			return inequalities;
+		}
+
+		/**
+		 * Cancels the task. Has no effect if the task has already completed.
+		 */
+		private synchronized void cancel(){
+			if(inequalities != null) return;
+			cancelled=true;
+			if(runner != null)
+				runner.interrupt();
+		}
+	}
+
 	/**
 	 * Inner Class which notifies CHListeners
 	 */
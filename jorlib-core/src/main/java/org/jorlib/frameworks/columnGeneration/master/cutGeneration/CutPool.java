@@ -0,0 +1,201 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CutPool.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master.cutGeneration;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jorlib.frameworks.columnGeneration.util.Configuration;
+
+/**
+ * Global pool of inequalities, shared by all {@link AbstractCutGenerator}(s) registered with a {@link CutHandler}. The pool serves three purposes:
+ * <ol>
+ * <li>Deduplication: inequalities are fingerprinted by their {@link AbstractInequality#hashCode() hashCode}; inequalities with the same fingerprint are compared
+ * through {@link AbstractInequality#equals(Object) equals}. An inequality which is already present in the master problem is rejected.</li>
+ * <li>Aging: each time the master problem is checked for violated inequalities, the slack of every inequality in the master problem is computed. Inequalities which have
+ * had slack for {@code maxAge} consecutive rounds are removed from the master problem, but remain in the pool.</li>
+ * <li>Separation from the pool: the inequalities which have been removed from the master problem are checked for violation before the cut generators are invoked.
+ * Violated inequalities are added to the master problem again.</li>
+ * </ol>
+ * Aging and separation from the pool only apply to inequalities whose generator supports them (see {@link AbstractCutGenerator#supportsCutPool()}).
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ *
+ */
+public class CutPool {
+
+	/** Configuration file for this class **/
+	protected final Configuration config=Configuration.getConfiguration();
+
+	/** Number of consecutive rounds an inequality may have slack before it is removed from the master problem **/
+	private final int maxAge;
+	/** Inequalities in the pool, in the order in which they were added **/
+	private final Map<AbstractInequality, PoolEntry> pool;
+	/** Number of inequalities in the pool which are present in the master problem **/
+	private int nrActiveInequalities=0;
+
+	/**
+	 * Creates a new cut pool
+	 * @param maxAge number of consecutive rounds an inequality may have slack before it is removed from the master problem
+	 */
+	public CutPool(int maxAge){
+		if(maxAge < 1)
+			throw new IllegalArgumentException("maxAge must be at least 1");
+		this.maxAge=maxAge;
+		pool=new LinkedHashMap<>();
+	}
+
+	/**
+	 * Registers an inequality which is about to be added to the master problem. If the inequality is not yet in the pool, or if it has been removed from the
+	 * master problem, it is (re)activated. If the inequality is already present in the master problem, it is rejected.
+	 * @param inequality inequality
+	 * @return true if the inequality must be added to the master problem, false if it is a duplicate
+	 */
+	public boolean add(AbstractInequality inequality){
+		PoolEntry entry=pool.get(inequality);
+		if(entry == null){
+			entry=new PoolEntry();
+			pool.put(inequality, entry);
+		}else if(entry.active){
+			return false;
+		}
+		entry.active=true;
+		entry.age=0;
+		nrActiveInequalities++;
+		return true;
+	}
+
+	/**
+	 * Computes the slack of the inequalities in the master problem, and removes the inequalities which have had slack for {@code maxAge} consecutive rounds from the
+	 * master problem through {@link AbstractCutGenerator#removeCut(AbstractInequality)}. Invoked each time the master problem is checked for violated inequalities.
+	 * @return number of inequalities which have been removed from the master problem
+	 */
+	public int updateSlacks(){
+		int removed=0;
+		for(Map.Entry<AbstractInequality, PoolEntry> e : pool.entrySet()){
+			AbstractInequality inequality=e.getKey();
+			PoolEntry entry=e.getValue();
+			if(!entry.active || !inequality.maintainingGenerator.supportsCutPool())
+				continue;
+			if(inequality.maintainingGenerator.getSlack(inequality) > config.PRECISION){
+				entry.age++;
+				if(entry.age >= maxAge){
+					inequality.maintainingGenerator.removeCut(inequality);
+					entry.active=false;
+					entry.age=0;
+					nrActiveInequalities--;
+					removed++;
+				}
+			}else{
+				entry.age=0;
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Returns the inequalities in the pool which are not present in the master problem, and which are violated by the current solution of the master problem.
+	 * The inequalities are returned in the order in which they were added to the pool. The caller is responsible for adding them to the master problem.
+	 * @return violated inequalities
+	 */
+	public List<AbstractInequality> separate(){
+		List<AbstractInequality> violatedInequalities=new ArrayList<>();
+		for(Map.Entry<AbstractInequality, PoolEntry> e : pool.entrySet()){
+			AbstractInequality inequality=e.getKey();
+			if(!e.getValue().active && inequality.maintainingGenerator.supportsCutPool() && inequality.maintainingGenerator.getSlack(inequality) < -config.PRECISION)
+				violatedInequalities.add(inequality);
+		}
+		return violatedInequalities;
+	}
+
+	/**
+	 * Marks all inequalities in the pool as removed from the master problem. Invoked when the master problem is rebuilt, e.g. after branching.
+	 */
+	public void deactivateAll(){
+		for(PoolEntry entry : pool.values()){
+			entry.active=false;
+			entry.age=0;
+		}
+		nrActiveInequalities=0;
+	}
+
+	/**
+	 * Returns whether the inequality is in the pool
+	 * @param inequality inequality
+	 * @return true if the inequality is in the pool
+	 */
+	public boolean contains(AbstractInequality inequality){
+		return pool.containsKey(inequality);
+	}
+
+	/**
+	 * Returns whether the inequality is present in the master problem
+	 * @param inequality inequality
+	 * @return true if the inequality is in the pool and present in the master problem
+	 */
+	public boolean isActive(AbstractInequality inequality){
+		PoolEntry entry=pool.get(inequality);
+		return entry != null && entry.active;
+	}
+
+	/**
+	 * Returns the number of inequalities in the pool
+	 * @return number of inequalities in the pool
+	 */
+	public int size(){
+		return pool.size();
+	}
+
+	/**
+	 * Returns the number of inequalities in the pool which are present in the master problem
+	 * @return number of inequalities in the master problem
+	 */
+	public int getNrActiveInequalities(){
+		return nrActiveInequalities;
+	}
+
+	/**
+	 * Removes all inequalities from the pool
+	 */
+	public void clear(){
+		pool.clear();
+		nrActiveInequalities=0;
+	}
+
+	/**
+	 * Status of an inequality in the pool
+	 */
+	private static final class PoolEntry{
+		/** Indicates whether the inequality is present in the master problem **/
+		private boolean active=false;
+		/** Number of consecutive rounds the inequality has had slack **/
+		private int age=0;
+	}
+}
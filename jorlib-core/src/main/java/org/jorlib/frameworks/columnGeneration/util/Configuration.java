@@ -58,6 +58,7 @@ public class Configuration {
 
 		//Cut handling
 		QUICK_RETURN_AFTER_CUTS_FOUND=true;
+		PARALLEL_CUT_SEPARATION=false;
 	}
 
 	/**
@@ -78,6 +79,7 @@ public class Configuration {
 
 		//Cut handling
 		QUICK_RETURN_AFTER_CUTS_FOUND=(properties.containsKey("QUICK_RETURN_AFTER_CUTS_FOUND") ? Boolean.valueOf(properties.getProperty("QUICK_RETURN_AFTER_CUTS_FOUND")) : true);
+		PARALLEL_CUT_SEPARATION=(properties.containsKey("PARALLEL_CUT_SEPARATION") ? Boolean.valueOf(properties.getProperty("PARALLEL_CUT_SEPARATION")) : false);
 	}
 	
 	/**
@@ -136,4 +138,9 @@ public class Configuration {
 	 * will return as soon as any inequalities have been found. When set to false, all cutGenerators will be invoked. Default: true
 	 */
 	public final boolean QUICK_RETURN_AFTER_CUTS_FOUND;
+	/**
+	 * When set to true, the {@link CutHandler} invokes the {@link AbstractCutGenerator}(s) which support concurrent separation in parallel, using at most MAXTHREADS threads.
+	 * When quickReturnAfterCutsFound is set to true, the generators which are still running are cancelled as soon as one of the generators returns inequalities. Default: false
+	 */
+	public final boolean PARALLEL_CUT_SEPARATION;
 }
\ No newline at end of file
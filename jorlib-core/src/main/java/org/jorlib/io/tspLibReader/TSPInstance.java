@@ -20,9 +20,7 @@
  */
 package org.jorlib.io.tspLibReader;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileReader;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
@@ -155,13 +153,13 @@ public class TSPInstance {
 	 *         file
 	 */
 	public void load(File file) throws IOException {
-		BufferedReader reader = null;
+		TSPLibTokenizer tokenizer = null;
 		String line = null;
 		
 		try {
-			reader = new BufferedReader(new FileReader(file));
+			tokenizer = new TSPLibTokenizer(file);
 			
-			while ((line = reader.readLine()) != null) {
+			while ((line = tokenizer.readLine()) != null) {
 				line = line.trim();
 				
 				if (line.equals("NODE_COORD_SECTION")) {
@@ -170,41 +168,41 @@ public class TSPInstance {
 					}
 					
 					distanceTable = new NodeCoordinates(dimension, edgeWeightType);
-					distanceTable.load(reader);
+					distanceTable.load(tokenizer);
 				} else if (line.equals("EDGE_WEIGHT_SECTION")) {
 					if (DataType.SOP.equals(dataType)) {
 						// for whatever reason, SOP instances have an extra line with
 						// the node count
-						reader.readLine();
+						tokenizer.readLine();
 					}
 					
 					distanceTable = new EdgeWeightMatrix(dimension, edgeWeightFormat);
-					distanceTable.load(reader);
+					distanceTable.load(tokenizer);
 				} else if (line.equals("EDGE_DATA_SECTION")) {
 					distanceTable = new EdgeData(dimension, edgeDataFormat);
-					distanceTable.load(reader);
+					distanceTable.load(tokenizer);
 				} else if (line.equals("DISPLAY_DATA_SECTION")) {
 					displayData = new NodeCoordinates(dimension, NodeCoordType.TWOD_COORDS, null);
-					displayData.load(reader);
+					displayData.load(tokenizer);
 				} else if (line.equals("TOUR_SECTION") || line.equals("-1")) {
 					Tour tour = new Tour();
-					tour.load(reader);
+					tour.load(tokenizer);
 					tours.add(tour);
 				} else if (line.equals("FIXED_EDGES_SECTION") || line.matches("^\\s*FIXED_EDGES\\s*\\:\\s*$")) {
 					fixedEdges = new EdgeData(dimension, EdgeDataFormat.EDGE_LIST);
-					fixedEdges.load(reader);
+					fixedEdges.load(tokenizer);
 				} else if (line.equals("DEMAND_SECTION")) {
 					if (vehicleRoutingTable == null) {
 						vehicleRoutingTable = new VehicleRoutingTable(dimension);
 					}
 					
-					vehicleRoutingTable.loadDemands(reader);
+					vehicleRoutingTable.loadDemands(tokenizer);
 				} else if (line.equals("DEPOT_SECTION")) {
 					if (vehicleRoutingTable == null) {
 						vehicleRoutingTable = new VehicleRoutingTable(dimension);
 					}
 					
-					vehicleRoutingTable.loadDepots(reader);
+					vehicleRoutingTable.loadDepots(tokenizer);
 				} else if (line.equals("EOF")) {
 					break;
 				} else if (line.isEmpty()) {
@@ -242,8 +240,8 @@ public class TSPInstance {
 				}
 			}
 		} finally {
-			if (reader != null) {
-				reader.close();
+			if (tokenizer != null) {
+				tokenizer.close();
 			}
 		}
 		
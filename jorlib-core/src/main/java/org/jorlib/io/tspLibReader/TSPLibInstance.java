@@ -141,8 +141,7 @@ public class TSPLibInstance {
 	 */
 	public TSPLibInstance(File file) throws IOException {
 		this();
-		BufferedReader reader = new BufferedReader(new FileReader(file));
-		load(reader);
+		load(new TSPLibTokenizer(file));
 	}
 
 	/**
@@ -154,22 +153,36 @@ public class TSPLibInstance {
 	 */
 	public TSPLibInstance(InputStream inputStream) throws IOException {
 		this();
-		BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
-		load(reader);
+		load(new TSPLibTokenizer(inputStream));
 	}
 	
 	/**
-	 * Loads a problem instance from the specified TSPLIB file.
+	 * Loads a problem instance from the specified TSPLIB file.  Reading from
+	 * a file or input stream, through {@link #load(TSPLibTokenizer)}, is
+	 * faster.
 	 * 
 	 * @param reader input stream to a TSPLIB file defining the problem
 	 * @throws IOException if an I/O error occurred while loading the TSPLIB
 	 *         file
 	 */
 	public void load(BufferedReader reader) throws IOException {
+		// the entire file is read, so the reader is not read line by line
+		load(new TSPLibTokenizer((Reader)reader));
+	}
+	
+	/**
+	 * Loads a problem instance from the specified tokenizer.  The tokenizer
+	 * is closed afterwards.
+	 * 
+	 * @param tokenizer tokenizer reading a TSPLIB file defining the problem
+	 * @throws IOException if an I/O error occurred while loading the TSPLIB
+	 *         file
+	 */
+	public void load(TSPLibTokenizer tokenizer) throws IOException {
 		String line = null;
 		
 		try {
-			while ((line = reader.readLine()) != null) {
+			while ((line = tokenizer.readLine()) != null) {
 				line = line.trim();
 				
 				if (line.equals("NODE_COORD_SECTION")) {
@@ -178,41 +191,41 @@ public class TSPLibInstance {
 					}
 					
 					distanceTable = new NodeCoordinates(dimension, edgeWeightType);
-					distanceTable.load(reader);
+					distanceTable.load(tokenizer);
 				} else if (line.equals("EDGE_WEIGHT_SECTION")) {
 					if (DataType.SOP.equals(dataType)) {
 						// for whatever reason, SOP instances have an extra line with
 						// the node count
-						reader.readLine();
+						tokenizer.readLine();
 					}
 					
 					distanceTable = new EdgeWeightMatrix(dimension, edgeWeightFormat);
-					distanceTable.load(reader);
+					distanceTable.load(tokenizer);
 				} else if (line.equals("EDGE_DATA_SECTION")) {
 					distanceTable = new EdgeData(dimension, edgeDataFormat);
-					distanceTable.load(reader);
+					distanceTable.load(tokenizer);
 				} else if (line.equals("DISPLAY_DATA_SECTION")) {
 					displayData = new NodeCoordinates(dimension, NodeCoordType.TWOD_COORDS, null);
-					displayData.load(reader);
+					displayData.load(tokenizer);
 				} else if (line.equals("TOUR_SECTION") || line.equals("-1")) {
 					TSPLibTour tour = new TSPLibTour();
-					tour.load(reader);
+					tour.load(tokenizer);
 					tours.add(tour);
 				} else if (line.equals("FIXED_EDGES_SECTION") || line.matches("^\\s*FIXED_EDGES\\s*\\:\\s*$")) {
 					fixedEdges = new EdgeData(dimension, EdgeDataFormat.EDGE_LIST);
-					fixedEdges.load(reader);
+					fixedEdges.load(tokenizer);
 				} else if (line.equals("DEMAND_SECTION")) {
 					if (vehicleRoutingTable == null) {
 						vehicleRoutingTable = new VehicleRoutingTable(dimension);
 					}
 					
-					vehicleRoutingTable.loadDemands(reader);
+					vehicleRoutingTable.loadDemands(tokenizer);
 				} else if (line.equals("DEPOT_SECTION")) {
 					if (vehicleRoutingTable == null) {
 						vehicleRoutingTable = new VehicleRoutingTable(dimension);
 					}
 					
-					vehicleRoutingTable.loadDepots(reader);
+					vehicleRoutingTable.loadDepots(tokenizer);
 				} else if (line.equals("EOF")) {
 					break;
 				} else if (line.isEmpty()) {
@@ -250,9 +263,7 @@ public class TSPLibInstance {
 				}
 			}
 		} finally {
-			if (reader != null) {
-				reader.close();
-			}
+			tokenizer.close();
 		}
 		
 		// fill in default settings
@@ -294,8 +305,7 @@ public class TSPLibInstance {
 	 */
 	public void addTour(File file) throws IOException {
 		TSPLibInstance problem = new TSPLibInstance();
-		BufferedReader reader = new BufferedReader(new FileReader(file));
-		problem.load(reader);
+		problem.load(new TSPLibTokenizer(file));
 		
 		if (problem.getDataType().equals(DataType.TOUR)) {
 			tours.addAll(problem.getTours());
@@ -316,8 +326,7 @@ public class TSPLibInstance {
 	 */
 	public void addTour(InputStream inputStream) throws IOException {
 		TSPLibInstance problem = new TSPLibInstance();
-		BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream));
-		problem.load(reader);
+		problem.load(new TSPLibTokenizer(inputStream));
 
 		if (problem.getDataType().equals(DataType.TOUR)) {
 			tours.addAll(problem.getTours());
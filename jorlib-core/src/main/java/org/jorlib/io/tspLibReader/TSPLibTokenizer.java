@@ -0,0 +1,719 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * TSPLibTokenizer.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.io.tspLibReader;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Streaming tokenizer for TSPLIB files. The file is read in blocks from a
+ * channel into a reusable byte buffer; integers and doubles are parsed
+ * directly from this buffer, without creating intermediate strings or boxed
+ * values. Only the header lines, read through {@link #readLine()}, are
+ * converted to strings.
+ * <p>
+ * Tokens are separated by whitespace (spaces, tabs and line breaks). The
+ * loaders of the individual sections read their tokens through
+ * {@link #nextInt()} and {@link #nextDouble()}, regardless of how the tokens
+ * are spread over the lines; {@link #hasNextOnLine()} allows them to validate
+ * the number of tokens on a line.
+ * <p>
+ * A tokenizer constructed from a {@link BufferedReader} reads the characters
+ * line by line, and never reads beyond the line containing the last token or
+ * line returned.  The reader can thus still be used to read any data
+ * following a section.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ */
+public class TSPLibTokenizer implements Closeable {
+
+	/**
+	 * The size of the buffer.
+	 */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/**
+	 * The maximum length of a token.
+	 */
+	private static final int MAX_TOKEN_LENGTH = 256;
+
+	/**
+	 * The maximum number of significant digits of a double which are parsed
+	 * without falling back to {@link Double#parseDouble(String)}.
+	 */
+	private static final int MAX_DIGITS = 18;
+
+	/**
+	 * The powers of ten which are exactly representable as a double.
+	 */
+	private static final double[] POWERS_OF_TEN = { 1e0, 1e1, 1e2, 1e3, 1e4,
+			1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+			1e17, 1e18, 1e19, 1e20, 1e21, 1e22 };
+
+	/**
+	 * The channel from which the bytes are read; or {@code null} if the bytes
+	 * are read from a reader.
+	 */
+	private final ReadableByteChannel channel;
+
+	/**
+	 * The reader from which the characters are read; or {@code null} if the
+	 * bytes are read from a channel.
+	 */
+	private final Reader reader;
+
+	/**
+	 * The reader from which the characters are read line by line; or
+	 * {@code null} if the characters are read in blocks.
+	 */
+	private final BufferedReader lineReader;
+
+	/**
+	 * The line, including the line break, whose characters did not fit in
+	 * {@link #chars}; or {@code null} if no such line exists.
+	 */
+	private String pendingLine;
+
+	/**
+	 * The position of the first character of {@link #pendingLine} which has
+	 * not been copied to {@link #chars}.
+	 */
+	private int pendingOffset;
+
+	/**
+	 * The characters read from the reader which have not been encoded yet.
+	 */
+	private final CharBuffer chars;
+
+	/**
+	 * The encoder which converts the characters read from the reader to bytes.
+	 */
+	private final CharsetEncoder encoder;
+
+	/**
+	 * {@code true} if the end of the reader has been reached; {@code false}
+	 * otherwise.
+	 */
+	private boolean endOfReader;
+
+	/**
+	 * The buffer, backed by {@link #bytes}.
+	 */
+	private final ByteBuffer buffer;
+
+	/**
+	 * The bytes in the buffer.
+	 */
+	private final byte[] bytes;
+
+	/**
+	 * The position of the next unread byte in the buffer.
+	 */
+	private int position;
+
+	/**
+	 * The number of valid bytes in the buffer.
+	 */
+	private int limit;
+
+	/**
+	 * {@code true} if the end of the input has been reached; {@code false}
+	 * otherwise.
+	 */
+	private boolean eof;
+
+	/**
+	 * Buffer used to collect the bytes of a line.
+	 */
+	private byte[] line;
+
+	/**
+	 * Constructs a new tokenizer reading from the specified channel.
+	 *
+	 * @param channel the channel containing the TSPLIB data
+	 */
+	public TSPLibTokenizer(ReadableByteChannel channel) {
+		this(channel, null, null);
+	}
+
+	/**
+	 * Constructs a new tokenizer reading from the specified input stream.
+	 *
+	 * @param inputStream the input stream containing the TSPLIB data
+	 */
+	public TSPLibTokenizer(InputStream inputStream) {
+		this(Channels.newChannel(inputStream), null, null);
+	}
+
+	/**
+	 * Constructs a new tokenizer reading from the specified file.
+	 *
+	 * @param file the TSPLIB file
+	 * @throws IOException if the file could not be opened
+	 */
+	public TSPLibTokenizer(File file) throws IOException {
+		this(new FileInputStream(file).getChannel(), null, null);
+	}
+
+	/**
+	 * Constructs a new tokenizer reading from the specified reader.  The
+	 * characters are encoded as UTF-8 before they are tokenized, so reading
+	 * from a channel or input stream is faster.
+	 *
+	 * @param reader the reader containing the TSPLIB data
+	 */
+	public TSPLibTokenizer(Reader reader) {
+		this(null, reader, null);
+	}
+
+	/**
+	 * Constructs a new tokenizer reading line by line from the specified
+	 * reader.  The tokenizer never reads beyond the line containing the last
+	 * token or line returned, so the reader can still be used to read any
+	 * data following the tokens.  Reading line by line is slower; use
+	 * {@link #TSPLibTokenizer(Reader)} to read the entire input.
+	 *
+	 * @param reader the reader containing the TSPLIB data
+	 */
+	public TSPLibTokenizer(BufferedReader reader) {
+		this(null, reader, reader);
+	}
+
+	/**
+	 * Constructs a new tokenizer reading from either a channel or a reader.
+	 *
+	 * @param channel the channel containing the TSPLIB data; or {@code null}
+	 * @param reader the reader containing the TSPLIB data; or {@code null}
+	 * @param lineReader the reader if it is read line by line; or
+	 *        {@code null}
+	 */
+	private TSPLibTokenizer(ReadableByteChannel channel, Reader reader,
+			BufferedReader lineReader) {
+		super();
+		this.channel = channel;
+		this.reader = reader;
+		this.lineReader = lineReader;
+
+		bytes = new byte[BUFFER_SIZE];
+		buffer = ByteBuffer.wrap(bytes);
+		line = new byte[MAX_TOKEN_LENGTH];
+
+		if (reader != null) {
+			chars = CharBuffer.allocate(BUFFER_SIZE / 4);
+			chars.flip();
+			encoder = StandardCharsets.UTF_8.newEncoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+		} else {
+			chars = null;
+			encoder = null;
+		}
+	}
+
+	/**
+	 * Moves the unread bytes to the front of the buffer and reads bytes until
+	 * the buffer contains at least the specified number of unread bytes, or
+	 * the end of the input is reached.
+	 *
+	 * @param length the number of unread bytes required
+	 * @return {@code true} if at least one unread byte is available;
+	 *         {@code false} if the end of the input has been reached
+	 * @throws IOException if an I/O error occurred
+	 */
+	private boolean fill(int length) throws IOException {
+		if (limit - position >= length) {
+			return true;
+		}
+
+		System.arraycopy(bytes, position, bytes, 0, limit - position);
+		limit -= position;
+		position = 0;
+
+		while ((limit < length) && !eof) {
+			buffer.limit(bytes.length);
+			buffer.position(limit);
+
+			if (channel != null) {
+				eof = (channel.read(buffer) < 0);
+			} else {
+				eof = encode();
+			}
+
+			limit = buffer.position();
+		}
+
+		return limit > position;
+	}
+
+	/**
+	 * Reads characters from the reader and encodes them into the buffer.
+	 *
+	 * @return {@code true} if the end of the reader has been reached;
+	 *         {@code false} otherwise
+	 * @throws IOException if an I/O error occurred
+	 */
+	private boolean encode() throws IOException {
+		if (lineReader != null) {
+			// only read the next line once the current line is encoded
+			if (!chars.hasRemaining() && !endOfReader) {
+				readLineChars();
+			}
+		} else if ((chars.remaining() < 2) && !endOfReader) {
+			// at most one character (half of a surrogate pair) is left over
+			// when the buffer has room for more bytes
+			chars.compact();
+			endOfReader = (reader.read(chars) < 0);
+			chars.flip();
+		}
+
+		if (encoder.encode(chars, buffer, endOfReader).isOverflow()) {
+			return false;
+		}
+
+		return endOfReader && !encoder.flush(buffer).isOverflow();
+	}
+
+	/**
+	 * Copies the next line, including the line break, from the line reader
+	 * to the empty character buffer.  Lines longer than the character buffer
+	 * are copied in several parts, without splitting surrogate pairs.
+	 *
+	 * @throws IOException if an I/O error occurred
+	 */
+	private void readLineChars() throws IOException {
+		if (pendingLine == null) {
+			String text = lineReader.readLine();
+
+			if (text == null) {
+				endOfReader = true;
+				return;
+			}
+
+			pendingLine = text + '\n';
+			pendingOffset = 0;
+		}
+
+		int end = Math.min(pendingLine.length(),
+				pendingOffset + chars.capacity());
+
+		if ((end < pendingLine.length()) &&
+				Character.isHighSurrogate(pendingLine.charAt(end-1))) {
+			end--;
+		}
+
+		chars.clear();
+		chars.put(pendingLine, pendingOffset, end);
+		chars.flip();
+
+		if (end == pendingLine.length()) {
+			pendingLine = null;
+		} else {
+			pendingOffset = end;
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the specified byte is whitespace; {@code false}
+	 * otherwise.
+	 *
+	 * @param b the byte
+	 * @return {@code true} if the specified byte is whitespace; {@code false}
+	 *         otherwise
+	 */
+	private static boolean isWhitespace(byte b) {
+		return (b == ' ') || (b == '\n') || (b == '\r') || (b == '\t') ||
+				(b == '\f');
+	}
+
+	/**
+	 * Skips whitespace, including line breaks.
+	 *
+	 * @return {@code true} if a token follows; {@code false} if the end of the
+	 *         input has been reached
+	 * @throws IOException if an I/O error occurred
+	 */
+	private boolean skipWhitespace() throws IOException {
+		while (true) {
+			while (position < limit) {
+				if (!isWhitespace(bytes[position])) {
+					return true;
+				}
+
+				position++;
+			}
+
+			if (!fill(1)) {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Returns {@code true} if another token follows; {@code false} if only
+	 * whitespace remains.
+	 *
+	 * @return {@code true} if another token follows; {@code false} if only
+	 *         whitespace remains
+	 * @throws IOException if an I/O error occurred
+	 */
+	public boolean hasNext() throws IOException {
+		return skipWhitespace();
+	}
+
+	/**
+	 * Returns {@code true} if another token follows on the current line;
+	 * {@code false} otherwise.  Whitespace preceding the token or the line
+	 * break is skipped, but the line break itself is not.
+	 *
+	 * @return {@code true} if another token follows on the current line;
+	 *         {@code false} otherwise
+	 * @throws IOException if an I/O error occurred
+	 */
+	public boolean hasNextOnLine() throws IOException {
+		while (true) {
+			while (position < limit) {
+				byte b = bytes[position];
+
+				if (b == '\n') {
+					return false;
+				} else if (!isWhitespace(b)) {
+					return true;
+				}
+
+				position++;
+			}
+
+			if (!fill(1)) {
+				return false;
+			}
+		}
+	}
+
+	/**
+	 * Skips whitespace and returns the position at which the next token ends.
+	 * The token starts at {@link #position}, and is stored contiguously in the
+	 * buffer.
+	 *
+	 * @return the position at which the next token ends
+	 * @throws IOException if an I/O error occurred, if the end of the input
+	 *         has been reached, or if the token is too long
+	 */
+	private int nextToken() throws IOException {
+		if (!skipWhitespace()) {
+			throw new EOFException("unexpectedly reached EOF");
+		}
+
+		int end = position;
+
+		while (true) {
+			while ((end < limit) && !isWhitespace(bytes[end])) {
+				end++;
+			}
+
+			if ((end < limit) || eof) {
+				return end;
+			} else if (end - position >= MAX_TOKEN_LENGTH) {
+				throw new IOException("token exceeds " + MAX_TOKEN_LENGTH +
+						" characters");
+			}
+
+			// the token continues beyond the buffer
+			int length = end - position;
+			fill(length + 1);
+			end = position + length;
+		}
+	}
+
+	/**
+	 * Reads the next token as an integer.
+	 *
+	 * @return the integer
+	 * @throws IOException if an I/O error occurred, if the end of the input
+	 *         has been reached, or if the token is not an integer
+	 */
+	public int nextInt() throws IOException {
+		int end = nextToken();
+		int start = position;
+		int index = start;
+		boolean negative = false;
+
+		if ((bytes[index] == '-') || (bytes[index] == '+')) {
+			negative = (bytes[index] == '-');
+			index++;
+		}
+
+		if (index == end) {
+			throw invalidToken("integer", start, end);
+		}
+
+		// accumulate the negated value, which also covers Integer.MIN_VALUE
+		int result = 0;
+
+		for (; index < end; index++) {
+			int digit = bytes[index] - '0';
+
+			if ((digit < 0) || (digit > 9) ||
+					(result < (Integer.MIN_VALUE + digit) / 10)) {
+				throw invalidToken("integer", start, end);
+			}
+
+			result = result * 10 - digit;
+		}
+
+		if (!negative && (result == Integer.MIN_VALUE)) {
+			throw invalidToken("integer", start, end);
+		}
+
+		position = end;
+		return negative ? result : -result;
+	}
+
+	/**
+	 * Reads the next token as a double.  Decimal numbers with at most 18
+	 * significant digits and a small exponent are converted exactly, by a
+	 * single multiplication or division with a power of ten; all other tokens
+	 * are converted through {@link Double#parseDouble(String)}.  In both
+	 * cases, the result is identical to {@code Double.parseDouble}.
+	 *
+	 * @return the double
+	 * @throws IOException if an I/O error occurred, if the end of the input
+	 *         has been reached, or if the token is not a number
+	 */
+	public double nextDouble() throws IOException {
+		int end = nextToken();
+		int start = position;
+		int index = start;
+		boolean negative = false;
+
+		if ((bytes[index] == '-') || (bytes[index] == '+')) {
+			negative = (bytes[index] == '-');
+			index++;
+		}
+
+		long mantissa = 0;
+		int nrDigits = 0;
+		int nrSignificantDigits = 0;
+		int exponent = 0;
+		boolean fraction = false;
+
+		for (; index < end; index++) {
+			byte b = bytes[index];
+
+			if ((b >= '0') && (b <= '9')) {
+				nrDigits++;
+
+				if ((mantissa != 0) || (b != '0')) {
+					if (++nrSignificantDigits > MAX_DIGITS) {
+						return parseDouble(start, end);
+					}
+
+					mantissa = mantissa * 10 + (b - '0');
+				}
+
+				if (fraction) {
+					exponent--;
+				}
+			} else if ((b == '.') && !fraction) {
+				fraction = true;
+			} else {
+				break;
+			}
+		}
+
+		if (nrDigits == 0) {
+			return parseDouble(start, end);
+		}
+
+		if ((index < end) && ((bytes[index] == 'e') || (bytes[index] == 'E'))) {
+			index++;
+			boolean negativeExponent = false;
+
+			if ((index < end) &&
+					((bytes[index] == '-') || (bytes[index] == '+'))) {
+				negativeExponent = (bytes[index] == '-');
+				index++;
+			}
+
+			if (index == end) {
+				throw invalidToken("number", start, end);
+			}
+
+			int value = 0;
+
+			for (; index < end; index++) {
+				int digit = bytes[index] - '0';
+
+				if ((digit < 0) || (digit > 9)) {
+					throw invalidToken("number", start, end);
+				}
+
+				if (value > 100000) {
+					return parseDouble(start, end);
+				}
+
+				value = value * 10 + digit;
+			}
+
+			exponent += negativeExponent ? -value : value;
+		}
+
+		if (index < end) {
+			return parseDouble(start, end);
+		}
+
+		double result;
+
+		if (mantissa == 0) {
+			result = 0.0;
+		} else if ((mantissa < (1L << 53)) && (exponent >= -22) &&
+				(exponent <= 22)) {
+			// both operands are exact, so the result is correctly rounded
+			if (exponent >= 0) {
+				result = mantissa * POWERS_OF_TEN[exponent];
+			} else {
+				result = mantissa / POWERS_OF_TEN[-exponent];
+			}
+		} else {
+			return parseDouble(start, end);
+		}
+
+		position = end;
+		return negative ? -result : result;
+	}
+
+	/**
+	 * Converts the specified token through
+	 * {@link Double#parseDouble(String)}.
+	 *
+	 * @param start the position at which the token starts
+	 * @param end the position at which the token ends
+	 * @return the double
+	 * @throws IOException if the token is not a number
+	 */
+	private double parseDouble(int start, int end) throws IOException {
+		try {
+			double result = Double.parseDouble(new String(bytes, start,
+					end - start, StandardCharsets.US_ASCII));
+			position = end;
+			return result;
+		} catch (NumberFormatException e) {
+			throw invalidToken("number", start, end);
+		}
+	}
+
+	/**
+	 * Returns an exception indicating that the specified token could not be
+	 * parsed.
+	 *
+	 * @param expected the expected type of token
+	 * @param start the position at which the token starts
+	 * @param end the position at which the token ends
+	 * @return the exception
+	 */
+	private IOException invalidToken(String expected, int start, int end) {
+		return new IOException("expected " + expected + " but found '" +
+				new String(bytes, start, end - start,
+						StandardCharsets.UTF_8) + "'");
+	}
+
+	/**
+	 * Reads the remainder of the current line, without the line break.
+	 *
+	 * @return the remainder of the current line; or {@code null} if the end
+	 *         of the input has been reached
+	 * @throws IOException if an I/O error occurred
+	 */
+	public String readLine() throws IOException {
+		if (!fill(1)) {
+			return null;
+		}
+
+		int length = 0;
+
+		while (true) {
+			int start = position;
+
+			while ((position < limit) && (bytes[position] != '\n')) {
+				position++;
+			}
+
+			int count = position - start;
+
+			if (length + count > line.length) {
+				byte[] copy = new byte[Math.max(2 * line.length,
+						length + count)];
+				System.arraycopy(line, 0, copy, 0, length);
+				line = copy;
+			}
+
+			System.arraycopy(bytes, start, line, length, count);
+			length += count;
+
+			if (position < limit) {
+				position++; // skip the line break
+				break;
+			} else if (!fill(1)) {
+				break;
+			}
+		}
+
+		if ((length > 0) && (line[length-1] == '\r')) {
+			length--;
+		}
+
+		return new String(line, 0, length, StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Closes the underlying channel or reader.
+	 *
+	 * @throws IOException if an I/O error occurred
+	 */
+	@Override
+	public void close() throws IOException {
+		if (channel != null) {
+			channel.close();
+		} else {
+			reader.close();
+		}
+	}
+
+}
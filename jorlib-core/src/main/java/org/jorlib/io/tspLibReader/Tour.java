@@ -55,29 +55,37 @@ public class Tour {
 	}
 	
 	/**
-	 * Loads the contents of this tour from the given reader.
+	 * Loads the contents of this tour from the given tokenizer.
 	 * 
-	 * @param reader the reader that defines this tour
+	 * @param tokenizer the tokenizer positioned at the start of this tour
 	 * @throws IOException if an I/O error occurred while reading the tour
 	 */
-	public void load(BufferedReader reader) throws IOException {
-		String line = null;
-		
-		outer: while ((line = reader.readLine()) != null) {
-			String[] tokens = line.trim().split("\\s+");
+	public void load(TSPLibTokenizer tokenizer) throws IOException {
+		while (tokenizer.hasNext()) {
+			int id = tokenizer.nextInt();
 			
-			for (int i = 0; i < tokens.length; i++) {
-				int id = Integer.parseInt(tokens[i]);
-				
-				if (id == -1) {
-					break outer;
-				} else {
-					nodes.add(id);
-				}
+			if (id == -1) {
+				break;
+			} else {
+				nodes.add(id);
 			}
 		}
 	}
 	
+	/**
+	 * Loads the contents of this tour from the given reader.
+	 * 
+	 * @param reader the reader containing this tour
+	 * @throws IOException if an I/O error occurred while reading the tour
+	 * @deprecated Use {@link #load(TSPLibTokenizer)} instead. The reader
+	 *             is read line by line, so it can still be used to read any
+	 *             data following the tour.
+	 */
+	@Deprecated
+	public void load(BufferedReader reader) throws IOException {
+		load(new TSPLibTokenizer(reader));
+	}
+	
 	/**
 	 * The number of nodes visited in this tour.
 	 * 
@@ -23,6 +23,8 @@ package org.jorlib.io.tspLibReader.graph;
 import java.io.BufferedReader;
 import java.io.IOException;
 
+import org.jorlib.io.tspLibReader.TSPLibTokenizer;
+
 /**
  * A distance table provides a lookup of the distances between the nodes in a
  * TSPLIB problem instance.
@@ -68,14 +70,30 @@ public abstract class DistanceTable {
 	 */
 	public abstract double getDistanceBetween(int id1, int id2);
 	
+	/**
+	 * Loads the distance table from the specified tokenizer.
+	 * 
+	 * @param tokenizer the tokenizer positioned at the start of the distance
+	 *        table
+	 * @throws IOException if an I/O error occurred while reading the distance
+	 *         table
+	 */
+	public abstract void load(TSPLibTokenizer tokenizer) throws IOException;
+	
 	/**
 	 * Loads the distance table from the specified reader.
 	 * 
 	 * @param reader the reader containing the distance table
 	 * @throws IOException if an I/O error occurred while reading the distance
 	 *         table
+	 * @deprecated Use {@link #load(TSPLibTokenizer)} instead. The reader
+	 *             is read line by line, so it can still be used to read any
+	 *             data following the distance table.
 	 */
-	public abstract void load(BufferedReader reader) throws IOException;
+	@Deprecated
+	public void load(BufferedReader reader) throws IOException {
+		load(new TSPLibTokenizer(reader));
+	}
 	
 	/**
 	 * Returns {@code true} if the specified nodes are neighbors; {@code false}
@@ -20,14 +20,11 @@
  */
 package org.jorlib.io.tspLibReader.graph;
 
-import java.io.BufferedReader;
-import java.io.EOFException;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Queue;
 
+import org.jorlib.io.tspLibReader.TSPLibTokenizer;
 import org.jorlib.io.tspLibReader.fieldTypesAndFormats.EdgeDataFormat;
 
 /**
@@ -66,71 +63,34 @@ public class EdgeData extends DistanceTable {
 		edges = new ArrayList<Edge>();
 	}
 	
-	/**
-	 * Reads the next line of adjacent edges, adding the parsed values to the
-	 * queue.
-	 * 
-	 * @param reader the reader containing the adjacent edge data
-	 * @param entries the queue of identifies read by this method
-	 * @throws IOException if an I/O error occurred while reading the adjacent
-	 *         edge data
-	 */
-	private void readNextLine(BufferedReader reader, Queue<Integer> entries)
-			throws IOException {
-		String line = reader.readLine();
-		
-		if (line == null) {
-			throw new EOFException("unexpectedly reached EOF");
-		}
-		
-		String[] tokens = line.trim().split("\\s+");
-		
-		for (int i = 0; i < tokens.length; i++) {
-			entries.offer(Integer.parseInt(tokens[i]));
-		}
-	}
-	
 	@Override
-	public void load(BufferedReader reader) throws IOException {
-		String line = null;
-		
+	public void load(TSPLibTokenizer tokenizer) throws IOException {
 		switch (format) {
 		case EDGE_LIST:
-			while ((line = reader.readLine()) != null) {
-				line = line.trim();
+			while (tokenizer.hasNext()) {
+				int id1 = tokenizer.nextInt();
 				
-				if (line.equals("-1")) {
+				if (id1 == -1) {
 					break;
 				} else {
-					String[] tokens = line.split("\\s+");
-					int id1 = Integer.parseInt(tokens[0]);
-					int id2 = Integer.parseInt(tokens[1]);
+					int id2 = tokenizer.nextInt();
 					addEdge(id1-1, id2-1);
 				}
 			}
 			
 			break;
 		case ADJ_LIST:
-			int currentId = -1;
-			Queue<Integer> values = new LinkedList<Integer>();
-			
-			readNextLine(reader, values);
+			// each adjacency list starts with a node and is terminated by -1;
+			// the section is terminated by another -1
+			while (tokenizer.hasNext()) {
+				int currentId = tokenizer.nextInt();
 				
-			while ((currentId != -1) && (values.peek() != -1)) {
 				if (currentId == -1) {
-					currentId = values.poll();
-				} else {
-					int id = values.poll();
-					
-					if (id == -1) {
-						currentId = -1;
-					} else {
-						addEdge(currentId-1, id-1);
-					}
+					break;
 				}
 				
-				if (values.isEmpty()) {
-					readNextLine(reader, values);
+				for (int id = tokenizer.nextInt(); id != -1; id = tokenizer.nextInt()) {
+					addEdge(currentId-1, id-1);
 				}
 			}
 			
@@ -20,12 +20,9 @@
  */
 package org.jorlib.io.tspLibReader.graph;
 
-import java.io.BufferedReader;
-import java.io.EOFException;
 import java.io.IOException;
-import java.util.LinkedList;
-import java.util.Queue;
 
+import org.jorlib.io.tspLibReader.TSPLibTokenizer;
 import org.jorlib.io.tspLibReader.fieldTypesAndFormats.EdgeWeightFormat;
 
 /**
@@ -67,47 +64,13 @@ public class EdgeWeightMatrix extends DistanceTable {
 		matrix = new double[size][size];
 	}
 	
-	/**
-	 * Reads the next line from the reader, parses out one or more weights, and
-	 * appends the weights to the given queue.
-	 * 
-	 * @param reader the reader containing the edge weights
-	 * @param entries the queue of read but unprocessed edge weights
-	 * @throws IOException if an I/O error occurred while reading the edge
-	 *         weights
-	 */
-	private void readNextLine(BufferedReader reader, Queue<Double> entries)
-			throws IOException {
-		String line = null;
-		
-		do {
-			line = reader.readLine();
-			
-			if (line == null) {
-				throw new EOFException("unexpectedly reached EOF");
-			}
-		} while ((line = line.trim()).isEmpty());
-		
-		String[] tokens = line.split("\\s+");
-		
-		for (int i = 0; i < tokens.length; i++) {
-			entries.offer(Double.parseDouble(tokens[i]));
-		}
-	}
-	
 	@Override
-	public void load(BufferedReader reader) throws IOException {
-		Queue<Double> entries = new LinkedList<Double>();
-		
+	public void load(TSPLibTokenizer tokenizer) throws IOException {
 		switch (format) {
 		case FULL_MATRIX:
 			for (int i = 0; i < size; i++) {
 				for (int j = 0; j < size; j++) {
-					if (entries.isEmpty()) {
-						readNextLine(reader, entries);
-					}
-					
-					matrix[i][j] = entries.poll();
+					matrix[i][j] = tokenizer.nextDouble();
 				}
 			}
 			
@@ -115,11 +78,7 @@ public class EdgeWeightMatrix extends DistanceTable {
 		case UPPER_ROW:
 			for (int i = 0; i < size-1; i++) {
 				for (int j = i+1; j < size; j++) {
-					if (entries.isEmpty()) {
-						readNextLine(reader, entries);
-					}
-
-					matrix[i][j] = entries.poll();
+					matrix[i][j] = tokenizer.nextDouble();
 					matrix[j][i] = matrix[i][j];
 				}
 			}
@@ -128,22 +87,16 @@ public class EdgeWeightMatrix extends DistanceTable {
 		case UPPER_DIAG_ROW:
 			for (int i = 0; i < size; i++) {
 				for (int j = i; j < size; j++) {
-					if (entries.isEmpty()) {
-						readNextLine(reader, entries);
-					}
-
-					matrix[i][j] = entries.poll();
+					matrix[i][j] = tokenizer.nextDouble();
 					matrix[j][i] = matrix[i][j];
 				}
 			}
+			
+			break;
 		case LOWER_ROW:
 			for (int i = 1; i<size; i++) {
 				for (int j = 0; j < i; j++) {
-					if (entries.isEmpty()) {
-						readNextLine(reader, entries);
-					}
-
-					matrix[i][j] = entries.poll();
+					matrix[i][j] = tokenizer.nextDouble();
 					matrix[j][i] = matrix[i][j];
 				}
 			}
@@ -152,11 +105,7 @@ public class EdgeWeightMatrix extends DistanceTable {
 		case LOWER_DIAG_ROW:
 			for (int i = 0; i < size; i++) {
 				for (int j = 0; j < i+1; j++) {
-					if (entries.isEmpty()) {
-						readNextLine(reader, entries);
-					}
-
-					matrix[i][j] = entries.poll();
+					matrix[i][j] = tokenizer.nextDouble();
 					matrix[j][i] = matrix[i][j];
 				}
 			}
@@ -165,11 +114,7 @@ public class EdgeWeightMatrix extends DistanceTable {
 		case UPPER_COL:
 			for (int j = 1; j < size; j++) {
 				for (int i = 0; i < j; i++) {
-					if (entries.isEmpty()) {
-						readNextLine(reader, entries);
-					}
-
-					matrix[i][j] = entries.poll();
+					matrix[i][j] = tokenizer.nextDouble();
 					matrix[j][i] = matrix[i][j];
 				}
 			}
@@ -178,11 +123,7 @@ public class EdgeWeightMatrix extends DistanceTable {
 		case UPPER_DIAG_COL:
 			for (int j = 0; j < size; j++) {
 				for (int i = 0; i < j+1; i++) {
-					if (entries.isEmpty()) {
-						readNextLine(reader, entries);
-					}
-
-					matrix[i][j] = entries.poll();
+					matrix[i][j] = tokenizer.nextDouble();
 					matrix[j][i] = matrix[i][j];
 				}
 			}
@@ -191,11 +132,7 @@ public class EdgeWeightMatrix extends DistanceTable {
 		case LOWER_COL:
 			for (int j = 0; j < size-1; j++) {
 				for (int i = j+1; i < size; i++) {
-					if (entries.isEmpty()) {
-						readNextLine(reader, entries);
-					}
-
-					matrix[i][j] = entries.poll();
+					matrix[i][j] = tokenizer.nextDouble();
 					matrix[j][i] = matrix[i][j];
 				}
 			}
@@ -204,11 +141,7 @@ public class EdgeWeightMatrix extends DistanceTable {
 		case LOWER_DIAG_COL:
 			for (int j = 0; j < size; j++) {
 				for (int i = j; i < size; i++) {
-					if (entries.isEmpty()) {
-						readNextLine(reader, entries);
-					}
-
-					matrix[i][j] = entries.poll();
+					matrix[i][j] = tokenizer.nextDouble();
 					matrix[j][i] = matrix[i][j];
 				}
 			}
@@ -219,7 +152,7 @@ public class EdgeWeightMatrix extends DistanceTable {
 		}
 		
 		// sanity check
-		if (!entries.isEmpty()) {
+		if (tokenizer.hasNextOnLine()) {
 			throw new IOException("edge weight matrix is longer than expected");
 		}
 	}
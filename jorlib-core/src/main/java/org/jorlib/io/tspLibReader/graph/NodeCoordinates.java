@@ -20,11 +20,11 @@
  */
 package org.jorlib.io.tspLibReader.graph;
 
-import java.io.BufferedReader;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.jorlib.io.tspLibReader.TSPLibTokenizer;
 import org.jorlib.io.tspLibReader.distanceFunctions.DistanceFunction;
 import org.jorlib.io.tspLibReader.fieldTypesAndFormats.EdgeWeightType;
 import org.jorlib.io.tspLibReader.fieldTypesAndFormats.NodeCoordType;
@@ -87,21 +87,23 @@ public class NodeCoordinates extends DistanceTable {
 	}
 	
 	@Override
-	public void load(BufferedReader reader) throws IOException {
+	public void load(TSPLibTokenizer tokenizer) throws IOException {
 		for (int i = 0; i < size; i++) {
-			String line = reader.readLine();
-			String[] tokens = line.trim().split("\\s+");
-
-			if (tokens.length != type.getLength() + 1) {
-				throw new IOException(
-						"invalid number of tokens for node entry");
-			}
-
 			double[] position = new double[type.getLength()];
-			int id = Integer.parseInt(tokens[0]);
+			int id = tokenizer.nextInt();
 
 			for (int j = 0; j < type.getLength(); j++) {
-				position[j] = Double.parseDouble(tokens[j+1]);
+				if (!tokenizer.hasNextOnLine()) {
+					throw new IOException(
+							"invalid number of tokens for node entry");
+				}
+				
+				position[j] = tokenizer.nextDouble();
+			}
+			
+			if (tokenizer.hasNextOnLine()) {
+				throw new IOException(
+						"invalid number of tokens for node entry");
 			}
 
 			add(new Node(id-1, position));
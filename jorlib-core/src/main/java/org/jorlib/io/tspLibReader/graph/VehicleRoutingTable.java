@@ -27,6 +27,8 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import org.jorlib.io.tspLibReader.TSPLibTokenizer;
+
 /**
  * Stores the demand at each node and identifies the depot nodes for vehicle
  * routing problems.
@@ -63,20 +65,51 @@ public class VehicleRoutingTable {
 		depots = new HashSet<Integer>();
 	}
 	
+	/**
+	 * Loads the demands from the specified tokenizer.
+	 * 
+	 * @param tokenizer the tokenizer positioned at the start of the demands
+	 * @throws IOException if an I/O error occurred while reading the demands
+	 */
+	public void loadDemands(TSPLibTokenizer tokenizer) throws IOException {
+		for (int i = 0; i < size; i++) {
+			int id = tokenizer.nextInt();
+			int demand = tokenizer.nextInt();
+			
+			demands.put(id, demand);
+		}
+	}
+	
 	/**
 	 * Loads the demands from the specified reader.
 	 * 
 	 * @param reader the reader containing the demands
 	 * @throws IOException if an I/O error occurred while reading the demands
+	 * @deprecated Use {@link #loadDemands(TSPLibTokenizer)} instead. The
+	 *             reader is read line by line, so it can still be used to read
+	 *             any data following the demands.
 	 */
+	@Deprecated
 	public void loadDemands(BufferedReader reader) throws IOException {
-		for (int i = 0; i < size; i++) {
-			String line = reader.readLine();
-			String[] tokens = line.trim().split("\\s+");
-			int id = Integer.parseInt(tokens[0]);
-			int demand = Integer.parseInt(tokens[1]);
+		loadDemands(new TSPLibTokenizer(reader));
+	}
+	
+	/**
+	 * Loads the depot list from the given tokenizer.
+	 * 
+	 * @param tokenizer the tokenizer positioned at the start of the depot list
+	 * @throws IOException if an I/O error occurred while reading the depot
+	 *         list
+	 */
+	public void loadDepots(TSPLibTokenizer tokenizer) throws IOException {
+		while (tokenizer.hasNext()) {
+			int id = tokenizer.nextInt();
 			
-			demands.put(id, demand);
+			if (id == -1) {
+				break;
+			} else {
+				depots.add(id);
+			}
 		}
 	}
 	
@@ -86,23 +119,13 @@ public class VehicleRoutingTable {
 	 * @param reader the reader that defines the depot nodes
 	 * @throws IOException if an I/O error occurred while reading the depot
 	 *         list
+	 * @deprecated Use {@link #loadDepots(TSPLibTokenizer)} instead. The
+	 *             reader is read line by line, so it can still be used to read
+	 *             any data following the depot list.
 	 */
+	@Deprecated
 	public void loadDepots(BufferedReader reader) throws IOException {
-		String line = null;
-		
-		outer: while ((line = reader.readLine()) != null) {
-			String[] tokens = line.trim().split("\\s+");
-			
-			for (int i = 0; i < tokens.length; i++) {
-				int id = Integer.parseInt(tokens[i]);
-				
-				if (id == -1) {
-					break outer;
-				} else {
-					depots.add(id);
-				}
-			}
-		}
+		loadDepots(new TSPLibTokenizer(reader));
 	}
 	
 	/**
@@ -28,7 +28,14 @@ package org.jorlib.alg;
 
 import org.jorlib.alg.knapsack.*;
 import org.jorlib.alg.knapsack.separation.*;
+import org.jorlib.alg.lp.CplexLPModelTest;
+import org.jorlib.alg.lp.RevisedSimplexTest;
+import org.jorlib.alg.packing.circlePacking.CircleGridTest;
+import org.jorlib.alg.packing.circlePacking.CirclePackingHeuristicTest;
+import org.jorlib.alg.packing.circlePacking.DynamicEnclosingCircleTest;
 import org.jorlib.alg.packing.circlePacking.SmallestEnclosingCircleCalculatorTest;
+import org.jorlib.alg.tsp.separation.BlossomSeparatorTest;
+import org.jorlib.alg.tsp.separation.DirectedSubtourSeparatorTest;
 import org.jorlib.alg.tsp.separation.SubtourSeparatorTest;
 import org.junit.runner.*;
 import org.junit.runners.*;
@@ -43,7 +50,15 @@ import org.junit.runners.*;
 @Suite.SuiteClasses({
 	KnapsackTest.class,
 	LiftedCoverInequalitySeparatorTest.class,
+	BatchCoverInequalitySeparatorTest.class,
+	RevisedSimplexTest.class,
+	CplexLPModelTest.class,
 	SmallestEnclosingCircleCalculatorTest.class,
+	DynamicEnclosingCircleTest.class,
+	CircleGridTest.class,
+	CirclePackingHeuristicTest.class,
+	BlossomSeparatorTest.class,
+	DirectedSubtourSeparatorTest.class,
 	SubtourSeparatorTest.class
 })
 
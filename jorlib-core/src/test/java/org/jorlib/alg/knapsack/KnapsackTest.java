@@ -26,6 +26,8 @@
  */
 package org.jorlib.alg.knapsack;
 
+import java.util.Random;
+
 import junit.framework.TestCase;
 
 import org.junit.Assert;
@@ -61,4 +63,319 @@ public final class KnapsackTest extends TestCase {
 		assertEquals(390, knapsack.getKnapsackValue(), 0.000001);
 		Assert.assertArrayEquals(new boolean[]{false, true, true, false, true}, knapsack.getKnapsackItems());
 	}
+
+	/**
+	 * Solves the instances of testKnapsack1 and testKnapsack2 with the expanding core algorithm
+	 */
+	public void testExpandingCoreKnapsack(){
+		ExpandingCoreKnapsack knapsack=new ExpandingCoreKnapsack();
+		knapsack.solveKnapsackProblem(4, 8, new double[]{15,10,9,5}, new int[]{1,5,3,4});
+		assertEquals(8, knapsack.getKnapsackWeight());
+		assertEquals(29, knapsack.getKnapsackValue(), 0.000001);
+		Assert.assertArrayEquals(new boolean[]{true, false, true, true}, knapsack.getKnapsackItems());
+
+		knapsack.solveKnapsackProblem(5, 60, new double[]{300, 60, 90, 100, 240}, new int[]{50, 10, 20, 40, 30});
+		assertEquals(60, knapsack.getKnapsackWeight());
+		assertEquals(390, knapsack.getKnapsackValue(), 0.000001);
+		Assert.assertArrayEquals(new boolean[]{false, true, true, false, true}, knapsack.getKnapsackItems());
+	}
+
+	/**
+	 * Compares the knapsack algorithms against complete enumeration on random uncorrelated, strongly correlated and subset-sum instances
+	 */
+	public void testRandomInstances(){
+		Random random=new Random(0);
+		KnapsackAlgorithm[] algorithms={new BinaryKnapsack(), new ExpandingCoreKnapsack(true), new ExpandingCoreKnapsack(false), new DepthFirstBinaryKnapsack()};
+		for(int run=0; run<300; run++){
+			int nrItems=1+random.nextInt(12);
+			double[] itemValues=new double[nrItems];
+			int[] itemWeights=new int[nrItems];
+			int totalWeight=0;
+			for(int i=0; i<nrItems; i++){
+				itemWeights[i]=1+random.nextInt(100);
+				totalWeight+=itemWeights[i];
+				itemValues[i]= run%3 == 0 ? 1+random.nextInt(100) : (run%3 == 1 ? itemWeights[i]+10 : itemWeights[i]);
+			}
+			int maxKnapsackWeight=random.nextInt(totalWeight+1);
+
+			double optimum=0;
+			for(int subset=0; subset<(1<<nrItems); subset++){
+				int weight=0;
+				double value=0;
+				for(int i=0; i<nrItems; i++){
+					if((subset & (1<<i)) != 0){
+						weight+=itemWeights[i];
+						value+=itemValues[i];
+					}
+				}
+				if(weight <= maxKnapsackWeight)
+					optimum=Math.max(optimum, value);
+			}
+
+			for(KnapsackAlgorithm algorithm : algorithms){
+				assertEquals(optimum, algorithm.solveKnapsackProblem(nrItems, maxKnapsackWeight, itemValues, itemWeights), 0.000001);
+				int weight=0;
+				double value=0;
+				for(int i=0; i<nrItems; i++){
+					if(algorithm.getKnapsackItems()[i]){
+						weight+=itemWeights[i];
+						value+=itemValues[i];
+					}
+				}
+				assertTrue(weight <= maxKnapsackWeight);
+				assertEquals(weight, algorithm.getKnapsackWeight());
+				assertEquals(optimum, value, 0.000001);
+			}
+		}
+	}
+
+	public void testIntegerKnapsack(){
+		//Cutting stock pricing problem: rolls of width 100, finals of width 45, 36, 31 and 14
+		double[] itemValues={0.5, 0.4, 0.33, 0.17};
+		int[] itemWeights={45, 36, 31, 14};
+		IntegerKnapsackAlgorithm[] algorithms={new IntegerKnapsack(), new IntegerKnapsack(0)};
+		for(IntegerKnapsackAlgorithm algorithm : algorithms){
+			assertEquals(1.19, algorithm.solveKnapsackProblem(4, 100, itemValues, itemWeights, null), 0.000001);
+			Assert.assertArrayEquals(new int[]{0, 0, 0, 7}, algorithm.getKnapsackItems());
+			assertEquals(98, algorithm.getKnapsackWeight());
+			assertEquals(1.07, algorithm.solveKnapsackProblem(4, 100, itemValues, itemWeights, new int[]{1, 1, 0, 2}), 0.000001);
+			Assert.assertArrayEquals(new int[]{1, 1, 0, 1}, algorithm.getKnapsackItems());
+		}
+	}
+
+	public void testRandomIntegerInstances(){
+		Random random=new Random(0);
+		IntegerKnapsackAlgorithm[] algorithms={new IntegerKnapsack(), new IntegerKnapsack(0)};
+		for(int run=0; run<300; run++){
+			int nrItems=1+random.nextInt(5);
+			double[] itemValues=new double[nrItems];
+			int[] itemWeights=new int[nrItems];
+			int[] itemBounds= run%2 == 0 ? null : new int[nrItems];
+			for(int i=0; i<nrItems; i++){
+				itemWeights[i]=1+random.nextInt(20);
+				itemValues[i]= run%3 == 0 ? 1+random.nextInt(20) : itemWeights[i]+random.nextInt(3);
+				if(itemBounds != null)
+					itemBounds[i]=random.nextInt(4);
+			}
+			int maxKnapsackWeight=random.nextInt(60);
+			double optimum=this.enumerate(0, nrItems, maxKnapsackWeight, itemValues, itemWeights, itemBounds);
+
+			for(IntegerKnapsackAlgorithm algorithm : algorithms){
+				assertEquals(optimum, algorithm.solveKnapsackProblem(nrItems, maxKnapsackWeight, itemValues, itemWeights, itemBounds), 0.000001);
+				int weight=0;
+				double value=0;
+				for(int i=0; i<nrItems; i++){
+					int copies=algorithm.getKnapsackItems()[i];
+					assertTrue(copies >= 0 && (itemBounds == null || copies <= itemBounds[i]));
+					weight+=copies*itemWeights[i];
+					value+=copies*itemValues[i];
+				}
+				assertTrue(weight <= maxKnapsackWeight);
+				assertEquals(weight, algorithm.getKnapsackWeight());
+				assertEquals(optimum, value, 0.000001);
+			}
+		}
+	}
+
+
+	public void testKnapsackSession(){
+		Random random=new Random(0);
+		for(int run=0; run<50; run++){
+			int nrItems=1+random.nextInt(8);
+			int[] itemWeights=new int[nrItems];
+			int[] itemBounds= run%2 == 0 ? null : new int[nrItems];
+			for(int i=0; i<nrItems; i++){
+				itemWeights[i]=1+random.nextInt(20);
+				if(itemBounds != null)
+					itemBounds[i]=random.nextInt(4);
+			}
+			int maxKnapsackWeight=random.nextInt(60);
+			KnapsackSession[] sessions={new KnapsackSession(nrItems, maxKnapsackWeight, itemWeights, itemBounds), new KnapsackSession(nrItems, maxKnapsackWeight, itemWeights, itemBounds, 0)};
+			IntegerKnapsackAlgorithm knapsack=new IntegerKnapsack();
+
+			//Solve the problem repeatedly for slightly changing values
+			double[] itemValues=new double[nrItems];
+			for(int i=0; i<nrItems; i++)
+				itemValues[i]=itemWeights[i];
+			for(int iteration=0; iteration<10; iteration++){
+				for(int i=0; i<nrItems; i++)
+					itemValues[i]+=random.nextDouble()*4-2;
+				double optimum=knapsack.solveKnapsackProblem(nrItems, maxKnapsackWeight, itemValues, itemWeights, itemBounds);
+				for(KnapsackSession session : sessions){
+					assertEquals(optimum, session.solve(itemValues), 0.000001);
+					int weight=0;
+					double value=0;
+					for(int i=0; i<nrItems; i++){
+						int copies=session.getKnapsackItems()[i];
+						assertTrue(copies >= 0 && (itemBounds == null || copies <= itemBounds[i]));
+						weight+=copies*itemWeights[i];
+						value+=copies*itemValues[i];
+					}
+					assertTrue(weight <= maxKnapsackWeight);
+					assertEquals(weight, session.getKnapsackWeight());
+					assertEquals(optimum, value, 0.000001);
+				}
+			}
+		}
+	}
+
+	public void testLimitedKnapsack(){
+		double[] itemValues={30, 29, 28, 27, 26, 25, 24, 23};
+		int[] itemWeights={31, 30, 29, 28, 27, 26, 25, 24};
+		int maxKnapsackWeight=100;
+		KnapsackAlgorithm exact=new ExpandingCoreKnapsack();
+		double optimum=exact.solveKnapsackProblem(itemValues.length, maxKnapsackWeight, itemValues, itemWeights);
+
+		LimitedKnapsackAlgorithm knapsack=new DepthFirstBinaryKnapsack();
+		//Interrupted after the first dive: the greedy solution is returned, together with a bound
+		double value=knapsack.solveKnapsackProblem(itemValues.length, maxKnapsackWeight, itemValues, itemWeights, Long.MAX_VALUE, 1);
+		assertFalse(knapsack.isOptimal());
+		assertTrue(value <= optimum);
+		assertTrue(knapsack.getUpperBound() >= optimum);
+		assertTrue(knapsack.getKnapsackWeight() <= maxKnapsackWeight);
+		//Time limit which has already passed
+		knapsack.solveKnapsackProblem(itemValues.length, maxKnapsackWeight, itemValues, itemWeights, 0, Long.MAX_VALUE);
+		assertFalse(knapsack.isOptimal());
+		assertTrue(knapsack.getUpperBound() >= optimum);
+		//Without limits
+		assertEquals(optimum, knapsack.solveKnapsackProblem(itemValues.length, maxKnapsackWeight, itemValues, itemWeights), 0.000001);
+		assertTrue(knapsack.isOptimal());
+		assertEquals(optimum, knapsack.getUpperBound(), 0.000001);
+	}
+
+	public void testMultidimensionalKnapsack(){
+		//Items 0 and 1 fit together in the first dimension, but not in the second. The most valuable item is not part of the optimal solution.
+		double[] itemValues={10, 9, 6, 5};
+		int[][] itemWeights={{5, 4, 3, 2}, {6, 5, 1, 4}};
+		int[] maxKnapsackWeights={10, 10};
+		MultidimensionalKnapsack knapsack=new MultidimensionalKnapsack();
+		assertEquals(20, knapsack.solveKnapsackProblem(4, 2, maxKnapsackWeights, itemValues, itemWeights), 0.000001);
+		Assert.assertArrayEquals(new boolean[]{false, true, true, true}, knapsack.getKnapsackItems());
+		Assert.assertArrayEquals(new int[]{9, 10}, knapsack.getKnapsackWeights());
+		assertTrue(knapsack.isOptimal());
+	}
+
+	public void testRandomMultidimensionalInstances(){
+		Random random=new Random(0);
+		MultidimensionalKnapsack[] algorithms={new MultidimensionalKnapsack(MultidimensionalKnapsack.Mode.EXACT), new MultidimensionalKnapsack(MultidimensionalKnapsack.Mode.HEURISTIC)};
+		for(int run=0; run<300; run++){
+			int nrItems=1+random.nextInt(10);
+			int nrDimensions=1+random.nextInt(4);
+			double[] itemValues=new double[nrItems];
+			int[][] itemWeights=new int[nrDimensions][nrItems];
+			int[] maxKnapsackWeights=new int[nrDimensions];
+			for(int i=0; i<nrItems; i++)
+				itemValues[i]=1+random.nextInt(100);
+			for(int d=0; d<nrDimensions; d++){
+				int totalWeight=0;
+				for(int i=0; i<nrItems; i++){
+					itemWeights[d][i]=random.nextInt(100);
+					totalWeight+=itemWeights[d][i];
+				}
+				maxKnapsackWeights[d]=random.nextInt(totalWeight+1);
+			}
+
+			double optimum=0;
+			for(int subset=0; subset<(1<<nrItems); subset++){
+				boolean feasible=true;
+				for(int d=0; d<nrDimensions && feasible; d++){
+					int weight=0;
+					for(int i=0; i<nrItems; i++){
+						if((subset & (1<<i)) != 0)
+							weight+=itemWeights[d][i];
+					}
+					feasible=weight <= maxKnapsackWeights[d];
+				}
+				double value=0;
+				for(int i=0; i<nrItems && feasible; i++){
+					if((subset & (1<<i)) != 0)
+						value+=itemValues[i];
+				}
+				optimum=Math.max(optimum, value);
+			}
+
+			for(MultidimensionalKnapsack algorithm : algorithms){
+				double value=algorithm.solveKnapsackProblem(nrItems, nrDimensions, maxKnapsackWeights, itemValues, itemWeights);
+				for(int d=0; d<nrDimensions; d++){
+					int weight=0;
+					for(int i=0; i<nrItems; i++){
+						if(algorithm.getKnapsackItems()[i])
+							weight+=itemWeights[d][i];
+					}
+					assertTrue(weight <= maxKnapsackWeights[d]);
+					assertEquals(weight, algorithm.getKnapsackWeights()[d]);
+				}
+				assertTrue(value <= optimum+0.000001);
+				assertTrue(algorithm.getUpperBound() >= optimum-0.000001);
+				if(algorithm.isOptimal())
+					assertEquals(optimum, value, 0.000001);
+			}
+			assertTrue(algorithms[0].isOptimal());
+		}
+	}
+	public void testLimitedMultidimensionalKnapsack(){
+		Random random=new Random(1);
+		MultidimensionalKnapsack exact=new MultidimensionalKnapsack(MultidimensionalKnapsack.Mode.EXACT);
+		MultidimensionalKnapsack limited=new MultidimensionalKnapsack(MultidimensionalKnapsack.Mode.EXACT);
+		int nrInterrupted=0;
+		for(int run=0; run<300; run++){
+			int nrItems=1+random.nextInt(40);
+			int nrDimensions=1+random.nextInt(4);
+			double[] itemValues=new double[nrItems];
+			int[][] itemWeights=new int[nrDimensions][nrItems];
+			int[] maxKnapsackWeights=new int[nrDimensions];
+			for(int i=0; i<nrItems; i++)
+				itemValues[i]=1+random.nextInt(100);
+			for(int d=0; d<nrDimensions; d++){
+				int totalWeight=0;
+				for(int i=0; i<nrItems; i++){
+					itemWeights[d][i]=random.nextInt(100);
+					totalWeight+=itemWeights[d][i];
+				}
+				maxKnapsackWeights[d]=random.nextInt(totalWeight+1);
+			}
+			double optimum=exact.solveKnapsackProblem(nrItems, nrDimensions, maxKnapsackWeights, itemValues, itemWeights);
+
+			//Time limit which has already passed, or a random node limit
+			long timeLimit=(run % 2 == 0 ? 0 : Long.MAX_VALUE);
+			long nodeLimit=(run % 2 == 0 ? Long.MAX_VALUE : 1+random.nextInt(50));
+			double value=limited.solveKnapsackProblem(nrItems, nrDimensions, maxKnapsackWeights, itemValues, itemWeights, timeLimit, nodeLimit);
+			for(int d=0; d<nrDimensions; d++){
+				int weight=0;
+				for(int i=0; i<nrItems; i++){
+					if(limited.getKnapsackItems()[i])
+						weight+=itemWeights[d][i];
+				}
+				assertTrue(weight <= maxKnapsackWeights[d]);
+				assertEquals(weight, limited.getKnapsackWeights()[d]);
+			}
+			assertTrue(value <= optimum+0.000001);
+			assertTrue(limited.getUpperBound() >= optimum-0.000001);
+			if(limited.isOptimal())
+				assertEquals(optimum, value, 0.000001);
+			else
+				nrInterrupted++;
+		}
+		assertTrue(nrInterrupted > 0);
+
+		//Without limits
+		double[] itemValues={10, 9, 6, 5};
+		int[][] itemWeights={{5, 4, 3, 2}, {6, 5, 1, 4}};
+		int[] maxKnapsackWeights={10, 10};
+		assertEquals(20, limited.solveKnapsackProblem(4, 2, maxKnapsackWeights, itemValues, itemWeights, Long.MAX_VALUE, Long.MAX_VALUE), 0.000001);
+		assertTrue(limited.isOptimal());
+		assertEquals(20, limited.getUpperBound(), 0.000001);
+	}
+
+	/**
+	 * Computes the optimal value of an integer knapsack problem by enumerating the number of copies of the items i,...,nrItems-1
+	 */
+	private double enumerate(int i, int nrItems, int residualCapacity, double[] itemValues, int[] itemWeights, int[] itemBounds){
+		if(i == nrItems)
+			return 0;
+		double best=0;
+		for(int copies=0; copies*itemWeights[i] <= residualCapacity && (itemBounds == null || copies <= itemBounds[i]); copies++)
+			best=Math.max(best, copies*itemValues[i]+this.enumerate(i+1, nrItems, residualCapacity-copies*itemWeights[i], itemValues, itemWeights, itemBounds));
+		return best;
+	}
 }
@@ -0,0 +1,142 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BatchCoverInequalitySeparatorTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.knapsack.separation;
+
+import java.util.List;
+import java.util.Random;
+
+import org.jorlib.alg.knapsack.BinaryKnapsack;
+import org.jorlib.alg.knapsack.separation.LiftedCoverInequalitySeparator.LiftingProcedure;
+import org.junit.Assert;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the BatchCoverInequalitySeparator class
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+public final class BatchCoverInequalitySeparatorTest extends TestCase {
+
+	/**
+	 * Test 1 - Two rows over a shared set of variables. Row 0 is the knapsack of LiftedCoverInequalitySeparatorTest test 6 on columns 0-4, row 1 the knapsack of test 3
+	 * on columns 5,6,2,3,4. Only the lifted cover of row 0, {@code x0+2x2+x3+x4<=3}, is violated. Once {@code x0=x1=0} and {@code x3=1}, both rows yield the violated minimal cover
+	 * {@code x2+x3+x4<=2}.
+	 */
+	public void testTwoRows(){
+		int[] rowStart={0, 5, 10};
+		int[] columns={0, 1, 2, 3, 4, 5, 6, 2, 3, 4};
+		int[] coefficients={47, 45, 79, 53, 53, 47, 45, 79, 53, 53};
+		int[] rhs={178, 178};
+		double[] lpPoint={.5, .5, 1, .5, .5, 0, 0};
+
+		BatchCoverInequalitySeparator separator=new BatchCoverInequalitySeparator(BinaryKnapsack::new, LiftingProcedure.SEQUENTIAL, 2);
+		List<CoverInequality> liftedCovers=separator.separateLiftedCovers(2, rowStart, columns, coefficients, rhs, lpPoint, true);
+		assertEquals(1, liftedCovers.size());
+		CoverInequality first=liftedCovers.get(0);
+		assertEquals(0, first.getRow());
+		assertTrue(first.isLifted());
+		Assert.assertArrayEquals(new int[]{0, 2, 3, 4}, first.getColumns());
+		Assert.assertArrayEquals(new int[]{1, 2, 1, 1}, first.getCoefficients());
+		assertEquals(3, first.getRHS());
+		assertEquals(0.5, first.getViolation(), 0.000001);
+
+		List<CoverInequality> minimalCovers=separator.separateMinimalCovers(2, rowStart, columns, coefficients, rhs, lpPoint);
+		assertTrue(minimalCovers.isEmpty());
+		lpPoint=new double[]{0, 0, 1, 1, .5, 0, 0};
+		minimalCovers=separator.separateMinimalCovers(2, rowStart, columns, coefficients, rhs, lpPoint);
+		assertEquals(2, minimalCovers.size());
+		for(CoverInequality minimalCover : minimalCovers){
+			assertFalse(minimalCover.isLifted());
+			Assert.assertArrayEquals(new int[]{2, 3, 4}, minimalCover.getColumns());
+			assertEquals(2, minimalCover.getRHS());
+			assertEquals(0.5, minimalCover.getViolation(), 0.000001);
+		}
+		separator.close();
+	}
+
+	/**
+	 * Test 2 - Random rows. The inequalities separated in parallel must coincide with the inequalities obtained by separating the rows one by one, and must be ranked by
+	 * decreasing violation.
+	 */
+	public void testRandomRows(){
+		Random random=new Random(0);
+		int nrRows=200, nrColumns=60;
+		int[] rowStart=new int[nrRows+1];
+		int[] columns=new int[nrRows*12];
+		int[] coefficients=new int[nrRows*12];
+		int[] rhs=new int[nrRows];
+		double[] lpPoint=new double[nrColumns];
+		for(int j=0; j<nrColumns; j++)
+			lpPoint[j]=random.nextDouble() < 0.4 ? 1 : random.nextInt(11)/10.0;
+		for(int i=0; i<nrRows; i++){
+			int nrVars=2+random.nextInt(11);
+			int weight=0;
+			rowStart[i+1]=rowStart[i]+nrVars;
+			for(int k=rowStart[i]; k<rowStart[i+1]; k++){
+				columns[k]=random.nextInt(nrColumns);
+				coefficients[k]=1+random.nextInt(100);
+				weight+=coefficients[k];
+			}
+			rhs[i]=weight/2;
+		}
+
+		for(LiftingProcedure liftingProcedure : LiftingProcedure.values()){
+			BatchCoverInequalitySeparator batchSeparator=new BatchCoverInequalitySeparator(BinaryKnapsack::new, liftingProcedure, 4);
+			List<CoverInequality> inequalities=batchSeparator.separateLiftedCovers(nrRows, rowStart, columns, coefficients, rhs, lpPoint, true);
+			batchSeparator.close();
+
+			LiftedCoverInequalitySeparator separator=new LiftedCoverInequalitySeparator(new BinaryKnapsack(), liftingProcedure);
+			int nrViolatedRows=0;
+			for(int i=0; i<nrRows; i++){
+				int nrVars=rowStart[i+1]-rowStart[i];
+				int[] rowCoefficients=new int[nrVars];
+				double[] rowValues=new double[nrVars];
+				for(int k=0; k<nrVars; k++){
+					rowCoefficients[k]=coefficients[rowStart[i]+k];
+					rowValues[k]=lpPoint[columns[rowStart[i]+k]];
+				}
+				separator.separateLiftedCover(nrVars, rowCoefficients, rhs[i], rowValues, true);
+				if(!separator.coverInequalityExists() || !separator.isLiftedCoverViolated())
+					continue;
+				nrViolatedRows++;
+				CoverInequality inequality=null;
+				for(CoverInequality c : inequalities)
+					if(c.getRow() == i)
+						inequality=c;
+				assertNotNull(inequality);
+				assertEquals(separator.getLiftedCoverRHS(), inequality.getRHS());
+				assertEquals(separator.getLiftedCoverLHS(), inequality.getLHS(), 0.000001);
+			}
+			assertEquals(nrViolatedRows, inequalities.size());
+			for(int k=1; k<inequalities.size(); k++)
+				assertTrue(inequalities.get(k-1).getViolation() >= inequalities.get(k).getViolation());
+		}
+	}
+}
@@ -28,9 +28,11 @@ package org.jorlib.alg.knapsack.separation;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.Random;
 import java.util.Set;
 
 import org.jorlib.alg.knapsack.BinaryKnapsack;
+import org.jorlib.alg.knapsack.DepthFirstBinaryKnapsack;
 import org.jorlib.alg.knapsack.KnapsackAlgorithm;
 import org.junit.Assert;
 
@@ -170,6 +172,128 @@ public final class LiftedCoverInequalitySeparatorTest extends TestCase {
 		assertEquals(3.5, separator.getLiftedCoverLHS(), 0.000001);
 	}
 	
+	/**
+	 * Test 8 - Sequence independent lifting of the cover {@code x1+x7<=1} from test 5. With {@code \lambda=92} and {@code \rho_1=48}, the lifting function assigns
+	 * {@code g(760)=34/48} and {@code g(785)=1}, yielding the scaled inequality {@code 24x1+17x6+24x7+24x9<=24}
+	 */
+	public void testSequenceIndependentLifting1(){
+		LiftedCoverInequalitySeparator sequenceIndependentSeparator=new LiftedCoverInequalitySeparator(knapsackAlgorithm, LiftedCoverInequalitySeparator.LiftingProcedure.SEQUENCE_INDEPENDENT);
+		double[] variableValues8={0.71, 0, 0.35, 1, 1, 0, 1, 1, 0};
+		int[] knapsackCoefficients8={774, 76, 22, 42, 21, 760, 818, 62, 785};
+		int b8=1500;
+		sequenceIndependentSeparator.separateLiftedCover(variableValues8.length, knapsackCoefficients8, b8, variableValues8, true);
+
+		assertTrue(sequenceIndependentSeparator.isLiftedCoverViolated());
+		Assert.assertArrayEquals(new int[]{24,0,0,0,0,17,24,0,24}, sequenceIndependentSeparator.getLiftedCoverCoefficients());
+		assertEquals(24, sequenceIndependentSeparator.getLiftedCoverRHS());
+		assertEquals(41.04, sequenceIndependentSeparator.getLiftedCoverLHS(), 0.000001);
+	}
+
+	/**
+	 * Test 9 - Sequence independent lifting with down lifting, knapsack from test 6. The lifted cover with {@code C2=\emptyset} is not violated. With {@code C2=\{3\}},
+	 * the cover {@code x4+x5<=1} is lifted through the superadditive function and variable 3 is lifted back in, yielding {@code x1+8x3+7x4+7x5<=15}
+	 */
+	public void testSequenceIndependentLifting2(){
+		LiftedCoverInequalitySeparator sequenceIndependentSeparator=new LiftedCoverInequalitySeparator(knapsackAlgorithm, LiftedCoverInequalitySeparator.LiftingProcedure.SEQUENCE_INDEPENDENT);
+		double[] variableValues9={.5, .5, 1, .5, .5};
+		int[] knapsackCoefficients9={47, 45, 79, 53, 53};
+		int b9=178;
+		sequenceIndependentSeparator.separateLiftedCover(variableValues9.length, knapsackCoefficients9, b9, variableValues9, true);
+
+		assertTrue(sequenceIndependentSeparator.isLiftedCoverViolated());
+		Assert.assertArrayEquals(new int[]{1,0,8,7,7}, sequenceIndependentSeparator.getLiftedCoverCoefficients());
+		assertEquals(15, sequenceIndependentSeparator.getLiftedCoverRHS());
+		assertEquals(15.5, sequenceIndependentSeparator.getLiftedCoverLHS(), 0.000001);
+	}
+
+	/**
+	 * Test 11 - Sequence independent lifting on random knapsack constraints. Variables with value 1 can be added to a cover at no cost, so the optimal cover knapsack
+	 * does not always yield a minimal cover, whereas the superadditive lifting function is only valid for minimal covers. The validity of every lifted inequality is
+	 * verified by enumerating all feasible solutions of the knapsack constraint.
+	 */
+	public void testSequenceIndependentLiftingValidity(){
+		KnapsackAlgorithm depthFirstKnapsack=new DepthFirstBinaryKnapsack();
+		LiftedCoverInequalitySeparator coverSeparator=new LiftedCoverInequalitySeparator(depthFirstKnapsack);
+		LiftedCoverInequalitySeparator sequenceIndependentSeparator=new LiftedCoverInequalitySeparator(depthFirstKnapsack, LiftedCoverInequalitySeparator.LiftingProcedure.SEQUENCE_INDEPENDENT);
+		Random rnd=new Random(0);
+		int nrNonMinimalCovers=0;
+		for(int instance=0; instance<2000; instance++){
+			int nrVars=3+rnd.nextInt(8);
+			int[] knapsackCoefficients=new int[nrVars];
+			double[] variableValues=new double[nrVars];
+			int sum=0;
+			for(int i=0; i<nrVars; i++){
+				knapsackCoefficients[i]=1+rnd.nextInt(50);
+				sum+=knapsackCoefficients[i];
+				variableValues[i]=(rnd.nextBoolean() ? 1 : rnd.nextInt(11)/10.0);
+			}
+			int b=1+rnd.nextInt(sum);
+
+			//Count the instances for which the optimal cover knapsack yields a cover which is not minimal
+			coverSeparator.separateMinimalCover(nrVars, knapsackCoefficients, b, variableValues);
+			if(coverSeparator.coverInequalityExists() && !this.isMinimalCover(coverSeparator.getMinimalCover(), knapsackCoefficients, b))
+				nrNonMinimalCovers++;
+
+			for(boolean performDownLifting : new boolean[]{false, true}){
+				sequenceIndependentSeparator.separateLiftedCover(nrVars, knapsackCoefficients, b, variableValues, performDownLifting);
+				if(!sequenceIndependentSeparator.coverInequalityExists())
+					continue;
+				int[] coefficients=sequenceIndependentSeparator.getLiftedCoverCoefficients();
+				for(int mask=0; mask<(1<<nrVars); mask++){
+					int weight=0, lhs=0;
+					for(int i=0; i<nrVars; i++){
+						if((mask & (1<<i)) != 0){
+							weight+=knapsackCoefficients[i];
+							lhs+=coefficients[i];
+						}
+					}
+					if(weight <= b)
+						assertTrue("Invalid inequality "+Arrays.toString(coefficients)+" <= "+sequenceIndependentSeparator.getLiftedCoverRHS()+" for knapsack "
+								+Arrays.toString(knapsackCoefficients)+" <= "+b, lhs <= sequenceIndependentSeparator.getLiftedCoverRHS());
+				}
+			}
+		}
+		assertTrue(nrNonMinimalCovers > 0);
+	}
+
+	/**
+	 * Returns true if the given set of variables is a cover, and no variable can be removed from it without it ceasing to be a cover
+	 */
+	private boolean isMinimalCover(Set<Integer> cover, int[] knapsackCoefficients, int b){
+		int weight=0;
+		for(int i : cover)
+			weight+=knapsackCoefficients[i];
+		if(weight <= b)
+			return false;
+		for(int i : cover)
+			if(weight-knapsackCoefficients[i] > b)
+				return false;
+		return true;
+	}
+
+	/**
+	 * Test 10 - Separation of test 5 under a time limit which has already passed. The cover is derived from the greedy knapsack solution and reduced to the minimal
+	 * cover {@code x1+x7<=1}, after which the remaining variables are lifted through sequence independent lifting, yielding the inequality of test 8.
+	 */
+	public void testTimeLimit(){
+		LiftedCoverInequalitySeparator limitedSeparator=new LiftedCoverInequalitySeparator(new DepthFirstBinaryKnapsack());
+		double[] variableValues10={0.71, 0, 0.35, 1, 1, 0, 1, 1, 0};
+		int[] knapsackCoefficients10={774, 76, 22, 42, 21, 760, 818, 62, 785};
+		int b10=1500;
+		limitedSeparator.separateLiftedCover(variableValues10.length, knapsackCoefficients10, b10, variableValues10, true, 0);
+
+		assertTrue(limitedSeparator.isTimeLimitReached());
+		assertTrue(limitedSeparator.isMinimalCoverViolated());
+		assertEquals(new HashSet<>(Arrays.asList(0,6)), limitedSeparator.getMinimalCover());
+		assertTrue(limitedSeparator.isLiftedCoverViolated());
+		Assert.assertArrayEquals(new int[]{24,0,0,0,0,17,24,0,24}, limitedSeparator.getLiftedCoverCoefficients());
+		assertEquals(24, limitedSeparator.getLiftedCoverRHS());
+
+		//Without time limit, the separation is exact
+		limitedSeparator.separateLiftedCover(variableValues10.length, knapsackCoefficients10, b10, variableValues10, true);
+		assertFalse(limitedSeparator.isTimeLimitReached());
+	}
+
 	/**
 	 * Test 7 - Knapsack: {@code 3x_1+3_x_2 <=6}. NO cover inequality exists for this knapsack constraint.
 	 */
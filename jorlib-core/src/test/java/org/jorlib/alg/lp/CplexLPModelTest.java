@@ -0,0 +1,100 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CplexLPModelTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.lp;
+
+import ilog.concert.IloException;
+import junit.framework.TestCase;
+
+import org.junit.Assert;
+
+/**
+ * Test class for the cplex adapter of the {@link LPModel} interface
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+public final class CplexLPModelTest extends TestCase {
+
+	private static final double PRECISION=0.000001;
+
+	/**
+	 * max 3x+5y s.t. x &lt;= 4, 2y &lt;= 12, 3x+2y &lt;= 18, x,y &gt;= 0
+	 */
+	public void testMaximization() throws IloException {
+		CplexLPModel lp=new CplexLPModel(true);
+		try {
+			int firstRow=lp.addRows(3, new double[]{-LPModel.INFINITY, -LPModel.INFINITY, -LPModel.INFINITY}, new double[]{4, 12, 18}, new int[]{0, 0, 0, 0}, new int[0], new double[0]);
+			assertEquals(0, firstRow);
+			int x=lp.addColumn(3, 0, LPModel.INFINITY, new int[]{0, 2}, new double[]{1, 3});
+			int y=lp.addColumn(5, 0, LPModel.INFINITY, new int[]{1, 2}, new double[]{2, 2});
+			assertEquals(0, x);
+			assertEquals(1, y);
+			assertEquals(LPModel.Status.OPTIMAL, lp.solve(System.currentTimeMillis()+10000));
+			assertEquals(36, lp.getObjectiveValue(), PRECISION);
+			Assert.assertArrayEquals(new double[]{2, 6}, lp.getValues(), PRECISION);
+			Assert.assertArrayEquals(new double[]{0, 1.5, 1}, lp.getDuals(), PRECISION);
+		} finally {
+			lp.close();
+		}
+	}
+
+	/**
+	 * Blocks of columns receive consecutive indices, starting directly after the columns which are already in the model.
+	 */
+	public void testColumnBlocks() throws IloException {
+		//Cutting stock instance: rolls of width 100, finals of widths {45,36,31,14} and demand {97,610,395,211}
+		int[] demand={97,610,395,211};
+		CplexLPModel lp=new CplexLPModel(false);
+		try {
+			for(int d : demand)
+				lp.addRow(d, LPModel.INFINITY, new int[0], new double[0]);
+			//Initial patterns: one final per roll
+			int first=lp.addColumns(4, new double[]{1, 1, 1, 1}, new double[4], new double[]{LPModel.INFINITY, LPModel.INFINITY, LPModel.INFINITY, LPModel.INFINITY},
+					new int[]{0, 1, 2, 3, 4}, new int[]{0, 1, 2, 3}, new double[]{2, 2, 3, 7});
+			assertEquals(0, first);
+			assertEquals(LPModel.Status.OPTIMAL, lp.solve(System.currentTimeMillis()+10000));
+			assertEquals(97/2.0+610/2.0+395/3.0+211/7.0, lp.getObjectiveValue(), PRECISION);
+
+			//Add improving patterns in a single block
+			first=lp.addColumns(3, new double[]{1, 1, 1}, new double[3], new double[]{LPModel.INFINITY, LPModel.INFINITY, LPModel.INFINITY},
+					new int[]{0, 2, 5, 7}, new int[]{1, 2, 0, 1, 3, 1, 3}, new double[]{1, 2, 1, 1, 1, 2, 2});
+			assertEquals(4, first);
+			assertEquals(7, lp.getNrColumns());
+			assertEquals(LPModel.Status.OPTIMAL, lp.solve(System.currentTimeMillis()+10000));
+			assertTrue(lp.getObjectiveValue() < 97/2.0+610/2.0+395/3.0+211/7.0);
+			for(int j=0; j<lp.getNrColumns(); j++)
+				assertTrue(lp.getReducedCost(j) >= -PRECISION);
+
+			//Removing a column renumbers the remaining columns
+			lp.removeColumns(new int[]{4});
+			assertEquals(6, lp.getNrColumns());
+			assertEquals(6, lp.addColumn(1, 0, LPModel.INFINITY, new int[]{1, 2}, new double[]{1, 2}));
+		} finally {
+			lp.close();
+		}
+	}
+}
@@ -0,0 +1,406 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * RevisedSimplexTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.lp;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+import org.junit.Assert;
+
+/**
+ * Test class for the revised simplex implementation
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+public final class RevisedSimplexTest extends TestCase {
+
+	private static final double PRECISION=0.000001;
+
+	/**
+	 * max 3x+5y s.t. x &lt;= 4, 2y &lt;= 12, 3x+2y &lt;= 18, x,y &gt;= 0
+	 */
+	public void testMaximization(){
+		RevisedSimplex lp=new RevisedSimplex(true);
+		int r0=lp.addRow(-RevisedSimplex.INFINITY, 4);
+		int r1=lp.addRow(-RevisedSimplex.INFINITY, 12);
+		int r2=lp.addRow(-RevisedSimplex.INFINITY, 18);
+		lp.addColumn(3, 0, RevisedSimplex.INFINITY, new int[]{r0, r2}, new double[]{1, 3});
+		lp.addColumn(5, 0, RevisedSimplex.INFINITY, new int[]{r1, r2}, new double[]{2, 2});
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		assertEquals(36, lp.getObjectiveValue(), PRECISION);
+		Assert.assertArrayEquals(new double[]{2, 6}, lp.getValues(), PRECISION);
+		Assert.assertArrayEquals(new double[]{0, 1.5, 1}, lp.getDuals(), PRECISION);
+	}
+
+	/**
+	 * Column generation style usage: columns are added to a covering LP which is re-solved after each addition.
+	 */
+	public void testColumnAddition(){
+		//Cutting stock instance: rolls of width 100, finals of widths {45,36,31,14} and demand {97,610,395,211}
+		int[] widths={45,36,31,14};
+		int[] demand={97,610,395,211};
+		RevisedSimplex lp=new RevisedSimplex();
+		for(int d : demand)
+			lp.addRow(d, RevisedSimplex.INFINITY);
+		//Initial patterns: one final per roll
+		for(int i=0; i<widths.length; i++)
+			lp.addColumn(1, 0, RevisedSimplex.INFINITY, new int[]{i}, new double[]{100/widths[i]});
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		assertEquals(97/2.0+610/2.0+395/3.0+211/7.0, lp.getObjectiveValue(), PRECISION);
+		this.checkOptimality(lp);
+
+		//Add improving patterns
+		lp.addColumn(1, 0, RevisedSimplex.INFINITY, new int[]{1, 2}, new double[]{1, 2});
+		lp.addColumn(1, 0, RevisedSimplex.INFINITY, new int[]{0, 1, 3}, new double[]{1, 1, 1});
+		lp.addColumn(1, 0, RevisedSimplex.INFINITY, new int[]{1, 3}, new double[]{2, 2});
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		this.checkOptimality(lp);
+		assertTrue(lp.getObjectiveValue() < 97/2.0+610/2.0+395/3.0+211/7.0);
+	}
+
+	/**
+	 * An LP solved with a loose optimality tolerance yields a feasible, but possibly suboptimal, solution. Restoring the default tolerance yields the optimal solution.
+	 */
+	public void testOptimalityTolerance(){
+		RevisedSimplex lp=new RevisedSimplex();
+		int[] demand={97,610,395,211};
+		for(int d : demand)
+			lp.addRow(d, RevisedSimplex.INFINITY);
+		lp.addColumn(1, 0, RevisedSimplex.INFINITY, new int[]{0}, new double[]{2});
+		lp.addColumn(1, 0, RevisedSimplex.INFINITY, new int[]{1}, new double[]{2});
+		lp.addColumn(1, 0, RevisedSimplex.INFINITY, new int[]{2}, new double[]{3});
+		lp.addColumn(1, 0, RevisedSimplex.INFINITY, new int[]{3}, new double[]{7});
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		lp.addColumn(1, 0, RevisedSimplex.INFINITY, new int[]{1, 2}, new double[]{1, 2});
+		lp.addColumn(1, 0, RevisedSimplex.INFINITY, new int[]{0, 1, 3}, new double[]{1, 1, 1});
+		lp.addColumn(1, 0, RevisedSimplex.INFINITY, new int[]{1, 3}, new double[]{2, 2});
+
+		//Approximate solve: every reduced cost is at least -0.5
+		lp.setOptimalityTolerance(0.5);
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		double approximateObjective=lp.getObjectiveValue();
+		for(int j=0; j<lp.getNrColumns(); j++)
+			assertTrue(lp.getReducedCost(j) >= -0.5-PRECISION);
+		for(int i=0; i<lp.getNrRows(); i++)
+			assertTrue(lp.getRowActivity(i) >= demand[i]-PRECISION);
+
+		//Exact solve
+		lp.setOptimalityTolerance(0);
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		this.checkOptimality(lp);
+		assertTrue(lp.getObjectiveValue() <= approximateObjective+PRECISION);
+	}
+
+	/**
+	 * A loose optimality tolerance must not affect phase 1 of the primal simplex: feasible LPs which require a phase 1 with small reduced costs must not be
+	 * reported infeasible.
+	 */
+	public void testOptimalityTolerancePhase1(){
+		//min -x+y s.t. 0.1x+0.1y >= 1, x-y <= 5. The initial basis is neither primal nor dual feasible, and all phase 1 reduced costs are smaller than the tolerance.
+		RevisedSimplex lp=new RevisedSimplex();
+		int r0=lp.addRow(1, RevisedSimplex.INFINITY);
+		int r1=lp.addRow(-RevisedSimplex.INFINITY, 5);
+		lp.addColumn(-1, 0, RevisedSimplex.INFINITY, new int[]{r0, r1}, new double[]{0.1, 1});
+		lp.addColumn(1, 0, RevisedSimplex.INFINITY, new int[]{r0, r1}, new double[]{0.1, -1});
+		lp.setOptimalityTolerance(0.5);
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		this.checkFeasibility(lp);
+		lp.setOptimalityTolerance(0);
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		assertEquals(-5, lp.getObjectiveValue(), PRECISION);
+		this.checkOptimality(lp);
+
+		//Random feasible LPs with small coefficients and columns without upper bound
+		Random rnd=new Random(0);
+		for(int instance=0; instance<200; instance++){
+			int nrRows=5+rnd.nextInt(20);
+			int nrColumns=5+rnd.nextInt(30);
+			lp=new RevisedSimplex();
+			double[] point=new double[nrColumns];
+			for(int j=0; j<nrColumns; j++)
+				point[j]=rnd.nextInt(10);
+			double[][] coefs=new double[nrRows][nrColumns];
+			for(int i=0; i<nrRows; i++){
+				double activity=0;
+				for(int j=0; j<nrColumns; j++){
+					if(rnd.nextDouble() < 0.3){
+						coefs[i][j]=rnd.nextDouble()*0.2;
+						activity+=coefs[i][j]*point[j];
+					}
+				}
+				lp.addRow(activity, activity+1);
+			}
+			for(int j=0; j<nrColumns; j++){
+				int[] rows=new int[nrRows];
+				for(int i=0; i<nrRows; i++)
+					rows[i]=i;
+				double[] column=new double[nrRows];
+				for(int i=0; i<nrRows; i++)
+					column[i]=coefs[i][j];
+				lp.addColumn(rnd.nextDouble()*4-3, 0, (j % 3 == 0 ? RevisedSimplex.INFINITY : 20), rows, column);
+			}
+			lp.setOptimalityTolerance(0.5);
+			RevisedSimplex.Status status=lp.solve();
+			assertTrue(status == RevisedSimplex.Status.OPTIMAL || status == RevisedSimplex.Status.UNBOUNDED);
+			if(status == RevisedSimplex.Status.OPTIMAL)
+				this.checkFeasibility(lp);
+		}
+	}
+
+	/**
+	 * Adds a row which cuts off the current optimal solution; the LP is re-solved from the previous basis.
+	 */
+	public void testRowAddition(){
+		RevisedSimplex lp=new RevisedSimplex(true);
+		int r0=lp.addRow(-RevisedSimplex.INFINITY, 4);
+		int r1=lp.addRow(-RevisedSimplex.INFINITY, 12);
+		int r2=lp.addRow(-RevisedSimplex.INFINITY, 18);
+		int x=lp.addColumn(3, 0, RevisedSimplex.INFINITY, new int[]{r0, r2}, new double[]{1, 3});
+		int y=lp.addColumn(5, 0, RevisedSimplex.INFINITY, new int[]{r1, r2}, new double[]{2, 2});
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		//Add x+y <= 7
+		lp.addRow(-RevisedSimplex.INFINITY, 7, new int[]{x, y}, new double[]{1, 1});
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		assertEquals(33, lp.getObjectiveValue(), PRECISION);
+		Assert.assertArrayEquals(new double[]{1, 6}, lp.getValues(), PRECISION);
+		this.checkOptimality(lp);
+		//Change the bounds of column y: y <= 2
+		lp.setColumnBounds(y, 0, 2);
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		assertEquals(22, lp.getObjectiveValue(), PRECISION);
+		this.checkOptimality(lp);
+	}
+
+	/**
+	 * Rows and columns are added in batches (CSR and CSC format respectively); the result must be identical to adding them one by one.
+	 */
+	public void testBatchAddition(){
+		RevisedSimplex lp=new RevisedSimplex(true);
+		int firstRow=lp.addRows(3, new double[]{-RevisedSimplex.INFINITY, -RevisedSimplex.INFINITY, -RevisedSimplex.INFINITY}, new double[]{4, 12, 18}, new int[4], new int[0], new double[0]);
+		assertEquals(0, firstRow);
+		ColumnBuffer buffer=new ColumnBuffer();
+		buffer.startColumn(3, 0, RevisedSimplex.INFINITY);
+		buffer.addCoefficient(0, 1);
+		buffer.addCoefficient(2, 3);
+		buffer.startColumn(5, 0, RevisedSimplex.INFINITY);
+		buffer.addCoefficient(1, 2);
+		buffer.addCoefficient(2, 2);
+		assertEquals(0, buffer.addTo(lp));
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		assertEquals(36, lp.getObjectiveValue(), PRECISION);
+
+		//Add x+y <= 7 and y <= 5 as a single block
+		assertEquals(3, lp.addRows(2, new double[]{-RevisedSimplex.INFINITY, -RevisedSimplex.INFINITY}, new double[]{7, 5}, new int[]{0, 2, 3}, new int[]{0, 1, 1}, new double[]{1, 1, 1}));
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		assertEquals(31, lp.getObjectiveValue(), PRECISION);
+		Assert.assertArrayEquals(new double[]{2, 5}, lp.getValues(), PRECISION);
+		this.checkOptimality(lp);
+	}
+
+	/**
+	 * Removes basic and non-basic columns from a solved LP and re-solves it
+	 */
+	public void testColumnRemoval(){
+		RevisedSimplex lp=new RevisedSimplex(true);
+		int r0=lp.addRow(-RevisedSimplex.INFINITY, 4);
+		int r1=lp.addRow(-RevisedSimplex.INFINITY, 12);
+		int r2=lp.addRow(-RevisedSimplex.INFINITY, 18);
+		lp.addColumn(-1, 0, RevisedSimplex.INFINITY, new int[]{r0}, new double[]{1});
+		lp.addColumn(3, 0, RevisedSimplex.INFINITY, new int[]{r0, r2}, new double[]{1, 3});
+		lp.addColumn(5, 0, RevisedSimplex.INFINITY, new int[]{r1, r2}, new double[]{2, 2});
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		assertEquals(36, lp.getObjectiveValue(), PRECISION);
+
+		//Remove the first (non-basic) column: the remaining columns are renumbered
+		lp.removeColumns(new int[]{0});
+		assertEquals(2, lp.getNrColumns());
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		assertEquals(36, lp.getObjectiveValue(), PRECISION);
+		Assert.assertArrayEquals(new double[]{2, 6}, lp.getValues(), PRECISION);
+
+		//Remove the (basic) column y
+		lp.removeColumns(new int[]{1});
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		assertEquals(12, lp.getObjectiveValue(), PRECISION);
+		Assert.assertArrayEquals(new double[]{4}, lp.getValues(), PRECISION);
+		this.checkOptimality(lp);
+	}
+
+	/**
+	 * Rows and columns referring to non-existing columns and rows are rejected without modifying the model
+	 */
+	public void testInvalidIndices(){
+		RevisedSimplex lp=new RevisedSimplex();
+		int r=lp.addRow(1, RevisedSimplex.INFINITY);
+		lp.addColumn(1, 0, RevisedSimplex.INFINITY, new int[]{r}, new double[]{1});
+		try{
+			lp.addRow(0, 1, new int[]{0, 1}, new double[]{1, 1});
+			fail("Expected IllegalArgumentException");
+		}catch(IllegalArgumentException e){
+			//Expected
+		}
+		try{
+			lp.addRows(2, new double[]{0, 0}, new double[]{1, 1}, new int[]{0, 1, 2}, new int[]{0, -1}, new double[]{1, 1});
+			fail("Expected IllegalArgumentException");
+		}catch(IllegalArgumentException e){
+			//Expected
+		}
+		try{
+			lp.addColumn(1, 0, 1, new int[]{1}, new double[]{1});
+			fail("Expected IllegalArgumentException");
+		}catch(IllegalArgumentException e){
+			//Expected
+		}
+		try{
+			lp.addColumns(2, new double[]{1, 1}, new double[]{0, 0}, new double[]{1, 1}, new int[]{0, 1, 2}, new int[]{0, 3}, new double[]{1, 1});
+			fail("Expected IllegalArgumentException");
+		}catch(IllegalArgumentException e){
+			//Expected
+		}
+		assertEquals(1, lp.getNrRows());
+		assertEquals(1, lp.getNrColumns());
+		assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+		assertEquals(1, lp.getObjectiveValue(), PRECISION);
+	}
+
+	/**
+	 * Infeasible and unbounded LPs
+	 */
+	public void testInfeasibleAndUnbounded(){
+		RevisedSimplex lp=new RevisedSimplex();
+		int r=lp.addRow(5, RevisedSimplex.INFINITY);
+		lp.addColumn(1, 0, 1, new int[]{r}, new double[]{1});
+		lp.addColumn(1, 0, 1, new int[]{r}, new double[]{1});
+		assertEquals(RevisedSimplex.Status.INFEASIBLE, lp.solve());
+
+		lp=new RevisedSimplex();
+		r=lp.addRow(-RevisedSimplex.INFINITY, 1);
+		lp.addColumn(-1, 0, RevisedSimplex.INFINITY, new int[]{r}, new double[]{1});
+		lp.addColumn(0, 0, RevisedSimplex.INFINITY, new int[]{r}, new double[]{-1});
+		assertEquals(RevisedSimplex.Status.UNBOUNDED, lp.solve());
+	}
+
+	/**
+	 * Random LPs with equality, ranged and inequality rows, and bounded, free and fixed columns. The solutions are verified through the KKT conditions.
+	 */
+	public void testRandomLPs(){
+		Random rnd=new Random(0);
+		for(int instance=0; instance<50; instance++){
+			int nrRows=5+rnd.nextInt(20);
+			int nrColumns=5+rnd.nextInt(30);
+			RevisedSimplex lp=new RevisedSimplex(rnd.nextBoolean());
+			//Generate a random point, and construct rows which are satisfied by this point, thereby guaranteeing feasibility
+			double[] point=new double[nrColumns];
+			double[] colLower=new double[nrColumns];
+			double[] colUpper=new double[nrColumns];
+			for(int j=0; j<nrColumns; j++){
+				point[j]=rnd.nextInt(10);
+				colLower[j]=point[j]-rnd.nextInt(5);
+				colUpper[j]=point[j]+rnd.nextInt(5);
+			}
+			List<List<Integer>> rowCols=new ArrayList<>();
+			List<List<Double>> rowCoefs=new ArrayList<>();
+			for(int i=0; i<nrRows; i++){
+				rowCols.add(new ArrayList<>());
+				rowCoefs.add(new ArrayList<>());
+				double activity=0;
+				for(int j=0; j<nrColumns; j++){
+					if(rnd.nextDouble() < 0.3){
+						double coef=rnd.nextInt(21)-10;
+						rowCols.get(i).add(j);
+						rowCoefs.get(i).add(coef);
+						activity+=coef*point[j];
+					}
+				}
+				int type=rnd.nextInt(4);
+				if(type == 0)
+					lp.addRow(activity, activity);
+				else if(type == 1)
+					lp.addRow(activity-rnd.nextInt(5), activity+rnd.nextInt(5));
+				else if(type == 2)
+					lp.addRow(-RevisedSimplex.INFINITY, activity+rnd.nextInt(5));
+				else
+					lp.addRow(activity-rnd.nextInt(5), RevisedSimplex.INFINITY);
+			}
+			for(int j=0; j<nrColumns; j++){
+				List<Integer> rows=new ArrayList<>();
+				List<Double> coefs=new ArrayList<>();
+				for(int i=0; i<nrRows; i++){
+					int index=rowCols.get(i).indexOf(j);
+					if(index >= 0){
+						rows.add(i);
+						coefs.add(rowCoefs.get(i).get(index));
+					}
+				}
+				lp.addColumn(rnd.nextInt(21)-10, colLower[j], colUpper[j], rows.stream().mapToInt(Integer::intValue).toArray(), coefs.stream().mapToDouble(Double::doubleValue).toArray());
+			}
+			assertEquals(RevisedSimplex.Status.OPTIMAL, lp.solve());
+			this.checkOptimality(lp);
+		}
+	}
+
+	/**
+	 * Verifies that the LP solution satisfies the row and column bounds
+	 * @param lp solved LP
+	 */
+	private void checkFeasibility(RevisedSimplex lp){
+		for(int j=0; j<lp.getNrColumns(); j++)
+			assertTrue(lp.getValue(j) >= lp.getColumnLowerBound(j)-PRECISION && lp.getValue(j) <= lp.getColumnUpperBound(j)+PRECISION);
+		for(int i=0; i<lp.getNrRows(); i++)
+			assertTrue(lp.getRowActivity(i) >= lp.getRowLowerBound(i)-PRECISION && lp.getRowActivity(i) <= lp.getRowUpperBound(i)+PRECISION);
+	}
+
+	/**
+	 * Verifies the KKT conditions of the LP solution: primal feasibility, and the signs of the dual values and reduced costs (complementary slackness).
+	 * @param lp solved LP
+	 */
+	private void checkOptimality(RevisedSimplex lp){
+		double sense=(lp.isMaximization() ? -1 : 1);
+		for(int j=0; j<lp.getNrColumns(); j++){
+			double value=lp.getValue(j);
+			assertTrue(value >= lp.getColumnLowerBound(j)-PRECISION && value <= lp.getColumnUpperBound(j)+PRECISION);
+			double reducedCost=sense*lp.getReducedCost(j);
+			if(reducedCost > PRECISION)
+				assertEquals(lp.getColumnLowerBound(j), value, PRECISION);
+			else if(reducedCost < -PRECISION)
+				assertEquals(lp.getColumnUpperBound(j), value, PRECISION);
+		}
+		for(int i=0; i<lp.getNrRows(); i++){
+			double activity=lp.getRowActivity(i);
+			assertTrue(activity >= lp.getRowLowerBound(i)-PRECISION && activity <= lp.getRowUpperBound(i)+PRECISION);
+			double dual=sense*lp.getDual(i);
+			if(dual > PRECISION)
+				assertEquals(lp.getRowLowerBound(i), activity, PRECISION);
+			else if(dual < -PRECISION)
+				assertEquals(lp.getRowUpperBound(i), activity, PRECISION);
+		}
+	}
+}
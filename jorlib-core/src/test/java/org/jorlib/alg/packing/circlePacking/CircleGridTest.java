@@ -0,0 +1,169 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CircleGridTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.packing.circlePacking;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Assert;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for CircleGrid.java
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+public final class CircleGridTest extends TestCase{
+
+	public static final double PRECISION=0.000001;
+
+	/**
+	 * Test 1 - Queries on a small, fixed instance
+	 */
+	public void testQueries(){
+		CircleGrid grid=new CircleGrid(new double[]{0,1.5,10,0}, new double[]{0,0,0,3}, new double[]{1,1,1,0.5});
+		assertEquals(4, grid.getNrPresentCircles());
+		assertEquals(2.0, grid.getCellSize(), PRECISION);
+		int[] result=new int[grid.getNrCircles()];
+
+		Assert.assertArrayEquals(new int[]{1}, this.sorted(result, grid.getOverlappingCircles(0, result)));
+		Assert.assertArrayEquals(new int[]{0,1,3}, this.sorted(result, grid.getIntersectingCircles(0.75, 1.5, 1.2, result)));
+		Assert.assertArrayEquals(new int[]{}, this.sorted(result, grid.getIntersectingCircles(5, 0, 1, result)));
+
+		//Remove circle 1 and move circle 3 such that it touches circle 0; touching circles do not overlap
+		grid.removeCircle(1);
+		grid.moveCircle(3, 0, 1.5);
+		assertFalse(grid.isPresent(1));
+		assertEquals(3, grid.getNrPresentCircles());
+		Assert.assertArrayEquals(new int[]{}, this.sorted(result, grid.getOverlappingCircles(0, result)));
+		grid.moveCircle(3, 0, 1.4);
+		Assert.assertArrayEquals(new int[]{3}, this.sorted(result, grid.getOverlappingCircles(0, result)));
+
+		try{
+			grid.moveCircle(1, 0, 0);
+			fail("Expected IllegalArgumentException");
+		}catch(IllegalArgumentException e){
+			//Expected
+		}
+	}
+
+	/**
+	 * Test 2 - Random sequences of insertions, removals and moves; after every update, the queries must return the same circles as a brute
+	 * force search, and the container computed from the grid must match the container computed from the coordinates.
+	 */
+	public void testRandomUpdates(){
+		Random rnd=new Random(0);
+		int n=200;
+		double[] radii=new double[n];
+		for(int i=0; i<n; i++)
+			radii[i]=0.1+rnd.nextDouble();
+		CircleGrid grid=new CircleGrid(radii);
+		SmallestEnclosingCircleCalculator cecc=new SmallestEnclosingCircleCalculator();
+		int[] result=new int[n];
+		for(int update=0; update<3000; update++){
+			int i=rnd.nextInt(n);
+			double action=rnd.nextDouble();
+			if(action < 0.15)
+				grid.removeCircle(i);
+			else if(!grid.isPresent(i) || action < 0.3)
+				grid.insertCircle(i, rnd.nextDouble()*40-20, rnd.nextDouble()*40-20);
+			else
+				grid.moveCircle(i, grid.getX(i)+rnd.nextGaussian(), grid.getY(i)+rnd.nextGaussian());
+
+			//Compare the queries against a brute force search
+			if(grid.isPresent(i))
+				Assert.assertArrayEquals(this.bruteForce(grid, grid.getX(i), grid.getY(i), radii[i], i), this.sorted(result, grid.getOverlappingCircles(i, result)));
+			double x=rnd.nextDouble()*50-25, y=rnd.nextDouble()*50-25, radius=rnd.nextDouble()*(update % 50 == 0 ? 30 : 2);
+			Assert.assertArrayEquals(this.bruteForce(grid, x, y, radius, -1), this.sorted(result, grid.getIntersectingCircles(x, y, radius, result)));
+
+			if(update % 100 != 0)
+				continue;
+			//Compare the container against the container computed from the coordinates of the present circles
+			double[] xCors=new double[grid.getNrPresentCircles()];
+			double[] yCors=new double[xCors.length];
+			double[] presentRadii=new double[xCors.length];
+			int k=0;
+			for(int j=0; j<n; j++){
+				if(grid.isPresent(j)){
+					xCors[k]=grid.getX(j);
+					yCors[k]=grid.getY(j);
+					presentRadii[k++]=radii[j];
+				}
+			}
+			cecc.calcContainer(xCors, yCors, presentRadii);
+			double radius1=cecc.getRadius();
+			double[] center1=cecc.getContainerPosition();
+			cecc.calcContainer(grid);
+			assertEquals(radius1, cecc.getRadius(), PRECISION);
+			Assert.assertArrayEquals(center1, cecc.getContainerPosition(), PRECISION);
+		}
+
+		//All circles present: the container is computed without copying the coordinates
+		for(int i=0; i<n; i++)
+			grid.insertCircle(i, grid.getX(i), grid.getY(i));
+		assertEquals(n, grid.getNrPresentCircles());
+		cecc.calcContainer(grid);
+		double radius=cecc.getRadius();
+		double[] xCors=new double[n];
+		double[] yCors=new double[n];
+		for(int i=0; i<n; i++){
+			xCors[i]=grid.getX(i);
+			yCors[i]=grid.getY(i);
+		}
+		cecc.calcContainer(xCors, yCors, radii);
+		assertEquals(cecc.getRadius(), radius, PRECISION);
+	}
+
+	/**
+	 * Returns the present circles, other than the excluded circle, which intersect with the given disk, in increasing order
+	 */
+	private int[] bruteForce(CircleGrid grid, double x, double y, double radius, int excluded){
+		int[] circles=new int[grid.getNrCircles()];
+		int count=0;
+		for(int j=0; j<grid.getNrCircles(); j++){
+			if(j == excluded || !grid.isPresent(j))
+				continue;
+			double dx=x-grid.getX(j);
+			double dy=y-grid.getY(j);
+			double rr=radius+grid.getRadius(j);
+			if(dx*dx+dy*dy < rr*rr)
+				circles[count++]=j;
+		}
+		return Arrays.copyOf(circles, count);
+	}
+
+	/**
+	 * Returns the first count entries of the result array in increasing order
+	 */
+	private int[] sorted(int[] result, int count){
+		int[] circles=Arrays.copyOf(result, count);
+		Arrays.sort(circles);
+		return circles;
+	}
+}
@@ -0,0 +1,132 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CirclePackingHeuristicTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.packing.circlePacking;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for CirclePackingHeuristic.java
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+public final class CirclePackingHeuristicTest extends TestCase{
+
+	public static final double PRECISION=0.000001;
+
+	/**
+	 * Test 1 - Greedy packings of small instances with a known optimum
+	 */
+	public void testGreedy(){
+		//Two circles
+		CirclePackingSolution solution=new CirclePackingHeuristic(new double[]{1,2}).solveGreedy();
+		assertEquals(3.0, solution.getContainerRadius(), PRECISION);
+		assertEquals(0.0, solution.getMaxOverlap(), PRECISION);
+
+		//Three equal circles
+		solution=new CirclePackingHeuristic(new double[]{1,1,1}).solveGreedy();
+		assertEquals(1+2/Math.sqrt(3), solution.getContainerRadius(), PRECISION);
+		assertEquals(0.0, solution.getMaxOverlap(), PRECISION);
+
+		//Random circles: the container must be the smallest enclosing circle of the packing
+		Random rnd=new Random(0);
+		double[] radii=new double[40];
+		for(int i=0; i<radii.length; i++)
+			radii[i]=0.1+rnd.nextDouble();
+		solution=new CirclePackingHeuristic(radii).solveGreedy();
+		this.validate(solution, radii);
+	}
+
+	/**
+	 * Test 2 - 19 uniform circles (instance cci19, see http://www.packomania.com/). The optimal container has radius 1+sqrt(2)+sqrt(6) (circles of
+	 * radius 1), whereas the greedy packing requires a container of radius 5.
+	 */
+	public void testLocalSearch(){
+		double[] radii=new double[19];
+		Arrays.fill(radii, 1);
+		CirclePackingHeuristic heuristic=new CirclePackingHeuristic(radii);
+		assertEquals(5.0, heuristic.solveGreedy().getContainerRadius(), PRECISION);
+		CirclePackingSolution solution=heuristic.solve(System.currentTimeMillis()+1000);
+		this.validate(solution, radii);
+		assertTrue(solution.getContainerRadius() < (1+Math.sqrt(2)+Math.sqrt(6))*1.005);
+	}
+
+	/**
+	 * Test 3 - Parallel multi-start mode on circles of different sizes
+	 */
+	public void testParallel(){
+		Random rnd=new Random(1);
+		double[] radii=new double[30];
+		for(int i=0; i<radii.length; i++)
+			radii[i]=1+rnd.nextInt(30);
+		CirclePackingHeuristic heuristic=new CirclePackingHeuristic(radii);
+		double greedyRadius=heuristic.solveGreedy().getContainerRadius();
+		CirclePackingSolution solution=heuristic.solve(System.currentTimeMillis()+1000, 4);
+		this.validate(solution, radii);
+		assertTrue(solution.getContainerRadius() < greedyRadius);
+
+		//With a time limit in the past, only the greedy starts are performed
+		solution=heuristic.solve(0, 2);
+		this.validate(solution, radii);
+		assertTrue(solution.getContainerRadius() <= greedyRadius+PRECISION);
+	}
+
+	/**
+	 * Test 4 - Invalid input
+	 */
+	public void testInvalidInput(){
+		try{
+			new CirclePackingHeuristic(new double[]{1,0});
+			fail("Expected IllegalArgumentException");
+		}catch(IllegalArgumentException e){
+			//Expected
+		}
+		try{
+			new CirclePackingHeuristic(new double[]{1}).solve(0, 0);
+			fail("Expected IllegalArgumentException");
+		}catch(IllegalArgumentException e){
+			//Expected
+		}
+	}
+
+	/**
+	 * Checks that the packing is feasible, and that the container is the smallest enclosing circle of the packing
+	 * @param solution packing
+	 * @param radii radii of the circles
+	 */
+	private void validate(CirclePackingSolution solution, double[] radii){
+		assertEquals(radii.length, solution.getNrCircles());
+		assertTrue(Arrays.equals(radii, solution.getRadii()));
+		assertEquals(0.0, solution.getMaxOverlap(), PRECISION);
+		SmallestEnclosingCircleCalculator cecc=new SmallestEnclosingCircleCalculator();
+		cecc.calcContainer(solution.getXCors(), solution.getYCors(), radii);
+		assertEquals(cecc.getRadius(), solution.getContainerRadius(), PRECISION);
+	}
+}
@@ -0,0 +1,184 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * DynamicEnclosingCircleTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.packing.circlePacking;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Assert;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for DynamicEnclosingCircle.java
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+public final class DynamicEnclosingCircleTest extends TestCase{
+
+	public static final double PRECISION=0.000001;
+
+	/**
+	 * Test 1 - Updates which do not affect the support set must not trigger a recomputation of the container
+	 */
+	public void testLazyRecomputation(){
+		//Two circles next to each other, and a small circle in between
+		DynamicEnclosingCircle container=new DynamicEnclosingCircle(new double[]{0,2,1}, new double[]{0,0,0}, new double[]{1,1,0.1});
+		assertEquals(2.0, container.getRadius(), PRECISION);
+		Assert.assertArrayEquals(new double[]{1.0,0.0}, container.getContainerPosition(), PRECISION);
+		int[] support=container.getSupportCircles();
+		Arrays.sort(support);
+		Assert.assertArrayEquals(new int[]{0,1}, support);
+		assertEquals(1, container.getNrRecomputations());
+
+		//Move and remove the small circle, and add a circle inside the container
+		container.moveCircle(2, 1, 0.5);
+		int id=container.addCircle(1, -0.5, 0.2);
+		container.removeCircle(2);
+		assertEquals(2.0, container.getRadius(), PRECISION);
+		assertEquals(1, container.getNrRecomputations());
+		assertTrue(container.fitsInContainer(1, 0, 0.5));
+		assertFalse(container.fitsInContainer(1, 2, 0.5));
+
+		//Move a support circle: the container shrinks
+		container.moveCircle(1, 1, 0);
+		assertEquals(1.5, container.getRadius(), PRECISION);
+		Assert.assertArrayEquals(new double[]{0.5,0.0}, container.getContainerPosition(), PRECISION);
+		assertEquals(2, container.getNrRecomputations());
+
+		//Batch update: move circle 0 and 1 away from each other; the container is recomputed once
+		container.moveCircles(new int[]{0,1}, new double[]{-5,5}, new double[]{0,0});
+		assertEquals(6.0, container.getRadius(), PRECISION);
+		Assert.assertArrayEquals(new double[]{0.0,0.0}, container.getContainerPosition(), PRECISION);
+		assertEquals(3, container.getNrRecomputations());
+
+		//Remove all circles
+		container.removeCircles(new int[]{0,1,id});
+		assertEquals(0, container.getNrCircles());
+		assertEquals(0.0, container.getRadius(), PRECISION);
+	}
+
+	/**
+	 * Test 2 - A circle which is inserted outside the container, or a circle outside the support set which is moved outside the container, extends
+	 * the container without recomputing it from scratch. The circle becomes a support circle.
+	 */
+	public void testExtension(){
+		DynamicEnclosingCircle container=new DynamicEnclosingCircle();
+		int c0=container.addCircle(0, 0, 1);
+		assertEquals(1.0, container.getRadius(), PRECISION);
+		Assert.assertArrayEquals(new int[]{c0}, container.getSupportCircles());
+		int c1=container.addCircle(2, 0, 1);
+		int c2=container.addCircle(1, 0, 0.1);
+		assertEquals(2.0, container.getRadius(), PRECISION);
+		Assert.assertArrayEquals(new double[]{1.0,0.0}, container.getContainerPosition(), PRECISION);
+		assertEquals(0, container.getNrRecomputations());
+		assertEquals(1, container.getNrExtensions());
+
+		//Insert a circle outside the container: the container now touches c1 and the new circle
+		int c3=container.addCircle(-4, 0, 1);
+		assertEquals(4.0, container.getRadius(), PRECISION);
+		Assert.assertArrayEquals(new double[]{-1.0,0.0}, container.getContainerPosition(), PRECISION);
+		int[] support=container.getSupportCircles();
+		Arrays.sort(support);
+		Assert.assertArrayEquals(new int[]{c1,c3}, support);
+
+		//Move c2, which is not a support circle, outside the container
+		container.moveCircle(c2, 1, 10);
+		this.assertSmallestEnclosingCircle(container, new int[]{c0,c1,c2,c3});
+		support=container.getSupportCircles();
+		Arrays.sort(support);
+		assertTrue(Arrays.binarySearch(support, c2) >= 0);
+		assertEquals(0, container.getNrRecomputations());
+		assertEquals(3, container.getNrExtensions());
+
+		//Batch insertions invalidate the container instead
+		container.addCircles(new double[]{20, -20}, new double[]{0, 0}, new double[]{1, 1});
+		this.assertSmallestEnclosingCircle(container, new int[]{c0,c1,c2,c3,4,5});
+		assertEquals(1, container.getNrRecomputations());
+		assertEquals(3, container.getNrExtensions());
+	}
+
+	/**
+	 * Checks whether the container equals the smallest enclosing circle of the given circles, computed from scratch
+	 */
+	private void assertSmallestEnclosingCircle(DynamicEnclosingCircle container, int[] ids){
+		double[] xCors=new double[ids.length];
+		double[] yCors=new double[ids.length];
+		double[] radii=new double[ids.length];
+		for(int i=0; i<ids.length; i++){
+			xCors[i]=container.getX(ids[i]);
+			yCors[i]=container.getY(ids[i]);
+			radii[i]=container.getRadius(ids[i]);
+		}
+		SmallestEnclosingCircleCalculator cecc=new SmallestEnclosingCircleCalculator();
+		cecc.calcContainer(xCors, yCors, radii);
+		assertEquals(cecc.getRadius(), container.getRadius(), PRECISION);
+		Assert.assertArrayEquals(cecc.getContainerPosition(), container.getContainerPosition(), PRECISION);
+	}
+
+	/**
+	 * Test 3 - Random sequences of insertions, removals and moves; after every update, the container must be identical to the container
+	 * computed from scratch.
+	 */
+	public void testRandomUpdates(){
+		Random rnd=new Random(0);
+		SmallestEnclosingCircleCalculator cecc=new SmallestEnclosingCircleCalculator();
+		DynamicEnclosingCircle container=new DynamicEnclosingCircle(4);
+		List<Integer> ids=new ArrayList<>();
+		for(int update=0; update<2000; update++){
+			double action=rnd.nextDouble();
+			if(ids.size() < 3 || action < 0.3)
+				ids.add(container.addCircle(rnd.nextDouble()*10-5, rnd.nextDouble()*10-5, 0.1+rnd.nextDouble()));
+			else if(action < 0.45)
+				container.removeCircle(ids.remove(rnd.nextInt(ids.size())));
+			else{
+				int id=ids.get(rnd.nextInt(ids.size()));
+				container.moveCircle(id, container.getX(id)+rnd.nextGaussian(), container.getY(id)+rnd.nextGaussian());
+			}
+			if(update % 3 != 0) //Batch some of the updates
+				continue;
+
+			double[] xCors=new double[ids.size()];
+			double[] yCors=new double[ids.size()];
+			double[] radii=new double[ids.size()];
+			for(int i=0; i<ids.size(); i++){
+				xCors[i]=container.getX(ids.get(i));
+				yCors[i]=container.getY(ids.get(i));
+				radii[i]=container.getRadius(ids.get(i));
+			}
+			cecc.calcContainer(xCors, yCors, radii);
+			assertEquals(ids.size(), container.getNrCircles());
+			assertEquals(cecc.getRadius(), container.getRadius(), PRECISION);
+			Assert.assertArrayEquals(cecc.getContainerPosition(), container.getContainerPosition(), PRECISION);
+		}
+		assertTrue(container.getNrRecomputations() < 2000/3);
+		assertTrue(container.getNrExtensions() > 0);
+	}
+}
@@ -28,7 +28,9 @@ package org.jorlib.alg.packing.circlePacking;
 
 import java.awt.geom.Point2D;
 import java.util.Arrays;
+import java.util.Random;
 
+import org.jorlib.alg.packing.circlePacking.SmallestEnclosingCircleCalculator.Method;
 import org.junit.Assert;
 
 import junit.framework.TestCase;
@@ -53,11 +55,18 @@ public final class SmallestEnclosingCircleCalculatorTest extends TestCase{
 		double[] radii={3};
 		
 		//Calculate the smallest enclosing circle
-		SmallestEnclosingCircleCalculator cecc=new SmallestEnclosingCircleCalculator();
-		cecc.calcExactContainer(xCors, yCors, radii);
-		assertEquals(3.0, cecc.getRadius(), PRECISION);
-		Assert.assertArrayEquals(new double[]{1.0,2.0}, cecc.getContainerPosition(), PRECISION);
-		assertEquals(new Point2D.Double(1.0, 2.0), cecc.getContainerPositionAsPoint());
+		for(Method method : Method.values()){
+			SmallestEnclosingCircleCalculator cecc=new SmallestEnclosingCircleCalculator(method);
+			cecc.calcExactContainer(xCors, yCors, radii);
+			assertEquals(3.0, cecc.getRadius(), PRECISION);
+			Assert.assertArrayEquals(new double[]{1.0,2.0}, cecc.getContainerPosition(), PRECISION);
+			assertEquals(new Point2D.Double(1.0, 2.0), cecc.getContainerPositionAsPoint());
+			
+			//Calculate in double precision
+			cecc.calcContainer(xCors, yCors, radii);
+			assertEquals(3.0, cecc.getRadius(), PRECISION);
+			Assert.assertArrayEquals(new double[]{1.0,2.0}, cecc.getContainerPosition(), PRECISION);
+		}
 	}
 	
 	/**
@@ -70,11 +79,18 @@ public final class SmallestEnclosingCircleCalculatorTest extends TestCase{
 		double[] radii={1,1};
 		
 		//Calculate the smallest enclosing circle
-		SmallestEnclosingCircleCalculator cecc=new SmallestEnclosingCircleCalculator();
-		cecc.calcExactContainer(xCors, yCors, radii);
-		assertEquals(2.0, cecc.getRadius(), PRECISION);
-		Assert.assertArrayEquals(new double[]{1.0,0.0}, cecc.getContainerPosition(), PRECISION);
-		assertEquals(new Point2D.Double(1.0, 0.0), cecc.getContainerPositionAsPoint());
+		for(Method method : Method.values()){
+			SmallestEnclosingCircleCalculator cecc=new SmallestEnclosingCircleCalculator(method);
+			cecc.calcExactContainer(xCors, yCors, radii);
+			assertEquals(2.0, cecc.getRadius(), PRECISION);
+			Assert.assertArrayEquals(new double[]{1.0,0.0}, cecc.getContainerPosition(), PRECISION);
+			assertEquals(new Point2D.Double(1.0, 0.0), cecc.getContainerPositionAsPoint());
+			
+			//Calculate in double precision
+			cecc.calcContainer(xCors, yCors, radii);
+			assertEquals(2.0, cecc.getRadius(), PRECISION);
+			Assert.assertArrayEquals(new double[]{1.0,0.0}, cecc.getContainerPosition(), PRECISION);
+		}
 	}
 	
 	/**
@@ -89,15 +105,22 @@ public final class SmallestEnclosingCircleCalculatorTest extends TestCase{
 		Arrays.fill(radii, 0.205604646759568224693193969093);
 		
 		//Calculate exact
-		SmallestEnclosingCircleCalculator cecc=new SmallestEnclosingCircleCalculator();
-		cecc.calcExactContainer(xCors, yCors, radii);
-		assertEquals(1.0, cecc.getRadius(), PRECISION);
-		Assert.assertArrayEquals(new double[]{0.0,0.0}, cecc.getContainerPosition(), PRECISION);
-		
-		//Calculate approximate
-		cecc.calculateApproximateContainer(xCors, yCors, radii);
-		assertEquals(1.0, cecc.getRadius(), PRECISION);
-		Assert.assertArrayEquals(new double[]{0.0,0.0}, cecc.getContainerPosition(), PRECISION);
+		for(Method method : Method.values()){
+			SmallestEnclosingCircleCalculator cecc=new SmallestEnclosingCircleCalculator(method);
+			cecc.calcExactContainer(xCors, yCors, radii);
+			assertEquals(1.0, cecc.getRadius(), PRECISION);
+			Assert.assertArrayEquals(new double[]{0.0,0.0}, cecc.getContainerPosition(), PRECISION);
+			
+			//Calculate in double precision
+			cecc.calcContainer(xCors, yCors, radii);
+			assertEquals(1.0, cecc.getRadius(), PRECISION);
+			Assert.assertArrayEquals(new double[]{0.0,0.0}, cecc.getContainerPosition(), PRECISION);
+			
+			//Calculate approximate
+			cecc.calculateApproximateContainer(xCors, yCors, radii);
+			assertEquals(1.0, cecc.getRadius(), PRECISION);
+			Assert.assertArrayEquals(new double[]{0.0,0.0}, cecc.getContainerPosition(), PRECISION);
+		}
 	}
 	
 	
@@ -113,14 +136,176 @@ public final class SmallestEnclosingCircleCalculatorTest extends TestCase{
 		Arrays.fill(radii, 0.100319499416176579706634470175);
 		
 		//Calculate exact
-		SmallestEnclosingCircleCalculator cecc=new SmallestEnclosingCircleCalculator();
-		cecc.calcExactContainer(xCors, yCors, radii);
-		assertEquals(1.0, cecc.getRadius(), PRECISION);
-		Assert.assertArrayEquals(new double[]{0.0,0.0}, cecc.getContainerPosition(), PRECISION);
+		for(Method method : Method.values()){
+			SmallestEnclosingCircleCalculator cecc=new SmallestEnclosingCircleCalculator(method);
+			cecc.calcExactContainer(xCors, yCors, radii);
+			assertEquals(1.0, cecc.getRadius(), PRECISION);
+			Assert.assertArrayEquals(new double[]{0.0,0.0}, cecc.getContainerPosition(), PRECISION);
+			
+			//Calculate in double precision
+			cecc.calcContainer(xCors, yCors, radii);
+			assertEquals(1.0, cecc.getRadius(), PRECISION);
+			Assert.assertArrayEquals(new double[]{0.0,0.0}, cecc.getContainerPosition(), PRECISION);
+			
+			//Calculate approximate
+			cecc.calculateApproximateContainer(xCors, yCors, radii);
+			assertEquals(1.0, cecc.getRadius(), 0.003);
+			Assert.assertArrayEquals(new double[]{0.0,0.0}, cecc.getContainerPosition(), 0.003);
+		}
+	}
+	
+	/**
+	 * Test 5 - The first circle sticks out of the container of the other two circles by exactly PRECISION. This containment test cannot be
+	 * decided in double precision; the result must nevertheless be identical to the exact computation.
+	 */
+	public void testInconclusiveContainmentTest(){
+		//Define circles
+		double[] xCors={0,-1,1};
+		double[] yCors={0,0,0};
+		double[] radii={2+PRECISION,1,1};
+		
+		for(Method method : Method.values()){
+			SmallestEnclosingCircleCalculator cecc=new SmallestEnclosingCircleCalculator(method);
+			cecc.calcExactContainer(xCors, yCors, radii);
+			double exactRadius=cecc.getRadius();
+			double[] exactPosition=cecc.getContainerPosition();
+			
+			//Depending on the order in which the circles are processed, the first circle may or may not be considered to be enclosed
+			cecc.calcContainer(xCors, yCors, radii);
+			assertEquals(exactRadius, cecc.getRadius(), 2*PRECISION);
+			Assert.assertArrayEquals(exactPosition, cecc.getContainerPosition(), 2*PRECISION);
+			assertEquals(2.0, cecc.getRadius(), 2*PRECISION);
+		}
+	}
+	
+	/**
+	 * Test 6 - Compare the double precision computations against the exact computations on random instances
+	 */
+	public void testRandomInstances(){
+		Random rnd=new Random(0);
+		for(Method method : Method.values()){
+			SmallestEnclosingCircleCalculator cecc=new SmallestEnclosingCircleCalculator(method);
+			for(int instance=0; instance<200; instance++){
+				int nrCircles=1+rnd.nextInt(30);
+				double offset=rnd.nextDouble()*20-10;
+				double[] xCors=new double[nrCircles];
+				double[] yCors=new double[nrCircles];
+				double[] radii=new double[nrCircles];
+				for(int i=0; i<nrCircles; i++){
+					xCors[i]=offset+rnd.nextDouble()*4-2;
+					yCors[i]=offset+rnd.nextDouble()*4-2;
+					radii[i]=0.05+rnd.nextDouble()*0.5;
+				}
+			
+				cecc.calcExactContainer(xCors, yCors, radii);
+				double exactRadius=cecc.getRadius();
+				double[] exactPosition=cecc.getContainerPosition();
+			
+				cecc.calcContainer(xCors, yCors, radii);
+				assertEquals(exactRadius, cecc.getRadius(), PRECISION);
+				Assert.assertArrayEquals(exactPosition, cecc.getContainerPosition(), PRECISION);
+				for(int i=0; i<nrCircles; i++)
+					assertTrue(Point2D.distance(xCors[i], yCors[i], cecc.getContainerPosition()[0], cecc.getContainerPosition()[1])+radii[i] <= cecc.getRadius()+PRECISION);
+			}
+		}
+	}
+	
+	/**
+	 * Test 7 - The recursive and move-to-front implementations must return the same container, also when a circle is added incrementally.
+	 * The move-to-front implementation must handle large numbers of circles.
+	 */
+	public void testMoveToFront(){
+		Random rnd=new Random(1);
+		SmallestEnclosingCircleCalculator recursive=new SmallestEnclosingCircleCalculator(Method.RECURSIVE);
+		SmallestEnclosingCircleCalculator moveToFront=new SmallestEnclosingCircleCalculator(Method.MOVE_TO_FRONT);
+		for(int instance=0; instance<100; instance++){
+			int nrCircles=2+rnd.nextInt(30);
+			double[] xCors=new double[nrCircles];
+			double[] yCors=new double[nrCircles];
+			double[] radii=new double[nrCircles];
+			for(int i=0; i<nrCircles; i++){
+				xCors[i]=rnd.nextDouble()*4-2;
+				yCors[i]=rnd.nextDouble()*4-2;
+				radii[i]=0.05+rnd.nextDouble()*0.5;
+			}
+			recursive.calcExactContainer(xCors, yCors, radii);
+			moveToFront.calcExactContainer(xCors, yCors, radii);
+			assertEquals(recursive.getRadius(), moveToFront.getRadius(), PRECISION);
+			Assert.assertArrayEquals(recursive.getContainerPosition(), moveToFront.getContainerPosition(), PRECISION);
+			
+			//Enlarge the last circle, and update the container incrementally
+			double[] position=moveToFront.getContainerPosition();
+			double radius=moveToFront.getRadius();
+			radii[nrCircles-1]+=0.5;
+			recursive.incrementalCalcContainer(nrCircles-1, xCors, yCors, radii, position[0], position[1], radius);
+			moveToFront.incrementalCalcContainer(nrCircles-1, xCors, yCors, radii, position[0], position[1], radius);
+			assertEquals(recursive.getRadius(), moveToFront.getRadius(), PRECISION);
+			Assert.assertArrayEquals(recursive.getContainerPosition(), moveToFront.getContainerPosition(), PRECISION);
+		}
+		
+		//Large instance: uniform circles on a grid, enclosed by a container of radius 100*sqrt(2)+0.5 centered at (100,100)
+		int nrCircles=201*201;
+		double[] xCors=new double[nrCircles];
+		double[] yCors=new double[nrCircles];
+		double[] radii=new double[nrCircles];
+		for(int i=0; i<nrCircles; i++){
+			xCors[i]=i%201;
+			yCors[i]=i/201;
+			radii[i]=0.5;
+		}
+		moveToFront.calcContainer(xCors, yCors, radii);
+		assertEquals(100*Math.sqrt(2)+0.5, moveToFront.getRadius(), PRECISION);
+		Assert.assertArrayEquals(new double[]{100,100}, moveToFront.getContainerPosition(), PRECISION);
+		moveToFront.calcExactContainer(xCors, yCors, radii);
+		assertEquals(100*Math.sqrt(2)+0.5, moveToFront.getRadius(), PRECISION);
+		Assert.assertArrayEquals(new double[]{100,100}, moveToFront.getContainerPosition(), PRECISION);
+	}
+	
+	/**
+	 * Test 8 - Circles on an integer grid: the centers of three boundary circles may be collinear or coincide, in which case no circle tangent to all
+	 * three circles exists. All implementations must return the same container, which encloses all circles.
+	 */
+	public void testDegenerateInstances(){
+		//Three circles on a line; the middle circle encloses one of the other circles
+		double[] xCors={2, 2, 1, 1, 3, 1};
+		double[] yCors={1, 3, 2, 0, 2, 1};
+		double[] radii={2, 1, 2, 1, 1, 1};
+		for(Method method : Method.values()){
+			SmallestEnclosingCircleCalculator cecc=new SmallestEnclosingCircleCalculator(method);
+			cecc.calcExactContainer(xCors, yCors, radii);
+			assertEquals(2+Math.sqrt(2)/2, cecc.getRadius(), PRECISION);
+			Assert.assertArrayEquals(new double[]{1.5,1.5}, cecc.getContainerPosition(), PRECISION);
+			cecc.calcContainer(xCors, yCors, radii);
+			assertEquals(2+Math.sqrt(2)/2, cecc.getRadius(), PRECISION);
+			Assert.assertArrayEquals(new double[]{1.5,1.5}, cecc.getContainerPosition(), PRECISION);
+		}
 		
-		//Calculate approximate
-		cecc.calculateApproximateContainer(xCors, yCors, radii);
-		assertEquals(1.0, cecc.getRadius(), 0.003);
-		Assert.assertArrayEquals(new double[]{0.0,0.0}, cecc.getContainerPosition(), 0.003);
+		Random rnd=new Random(0);
+		SmallestEnclosingCircleCalculator recursive=new SmallestEnclosingCircleCalculator(Method.RECURSIVE);
+		SmallestEnclosingCircleCalculator moveToFront=new SmallestEnclosingCircleCalculator(Method.MOVE_TO_FRONT);
+		for(int instance=0; instance<2000; instance++){
+			int nrCircles=3+rnd.nextInt(12);
+			int gridSize=1+rnd.nextInt(4);
+			boolean uniform=rnd.nextBoolean();
+			xCors=new double[nrCircles];
+			yCors=new double[nrCircles];
+			radii=new double[nrCircles];
+			for(int i=0; i<nrCircles; i++){
+				xCors[i]=rnd.nextInt(gridSize+1);
+				yCors[i]=rnd.nextInt(gridSize+1);
+				radii[i]=(uniform ? 0.5 : 1+rnd.nextInt(2));
+			}
+			recursive.calcExactContainer(xCors, yCors, radii);
+			double radius=recursive.getRadius();
+			double[] position=recursive.getContainerPosition();
+			for(int i=0; i<nrCircles; i++)
+				assertTrue(Point2D.distance(xCors[i], yCors[i], position[0], position[1])+radii[i] <= radius+PRECISION);
+			moveToFront.calcExactContainer(xCors, yCors, radii);
+			assertEquals(radius, moveToFront.getRadius(), PRECISION);
+			Assert.assertArrayEquals(position, moveToFront.getContainerPosition(), PRECISION);
+			moveToFront.calcContainer(xCors, yCors, radii);
+			assertEquals(radius, moveToFront.getRadius(), PRECISION);
+			Assert.assertArrayEquals(position, moveToFront.getContainerPosition(), PRECISION);
+		}
 	}
 }
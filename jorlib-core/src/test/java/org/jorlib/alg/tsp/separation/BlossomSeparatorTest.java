@@ -0,0 +1,153 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BlossomSeparatorTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.tsp.separation;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.SimpleGraph;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the BlossomSeparator class
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+public final class BlossomSeparatorTest extends TestCase{
+
+	public static final double PRECISION=0.000001;
+
+	/**
+	 * Test 1 - Two triangles {0,1,2} and {3,4,5} with edge values 0.5, connected by the edges (0,3), (1,4) and (2,5) with value 1. This solution satisfies all
+	 * degree and subtour constraints, but violates the blossom inequality with handle {0,1,2} (or equivalently {3,4,5}) and teeth (0,3), (1,4), (2,5).
+	 */
+	public void testViolatedBlossom(){
+		Graph<Integer, DefaultEdge> graph=this.createCompleteGraph(6);
+		Map<DefaultEdge, Double> edgeValueMap=this.createTwoTriangles(graph);
+
+		BlossomSeparator<Integer, DefaultEdge> separator=new BlossomSeparator<Integer, DefaultEdge>(graph);
+		separator.separateBlossoms(edgeValueMap);
+		assertTrue(separator.hasBlossom());
+		assertEquals(1, separator.getHandles().size());
+		assertEquals(new HashSet<Integer>(Arrays.asList(3,4,5)), separator.getHandles().get(0));
+		assertEquals(new HashSet<DefaultEdge>(Arrays.asList(graph.getEdge(0,3), graph.getEdge(1,4), graph.getEdge(2,5))), separator.getTeeth().get(0));
+		assertEquals(0, separator.getCutValues().get(0), PRECISION);
+
+		separator.separateBlossomsHeuristically(edgeValueMap);
+		assertTrue(separator.hasBlossom());
+		assertEquals(1, separator.getHandles().size());
+		assertEquals(new HashSet<Integer>(Arrays.asList(3,4,5)), separator.getHandles().get(0));
+		assertEquals(new HashSet<DefaultEdge>(Arrays.asList(graph.getEdge(0,3), graph.getEdge(1,4), graph.getEdge(2,5))), separator.getTeeth().get(0));
+	}
+
+	/**
+	 * Test 2 - A fractional solution without violated blossoms: the average of two Hamiltonian cycles.
+	 */
+	public void testNoViolatedBlossom(){
+		Graph<Integer, DefaultEdge> graph=this.createCompleteGraph(6);
+		Map<DefaultEdge, Double> edgeValueMap=new HashMap<DefaultEdge, Double>();
+		int[] tour1={0,1,2,3,4,5};
+		int[] tour2={0,2,4,1,3,5};
+		for(int[] tour : Arrays.asList(tour1, tour2)){
+			for(int i=0; i<tour.length; i++){
+				DefaultEdge edge=graph.getEdge(tour[i], tour[(i+1)%tour.length]);
+				edgeValueMap.put(edge, (edgeValueMap.containsKey(edge) ? edgeValueMap.get(edge) : 0)+0.5);
+			}
+		}
+
+		BlossomSeparator<Integer, DefaultEdge> separator=new BlossomSeparator<Integer, DefaultEdge>(graph);
+		separator.separateBlossoms(edgeValueMap);
+		assertFalse(separator.hasBlossom());
+		separator.separateBlossomsHeuristically(edgeValueMap);
+		assertFalse(separator.hasBlossom());
+	}
+
+	/**
+	 * Test 3 - The exact separation finds a violated blossom which the heuristic misses: the teeth of the blossom in test 1 have value 0.9, and the solution is completed
+	 * by the fractional edges (0,4), (1,5), (2,3) with value 0.1. The fractional graph is connected, so the heuristic finds no handle with teeth.
+	 */
+	public void testExactVersusHeuristic(){
+		Graph<Integer, DefaultEdge> graph=this.createCompleteGraph(6);
+		Map<DefaultEdge, Double> edgeValueMap=this.createTwoTriangles(graph);
+		edgeValueMap.put(graph.getEdge(0,3), 0.9);
+		edgeValueMap.put(graph.getEdge(1,4), 0.9);
+		edgeValueMap.put(graph.getEdge(2,5), 0.9);
+		edgeValueMap.put(graph.getEdge(0,4), 0.1);
+		edgeValueMap.put(graph.getEdge(1,5), 0.1);
+		edgeValueMap.put(graph.getEdge(2,3), 0.1);
+
+		BlossomSeparator<Integer, DefaultEdge> separator=new BlossomSeparator<Integer, DefaultEdge>(graph);
+		separator.separateBlossoms(edgeValueMap);
+		assertTrue(separator.hasBlossom());
+		assertEquals(new HashSet<Integer>(Arrays.asList(3,4,5)), separator.getHandles().get(0));
+		assertEquals(0.6, separator.getCutValues().get(0), PRECISION);
+
+		separator.separateBlossomsHeuristically(edgeValueMap);
+		assertFalse(separator.hasBlossom());
+	}
+
+	/**
+	 * Creates the two triangles solution of test 1
+	 * @param graph complete graph on 6 vertices
+	 * @return edge values
+	 */
+	private Map<DefaultEdge, Double> createTwoTriangles(Graph<Integer, DefaultEdge> graph){
+		Map<DefaultEdge, Double> edgeValueMap=new HashMap<DefaultEdge, Double>();
+		edgeValueMap.put(graph.getEdge(0,1), 0.5);
+		edgeValueMap.put(graph.getEdge(1,2), 0.5);
+		edgeValueMap.put(graph.getEdge(0,2), 0.5);
+		edgeValueMap.put(graph.getEdge(3,4), 0.5);
+		edgeValueMap.put(graph.getEdge(4,5), 0.5);
+		edgeValueMap.put(graph.getEdge(3,5), 0.5);
+		edgeValueMap.put(graph.getEdge(0,3), 1.0);
+		edgeValueMap.put(graph.getEdge(1,4), 1.0);
+		edgeValueMap.put(graph.getEdge(2,5), 1.0);
+		return edgeValueMap;
+	}
+
+	/**
+	 * Creates a complete undirected graph
+	 * @param n number of vertices
+	 * @return complete graph
+	 */
+	private Graph<Integer, DefaultEdge> createCompleteGraph(int n){
+		Graph<Integer, DefaultEdge> graph=new SimpleGraph<Integer, DefaultEdge>(DefaultEdge.class);
+		for(int i=0; i<n; i++)
+			graph.addVertex(i);
+		for(int i=0; i<n; i++)
+			for(int j=i+1; j<n; j++)
+				graph.addEdge(i, j);
+		return graph;
+	}
+}
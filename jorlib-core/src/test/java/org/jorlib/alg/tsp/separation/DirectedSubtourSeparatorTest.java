@@ -0,0 +1,204 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * DirectedSubtourSeparatorTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.alg.tsp.separation;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import org.jgrapht.Graph;
+import org.jgrapht.graph.DefaultEdge;
+import org.jgrapht.graph.SimpleDirectedGraph;
+
+import junit.framework.TestCase;
+
+/**
+ * Unit tests for the DirectedSubtourSeparator class
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+public final class DirectedSubtourSeparatorTest extends TestCase{
+
+	public static final double PRECISION=0.000001;
+
+	/**
+	 * Test 1 - Two directed cycles 0->1->2->0 and 3->4->5->3.
+	 */
+	public void testDisconnectedCycles(){
+		Graph<Integer, DefaultEdge> graph=this.createCompleteDigraph(6);
+		Map<DefaultEdge, Double> edgeValueMap=new HashMap<DefaultEdge, Double>();
+		edgeValueMap.put(graph.getEdge(0,1), 1.0);
+		edgeValueMap.put(graph.getEdge(1,2), 1.0);
+		edgeValueMap.put(graph.getEdge(2,0), 1.0);
+		edgeValueMap.put(graph.getEdge(3,4), 1.0);
+		edgeValueMap.put(graph.getEdge(4,5), 1.0);
+		edgeValueMap.put(graph.getEdge(5,3), 1.0);
+
+		DirectedSubtourSeparator<Integer, DefaultEdge> separator=new DirectedSubtourSeparator<Integer, DefaultEdge>(graph);
+		separator.separateSubtours(edgeValueMap);
+		assertTrue(separator.hasSubtour());
+		assertEquals(0, separator.getCutValue(), PRECISION);
+		assertEquals(2, separator.getCutSets().size());
+		assertTrue(separator.getCutSets().contains(new HashSet<Integer>(Arrays.asList(0,1,2))));
+		assertTrue(separator.getCutSets().contains(new HashSet<Integer>(Arrays.asList(3,4,5))));
+	}
+
+	/**
+	 * Test 2 - A fractional solution which is connected in the undirected sense, but violates a directed cut-set inequality: the cycles 0->1->2->0 and
+	 * 3->4->5->3 are connected by arcs 2->3 and 5->0 with value 0.5, but the solution enters {3,4,5} with value 0.5 only.
+	 */
+	public void testDirectedViolation(){
+		Graph<Integer, DefaultEdge> graph=this.createCompleteDigraph(6);
+		Map<DefaultEdge, Double> edgeValueMap=new HashMap<DefaultEdge, Double>();
+		edgeValueMap.put(graph.getEdge(0,1), 1.0);
+		edgeValueMap.put(graph.getEdge(1,2), 1.0);
+		edgeValueMap.put(graph.getEdge(2,0), 0.5);
+		edgeValueMap.put(graph.getEdge(2,3), 0.5);
+		edgeValueMap.put(graph.getEdge(3,4), 1.0);
+		edgeValueMap.put(graph.getEdge(4,5), 1.0);
+		edgeValueMap.put(graph.getEdge(5,3), 0.5);
+		edgeValueMap.put(graph.getEdge(5,0), 0.5);
+
+		DirectedSubtourSeparator<Integer, DefaultEdge> separator=new DirectedSubtourSeparator<Integer, DefaultEdge>(graph);
+		separator.separateSubtours(edgeValueMap);
+		assertTrue(separator.hasSubtour());
+		assertEquals(0.5, separator.getCutValue(), PRECISION);
+		assertTrue(separator.getCutSets().contains(new HashSet<Integer>(Arrays.asList(0,1,2))));
+		assertTrue(separator.getCutSets().contains(new HashSet<Integer>(Arrays.asList(3,4,5))));
+		for(int k=0; k<separator.getCutSets().size(); k++)
+			assertEquals(separator.getCutValues().get(k), this.getOutflow(graph, edgeValueMap, separator.getCutSets().get(k), null), PRECISION);
+
+		//A Hamiltonian cycle does not violate any inequality
+		edgeValueMap.clear();
+		for(int i=0; i<6; i++)
+			edgeValueMap.put(graph.getEdge(i,(i+1)%6), 1.0);
+		separator.separateSubtours(edgeValueMap);
+		assertFalse(separator.hasSubtour());
+		assertEquals(1, separator.getCutValue(), PRECISION);
+	}
+
+	/**
+	 * Test 3 - Random fractional solutions. The most violated inequality must coincide with the minimum over all sets S, obtained by enumeration.
+	 */
+	public void testRandomAgainstEnumeration(){
+		Random random=new Random(0);
+		int n=7;
+		Graph<Integer, DefaultEdge> graph=this.createCompleteDigraph(n);
+		DirectedSubtourSeparator<Integer, DefaultEdge> separator=new DirectedSubtourSeparator<Integer, DefaultEdge>(graph);
+		for(int run=0; run<50; run++){
+			Map<DefaultEdge, Double> edgeValueMap=new HashMap<DefaultEdge, Double>();
+			for(DefaultEdge edge : graph.edgeSet())
+				edgeValueMap.put(edge, random.nextDouble() < 0.3 ? Math.round(random.nextDouble()*4)/4.0 : 0.0);
+			separator.separateSubtours(edgeValueMap);
+
+			double minCut=Double.MAX_VALUE;
+			for(int subset=1; subset < (1<<n)-1; subset++){
+				Set<Integer> set=new HashSet<Integer>();
+				for(int i=0; i<n; i++)
+					if((subset & (1<<i)) != 0)
+						set.add(i);
+				minCut=Math.min(minCut, this.getOutflow(graph, edgeValueMap, set, null));
+			}
+			assertEquals(minCut, separator.getCutValue(), PRECISION);
+			assertEquals(minCut < 1-PRECISION, separator.hasSubtour());
+			for(int k=0; k<separator.getCutSets().size(); k++){
+				Set<Integer> cutSet=separator.getCutSets().get(k);
+				assertFalse(cutSet.isEmpty());
+				assertTrue(cutSet.size() < n);
+				assertEquals(separator.getCutValues().get(k), this.getOutflow(graph, edgeValueMap, cutSet, null), PRECISION);
+				assertTrue(separator.getCutValues().get(k) < 1-PRECISION);
+			}
+		}
+	}
+
+	/**
+	 * Test 4 - Precedence cut-set inequalities. The solution consists of the cycle 0->1->2->3->0, so vertex 1 is visited before vertex 2. The precedence
+	 * 1 before 2 is satisfied, whereas the precedence 2 before 1 is violated.
+	 */
+	public void testPrecedenceCuts(){
+		Graph<Integer, DefaultEdge> graph=this.createCompleteDigraph(4);
+		Map<DefaultEdge, Double> edgeValueMap=new HashMap<DefaultEdge, Double>();
+		for(int i=0; i<4; i++)
+			edgeValueMap.put(graph.getEdge(i,(i+1)%4), 1.0);
+
+		DirectedSubtourSeparator<Integer, DefaultEdge> separator=new DirectedSubtourSeparator<Integer, DefaultEdge>(graph);
+		separator.separatePrecedenceCuts(edgeValueMap, 0, Collections.singletonMap(1, Collections.singleton(2)), Integer.MAX_VALUE);
+		assertFalse(separator.hasSubtour());
+
+		separator.separatePrecedenceCuts(edgeValueMap, 0, Collections.singletonMap(2, Collections.singleton(1)), Integer.MAX_VALUE);
+		assertTrue(separator.hasSubtour());
+		assertEquals(0, separator.getCutValue(), PRECISION);
+		for(int k=0; k<separator.getCutSets().size(); k++){
+			Integer excludedVertex=separator.getExcludedVertices().get(k);
+			assertNotNull(excludedVertex);
+			assertFalse(separator.getCutSets().get(k).contains(excludedVertex));
+			assertEquals(separator.getCutValues().get(k), this.getOutflow(graph, edgeValueMap, separator.getCutSets().get(k), excludedVertex), PRECISION);
+		}
+		//The path from 2 to 1 must leave {2,3} without passing through the depot
+		assertTrue(separator.getCutSets().contains(new HashSet<Integer>(Arrays.asList(2,3))));
+	}
+
+	/**
+	 * Creates a complete directed graph
+	 * @param n number of vertices
+	 * @return complete directed graph
+	 */
+	private Graph<Integer, DefaultEdge> createCompleteDigraph(int n){
+		Graph<Integer, DefaultEdge> graph=new SimpleDirectedGraph<Integer, DefaultEdge>(DefaultEdge.class);
+		for(int i=0; i<n; i++)
+			graph.addVertex(i);
+		for(int i=0; i<n; i++)
+			for(int j=0; j<n; j++)
+				if(i != j)
+					graph.addEdge(i, j);
+		return graph;
+	}
+
+	/**
+	 * Computes the total value of the arcs leaving a set, excluding the arcs entering the excluded vertex
+	 * @param graph graph
+	 * @param edgeValueMap arc values
+	 * @param cutSet set of vertices
+	 * @param excludedVertex excluded vertex, or null
+	 * @return value of the arcs leaving the set
+	 */
+	private double getOutflow(Graph<Integer, DefaultEdge> graph, Map<DefaultEdge, Double> edgeValueMap, Set<Integer> cutSet, Integer excludedVertex){
+		double outflow=0;
+		for(Map.Entry<DefaultEdge, Double> entry : edgeValueMap.entrySet()){
+			Integer head=graph.getEdgeTarget(entry.getKey());
+			if(cutSet.contains(graph.getEdgeSource(entry.getKey())) && !cutSet.contains(head) && !head.equals(excludedVertex))
+				outflow+=entry.getValue();
+		}
+		return outflow;
+	}
+}
@@ -29,7 +29,10 @@ package org.jorlib.alg.tsp.separation;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Random;
+import java.util.Set;
 
 import org.jgrapht.Graph;
 import org.jgrapht.Graphs;
@@ -168,4 +171,152 @@ public final class SubtourSeparatorTest extends TestCase{
 		assertEquals(0, separator.getCutValue(), PRECISION);
 		assertEquals(new HashSet<Integer>(Arrays.asList(2,3,6)), separator.getCutSet());
 	}
+
+	/**
+	 * Test 4 - Complete graphs with random, connected fractional solutions. The cut value is compared against the minimum cut obtained by enumerating all subsets.
+	 * The separator is reused for all solutions to verify that its buffers are reset correctly.
+	 */
+	public void testRandomGraphsAgainstEnumeration(){
+		Random random=new Random(0);
+		int n=8;
+		Graph<Integer, DefaultEdge> completeGraph=new SimpleGraph<Integer, DefaultEdge>(DefaultEdge.class);
+		for(int i=0; i<n; i++)
+			completeGraph.addVertex(i);
+		for(int i=0; i<n; i++)
+			for(int j=i+1; j<n; j++)
+				completeGraph.addEdge(i, j);
+		SubtourSeparator<Integer, DefaultEdge> separator=new SubtourSeparator<Integer, DefaultEdge>(completeGraph);
+
+		for(int run=0; run<50; run++){
+			Map<DefaultEdge, Double> edgeValueMap=new HashMap<DefaultEdge, Double>();
+			for(DefaultEdge edge : completeGraph.edgeSet())
+				edgeValueMap.put(edge, random.nextDouble() < 0.6 ? Math.round(random.nextDouble()*4)/4.0 : 0.0);
+			separator.separateSubtour(edgeValueMap);
+
+			//Enumerate all proper subsets which contain vertex 0, i.e. the complements of the candidate cut sets
+			double minCut=Double.MAX_VALUE;
+			for(int subset=1; subset < (1<<n)-1; subset+=2){
+				double cut=0;
+				for(Map.Entry<DefaultEdge, Double> entry : edgeValueMap.entrySet()){
+					boolean sourceInSet=(subset & (1<<completeGraph.getEdgeSource(entry.getKey()))) != 0;
+					boolean targetInSet=(subset & (1<<completeGraph.getEdgeTarget(entry.getKey()))) != 0;
+					if(sourceInSet != targetInSet)
+						cut+=entry.getValue();
+				}
+				minCut=Math.min(minCut, cut);
+			}
+			assertEquals(minCut, separator.getCutValue(), PRECISION);
+			assertEquals(minCut < 2-PRECISION, separator.hasSubtour());
+
+			//The cut set must be a proper subset of the vertices, not containing vertex 0, with the reported cut value
+			assertFalse(separator.getCutSet().isEmpty());
+			assertFalse(separator.getCutSet().contains(0));
+			double cut=0;
+			for(Map.Entry<DefaultEdge, Double> entry : edgeValueMap.entrySet())
+				if(separator.getCutSet().contains(completeGraph.getEdgeSource(entry.getKey())) != separator.getCutSet().contains(completeGraph.getEdgeTarget(entry.getKey())))
+					cut+=entry.getValue();
+			assertEquals(separator.getCutValue(), cut, PRECISION);
+		}
+	}
+
+	/**
+	 * Test 5 - Multiple violated subtours. The graph consists of three clusters, connected in a ring by edges with value 0.5. Each cluster defines a violated subtour
+	 * with cut value 1.
+	 */
+	public void testMultipleSubtours(){
+		Graph<Integer, DefaultEdge> completeGraph=new SimpleGraph<Integer, DefaultEdge>(DefaultEdge.class);
+		for(int i=0; i<9; i++)
+			completeGraph.addVertex(i);
+		for(int i=0; i<9; i++)
+			for(int j=i+1; j<9; j++)
+				completeGraph.addEdge(i, j);
+
+		Map<DefaultEdge, Double> edgeValueMap=new HashMap<DefaultEdge, Double>();
+		for(int c=0; c<3; c++){
+			edgeValueMap.put(completeGraph.getEdge(3*c, 3*c+1), 1.0);
+			edgeValueMap.put(completeGraph.getEdge(3*c+1, 3*c+2), 1.0);
+			edgeValueMap.put(completeGraph.getEdge(3*c, 3*c+2), 0.5);
+			edgeValueMap.put(completeGraph.getEdge(3*c+2, (3*c+3)%9), 0.5);
+		}
+
+		SubtourSeparator<Integer, DefaultEdge> separator=new SubtourSeparator<Integer, DefaultEdge>(completeGraph);
+		separator.separateSubtours(edgeValueMap);
+		assertTrue(separator.hasSubtour());
+		assertEquals(1, separator.getCutValue(), PRECISION);
+		assertEquals(3, separator.getCutSets().size());
+		assertTrue(separator.getCutSets().contains(new HashSet<Integer>(Arrays.asList(3,4,5))));
+		assertTrue(separator.getCutSets().contains(new HashSet<Integer>(Arrays.asList(6,7,8))));
+		assertTrue(separator.getCutSets().contains(new HashSet<Integer>(Arrays.asList(3,4,5,6,7,8))));
+		for(double cutValue : separator.getCutValues())
+			assertEquals(1, cutValue, PRECISION);
+
+		//Only return the most violated subtour
+		separator.separateSubtours(edgeValueMap, 1);
+		assertEquals(1, separator.getCutSets().size());
+	}
+
+	/**
+	 * Test 6 - Complete graphs with random fractional solutions. Every subtour returned by separateSubtours must be violated, and the most violated subtour must
+	 * coincide with the minimum cut obtained by enumerating all subsets.
+	 */
+	public void testRandomGraphsMultipleSubtours(){
+		Random random=new Random(1);
+		int n=8;
+		Graph<Integer, DefaultEdge> completeGraph=new SimpleGraph<Integer, DefaultEdge>(DefaultEdge.class);
+		for(int i=0; i<n; i++)
+			completeGraph.addVertex(i);
+		for(int i=0; i<n; i++)
+			for(int j=i+1; j<n; j++)
+				completeGraph.addEdge(i, j);
+		SubtourSeparator<Integer, DefaultEdge> separator=new SubtourSeparator<Integer, DefaultEdge>(completeGraph);
+
+		for(int run=0; run<100; run++){
+			Map<DefaultEdge, Double> edgeValueMap=new HashMap<DefaultEdge, Double>();
+			for(DefaultEdge edge : completeGraph.edgeSet())
+				edgeValueMap.put(edge, random.nextDouble() < 0.5 ? Math.round(random.nextDouble()*4)/4.0 : 0.0);
+			separator.separateSubtours(edgeValueMap);
+
+			double minCut=Double.MAX_VALUE;
+			for(int subset=1; subset < (1<<n)-1; subset+=2){
+				Set<Integer> complement=new HashSet<Integer>();
+				for(int i=0; i<n; i++)
+					if((subset & (1<<i)) == 0)
+						complement.add(i);
+				minCut=Math.min(minCut, this.getCutValue(completeGraph, edgeValueMap, complement));
+			}
+			assertEquals(minCut, separator.getCutValue(), PRECISION);
+			assertEquals(minCut, this.getCutValue(completeGraph, edgeValueMap, separator.getCutSet()), PRECISION);
+			assertEquals(minCut < 2-PRECISION, separator.hasSubtour());
+			assertEquals(separator.hasSubtour(), !separator.getCutSets().isEmpty());
+
+			List<Set<Integer>> cutSets=separator.getCutSets();
+			List<Double> cutValues=separator.getCutValues();
+			assertEquals(cutSets.size(), new HashSet<Set<Integer>>(cutSets).size());
+			for(int k=0; k<cutSets.size(); k++){
+				assertFalse(cutSets.get(k).isEmpty());
+				assertFalse(cutSets.get(k).contains(0));
+				assertEquals(cutValues.get(k), this.getCutValue(completeGraph, edgeValueMap, cutSets.get(k)), PRECISION);
+				assertTrue(cutValues.get(k) < 2-PRECISION);
+				if(k > 0)
+					assertTrue(cutValues.get(k-1) <= cutValues.get(k));
+			}
+			if(separator.hasSubtour())
+				assertEquals(minCut, cutValues.get(0), PRECISION);
+		}
+	}
+
+	/**
+	 * Computes the total value of the edges crossing a cut
+	 * @param graph graph
+	 * @param edgeValueMap edge values
+	 * @param cutSet vertices on one side of the cut
+	 * @return value of the cut
+	 */
+	private double getCutValue(Graph<Integer, DefaultEdge> graph, Map<DefaultEdge, Double> edgeValueMap, Set<Integer> cutSet){
+		double cut=0;
+		for(Map.Entry<DefaultEdge, Double> entry : edgeValueMap.entrySet())
+			if(cutSet.contains(graph.getEdgeSource(entry.getKey())) != cutSet.contains(graph.getEdgeTarget(entry.getKey())))
+				cut+=entry.getValue();
+		return cut;
+	}
 }
@@ -26,6 +26,11 @@
  */
 package org.jorlib.frameworks;
 
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.CutHandlerTest;
+import org.jorlib.frameworks.columnGeneration.master.cutGeneration.CutPoolTest;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.BranchAndPriceQueueTest;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.MasterToleranceScheduleTest;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.SetPartitioningMasterTest;
 import org.jorlib.frameworks.columnGeneration.tsp.BAPTSPTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -38,7 +43,12 @@ import org.junit.runners.Suite;
  */
 @RunWith(Suite.class)
 @Suite.SuiteClasses({
-	BAPTSPTest.class
+	BAPTSPTest.class,
+	SetPartitioningMasterTest.class,
+	MasterToleranceScheduleTest.class,
+	BranchAndPriceQueueTest.class,
+	CutHandlerTest.class,
+	CutPoolTest.class
 })
 
 public final class AllFrameworksTests {
@@ -0,0 +1,155 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CutHandlerTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master.cutGeneration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+
+import org.jorlib.frameworks.columnGeneration.master.MasterData;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.model.SetPartitioning;
+import org.jorlib.frameworks.columnGeneration.util.Configuration;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the parallel separation of inequalities by the {@link CutHandler} (see {@link Configuration#PARALLEL_CUT_SEPARATION}), using generators which
+ * do not require a master problem.
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ *
+ */
+public final class CutHandlerTest {
+
+	/**
+	 * Quick return: as soon as a generator returns inequalities, the generators which are still running are interrupted, their inequalities are discarded, and the
+	 * generators which do not support concurrent separation are not invoked. The blocked generator only returns when it is interrupted, so this test does not
+	 * terminate if the cut handler fails to cancel it.
+	 */
+	@Test
+	public void testQuickReturnCancelsRunningGenerators() {
+		List<AbstractInequality> master=Collections.synchronizedList(new ArrayList<AbstractInequality>());
+		CountDownLatch never=new CountDownLatch(1);
+		StubCutGenerator blocked=new StubCutGenerator("blocked", master, true, never, 1);
+		StubCutGenerator fast=new StubCutGenerator("fast", master, true, blocked.started, 2, 3); //Returns once the blocked generator is running
+		StubCutGenerator noCuts=new StubCutGenerator("noCuts", master, true, null);
+		StubCutGenerator sequential=new StubCutGenerator("sequential", master, false, null, 4);
+		CutHandler<SetPartitioning, MasterData> cutHandler=this.createCutHandler(true, blocked, fast, noCuts, sequential);
+
+		Assert.assertTrue(cutHandler.generateInequalities());
+		Assert.assertTrue(blocked.interrupted);
+		Assert.assertEquals(0, blocked.nrCompletedRounds);
+		Assert.assertTrue(blocked.getCuts().isEmpty());
+		Assert.assertEquals(Arrays.asList(new StubInequality(fast, 2), new StubInequality(fast, 3)), master);
+		Assert.assertEquals(0, sequential.nrSequentialInvocations);
+		cutHandler.close();
+	}
+
+	/**
+	 * No quick return: all generators are invoked, and the inequalities are added to the master problem in the order in which the generators have been registered,
+	 * regardless of the order in which the generators finish. The generators which do not support concurrent separation are invoked afterwards on the calling thread.
+	 * In the first round, the generators finish in the order fast, medium, slow.
+	 */
+	@Test
+	public void testMergeOrderWithoutQuickReturn() {
+		List<AbstractInequality> master=Collections.synchronizedList(new ArrayList<AbstractInequality>());
+		StubCutGenerator fast=new StubCutGenerator("fast", master, true, null, 3);
+		StubCutGenerator medium=new StubCutGenerator("medium", master, true, fast.finished, 5);
+		StubCutGenerator slow=new StubCutGenerator("slow", master, true, medium.finished, 1, 2);
+		StubCutGenerator noCuts=new StubCutGenerator("noCuts", master, true, null);
+		StubCutGenerator sequential=new StubCutGenerator("sequential", master, false, null, 4);
+		CutHandler<SetPartitioning, MasterData> cutHandler=this.createCutHandler(false, slow, fast, noCuts, sequential, medium);
+
+		for(int round=1; round<=3; round++){
+			master.clear();
+			Assert.assertTrue(cutHandler.generateInequalities());
+			Assert.assertEquals(Arrays.asList(new StubInequality(slow, 1), new StubInequality(slow, 2), new StubInequality(fast, 3), new StubInequality(medium, 5),
+					new StubInequality(sequential, 4)), master);
+			for(StubCutGenerator cutGen : Arrays.asList(slow, fast, noCuts, medium)){
+				Assert.assertEquals(round, cutGen.nrCompletedRounds);
+				Assert.assertFalse(cutGen.interrupted);
+				Assert.assertEquals(0, cutGen.nrSequentialInvocations);
+				Assert.assertNotSame(Thread.currentThread(), cutGen.invokingThread);
+			}
+			Assert.assertEquals(round, sequential.nrSequentialInvocations);
+			Assert.assertSame(Thread.currentThread(), sequential.invokingThread);
+		}
+		cutHandler.close();
+	}
+
+	/**
+	 * Quick return: when none of the parallel generators returns inequalities, the generators which do not support concurrent separation are invoked one by one on the
+	 * calling thread, until one of them returns inequalities
+	 */
+	@Test
+	public void testSequentialFallback() {
+		List<AbstractInequality> master=Collections.synchronizedList(new ArrayList<AbstractInequality>());
+		StubCutGenerator sequential1=new StubCutGenerator("sequential1", master, false, null, 1);
+		StubCutGenerator noCuts1=new StubCutGenerator("noCuts1", master, true, null);
+		StubCutGenerator noCuts2=new StubCutGenerator("noCuts2", master, true, noCuts1.finished); //Finishes after the first generator
+		StubCutGenerator sequential2=new StubCutGenerator("sequential2", master, false, null, 2);
+		CutHandler<SetPartitioning, MasterData> cutHandler=this.createCutHandler(true, sequential1, noCuts1, noCuts2, sequential2);
+
+		Assert.assertTrue(cutHandler.generateInequalities());
+		Assert.assertEquals(Collections.singletonList(new StubInequality(sequential1, 1)), master);
+		Assert.assertEquals(1, noCuts1.nrCompletedRounds);
+		Assert.assertEquals(1, noCuts2.nrCompletedRounds);
+		Assert.assertEquals(0, noCuts1.nrSequentialInvocations+noCuts2.nrSequentialInvocations);
+		Assert.assertEquals(1, sequential1.nrSequentialInvocations);
+		Assert.assertSame(Thread.currentThread(), sequential1.invokingThread);
+		Assert.assertEquals(0, sequential2.nrSequentialInvocations);
+
+		//Without any inequalities, all generators are invoked
+		CutHandler<SetPartitioning, MasterData> emptyCutHandler=this.createCutHandler(true, new StubCutGenerator("sequential", master, false, null), noCuts1, noCuts2);
+		Assert.assertFalse(emptyCutHandler.generateInequalities());
+		Assert.assertEquals(2, noCuts1.nrCompletedRounds);
+		Assert.assertEquals(2, noCuts2.nrCompletedRounds);
+		cutHandler.close();
+		emptyCutHandler.close();
+	}
+
+	/**
+	 * Creates a cut handler which separates inequalities in parallel
+	 * @param quickReturn value of {@link Configuration#QUICK_RETURN_AFTER_CUTS_FOUND}
+	 * @param cutGenerators generators registered with the cut handler, in the given order
+	 * @return cut handler
+	 */
+	private CutHandler<SetPartitioning, MasterData> createCutHandler(boolean quickReturn, StubCutGenerator... cutGenerators){
+		Properties properties=new Properties();
+		properties.setProperty("MAXTHREADS", "4");
+		properties.setProperty("PARALLEL_CUT_SEPARATION", "true");
+		properties.setProperty("QUICK_RETURN_AFTER_CUTS_FOUND", Boolean.toString(quickReturn));
+		CutHandler<SetPartitioning, MasterData> cutHandler=new CutHandler<>(new Configuration(properties){});
+		for(StubCutGenerator cutGen : cutGenerators)
+			cutHandler.addCutGenerator(cutGen);
+		return cutHandler;
+	}
+}
@@ -0,0 +1,189 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * CutPoolTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master.cutGeneration;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Properties;
+
+import org.jorlib.frameworks.columnGeneration.master.MasterData;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.model.SetPartitioning;
+import org.jorlib.frameworks.columnGeneration.util.Configuration;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link CutPool}, attached to a {@link CutHandler}, using generators which do not require a master problem.
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ *
+ */
+public final class CutPoolTest {
+
+	/**
+	 * Inequalities which are already present in the master problem are rejected, both when they are separated and when they are added by the user
+	 */
+	@Test
+	public void testDuplicatesRejected() {
+		List<AbstractInequality> master=new ArrayList<>();
+		StubCutGenerator cutGen=new StubCutGenerator("cutGen", master, true, null, 1, 2);
+		CutPool cutPool=new CutPool(3);
+		CutHandler<SetPartitioning, MasterData> cutHandler=this.createCutHandler(false, cutPool, cutGen);
+
+		Assert.assertTrue(cutHandler.generateInequalities());
+		Assert.assertEquals(Arrays.asList(new StubInequality(cutGen, 1), new StubInequality(cutGen, 2)), master);
+		Assert.assertFalse(cutPool.add(new StubInequality(cutGen, 1)));
+
+		//The generator separates the same inequalities again
+		Assert.assertFalse(cutHandler.generateInequalities());
+		Assert.assertEquals(2, master.size());
+		Assert.assertEquals(2, cutPool.size());
+		Assert.assertEquals(2, cutPool.getNrActiveInequalities());
+
+		cutHandler.addCuts(Arrays.<AbstractInequality>asList(new StubInequality(cutGen, 2), new StubInequality(cutGen, 3)));
+		Assert.assertEquals(Arrays.asList(new StubInequality(cutGen, 1), new StubInequality(cutGen, 2), new StubInequality(cutGen, 3)), master);
+		Assert.assertEquals(3, cutPool.getNrActiveInequalities());
+
+		//A new master problem does not contain any inequalities, so the inequalities in the pool are accepted again
+		cutHandler.setMasterData(null);
+		master.clear();
+		Assert.assertEquals(0, cutPool.getNrActiveInequalities());
+		Assert.assertTrue(cutHandler.generateInequalities());
+		Assert.assertEquals(2, master.size());
+		Assert.assertEquals(3, cutPool.size());
+	}
+
+	/**
+	 * Inequalities are removed from the master problem once they have had slack for maxAge consecutive rounds, but remain in the pool. Inequalities of generators
+	 * which do not support the cut pool are never removed.
+	 */
+	@Test
+	public void testAging() {
+		List<AbstractInequality> master=new ArrayList<>();
+		StubCutGenerator cutGen=new StubCutGenerator("cutGen", master, true, null, 1, 2);
+		cutGen.setCutPoolSupported(true);
+		StubCutGenerator unsupported=new StubCutGenerator("unsupported", master, false, null, 1);
+		CutPool cutPool=new CutPool(2);
+		CutHandler<SetPartitioning, MasterData> cutHandler=this.createCutHandler(false, cutPool, cutGen, unsupported);
+		StubInequality cut1=new StubInequality(cutGen, 1);
+		StubInequality cut2=new StubInequality(cutGen, 2);
+		StubInequality unsupportedCut=new StubInequality(unsupported, 1);
+
+		Assert.assertTrue(cutHandler.generateInequalities());
+		Assert.assertEquals(Arrays.asList(cut1, cut2, unsupportedCut), master);
+		cutGen.setIds();
+		unsupported.setIds();
+		cutGen.slacks.put(1, 0.5);
+		cutGen.slacks.put(2, 0.5);
+		unsupported.slacks.put(1, 0.5);
+
+		//Round 1: both inequalities have slack
+		Assert.assertFalse(cutHandler.generateInequalities());
+		Assert.assertEquals(3, master.size());
+
+		//Round 2: inequality 1 has had slack for two consecutive rounds; inequality 2 is tight
+		cutGen.slacks.put(2, 0.0);
+		Assert.assertFalse(cutHandler.generateInequalities());
+		Assert.assertEquals(Arrays.asList(cut2, unsupportedCut), master);
+		Assert.assertTrue(cutPool.contains(cut1));
+		Assert.assertFalse(cutPool.isActive(cut1));
+		Assert.assertEquals(3, cutPool.size());
+		Assert.assertEquals(2, cutPool.getNrActiveInequalities());
+
+		//Round 3: the age of inequality 2 has been reset
+		cutGen.slacks.put(2, 0.5);
+		Assert.assertFalse(cutHandler.generateInequalities());
+		Assert.assertEquals(Arrays.asList(cut2, unsupportedCut), master);
+
+		//Round 4: inequality 2 has had slack for two consecutive rounds
+		Assert.assertFalse(cutHandler.generateInequalities());
+		Assert.assertEquals(Arrays.asList(unsupportedCut), master);
+		Assert.assertEquals(1, cutPool.getNrActiveInequalities());
+		Assert.assertEquals(Arrays.asList(unsupportedCut), cutHandler.getCuts());
+	}
+
+	/**
+	 * Violated inequalities in the pool are added to the master problem again before the generators are invoked. With quick return, the generators are not invoked
+	 * at all.
+	 */
+	@Test
+	public void testSeparationFromPool() {
+		List<AbstractInequality> master=new ArrayList<>();
+		StubCutGenerator cutGen=new StubCutGenerator("cutGen", master, true, null, 1, 2);
+		cutGen.setCutPoolSupported(true);
+		CutPool cutPool=new CutPool(1);
+		CutHandler<SetPartitioning, MasterData> quickReturnCutHandler=this.createCutHandler(true, cutPool, cutGen);
+		CutHandler<SetPartitioning, MasterData> cutHandler=this.createCutHandler(false, cutPool, cutGen);
+		StubInequality cut1=new StubInequality(cutGen, 1);
+		StubInequality cut2=new StubInequality(cutGen, 2);
+
+		Assert.assertTrue(cutHandler.generateInequalities());
+		cutGen.setIds(3);
+		cutGen.slacks.put(1, 0.5);
+		cutGen.slacks.put(2, 0.5);
+		Assert.assertTrue(cutHandler.generateInequalities());
+		Assert.assertEquals(Arrays.asList(new StubInequality(cutGen, 3)), master);
+		Assert.assertEquals(2, cutGen.nrCompletedRounds);
+
+		//Quick return: inequality 1 is violated and added again; the generator is not invoked
+		cutGen.slacks.put(1, -0.5);
+		cutGen.slacks.put(3, 0.5);
+		Assert.assertTrue(quickReturnCutHandler.generateInequalities());
+		Assert.assertEquals(Arrays.asList(cut1), master);
+		Assert.assertTrue(cutPool.isActive(cut1));
+		Assert.assertEquals(2, cutGen.nrCompletedRounds);
+
+		//No quick return: inequality 2 is added before the newly separated inequality 4; inequality 1 is in the master problem and is not separated again
+		cutGen.slacks.put(1, 0.0);
+		cutGen.slacks.put(2, -0.5);
+		cutGen.setIds(4);
+		Assert.assertTrue(cutHandler.generateInequalities());
+		Assert.assertEquals(Arrays.asList(cut1, cut2, new StubInequality(cutGen, 4)), master);
+		Assert.assertEquals(3, cutGen.nrCompletedRounds);
+		Assert.assertEquals(4, cutPool.size());
+		Assert.assertEquals(3, cutPool.getNrActiveInequalities());
+	}
+
+	/**
+	 * Creates a cut handler which invokes the generators one by one
+	 * @param quickReturn value of {@link Configuration#QUICK_RETURN_AFTER_CUTS_FOUND}
+	 * @param cutPool cut pool attached to the cut handler
+	 * @param cutGenerators generators registered with the cut handler, in the given order
+	 * @return cut handler
+	 */
+	private CutHandler<SetPartitioning, MasterData> createCutHandler(boolean quickReturn, CutPool cutPool, StubCutGenerator... cutGenerators){
+		Properties properties=new Properties();
+		properties.setProperty("QUICK_RETURN_AFTER_CUTS_FOUND", Boolean.toString(quickReturn));
+		CutHandler<SetPartitioning, MasterData> cutHandler=new CutHandler<>(new Configuration(properties){});
+		for(StubCutGenerator cutGen : cutGenerators)
+			cutHandler.addCutGenerator(cutGen);
+		cutHandler.setCutPool(cutPool);
+		return cutHandler;
+	}
+}
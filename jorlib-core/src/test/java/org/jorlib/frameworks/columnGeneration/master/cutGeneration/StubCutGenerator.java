@@ -0,0 +1,189 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * StubCutGenerator.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master.cutGeneration;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.jorlib.frameworks.columnGeneration.master.MasterData;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.model.SetPartitioning;
+
+/**
+ * Cut generator which does not require a master problem: each time it is invoked, it returns a fixed set of {@link StubInequality}(s), optionally after a latch
+ * has been released. A generator which waits for a latch which is never released only returns when it is interrupted.
+ * The inequalities which are added to the master problem are appended to a list which is shared by all generators, such that the order in which the
+ * {@link CutHandler} adds the inequalities can be verified. The slack of each inequality can be set, such that the generator can be used to test the {@link CutPool}.
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ *
+ */
+public final class StubCutGenerator extends AbstractCutGenerator<SetPartitioning, MasterData> {
+
+	/** Inequalities in the master problem, shared by all generators **/
+	private final List<AbstractInequality> master;
+	/** Indicates whether the generator supports concurrent separation **/
+	private final boolean concurrent;
+	/** Ids of the inequalities returned by the generator **/
+	private int[] ids;
+	/** Latch the generator waits for before it returns its inequalities, or null **/
+	private final CountDownLatch signal;
+
+	/** Inequalities of this generator in the master problem **/
+	private final List<AbstractInequality> cuts=new ArrayList<>();
+	/** Counted down as soon as the generator starts separating **/
+	public final CountDownLatch started=new CountDownLatch(1);
+	/** Counted down as soon as the generator completes a separation round **/
+	public final CountDownLatch finished=new CountDownLatch(1);
+	/** Indicates whether the generator was interrupted while it was separating **/
+	public volatile boolean interrupted=false;
+	/** Number of completed separation rounds **/
+	public volatile int nrCompletedRounds=0;
+	/** Thread which invoked the generator most recently **/
+	public volatile Thread invokingThread=null;
+	/** Number of invocations of {@link #generateInqualities()} **/
+	public int nrSequentialInvocations=0;
+	/** Slack of the inequalities, by id. Inequalities without an entry are tight **/
+	public final Map<Integer, Double> slacks=new HashMap<>();
+	/** Indicates whether the generator supports aging and separation of its inequalities through the cut pool **/
+	private boolean cutPoolSupported=false;
+
+	/**
+	 * Creates a new generator
+	 * @param name name of the generator
+	 * @param master inequalities in the master problem, shared by all generators
+	 * @param concurrent indicates whether the generator supports concurrent separation
+	 * @param signal latch the generator waits for before it returns its inequalities, or null
+	 * @param ids ids of the inequalities returned by the generator
+	 */
+	public StubCutGenerator(String name, List<AbstractInequality> master, boolean concurrent, CountDownLatch signal, int... ids){
+		super(null, name);
+		this.master=master;
+		this.concurrent=concurrent;
+		this.signal=signal;
+		this.ids=ids;
+	}
+
+	@Override
+	public List<AbstractInequality> generateInqualities() {
+		nrSequentialInvocations++;
+		List<AbstractInequality> inequalities=this.separate();
+		for(AbstractInequality inequality : inequalities)
+			this.addCut(inequality);
+		return inequalities;
+	}
+
+	@Override
+	public List<AbstractInequality> separateInequalities() {
+		if(!concurrent)
+			throw new UnsupportedOperationException("Generator "+name+" does not support concurrent separation");
+		return this.separate();
+	}
+
+	/**
+	 * Returns the inequalities of this generator once the signal has been released. An interrupted generator returns no inequalities.
+	 * @return inequalities
+	 */
+	private List<AbstractInequality> separate(){
+		invokingThread=Thread.currentThread();
+		started.countDown();
+		try {
+			if(signal != null)
+				signal.await();
+		} catch (InterruptedException e) {
+			interrupted=true;
+			return Collections.emptyList();
+		}
+		List<AbstractInequality> inequalities=new ArrayList<>();
+		for(int id : ids)
+			inequalities.add(new StubInequality(this, id));
+		nrCompletedRounds++;
+		finished.countDown();
+		return inequalities;
+	}
+
+	/**
+	 * Sets the ids of the inequalities returned by the generator
+	 * @param ids ids of the inequalities
+	 */
+	public void setIds(int... ids){
+		this.ids=ids;
+	}
+
+	/**
+	 * Enables or disables aging and separation of the inequalities of this generator through the cut pool
+	 * @param cutPoolSupported true if the generator supports the cut pool
+	 */
+	public void setCutPoolSupported(boolean cutPoolSupported){
+		this.cutPoolSupported=cutPoolSupported;
+	}
+
+	@Override
+	public boolean supportsConcurrentSeparation(){
+		return concurrent;
+	}
+
+	@Override
+	public void addCut(AbstractInequality cut) {
+		if(cut.maintainingGenerator != this)
+			throw new IllegalArgumentException("Inequality is not maintained by this generator");
+		cuts.add(cut);
+		master.add(cut);
+	}
+
+	@Override
+	public double getSlack(AbstractInequality cut){
+		Double slack=slacks.get(((StubInequality) cut).id);
+		return (slack == null ? 0 : slack);
+	}
+
+	@Override
+	public void removeCut(AbstractInequality cut){
+		if(!cuts.remove(cut))
+			throw new IllegalArgumentException("Inequality is not in the master problem: "+cut);
+		master.remove(cut);
+	}
+
+	@Override
+	public boolean supportsCutPool(){
+		return cutPoolSupported;
+	}
+
+	@Override
+	public List<AbstractInequality> getCuts() {
+		return cuts;
+	}
+
+	@Override
+	public void close() {
+		//Nothing to close
+	}
+}
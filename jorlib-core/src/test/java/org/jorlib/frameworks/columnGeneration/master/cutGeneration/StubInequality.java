@@ -0,0 +1,70 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * StubInequality.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.master.cutGeneration;
+
+/**
+ * Inequality separated by a {@link StubCutGenerator}, identified by the generator and an id
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ *
+ */
+public final class StubInequality extends AbstractInequality {
+
+	/** Id of the inequality **/
+	public final int id;
+
+	/**
+	 * Creates a new inequality
+	 * @param maintainingGenerator generator which separated the inequality
+	 * @param id id of the inequality
+	 */
+	public StubInequality(StubCutGenerator maintainingGenerator, int id){
+		super(maintainingGenerator);
+		this.id=id;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if(this == o)
+			return true;
+		else if(!(o instanceof StubInequality))
+			return false;
+		StubInequality other=(StubInequality) o;
+		return this.maintainingGenerator == other.maintainingGenerator && this.id == other.id;
+	}
+
+	@Override
+	public int hashCode() {
+		return 31*System.identityHashCode(maintainingGenerator)+id;
+	}
+
+	@Override
+	public String toString(){
+		return maintainingGenerator+"-"+id;
+	}
+}
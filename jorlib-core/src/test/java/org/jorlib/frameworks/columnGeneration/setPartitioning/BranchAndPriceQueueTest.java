@@ -0,0 +1,193 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * BranchAndPriceQueueTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.setPartitioning;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.AbstractBranchAndPrice;
+import org.jorlib.frameworks.columnGeneration.branchAndPrice.BAPNode;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.cg.Subset;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.cg.SubsetPricingProblem;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.cg.master.Master;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.model.SetPartitioning;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the eager pruning of the queue of open nodes in the Branch-and-Price procedure: when the incumbent solution improves, all open nodes which are
+ * dominated by the new incumbent are removed from the queue, and the queue is only swept when the incumbent improves. No nodes are solved in this test.
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ *
+ */
+public final class BranchAndPriceQueueTest {
+
+	private final SetPartitioning instance=new SetPartitioning(3,
+			new int[][]{{0,1}, {1,2}, {0,2}, {0}, {1}, {2}},
+			new double[]{3, 3, 3, 2, 2, 2});
+
+	/**
+	 * Minimization: a node is dominated when the ceiling of its bound is at least the objective of the incumbent
+	 */
+	@Test
+	public void testMinimization() {
+		QueueBranchAndPrice bap=new QueueBranchAndPrice(OptimizationSense.MINIMIZE, 0, 100);
+		bap.addNodes(10.2, 12, 14.5, 20);
+		Assert.assertEquals(Arrays.asList(0.0, 10.2, 12.0, 14.5, 20.0), bap.getQueueBounds());
+
+		//The incumbent improves: the nodes with bounds 14.5 and 20 are dominated
+		Assert.assertTrue(bap.updateIncumbent(bap.integerNode(15), 15));
+		Assert.assertEquals(1, bap.nrSweeps);
+		Assert.assertEquals(Arrays.asList(0.0, 10.2, 12.0), bap.getQueueBounds());
+		Assert.assertEquals(2, bap.getNumberOfProcessedNodes());
+		Assert.assertEquals(15, bap.getObjective());
+		for(BAPNode<SetPartitioning, Subset> node : bap.pruned)
+			Assert.assertTrue(node.getInitialColumns().isEmpty());
+
+		//An equal or worse incumbent does not trigger a sweep, even though the queue contains a dominated node
+		bap.addNodes(13);
+		Assert.assertFalse(bap.updateIncumbent(bap.integerNode(15), 15));
+		Assert.assertFalse(bap.updateIncumbent(bap.integerNode(16), 16));
+		Assert.assertEquals(1, bap.nrSweeps);
+		Assert.assertEquals(Arrays.asList(0.0, 10.2, 12.0, 13.0), bap.getQueueBounds());
+		Assert.assertEquals(15, bap.getObjective());
+
+		//The incumbent improves again: the nodes with bounds 12 and 13 are dominated
+		Assert.assertTrue(bap.updateIncumbent(bap.integerNode(12), 12));
+		Assert.assertEquals(2, bap.nrSweeps);
+		Assert.assertEquals(Arrays.asList(0.0, 10.2), bap.getQueueBounds());
+		Assert.assertEquals(4, bap.getNumberOfProcessedNodes());
+		Assert.assertEquals(12, bap.getObjective());
+		bap.close();
+	}
+
+	/**
+	 * Maximization: a node is dominated when the floor of its bound is at most the objective of the incumbent
+	 */
+	@Test
+	public void testMaximization() {
+		QueueBranchAndPrice bap=new QueueBranchAndPrice(OptimizationSense.MAXIMIZE, 0, 100);
+		bap.addNodes(10.2, 12, 14.5, 20);
+		Assert.assertTrue(bap.updateIncumbent(bap.integerNode(12), 12));
+		Assert.assertEquals(Arrays.asList(14.5, 20.0, 100.0), bap.getQueueBounds());
+		Assert.assertEquals(2, bap.getNumberOfProcessedNodes());
+		Assert.assertFalse(bap.updateIncumbent(bap.integerNode(11), 11));
+		Assert.assertEquals(1, bap.nrSweeps);
+		Assert.assertTrue(bap.updateIncumbent(bap.integerNode(14), 14));
+		Assert.assertEquals(Arrays.asList(20.0, 100.0), bap.getQueueBounds());
+		Assert.assertEquals(2, bap.nrSweeps);
+		bap.close();
+	}
+
+	/**
+	 * Branch-and-Price instance which gives access to its queue of open nodes. The queue is populated by the test.
+	 */
+	private final class QueueBranchAndPrice extends AbstractBranchAndPrice<SetPartitioning, Subset, SubsetPricingProblem> {
+
+		/** Pricing problem **/
+		private final SubsetPricingProblem pricingProblem;
+		/** Number of times the queue has been swept **/
+		private int nrSweeps=0;
+		/** Nodes which have been pruned from the queue **/
+		private final List<BAPNode<SetPartitioning, Subset>> pruned=new ArrayList<>();
+
+		public QueueBranchAndPrice(OptimizationSense optimizationSense, double lowerBound, double upperBound){
+			this(new SubsetPricingProblem(instance, "subsets"), optimizationSense, lowerBound, upperBound);
+		}
+
+		private QueueBranchAndPrice(SubsetPricingProblem pricingProblem, OptimizationSense optimizationSense, double lowerBound, double upperBound){
+			super(instance, new Master(instance, pricingProblem, optimizationSense), pricingProblem, Collections.emptyList(), Collections.emptyList(), lowerBound, upperBound);
+			this.pricingProblem=pricingProblem;
+		}
+
+		/**
+		 * Adds open nodes with the given bounds to the queue. Each node holds an initial column.
+		 */
+		private void addNodes(double... bounds){
+			for(double bound : bounds){
+				int nodeID=this.getUniqueNodeID();
+				List<Subset> initialColumns=new ArrayList<>(Collections.singletonList(new Subset("init", pricingProblem, instance, 3)));
+				queue.add(new BAPNode<>(nodeID, Arrays.asList(0, nodeID), initialColumns, new ArrayList<>(), bound, Collections.emptyList()));
+			}
+		}
+
+		/**
+		 * Creates a (solved) node with an integer solution
+		 */
+		private BAPNode<SetPartitioning, Subset> integerNode(int objective){
+			BAPNode<SetPartitioning, Subset> node=new BAPNode<>(this.getUniqueNodeID(), Arrays.asList(0), new ArrayList<>(), new ArrayList<>(), objective, Collections.emptyList());
+			node.storeSolution(objective, objective, Collections.singletonList(new Subset("solution", pricingProblem, instance, 3)), Collections.emptyList());
+			return node;
+		}
+
+		/**
+		 * Returns the bounds of the open nodes, in increasing order
+		 */
+		private List<Double> getQueueBounds(){
+			List<Double> bounds=new ArrayList<>();
+			for(BAPNode<SetPartitioning, Subset> node : queue)
+				bounds.add(node.getBound());
+			Collections.sort(bounds);
+			return bounds;
+		}
+
+		/**
+		 * Overridden to make this method accessible to the test
+		 */
+		@Override
+		protected boolean updateIncumbent(BAPNode<SetPartitioning, Subset> node, int integerObjective) {
+			return super.updateIncumbent(node, integerObjective);
+		}
+
+		/**
+		 * Counts the sweeps, and records the pruned nodes
+		 */
+		@Override
+		protected void pruneQueue() {
+			nrSweeps++;
+			List<BAPNode<SetPartitioning, Subset>> open=new ArrayList<>(queue);
+			super.pruneQueue();
+			open.removeAll(queue);
+			pruned.addAll(open);
+		}
+
+		@Override
+		protected List<Subset> generateInitialFeasibleSolution(BAPNode<SetPartitioning, Subset> node) {
+			return Collections.emptyList();
+		}
+
+		@Override
+		protected boolean isIntegerNode(BAPNode<SetPartitioning, Subset> node) {
+			return true;
+		}
+	}
+}
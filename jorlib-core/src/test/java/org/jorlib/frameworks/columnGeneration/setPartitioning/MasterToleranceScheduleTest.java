@@ -0,0 +1,245 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * MasterToleranceScheduleTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.setPartitioning;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.ColGen;
+import org.jorlib.frameworks.columnGeneration.colgenMain.MasterToleranceSchedule;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.cg.EnumerationPricingProblemSolver;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.cg.Subset;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.cg.SubsetPricingProblem;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.cg.master.Master;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.model.SetPartitioning;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the column generation procedure with a {@link MasterToleranceSchedule}: the master problem is solved with a decreasing optimality tolerance, the
+ * master problem is resolved to optimality before the procedure terminates, and a bound on the master objective is only computed after an exact solve.
+ * The pricing problem solver may return columns which already exist in an approximately solved master problem; these columns must be discarded.
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ *
+ */
+public final class MasterToleranceScheduleTest {
+
+	private static final double PRECISION=0.000001;
+
+	/**
+	 * The tolerance is tightened whenever the pricing problem returns fewer than 3 columns: 0.5, 0.125, 0.03125, 0. The column generation procedure must reach
+	 * the optimal objective of the LP which contains all subsets.
+	 */
+	@Test
+	public void testTighteningSchedule() throws TimeLimitExceededException {
+		Random rnd=new Random(0);
+		int nrKnownColumns=0;
+		for(int instance=0; instance<10; instance++){
+			SetPartitioning dataModel=this.randomInstance(rnd, 12, 200);
+			SubsetPricingProblem pricingProblem=new SubsetPricingProblem(dataModel, "subsets");
+			RecordingMaster master=new RecordingMaster(dataModel, pricingProblem);
+			RecordingColGen colGen=new RecordingColGen(dataModel, master, pricingProblem, this.singletons(dataModel, pricingProblem));
+			colGen.setMasterToleranceSchedule(new MasterToleranceSchedule(0.5, 0.01, 0.25, 3));
+			colGen.solve(System.currentTimeMillis()+60000);
+
+			//The tolerances are non-increasing, starting at 0.5 and ending with an exact solve
+			Assert.assertEquals(0.5, master.tolerances.get(0), 0);
+			for(int i=1; i<master.tolerances.size(); i++)
+				Assert.assertTrue(master.tolerances.get(i) <= master.tolerances.get(i-1));
+			Assert.assertEquals(0, master.tolerances.get(master.tolerances.size()-1), 0);
+			Assert.assertTrue(master.isOptimal());
+			//Bounds are only computed after exact solves
+			Assert.assertFalse(colGen.boundTolerances.isEmpty());
+			for(double tolerance : colGen.boundTolerances)
+				Assert.assertEquals(0, tolerance, 0);
+
+			Assert.assertEquals(this.optimalObjective(dataModel), colGen.getObjective(), PRECISION);
+			Assert.assertEquals(colGen.getObjective(), colGen.getBound(), PRECISION);
+			nrKnownColumns+=colGen.nrKnownColumns;
+			colGen.close();
+		}
+		//The pricing problem solver does not filter the columns it returns; columns which already exist in the master problem must have been discarded
+		Assert.assertTrue(nrKnownColumns > 0);
+	}
+
+	/**
+	 * All subsets are part of the initial solution, so the pricing problem never finds a column. After the first, approximate, solve of the master problem,
+	 * the tolerance must be tightened fully and the master problem must be resolved to optimality before the procedure terminates.
+	 */
+	@Test
+	public void testTightenBeforeBound() throws TimeLimitExceededException {
+		SetPartitioning dataModel=this.randomInstance(new Random(1), 12, 200);
+		SubsetPricingProblem pricingProblem=new SubsetPricingProblem(dataModel, "subsets");
+		RecordingMaster master=new RecordingMaster(dataModel, pricingProblem);
+		List<Subset> initSolution=new ArrayList<>();
+		for(int s=0; s<dataModel.subsets.length; s++)
+			initSolution.add(new Subset("init", pricingProblem, dataModel, s));
+		RecordingColGen colGen=new RecordingColGen(dataModel, master, pricingProblem, initSolution);
+		colGen.setMasterToleranceSchedule(new MasterToleranceSchedule(0.5, 0.01, 0.25, 3));
+		colGen.solve(System.currentTimeMillis()+60000);
+
+		Assert.assertEquals(2, master.tolerances.size());
+		Assert.assertEquals(0.5, master.tolerances.get(0), 0);
+		Assert.assertEquals(0, master.tolerances.get(1), 0);
+		Assert.assertEquals(Collections.singletonList(0.0), colGen.boundTolerances);
+		Assert.assertEquals(this.optimalObjective(dataModel), colGen.getObjective(), PRECISION);
+		Assert.assertEquals(colGen.getObjective(), colGen.getBound(), PRECISION);
+		colGen.close();
+	}
+
+	/**
+	 * Creates a random instance consisting of all singletons (with a high cost, which guarantees feasibility) and random subsets of 2 to 5 elements
+	 */
+	private SetPartitioning randomInstance(Random rnd, int nrElements, int nrSubsets){
+		int[][] subsets=new int[nrElements+nrSubsets][];
+		double[] costs=new double[subsets.length];
+		for(int i=0; i<nrElements; i++){
+			subsets[i]=new int[]{i};
+			costs[i]=10;
+		}
+		for(int s=nrElements; s<subsets.length; s++){
+			List<Integer> elements=new ArrayList<>();
+			for(int i=0; i<nrElements; i++)
+				elements.add(i);
+			Collections.shuffle(elements, rnd);
+			List<Integer> subset=elements.subList(0, 2+rnd.nextInt(4));
+			Collections.sort(subset);
+			subsets[s]=subset.stream().mapToInt(Integer::intValue).toArray();
+			costs[s]=subset.size()*(1.5+1.5*rnd.nextDouble());
+		}
+		return new SetPartitioning(nrElements, subsets, costs);
+	}
+
+	/**
+	 * Returns the singletons as initial solution
+	 */
+	private List<Subset> singletons(SetPartitioning dataModel, SubsetPricingProblem pricingProblem){
+		List<Subset> singletons=new ArrayList<>();
+		for(int i=0; i<dataModel.nrElements; i++)
+			singletons.add(new Subset("init", pricingProblem, dataModel, i));
+		return singletons;
+	}
+
+	/**
+	 * Solves the LP containing all subsets of the instance
+	 */
+	private double optimalObjective(SetPartitioning dataModel) throws TimeLimitExceededException {
+		SubsetPricingProblem pricingProblem=new SubsetPricingProblem(dataModel, "subsets");
+		Master master=new Master(dataModel, pricingProblem, OptimizationSense.MINIMIZE);
+		List<Subset> subsets=new ArrayList<>();
+		for(int s=0; s<dataModel.subsets.length; s++)
+			subsets.add(new Subset("all", pricingProblem, dataModel, s));
+		master.addColumns(subsets);
+		master.solve(System.currentTimeMillis()+60000);
+		master.close();
+		return master.getObjective();
+	}
+
+	/**
+	 * Master problem which records the optimality tolerance of every solve
+	 */
+	private static final class RecordingMaster extends Master {
+
+		/** Optimality tolerance of each solve **/
+		private final List<Double> tolerances=new ArrayList<>();
+
+		public RecordingMaster(SetPartitioning dataModel, SubsetPricingProblem pricingProblem){
+			super(dataModel, pricingProblem, OptimizationSense.MINIMIZE);
+		}
+
+		@Override
+		protected boolean solveMasterProblem(long timeLimit, double optimalityTolerance) throws TimeLimitExceededException {
+			tolerances.add(optimalityTolerance);
+			return super.solveMasterProblem(timeLimit, optimalityTolerance);
+		}
+
+		/**
+		 * Returns the number of columns in the LP
+		 */
+		private int getNrLPColumns(){
+			return lp.getNrColumns();
+		}
+	}
+
+	/**
+	 * Column generation procedure which computes a Lagrangian bound on the master objective, and records the tolerance of the master solve preceding each
+	 * bound computation. Since every column covers at least one element, the sum of the columns in any solution is at most the number of elements.
+	 * In addition, it counts the columns returned by the pricing problem solver which already exist in the master problem.
+	 */
+	private static final class RecordingColGen extends ColGen<SetPartitioning, Subset, SubsetPricingProblem> {
+
+		/** Master problem **/
+		private final RecordingMaster recordingMaster;
+		/** Optimality tolerance of the master solve preceding each bound computation **/
+		private final List<Double> boundTolerances=new ArrayList<>();
+		/** Number of columns returned by the pricing problem solver which already existed in the master problem **/
+		private int nrKnownColumns=0;
+
+		public RecordingColGen(SetPartitioning dataModel, RecordingMaster master, SubsetPricingProblem pricingProblem, List<Subset> initSolution){
+			super(dataModel, master, pricingProblem, Collections.singletonList(EnumerationPricingProblemSolver.class), initSolution, Integer.MAX_VALUE, -Double.MAX_VALUE);
+			this.recordingMaster=master;
+		}
+
+		@Override
+		protected List<Subset> invokePricingProblems(long timeLimit) throws TimeLimitExceededException {
+			//Solve the pricing problem once more to find out which columns the solver returns
+			SubsetPricingProblem pricingProblem=pricingProblems.get(0);
+			recordingMaster.initializePricingProblem(pricingProblem);
+			EnumerationPricingProblemSolver solver=new EnumerationPricingProblemSolver(dataModel, pricingProblem);
+			solver.setTimeLimit(timeLimit);
+			try {
+				solver.call();
+			} catch (Exception e) {
+				throw new RuntimeException(e);
+			}
+			for(Subset column : solver.getColumns())
+				if(recordingMaster.getColumns(pricingProblem).contains(column))
+					nrKnownColumns++;
+
+			List<Subset> newColumns=super.invokePricingProblems(timeLimit);
+			//Every column in the LP corresponds to exactly one column of the master problem
+			Assert.assertEquals(recordingMaster.getColumns(pricingProblem).size(), recordingMaster.getNrLPColumns());
+			return newColumns;
+		}
+
+		@Override
+		protected double calculateBoundOnMasterObjective(Class<? extends AbstractPricingProblemSolver<SetPartitioning, Subset, SubsetPricingProblem>> solver) {
+			boundTolerances.add(recordingMaster.tolerances.get(recordingMaster.tolerances.size()-1));
+			double smallestReducedCost=0;
+			for(int s=0; s<dataModel.subsets.length; s++)
+				smallestReducedCost=Math.min(smallestReducedCost, recordingMaster.getReducedCost(new Subset("bound", pricingProblems.get(0), dataModel, s)));
+			return objectiveMasterProblem+dataModel.nrElements*smallestReducedCost;
+		}
+	}
+}
@@ -0,0 +1,220 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * SetPartitioningMasterTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.setPartitioning;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.cg.Subset;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.cg.SubsetPricingProblem;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.cg.master.Master;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.model.SetPartitioning;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the sparse column representation ({@link AbstractColumn#rows} and {@link AbstractColumn#coefs}) and the generic
+ * {@link org.jorlib.frameworks.columnGeneration.master.SetPartitioningMaster} on a small instance with 3 elements. The master problem is solved
+ * through the pure java LP solver, so no external solver is required.
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ *
+ */
+public final class SetPartitioningMasterTest {
+
+	private static final double PRECISION=0.000001;
+
+	/** Subsets {0,1}, {1,2} and {0,2} with cost 3, and singletons with cost 2 **/
+	private final SetPartitioning instance=new SetPartitioning(3,
+			new int[][]{{0,1}, {1,2}, {0,2}, {0}, {1}, {2}},
+			new double[]{3, 3, 3, 2, 2, 2});
+
+	/**
+	 * Columns are added in two batches. With the singletons only, every element is covered by its singleton (objective 6, duals 2). After adding the pairs,
+	 * each pair is selected with value 0.5 (objective 4.5, duals 1.5).
+	 */
+	@Test
+	public void testPartitioning() throws TimeLimitExceededException {
+		SubsetPricingProblem pricingProblem=new SubsetPricingProblem(instance, "subsets");
+		Master master=new Master(instance, pricingProblem, OptimizationSense.MINIMIZE);
+
+		master.addColumns(this.subsets(pricingProblem, 3, 4, 5));
+		master.solve(System.currentTimeMillis()+10000);
+		Assert.assertTrue(master.isOptimal());
+		Assert.assertEquals(6, master.getObjective(), PRECISION);
+		Assert.assertArrayEquals(new double[]{2, 2, 2}, master.getDuals(), PRECISION);
+		master.initializePricingProblem(pricingProblem);
+		Assert.assertArrayEquals(new double[]{2, 2, 2}, pricingProblem.dualCosts, PRECISION);
+		List<Subset> pairs=this.subsets(pricingProblem, 0, 1, 2);
+		for(Subset pair : pairs)
+			Assert.assertEquals(-1, master.getReducedCost(pair), PRECISION);
+
+		master.addColumns(pairs);
+		master.solve(System.currentTimeMillis()+10000);
+		Assert.assertEquals(2, master.getIterationCount());
+		Assert.assertEquals(4.5, master.getObjective(), PRECISION);
+		Assert.assertArrayEquals(new double[]{1.5, 1.5, 1.5}, master.getDuals(), PRECISION);
+		Assert.assertEquals(0.5, master.getReducedCost(new Subset("test", pricingProblem, instance, 3)), PRECISION);
+		List<Subset> solution=master.getSolution();
+		Assert.assertEquals(pairs, solution);
+		for(Subset subset : solution)
+			Assert.assertEquals(0.5, subset.value, PRECISION);
+		master.close();
+	}
+
+	/**
+	 * Columns which already exist in the master problem, or which occur more than once in a batch, are rejected before the LP is modified: the LP and the
+	 * master data remain consistent.
+	 */
+	@Test
+	public void testDuplicateColumns() throws TimeLimitExceededException {
+		SubsetPricingProblem pricingProblem=new SubsetPricingProblem(instance, "subsets");
+		Master master=new Master(instance, pricingProblem, OptimizationSense.MINIMIZE);
+		master.addColumns(this.subsets(pricingProblem, 3, 4, 5));
+		try{
+			master.addColumns(this.subsets(pricingProblem, 0, 3));
+			Assert.fail("Expected RuntimeException");
+		}catch(RuntimeException e){
+			//Expected
+		}
+		try{
+			master.addColumns(this.subsets(pricingProblem, 1, 1));
+			Assert.fail("Expected RuntimeException");
+		}catch(RuntimeException e){
+			//Expected
+		}
+		Assert.assertEquals(3, master.getColumns(pricingProblem).size());
+
+		List<Subset> pairs=this.subsets(pricingProblem, 0, 1, 2);
+		master.addColumns(pairs);
+		master.solve(System.currentTimeMillis()+10000);
+		Assert.assertEquals(4.5, master.getObjective(), PRECISION);
+		Assert.assertEquals(pairs, master.getSolution());
+		master.close();
+	}
+
+	/**
+	 * A covering master problem has the same optimal solution as the partitioning master problem; a packing master problem which maximizes the total cost
+	 * selects the singletons.
+	 */
+	@Test
+	public void testCoveringAndPacking() throws TimeLimitExceededException {
+		SubsetPricingProblem pricingProblem=new SubsetPricingProblem(instance, "subsets");
+		Master covering=new Master(instance, pricingProblem, OptimizationSense.MINIMIZE){
+			@Override
+			protected RowType getRowType() {
+				return RowType.COVERING;
+			}
+		};
+		covering.addColumns(this.subsets(pricingProblem, 0, 1, 2, 3, 4, 5));
+		covering.solve(System.currentTimeMillis()+10000);
+		Assert.assertEquals(4.5, covering.getObjective(), PRECISION);
+		Assert.assertArrayEquals(new double[]{1.5, 1.5, 1.5}, covering.getDuals(), PRECISION);
+
+		Master packing=new Master(instance, pricingProblem, OptimizationSense.MAXIMIZE){
+			@Override
+			protected RowType getRowType() {
+				return RowType.PACKING;
+			}
+		};
+		packing.addColumns(this.subsets(pricingProblem, 0, 1, 2, 3, 4, 5));
+		packing.solve(System.currentTimeMillis()+10000);
+		Assert.assertEquals(6, packing.getObjective(), PRECISION);
+		Assert.assertArrayEquals(new double[]{2, 2, 2}, packing.getDuals(), PRECISION);
+		Assert.assertEquals(this.subsets(pricingProblem, 3, 4, 5), packing.getSolution());
+	}
+
+	/**
+	 * The sparse representation of a column: the number of row indices and coefficients must match, and the dot product is computed over the non-zero
+	 * coefficients only. Columns which do not expose their coefficients cannot be added to a set partitioning master problem.
+	 */
+	@Test
+	public void testSparseColumns() {
+		SubsetPricingProblem pricingProblem=new SubsetPricingProblem(instance, "subsets");
+		Subset subset=new Subset("test", pricingProblem, instance, 0);
+		Assert.assertTrue(subset.hasCoefficients());
+		Assert.assertArrayEquals(new int[]{0, 1}, subset.rows);
+		Assert.assertEquals(3, subset.dotProduct(new double[]{1, 2, 4}), PRECISION);
+
+		AbstractColumn<SetPartitioning, SubsetPricingProblem> column=new TestColumn(pricingProblem, new int[]{0, 2}, new double[]{2, -1});
+		Assert.assertEquals(-2, column.dotProduct(new double[]{1, 2, 4}), PRECISION);
+		try{
+			new TestColumn(pricingProblem, new int[]{0, 2}, new double[]{1});
+			Assert.fail("Expected IllegalArgumentException");
+		}catch(IllegalArgumentException e){
+			//Expected
+		}
+		column=new TestColumn(pricingProblem, null, null);
+		Assert.assertFalse(column.hasCoefficients());
+		try{
+			column.dotProduct(new double[]{1, 2, 4});
+			Assert.fail("Expected UnsupportedOperationException");
+		}catch(UnsupportedOperationException e){
+			//Expected
+		}
+	}
+
+	/**
+	 * Returns the subsets with the given indices as columns
+	 */
+	private List<Subset> subsets(SubsetPricingProblem pricingProblem, int... indices){
+		List<Subset> subsets=new ArrayList<>();
+		for(int index : indices)
+			subsets.add(new Subset("test", pricingProblem, instance, index));
+		return subsets;
+	}
+
+	/**
+	 * Column with an arbitrary sparse representation
+	 */
+	private static final class TestColumn extends AbstractColumn<SetPartitioning, SubsetPricingProblem> {
+
+		public TestColumn(SubsetPricingProblem pricingProblem, int[] rows, double[] coefs){
+			super(pricingProblem, false, "test", rows, coefs);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return this == o;
+		}
+
+		@Override
+		public int hashCode() {
+			return System.identityHashCode(this);
+		}
+
+		@Override
+		public String toString() {
+			return "TestColumn "+Arrays.toString(rows)+" "+Arrays.toString(coefs);
+		}
+	}
+}
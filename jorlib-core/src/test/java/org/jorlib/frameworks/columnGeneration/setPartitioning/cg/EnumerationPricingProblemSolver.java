@@ -0,0 +1,99 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * EnumerationPricingProblemSolver.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.setPartitioning.cg;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.model.SetPartitioning;
+
+/**
+ * Solves the pricing problem to optimality by enumerating all subsets in the data model. The solver does not keep track of the subsets which have been
+ * generated before: when the master problem is solved with a positive optimality tolerance, it may return subsets which already exist in the master problem.
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ *
+ */
+public final class EnumerationPricingProblemSolver extends AbstractPricingProblemSolver<SetPartitioning, Subset, SubsetPricingProblem> {
+
+	/** Maximum number of columns returned per invocation **/
+	public static final int MAX_COLUMNS=3;
+
+	/**
+	 * Creates a new solver instance for a particular pricing problem
+	 * @param dataModel data model
+	 * @param pricingProblem pricing problem
+	 */
+	public EnumerationPricingProblemSolver(SetPartitioning dataModel, SubsetPricingProblem pricingProblem) {
+		super(dataModel, pricingProblem);
+		this.name="EnumerationPricingProblemSolver";
+	}
+
+	/**
+	 * Returns the (at most {@link #MAX_COLUMNS}) subsets with the most negative reduced cost. The objective is set to the
+	 * smallest reduced cost over all subsets.
+	 * @return List of columns (subsets) with negative reduced cost.
+	 * @throws TimeLimitExceededException TimeLimitExceededException
+	 */
+	@Override
+	protected List<Subset> generateNewColumns() throws TimeLimitExceededException {
+		List<Integer> candidates=new ArrayList<>();
+		double[] reducedCosts=new double[dataModel.subsets.length];
+		objective=0;
+		for(int s=0; s<dataModel.subsets.length; s++){
+			reducedCosts[s]=dataModel.costs[s];
+			for(int element : dataModel.subsets[s])
+				reducedCosts[s]-=pricingProblem.dualCosts[element];
+			objective=Math.min(objective, reducedCosts[s]);
+			if(reducedCosts[s] < -config.PRECISION)
+				candidates.add(s);
+		}
+		candidates.sort((s1, s2) -> Double.compare(reducedCosts[s1], reducedCosts[s2]));
+
+		List<Subset> newColumns=new ArrayList<>();
+		for(int s : candidates.subList(0, Math.min(MAX_COLUMNS, candidates.size())))
+			newColumns.add(new Subset("enumeration", pricingProblem, dataModel, s));
+		return newColumns;
+	}
+
+	/**
+	 * Nothing to do here: the dual values are read from the pricing problem when the subsets are enumerated
+	 */
+	@Override
+	protected void setObjective() {
+	}
+
+	/**
+	 * Close the pricing problem
+	 */
+	@Override
+	public void close() {
+	}
+}
@@ -0,0 +1,90 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * Subset.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.setPartitioning.cg;
+
+import java.util.Arrays;
+
+import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.model.SetPartitioning;
+
+/**
+ * Definition of a column: a subset of the elements. The column exposes its coefficients through its sparse representation: it has a coefficient of 1 in the
+ * row of each of its elements.
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ *
+ */
+public final class Subset extends AbstractColumn<SetPartitioning, SubsetPricingProblem> {
+
+	/** Index of the subset in the data model **/
+	public final int index;
+	/** Cost of the subset **/
+	public final double cost;
+
+	/**
+	 * Creates a new column (subset)
+	 * @param creator who created the subset
+	 * @param associatedPricingProblem pricing problem for which the subset is created
+	 * @param dataModel data model
+	 * @param index index of the subset in the data model
+	 */
+	public Subset(String creator, SubsetPricingProblem associatedPricingProblem, SetPartitioning dataModel, int index) {
+		super(associatedPricingProblem, false, creator, dataModel.subsets[index], ones(dataModel.subsets[index].length));
+		this.index=index;
+		this.cost=dataModel.costs[index];
+	}
+
+	/**
+	 * Returns an array of the given length filled with ones
+	 */
+	private static double[] ones(int length){
+		double[] ones=new double[length];
+		Arrays.fill(ones, 1);
+		return ones;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if(this==o)
+			return true;
+		else if(!(o instanceof Subset))
+			return false;
+		Subset other=(Subset) o;
+		return this.index == other.index;
+	}
+
+	@Override
+	public int hashCode() {
+		return index;
+	}
+
+	@Override
+	public String toString() {
+		return "Value: "+this.value+" index: "+index+" elements: "+Arrays.toString(rows)+" cost: "+cost+" creator: "+this.creator;
+	}
+}
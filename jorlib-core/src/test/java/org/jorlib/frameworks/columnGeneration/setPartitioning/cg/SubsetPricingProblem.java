@@ -0,0 +1,49 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * SubsetPricingProblem.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.setPartitioning.cg;
+
+import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblem;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.model.SetPartitioning;
+
+/**
+ * Pricing problem which generates subsets with negative reduced cost. The dual values of the elements are stored in {@link #dualCosts}.
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ *
+ */
+public final class SubsetPricingProblem extends AbstractPricingProblem<SetPartitioning> {
+
+	/**
+	 * Creates a new Pricing problem instance
+	 * @param dataModel data model
+	 * @param name name of pricing problem
+	 */
+	public SubsetPricingProblem(SetPartitioning dataModel, String name) {
+		super(dataModel, name);
+	}
+}
@@ -0,0 +1,86 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * Master.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.setPartitioning.cg.master;
+
+import java.util.Map;
+
+import org.jorlib.frameworks.columnGeneration.master.MasterData;
+import org.jorlib.frameworks.columnGeneration.master.OptimizationSense;
+import org.jorlib.frameworks.columnGeneration.master.SetPartitioningMaster;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.cg.Subset;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.cg.SubsetPricingProblem;
+import org.jorlib.frameworks.columnGeneration.setPartitioning.model.SetPartitioning;
+import org.jorlib.frameworks.columnGeneration.util.OrderedBiMap;
+
+/**
+ * Master problem of the set partitioning instance, solved through the pure java LP solver. Every element corresponds to a row of the master problem. By default,
+ * the rows are partitioning rows; override {@link #getRowType()} to obtain a covering or packing master problem.
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ *
+ */
+public class Master extends SetPartitioningMaster<SetPartitioning, Subset, SubsetPricingProblem, MasterData<SetPartitioning, Subset, SubsetPricingProblem, Integer>> {
+
+	/**
+	 * Creates a new master problem
+	 * @param dataModel data model
+	 * @param pricingProblem pricing problem
+	 * @param optimizationSense indicates whether the master problem is a minimization or a maximization problem
+	 */
+	public Master(SetPartitioning dataModel, SubsetPricingProblem pricingProblem, OptimizationSense optimizationSense) {
+		super(dataModel, pricingProblem, optimizationSense);
+	}
+
+	@Override
+	protected int getNrRows() {
+		return dataModel.nrElements;
+	}
+
+	@Override
+	protected RowType getRowType() {
+		return RowType.PARTITIONING;
+	}
+
+	@Override
+	protected double getCost(Subset column) {
+		return column.cost;
+	}
+
+	@Override
+	protected MasterData<SetPartitioning, Subset, SubsetPricingProblem, Integer> createMasterData(Map<SubsetPricingProblem, OrderedBiMap<Subset, Integer>> varMap) {
+		return new MasterData<>(varMap);
+	}
+
+	/**
+	 * Returns the dual values of the rows, obtained from the last solve of the master problem
+	 * @return dual values of the rows
+	 */
+	public double[] getDuals(){
+		return duals.clone();
+	}
+}
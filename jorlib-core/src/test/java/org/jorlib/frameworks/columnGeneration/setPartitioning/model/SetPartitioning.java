@@ -0,0 +1,64 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * SetPartitioning.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.frameworks.columnGeneration.setPartitioning.model;
+
+import org.jorlib.frameworks.columnGeneration.model.ModelInterface;
+
+/**
+ * Set partitioning instance: a set of elements {0,...,n-1} must be partitioned into subsets, selected from a given collection of subsets, such that the
+ * total cost of the selected subsets is minimized. The instance is used to test the column generation framework without an external LP solver.
+ *
+ * @author Joris Kinable
+ * @version 19-10-2026
+ *
+ */
+public final class SetPartitioning implements ModelInterface {
+
+	/** Number of elements **/
+	public final int nrElements;
+	/** Collection of subsets; each subset is an increasing array of elements **/
+	public final int[][] subsets;
+	/** Cost of each subset **/
+	public final double[] costs;
+
+	/**
+	 * Creates a new set partitioning instance
+	 * @param nrElements number of elements
+	 * @param subsets collection of subsets; each subset is an increasing array of elements
+	 * @param costs cost of each subset
+	 */
+	public SetPartitioning(int nrElements, int[][] subsets, double[] costs){
+		this.nrElements=nrElements;
+		this.subsets=subsets;
+		this.costs=costs;
+	}
+
+	@Override
+	public String getName() {
+		return "SetPartitioning";
+	}
+}
@@ -33,6 +33,7 @@ import org.jorlib.io.tspLibReader.TestHCP;
 import org.jorlib.io.tspLibReader.TestSOP;
 import org.jorlib.io.tspLibReader.TestTSP;
 import org.jorlib.io.tspLibReader.TestVRP;
+import org.jorlib.io.tspLibReader.TSPLibTokenizerTest;
 import org.jorlib.io.tspLibReader.TourTest;
 import org.junit.runner.RunWith;
 import org.junit.runners.Suite;
@@ -52,6 +53,7 @@ import org.junit.runners.Suite;
 	TestSOP.class,
 	TestTSP.class,
 	TestVRP.class,
+	TSPLibTokenizerTest.class,
 	TourTest.class
 })
 
@@ -0,0 +1,314 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * TSPLibTokenizerTest.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.io.tspLibReader;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.jorlib.io.tspLibReader.graph.DistanceTable;
+import org.jorlib.io.tspLibReader.fieldTypesAndFormats.EdgeWeightType;
+import org.jorlib.io.tspLibReader.graph.EdgeData;
+import org.jorlib.io.tspLibReader.graph.NodeCoordinates;
+import org.jorlib.io.tspLibReader.graph.VehicleRoutingTable;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the {@link TSPLibTokenizer} class.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ */
+public final class TSPLibTokenizerTest {
+
+	@Test
+	public void testTokensAndLines() throws IOException {
+		TSPLibTokenizer tokenizer = tokenizer("NAME: x\r\n 1\t-2  +3\n4.5 -0.25e2 1E-3\n\nlast");
+
+		Assert.assertEquals("NAME: x", tokenizer.readLine());
+		Assert.assertEquals(1, tokenizer.nextInt());
+		Assert.assertTrue(tokenizer.hasNextOnLine());
+		Assert.assertEquals(-2, tokenizer.nextInt());
+		Assert.assertEquals(3, tokenizer.nextInt());
+		Assert.assertFalse(tokenizer.hasNextOnLine());
+		Assert.assertEquals(4.5, tokenizer.nextDouble(), 0.0);
+		Assert.assertEquals(-25.0, tokenizer.nextDouble(), 0.0);
+		Assert.assertEquals(0.001, tokenizer.nextDouble(), 0.0);
+		Assert.assertEquals("", tokenizer.readLine());
+		Assert.assertEquals("", tokenizer.readLine());
+		Assert.assertTrue(tokenizer.hasNext());
+		Assert.assertEquals("last", tokenizer.readLine());
+		Assert.assertNull(tokenizer.readLine());
+		Assert.assertFalse(tokenizer.hasNext());
+		tokenizer.close();
+	}
+
+	@Test
+	public void testNumbers() throws IOException {
+		Random random = new Random(0);
+		List<String> tokens = new ArrayList<String>();
+
+		for (int i = 0; i < 2000; i++) {
+			double value = (random.nextDouble() - 0.5) * Math.pow(10, random.nextInt(40) - 20);
+			tokens.add(Double.toString(value));
+			tokens.add(String.format(Locale.US, "%." + random.nextInt(10) + "f", value));
+			tokens.add(String.format(Locale.US, "%." + random.nextInt(20) + "e", value));
+			tokens.add(Long.toString(random.nextLong()) + "." + Math.abs(random.nextLong()));
+		}
+
+		String[] special = { "0", "-0.0", "007", ".5", "5.", "1e300", "-2.5E-310",
+				"4.9e-324", "1e400", "123456789012345678", "1234567890123456789012345",
+				"9007199254740993", "NaN", "-Infinity", "1d", "0x1p3" };
+
+		for (String token : special) {
+			tokens.add(token);
+		}
+
+		TSPLibTokenizer tokenizer = tokenizer(join(tokens));
+
+		for (String token : tokens) {
+			Assert.assertEquals(token, Double.doubleToLongBits(Double.parseDouble(token)),
+					Double.doubleToLongBits(tokenizer.nextDouble()));
+		}
+
+		tokenizer = tokenizer("2147483647 -2147483648 -00012 2147483648 1.0");
+		Assert.assertEquals(Integer.MAX_VALUE, tokenizer.nextInt());
+		Assert.assertEquals(Integer.MIN_VALUE, tokenizer.nextInt());
+		Assert.assertEquals(-12, tokenizer.nextInt());
+
+		try {
+			tokenizer.nextInt();
+			Assert.fail("integer overflow not detected");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testInvalidTokens() throws IOException {
+		String[] invalid = { "abc", "-", "1.0", "1e5" };
+
+		for (String token : invalid) {
+			try {
+				tokenizer(token).nextInt();
+				Assert.fail("invalid integer not detected: " + token);
+			} catch (IOException e) {
+				// expected
+			}
+		}
+
+		invalid = new String[] { "abc", "-", ".", "1.2.3", "1e", "1e+", "2x" };
+
+		for (String token : invalid) {
+			try {
+				tokenizer(token).nextDouble();
+				Assert.fail("invalid number not detected: " + token);
+			} catch (IOException e) {
+				// expected
+			}
+		}
+
+		try {
+			tokenizer(" \n ").nextDouble();
+			Assert.fail("end of input not detected");
+		} catch (EOFException e) {
+			// expected
+		}
+	}
+
+	@Test
+	public void testBufferBoundaries() throws IOException {
+		Random random = new Random(1);
+		List<String> tokens = new ArrayList<String>();
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 0; i < 50000; i++) {
+			String token = Double.toString(random.nextDouble() * 1000);
+			tokens.add(token);
+			sb.append(token).append((i % 10 == 9) ? "\r\n" : " \t");
+		}
+
+		final byte[] bytes = sb.toString().getBytes(StandardCharsets.US_ASCII);
+
+		// an input stream delivering a few bytes at a time
+		InputStream slowStream = new ByteArrayInputStream(bytes) {
+			@Override
+			public synchronized int read(byte[] b, int off, int len) {
+				return super.read(b, off, Math.min(len, 7));
+			}
+		};
+
+		TSPLibTokenizer[] tokenizers = { new TSPLibTokenizer(new ByteArrayInputStream(bytes)),
+				new TSPLibTokenizer(slowStream),
+				new TSPLibTokenizer(new StringReader(sb.toString())) };
+
+		for (TSPLibTokenizer tokenizer : tokenizers) {
+			for (String token : tokens) {
+				Assert.assertEquals(Double.parseDouble(token), tokenizer.nextDouble(), 0.0);
+			}
+
+			Assert.assertFalse(tokenizer.hasNext());
+		}
+	}
+
+	@Test
+	public void testAdjacencyList() throws IOException {
+		TSPLibInstance problem = instance("NAME: adj\nTYPE: HCP\nDIMENSION: 4\n" +
+				"EDGE_DATA_FORMAT: ADJ_LIST\nEDGE_DATA_SECTION\n1 2 3 -1\n2 4\n-1\n-1\nEOF\n");
+		EdgeData edges = (EdgeData)problem.getDistanceTable();
+
+		Assert.assertEquals(3, edges.getEdges().size());
+		Assert.assertTrue(edges.isNeighbor(0, 1));
+		Assert.assertTrue(edges.isNeighbor(0, 2));
+		Assert.assertTrue(edges.isNeighbor(3, 1));
+		Assert.assertFalse(edges.isNeighbor(2, 3));
+	}
+
+	@Test
+	public void testEdgeWeightMatrix() throws IOException {
+		TSPLibInstance problem = instance("NAME: upper\nTYPE: TSP\nDIMENSION: 3\n" +
+				"EDGE_WEIGHT_TYPE: EXPLICIT\nEDGE_WEIGHT_FORMAT: UPPER_DIAG_ROW\n" +
+				"EDGE_WEIGHT_SECTION\n0 1 2\n0 3\n0\nEOF\n");
+		DistanceTable distances = problem.getDistanceTable();
+
+		Assert.assertEquals(1.0, distances.getDistanceBetween(1, 0), 0.0);
+		Assert.assertEquals(2.0, distances.getDistanceBetween(0, 2), 0.0);
+		Assert.assertEquals(3.0, distances.getDistanceBetween(2, 1), 0.0);
+
+		try {
+			instance("NAME: full\nTYPE: TSP\nDIMENSION: 2\nEDGE_WEIGHT_TYPE: EXPLICIT\n" +
+					"EDGE_WEIGHT_FORMAT: FULL_MATRIX\nEDGE_WEIGHT_SECTION\n0 1\n1 0 1\nEOF\n");
+			Assert.fail("edge weight matrix longer than expected not detected");
+		} catch (IOException e) {
+			// expected
+		}
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	public void testBufferedReader() throws IOException {
+		// the data following each section must still be readable
+		DistanceTable distances = new NodeCoordinates(2, EdgeWeightType.EUC_2D);
+		BufferedReader reader = reader("1 0 0\n2 3 4\nEOF\n");
+		distances.load(reader);
+		Assert.assertEquals(5.0, distances.getDistanceBetween(0, 1), 0.0);
+		Assert.assertEquals("EOF", reader.readLine());
+
+		Tour tour = new Tour();
+		reader = reader("3 1 2 -1\nEOF\n");
+		tour.load(reader);
+		Assert.assertArrayEquals(new int[] { 3, 1, 2 }, tour.toArray());
+		Assert.assertEquals("EOF", reader.readLine());
+
+		TSPLibTour tspLibTour = new TSPLibTour();
+		reader = reader("3 1 2\n-1\nEOF\n");
+		tspLibTour.load(reader);
+		Assert.assertEquals(3, tspLibTour.size());
+		Assert.assertEquals(2, tspLibTour.get(0));
+		Assert.assertEquals("EOF", reader.readLine());
+
+		VehicleRoutingTable vehicleRoutingTable = new VehicleRoutingTable(3);
+		reader = reader("0 0\n1 7\n2 5\nDEPOT_SECTION\n0\n-1\nEOF\n");
+		vehicleRoutingTable.loadDemands(reader);
+		Assert.assertEquals("DEPOT_SECTION", reader.readLine());
+		vehicleRoutingTable.loadDepots(reader);
+		Assert.assertEquals("EOF", reader.readLine());
+		Assert.assertEquals(7, vehicleRoutingTable.getDemand(1));
+		Assert.assertTrue(vehicleRoutingTable.isDepot(0));
+		Assert.assertFalse(vehicleRoutingTable.isDepot(2));
+
+		// lines longer than the character buffer of the tokenizer
+		StringBuilder sb = new StringBuilder();
+
+		for (int i = 1; i <= 10000; i++) {
+			sb.append(i).append(' ');
+		}
+
+		tour = new Tour();
+		reader = reader(sb.append("-1\nEOF\n").toString());
+		tour.load(reader);
+		Assert.assertEquals(10000, tour.size());
+		Assert.assertEquals("EOF", reader.readLine());
+	}
+
+	/**
+	 * Returns a buffered reader reading the specified text.
+	 *
+	 * @param text the text
+	 * @return a buffered reader reading the specified text
+	 */
+	private static BufferedReader reader(String text) {
+		return new BufferedReader(new StringReader(text));
+	}
+
+	/**
+	 * Returns a tokenizer reading the specified text.
+	 *
+	 * @param text the text
+	 * @return a tokenizer reading the specified text
+	 */
+	private static TSPLibTokenizer tokenizer(String text) {
+		return new TSPLibTokenizer(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Returns the problem instance defined by the specified text.
+	 *
+	 * @param text the text of the TSPLIB file
+	 * @return the problem instance defined by the specified text
+	 * @throws IOException if the problem instance could not be loaded
+	 */
+	private static TSPLibInstance instance(String text) throws IOException {
+		return new TSPLibInstance(new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8)));
+	}
+
+	/**
+	 * Joins the tokens, separated by spaces.
+	 *
+	 * @param tokens the tokens
+	 * @return the joined tokens
+	 */
+	private static String join(List<String> tokens) {
+		StringBuilder sb = new StringBuilder();
+
+		for (String token : tokens) {
+			sb.append(token).append(' ');
+		}
+
+		return sb.toString();
+	}
+
+}
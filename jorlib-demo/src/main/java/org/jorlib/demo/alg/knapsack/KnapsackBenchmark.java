@@ -0,0 +1,147 @@
+/* ==========================================
+ * jORLib : a free Java OR library
+ * ==========================================
+ *
+ * Project Info:  https://github.com/jkinable/jorlib
+ * Project Creator:  Joris Kinable (https://github.com/jkinable)
+ *
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * This program and the accompanying materials are licensed under LGPLv2.1
+ *
+ */
+/* -----------------
+ * KnapsackBenchmark.java
+ * -----------------
+ * (C) Copyright 2026, by Joris Kinable and Contributors.
+ *
+ * Original Author:  Joris Kinable
+ * Contributor(s):   -
+ *
+ * $Id$
+ *
+ * Changes
+ * -------
+ *
+ */
+package org.jorlib.demo.alg.knapsack;
+
+import java.util.Random;
+
+import org.jorlib.alg.knapsack.BinaryKnapsack;
+import org.jorlib.alg.knapsack.DepthFirstBinaryKnapsack;
+import org.jorlib.alg.knapsack.ExpandingCoreKnapsack;
+import org.jorlib.alg.knapsack.KnapsackAlgorithm;
+
+/**
+ * Compares the running times of the knapsack algorithms on the classical instance classes of Pisinger (weights in {@code [1,R]}, capacity equal to half the total
+ * weight):
+ * <ol>
+ * <li>Uncorrelated: values in {@code [1,R]}</li>
+ * <li>Weakly correlated: values in {@code [a_i-R/10, a_i+R/10]}</li>
+ * <li>Strongly correlated: values {@code a_i+R/10}</li>
+ * <li>Subset-sum: values {@code a_i}</li>
+ * </ol>
+ * The instances are solved repeatedly, and the average running time per instance is reported. Algorithms exceeding the time budget, or running out of memory, on an
+ * instance class are not run on larger instances of that class.
+ *
+ * @author Joris Kinable
+ * @since October 19, 2026
+ *
+ */
+public final class KnapsackBenchmark {
+
+	/** Range of the weights **/
+	private static final int R=1000;
+	/** Number of instances per class and size **/
+	private static final int NR_INSTANCES=10;
+	/** Time budget (ms) per algorithm, instance class and size **/
+	private static final long TIME_BUDGET=5000;
+
+	private KnapsackBenchmark(){}
+
+	public static void main(String[] args){
+		String[] instanceClasses={"uncorrelated", "weakly correlated", "strongly correlated", "subset-sum"};
+		int[] sizes={20, 40, 80, 160, 1000, 10000};
+		String[] algorithmNames={"BinaryKnapsack", "DepthFirstBinaryKnapsack", "ExpandingCoreKnapsack"};
+
+		StringBuilder header=new StringBuilder(String.format("%-22s %6s", "class", "n"));
+		for(String algorithmName : algorithmNames)
+			header.append(String.format(" %30s", algorithmName+" (ms)"));
+		System.out.println(header);
+		for(int instanceClass=0; instanceClass<instanceClasses.length; instanceClass++){
+			boolean[] exceeded=new boolean[algorithmNames.length];
+			for(int n : sizes){
+				String[] times=new String[algorithmNames.length];
+				for(int a=0; a<algorithmNames.length; a++){
+					if(exceeded[a]){
+						times[a]="-";
+						continue;
+					}
+					KnapsackAlgorithm algorithm=createAlgorithm(a);
+					Random random=new Random(n);
+					long totalTime=0;
+					try{
+						for(int instance=0; instance<NR_INSTANCES && totalTime <= TIME_BUDGET*1000000; instance++){
+							int[] itemWeights=new int[n];
+							double[] itemValues=new double[n];
+							int maxKnapsackWeight=generateInstance(instanceClass, random, itemWeights, itemValues);
+							long time=System.nanoTime();
+							algorithm.solveKnapsackProblem(n, maxKnapsackWeight, itemValues, itemWeights);
+							totalTime+=System.nanoTime()-time;
+						}
+					}catch(OutOfMemoryError e){ //The search tree of the branch-and-bound algorithm no longer fits in memory
+						exceeded[a]=true;
+						times[a]="out of memory";
+						continue;
+					}
+					if(totalTime > TIME_BUDGET*1000000){
+						exceeded[a]=true;
+						times[a]="> "+TIME_BUDGET;
+					}else
+						times[a]=String.format("%.3f", totalTime/(1000000.0*NR_INSTANCES));
+				}
+				StringBuilder line=new StringBuilder(String.format("%-22s %6d", instanceClasses[instanceClass], n));
+				for(String time : times)
+					line.append(String.format(" %30s", time));
+				System.out.println(line);
+			}
+		}
+	}
+
+	/**
+	 * Creates a knapsack algorithm
+	 * @param algorithm index of the algorithm: 0 BinaryKnapsack, 1 DepthFirstBinaryKnapsack, 2 ExpandingCoreKnapsack
+	 * @return knapsack algorithm
+	 */
+	private static KnapsackAlgorithm createAlgorithm(int algorithm){
+		switch(algorithm){
+			case 0: return new BinaryKnapsack();
+			case 1: return new DepthFirstBinaryKnapsack();
+			default: return new ExpandingCoreKnapsack();
+		}
+	}
+
+	/**
+	 * Generates a random instance
+	 * @param instanceClass instance class: 0 uncorrelated, 1 weakly correlated, 2 strongly correlated, 3 subset-sum
+	 * @param random random number generator
+	 * @param itemWeights array in which the item weights are stored
+	 * @param itemValues array in which the item values are stored
+	 * @return capacity of the knapsack
+	 */
+	private static int generateInstance(int instanceClass, Random random, int[] itemWeights, double[] itemValues){
+		int totalWeight=0;
+		for(int i=0; i<itemWeights.length; i++){
+			itemWeights[i]=1+random.nextInt(R);
+			totalWeight+=itemWeights[i];
+			switch(instanceClass){
+				case 0: itemValues[i]=1+random.nextInt(R); break;
+				case 1: itemValues[i]=Math.max(1, itemWeights[i]-R/10+random.nextInt(2*R/10+1)); break;
+				case 2: itemValues[i]=itemWeights[i]+R/10; break;
+				default: itemValues[i]=itemWeights[i];
+			}
+		}
+		return totalWeight/2;
+	}
+}
@@ -26,7 +26,6 @@
  */
 package org.jorlib.demo.frameworks.columnGeneration.cuttingStockCG.cg;
 
-import ilog.concert.IloNumVar;
 import org.jorlib.demo.frameworks.columnGeneration.cuttingStockCG.model.CuttingStock;
 import org.jorlib.frameworks.columnGeneration.master.MasterData;
 import org.jorlib.frameworks.columnGeneration.util.OrderedBiMap;
@@ -34,14 +33,14 @@ import org.jorlib.frameworks.columnGeneration.util.OrderedBiMap;
 import java.util.Map;
 
 /**
- * Data container for the master problem.
+ * Data container for the master problem. The variable associated with each column is its column index in the LP.
  *
  * @author Joris Kinable
  * @version 11-5-2015
  */
-public final class CuttingStockMasterData extends MasterData<CuttingStock, CuttingPattern, PricingProblem, IloNumVar>{
+public final class CuttingStockMasterData extends MasterData<CuttingStock, CuttingPattern, PricingProblem, Integer>{
 
-    public CuttingStockMasterData(Map<PricingProblem, OrderedBiMap<CuttingPattern, IloNumVar>> varMap) {
+    public CuttingStockMasterData(Map<PricingProblem, OrderedBiMap<CuttingPattern, Integer>> varMap) {
         super(varMap);
     }
 }
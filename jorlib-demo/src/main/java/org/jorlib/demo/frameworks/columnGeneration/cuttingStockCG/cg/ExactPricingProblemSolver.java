@@ -26,111 +26,61 @@
  */
 package org.jorlib.demo.frameworks.columnGeneration.cuttingStockCG.cg;
 
-import ilog.concert.IloException;
-import ilog.concert.IloIntVar;
-import ilog.concert.IloObjective;
-import ilog.cplex.IloCplex;
-
 import java.util.ArrayList;
 import java.util.List;
 
+import org.jorlib.alg.knapsack.KnapsackSession;
 import org.jorlib.demo.frameworks.columnGeneration.cuttingStockCG.model.CuttingStock;
 import org.jorlib.frameworks.columnGeneration.io.TimeLimitExceededException;
 import org.jorlib.frameworks.columnGeneration.pricing.AbstractPricingProblemSolver;
-import org.jorlib.frameworks.columnGeneration.util.MathProgrammingUtil;
 
 /**
  * This class provides a solver for the cutting stock pricing problem.
- * The pricing problem is a simple knapsack problem. Here we solve this problem through a simple MIP implementation.
+ * The pricing problem is an unbounded integer knapsack problem: every final may be cut from the roll any number of times. Here we solve this problem through
+ * a {@link KnapsackSession}: the widths of the finals and the roll width do not change between pricing iterations, so the session is created once, and only
+ * receives the new dual values in every iteration.
  * 
  * @author Joris Kinable
  * @version 13-4-2015
  */
 public final class ExactPricingProblemSolver extends AbstractPricingProblemSolver<CuttingStock, CuttingPattern, PricingProblem> {
 
-	private IloCplex cplex; //Cplex instance.
-	private IloObjective obj; //Objective function
-	private IloIntVar[] vars; //Problem variables
+	private final KnapsackSession knapsack; //Knapsack session for the fixed finals and roll width
+	private double[] itemValues; //Item values, i.e. the dual values of the demand constraints
 	
 	public ExactPricingProblemSolver(CuttingStock dataModel, PricingProblem pricingProblem) {
 		super(dataModel, pricingProblem);
 		this.name="ExactSolver"; //Set a name for the solver
-		this.buildModel();
+		knapsack=new KnapsackSession(dataModel.nrFinals, dataModel.rollWidth, dataModel.finals, null);
 	}
 
-	/**
-	 * Build the MIP model
-	 */
-	private void buildModel(){
-		try {
-			cplex=new IloCplex();
-			cplex.setParam(IloCplex.IntParam.AdvInd, 0);
-			cplex.setParam(IloCplex.IntParam.Threads,config.MAXTHREADS);
-			cplex.setOut(null);
-			
-			//Create the variables
-			vars=cplex.intVarArray(dataModel.nrFinals, 0, Integer.MAX_VALUE);
-			//Create the objective
-			obj=cplex.addMaximize(cplex.sum(vars));
-			//Create the constraints
-			cplex.addLe(cplex.scalProd(vars, dataModel.finals), dataModel.rollWidth);
-						
-		} catch (IloException e) {
-			e.printStackTrace();
-		}
-	}
-	
 	@Override
 	public void close() {
-		cplex.end();
+		//Nothing to close
 	}
 
 	@Override
 	protected List<CuttingPattern> generateNewColumns() throws TimeLimitExceededException {
 		List<CuttingPattern> newPatterns=new ArrayList<>();
-		try {
-			//Compute how much time we may take to solve the pricing problem
-			double timeRemaining=Math.max(1,(timeLimit-System.currentTimeMillis())/1000.0);
-			cplex.setParam(IloCplex.DoubleParam.TiLim, timeRemaining); //set time limit in seconds
-			
-			//Solve the problem and check the solution nodeStatus
-			if(!cplex.solve() || cplex.getStatus()!=IloCplex.Status.Optimal){
-				if(cplex.getCplexStatus()==IloCplex.CplexStatus.AbortTimeLim){ //Aborted due to time limit
-					throw new TimeLimitExceededException();
-				}else if(cplex.getStatus()==IloCplex.Status.Infeasible) { //Pricing problem infeasible
-					pricingProblemInfeasible=true;
-					this.objective=Double.MAX_VALUE;
-				}else{
-					throw new RuntimeException("Pricing problem solve failed! Status: "+cplex.getStatus());
-				}
-			}else{ //Pricing problem solved to optimality
-				this.pricingProblemInfeasible=false;
-				this.objective=cplex.getObjValue();
-				
-				if(objective >= 1+config.PRECISION){ //Generate new column if it has negative reduced cost
-					double[] values=cplex.getValues(vars);
-					int[] pattern=new int[dataModel.nrFinals];
-					for(int i=0; i<dataModel.nrFinals; i++)
-						pattern[i]= MathProgrammingUtil.doubleToInt(values[i]);
-					CuttingPattern column=new CuttingPattern("exactPricing", false, pattern, pricingProblem);
-					newPatterns.add(column);
-				}
-			}
-			
-		}catch (IloException e1) {
-			e1.printStackTrace();
+		if(System.currentTimeMillis() >= timeLimit)
+			throw new TimeLimitExceededException();
+
+		//Solve the knapsack problem. Every final may be cut an unbounded number of times.
+		this.pricingProblemInfeasible=false;
+		this.objective=knapsack.solve(itemValues);
+
+		if(objective >= 1+config.PRECISION){ //Generate new column if it has negative reduced cost
+			int[] pattern=knapsack.getKnapsackItems().clone();
+			CuttingPattern column=new CuttingPattern("exactPricing", false, pattern, pricingProblem);
+			newPatterns.add(column);
 		}
 		return newPatterns;
 	}
 
 	@Override
 	protected void setObjective() {
-		//Update the objective function with the new dual values
-		try {
-			cplex.setLinearCoefs(obj, pricingProblem.dualCosts, vars);
-		} catch (IloException e) {
-			e.printStackTrace();
-		}
+		//Update the item values with the new dual values
+		itemValues=pricingProblem.dualCosts;
 	}
 
 }
@@ -29,6 +29,7 @@ package org.jorlib.demo.frameworks.columnGeneration.graphColoringBAP.cg;
 import org.jorlib.demo.frameworks.columnGeneration.graphColoringBAP.model.ColoringGraph;
 import org.jorlib.frameworks.columnGeneration.colgenMain.AbstractColumn;
 
+import java.util.Arrays;
 import java.util.Set;
 
 /**
@@ -54,12 +55,23 @@ public final class IndependentSet extends AbstractColumn<ColoringGraph, Chromati
      * @param cost cost of the independent set
      */
     public IndependentSet(ChromaticNumberPricingProblem associatedPricingProblem, boolean isArtificial, String creator, Set<Integer> vertices, int cost) {
-        super(associatedPricingProblem, isArtificial, creator);
+        super(associatedPricingProblem, isArtificial, creator, vertices.stream().mapToInt(Integer::intValue).sorted().toArray(), ones(vertices.size()));
         this.vertices=vertices;
         this.cost=cost;
     }
 
 
+    /**
+     * Each vertex in the independent set has a coefficient of 1 in the master problem
+     * @param size number of vertices
+     * @return array of ones
+     */
+    private static double[] ones(int size){
+        double[] coefs=new double[size];
+        Arrays.fill(coefs, 1);
+        return coefs;
+    }
+
     @Override
     public boolean equals(Object o) {
         if(this==o)
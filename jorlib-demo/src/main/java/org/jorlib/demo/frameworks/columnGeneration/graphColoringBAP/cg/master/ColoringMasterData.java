@@ -26,8 +26,6 @@
  */
 package org.jorlib.demo.frameworks.columnGeneration.graphColoringBAP.cg.master;
 
-import ilog.concert.IloNumVar;
-import ilog.cplex.IloCplex;
 import org.jorlib.demo.frameworks.columnGeneration.graphColoringBAP.cg.ChromaticNumberPricingProblem;
 import org.jorlib.demo.frameworks.columnGeneration.graphColoringBAP.cg.IndependentSet;
 import org.jorlib.demo.frameworks.columnGeneration.graphColoringBAP.model.ColoringGraph;
@@ -37,28 +35,18 @@ import org.jorlib.frameworks.columnGeneration.util.OrderedBiMap;
 import java.util.Map;
 
 /**
- * Container which stores information coming from the master problem. It contains:
- * <ul>
- * <li>a reference to the cplex model</li>
- * <li>reference to the pricing problem</li>
- * </ul>
+ * Container which stores information coming from the master problem. The variable associated with each column is its column index in the LP.
  * @author Joris Kinable
  * @version 29-6-2016
  */
-public final class ColoringMasterData extends MasterData<ColoringGraph, IndependentSet, ChromaticNumberPricingProblem, IloNumVar> {
-
-    /** Cplex instance **/
-    public final IloCplex cplex;
+public final class ColoringMasterData extends MasterData<ColoringGraph, IndependentSet, ChromaticNumberPricingProblem, Integer> {
 
     /**
      * Creates a new MasterData object
      *
-     * @param cplex cplex instance
-     * @param varMap A bi-directional map which stores the variables. The first key is the pricing problem, the second key is a column and the value is a variable object, e.g. an IloNumVar in cplex.
+     * @param varMap A bi-directional map which stores the variables. The first key is the pricing problem, the second key is a column and the value is the index of the column in the LP.
      */
-    public ColoringMasterData(IloCplex cplex,
-                              Map<ChromaticNumberPricingProblem, OrderedBiMap<IndependentSet, IloNumVar>> varMap) {
+    public ColoringMasterData(Map<ChromaticNumberPricingProblem, OrderedBiMap<IndependentSet, Integer>> varMap) {
         super(varMap);
-        this.cplex=cplex;
     }
 }
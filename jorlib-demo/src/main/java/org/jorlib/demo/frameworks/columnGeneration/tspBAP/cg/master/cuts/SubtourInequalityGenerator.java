@@ -73,47 +73,62 @@ public final class SubtourInequalityGenerator extends AbstractCutGenerator<TSP,
 	 */
 	@Override
 	public List<AbstractInequality> generateInqualities() {
-		//Check for violated subtours. When found, generate an inequality
-		separator.separateSubtour(masterData.edgeValueMap);
-		if(separator.hasSubtour()){
-			Set<Integer> cutSet=separator.getCutSet();
-			SubtourInequality inequality=new SubtourInequality(this, cutSet);
-			this.addCut(inequality);
-			return Collections.singletonList(inequality);
-		}
-		return Collections.emptyList();
+		List<AbstractInequality> inequalities=this.separateInequalities();
+		if(!inequalities.isEmpty())
+			this.addCuts(inequalities);
+		return inequalities;
 	}
 
 	/**
-	 * If a violated inequality has been found add it to the master problem.
+	 * Checks for violated subtours without adding them to the master problem. All violated subtours found by the separator are returned, so they can be added to the
+	 * master problem in a single batch. The separator only reads the master data, so this generator can be invoked concurrently with other generators.
+	 * @return a list containing the violated subtour inequalities, if any
+	 */
+	@Override
+	public List<AbstractInequality> separateInequalities() {
+		//Check for violated subtours. For each violated subtour, generate an inequality
+		separator.separateSubtours(masterData.edgeValueMap);
+		List<AbstractInequality> inequalities=new ArrayList<>(separator.getCutSets().size());
+		for(Set<Integer> cutSet : separator.getCutSets())
+			inequalities.add(new SubtourInequality(this, cutSet));
+		return inequalities;
+	}
+
+	/**
+	 * Subtours are separated in the private working buffers of the separator, so this generator supports concurrent separation.
+	 * @return true
+	 */
+	@Override
+	public boolean supportsConcurrentSeparation() {
+		return true;
+	}
+
+	/**
+	 * Creates the constraint corresponding to a subtour inequality, without adding it to the master problem.
 	 * @param subtourInequality subtour inequality
+	 * @return the subtour constraint
+	 * @throws IloException if the constraint cannot be created
 	 */
-	private void addCut(SubtourInequality subtourInequality){
+	private IloRange createConstraint(SubtourInequality subtourInequality) throws IloException{
 		if(masterData.subtourInequalities.containsKey(subtourInequality))
 			throw new RuntimeException("Error, duplicate subtour cut is being generated! This cut should already exist in the master problem: "+subtourInequality);
-		//Create the inequality in cplex
-		try {
-			IloLinearNumExpr expr=masterData.cplex.linearNumExpr();
-			//Register the columns with this constraint.
-			for(PricingProblemByColor pricingProblem : masterData.pricingProblems){
-				for(Matching matching: masterData.getColumnsForPricingProblemAsList(pricingProblem)){
-					//Test how many edges in the matching enter/leave the cutSet (edges with exactly one endpoint in the cutSet)
-					int crossings=0;
-					for(DefaultWeightedEdge edge: matching.edges){
-						if(subtourInequality.cutSet.contains(dataModel.getEdgeSource(edge)) ^ subtourInequality.cutSet.contains(dataModel.getEdgeTarget(edge)))
-							crossings++;
-					}
-					if(crossings>0){
-						IloNumVar var=masterData.getVar(pricingProblem,matching);
-						expr.addTerm(crossings, var);
-					}
+		IloLinearNumExpr expr=masterData.cplex.linearNumExpr();
+		//Register the columns with this constraint.
+		for(PricingProblemByColor pricingProblem : masterData.pricingProblems){
+			for(Matching matching: masterData.getColumnsForPricingProblemAsList(pricingProblem)){
+				//Test how many edges in the matching enter/leave the cutSet (edges with exactly one endpoint in the cutSet)
+				int crossings=0;
+				for(DefaultWeightedEdge edge: matching.edges){
+					if(subtourInequality.cutSet.contains(dataModel.getEdgeSource(edge)) ^ subtourInequality.cutSet.contains(dataModel.getEdgeTarget(edge)))
+						crossings++;
+				}
+				if(crossings>0){
+					IloNumVar var=masterData.getVar(pricingProblem,matching);
+					expr.addTerm(crossings, var);
 				}
 			}
-			IloRange subtourConstraint = masterData.cplex.addGe(expr, 2, "subtour");
-			masterData.subtourInequalities.put(subtourInequality, subtourConstraint);
-		} catch (IloException e) {
-			e.printStackTrace();
 		}
+		return masterData.cplex.ge(expr, 2, "subtour");
 	}
 
 	/**
@@ -125,7 +140,77 @@ public final class SubtourInequalityGenerator extends AbstractCutGenerator<TSP,
 		if(!(cut instanceof SubtourInequality))
 			throw new IllegalArgumentException("This AbstractCutGenerator can ONLY add SubtourInequalities");
 		SubtourInequality subtourInequality=(SubtourInequality) cut;
-		this.addCut(subtourInequality);
+		try {
+			IloRange subtourConstraint=this.createConstraint(subtourInequality);
+			masterData.cplex.add(subtourConstraint);
+			masterData.subtourInequalities.put(subtourInequality, subtourConstraint);
+		} catch (IloException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Add a batch of subtour inequalities to the master problem. All constraints are added to cplex in a single call.
+	 * @param cuts subtour inequalities
+	 */
+	@Override
+	public void addCuts(List<AbstractInequality> cuts) {
+		for(AbstractInequality cut : cuts){
+			if(!(cut instanceof SubtourInequality))
+				throw new IllegalArgumentException("This AbstractCutGenerator can ONLY add SubtourInequalities");
+		}
+		try {
+			IloRange[] subtourConstraints=new IloRange[cuts.size()];
+			for(int i=0; i<cuts.size(); i++)
+				subtourConstraints[i]=this.createConstraint((SubtourInequality) cuts.get(i));
+			masterData.cplex.add(subtourConstraints);
+			for(int i=0; i<cuts.size(); i++)
+				masterData.subtourInequalities.put((SubtourInequality) cuts.get(i), subtourConstraints[i]);
+		} catch (IloException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Computes the slack of a subtour inequality with respect to the current master solution, i.e. the total value of the edges crossing the cut set minus 2.
+	 * @param cut subtour inequality
+	 * @return slack of the inequality
+	 */
+	@Override
+	public double getSlack(AbstractInequality cut) {
+		SubtourInequality subtourInequality=(SubtourInequality) cut;
+		double crossingValue=0;
+		for(Map.Entry<DefaultWeightedEdge, Double> edgeValue : masterData.edgeValueMap.entrySet()){
+			DefaultWeightedEdge edge=edgeValue.getKey();
+			if(subtourInequality.cutSet.contains(dataModel.getEdgeSource(edge)) ^ subtourInequality.cutSet.contains(dataModel.getEdgeTarget(edge)))
+				crossingValue+=edgeValue.getValue();
+		}
+		return crossingValue-2;
+	}
+
+	/**
+	 * Remove a subtour inequality from the master problem
+	 * @param cut subtour inequality
+	 */
+	@Override
+	public void removeCut(AbstractInequality cut) {
+		IloRange subtourConstraint=masterData.subtourInequalities.remove(cut);
+		if(subtourConstraint == null)
+			return;
+		try {
+			masterData.cplex.remove(subtourConstraint);
+		} catch (IloException e) {
+			e.printStackTrace();
+		}
+	}
+
+	/**
+	 * Subtour inequalities can be aged and separated from a cut pool.
+	 * @return true
+	 */
+	@Override
+	public boolean supportsCutPool() {
+		return true;
 	}
 
 	/**